@@ -18,6 +18,11 @@ package org.kie.internal.builder.conf;
 
 /**
  * A class for the parallel rules build threshold configuration.
+ *
+ * The rules of a package are built in parallel when they are more than this threshold.
+ * When more resources or packages are built together their parsing and the compilation
+ * of the java sources of the different packages are parallelized as well. A value of -1
+ * disables any parallel build.
  */
 public class ParallelRulesBuildThresholdOption implements SingleValueKnowledgeBuilderOption {
 
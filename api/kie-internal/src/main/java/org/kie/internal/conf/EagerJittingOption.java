@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for the eager jitting option. When enabled the constraints are compiled
+ * while the network is built, so that their first evaluation runs in interpreted
+ * mode without compiling them. The first evaluation also starts jitting (translating
+ * in bytecode) the constraint in background, instead of waiting until the jitting
+ * threshold is reached; the jitted constraint replaces the interpreted one as soon as
+ * it is ready. A threshold lower than 0 still disables jitting.
+ *
+ * drools.eagerJitting = &lt;true|false&gt;
+ *
+ * DEFAULT = false
+ */
+public enum EagerJittingOption implements SingleValueKieBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the eager jitting option
+     */
+    public static final String PROPERTY_NAME = "drools.eagerJitting";
+
+    private boolean value;
+
+    EagerJittingOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isEagerJitting() {
+        return this.value;
+    }
+
+}
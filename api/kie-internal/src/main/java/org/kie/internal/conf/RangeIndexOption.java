@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for rangeIndex option. When enabled, join, not and exists nodes
+ * use a tree based index for constraints using &lt;, &gt;, &lt;= or &gt;=
+ * (and a range index when both a lower and an upper bound on the same
+ * field are available) instead of scanning the whole memory.
+ *
+ * drools.rangeIndex = &lt;true|false&gt;
+ *
+ * DEFAULT = true
+ */
+public enum RangeIndexOption implements SingleValueKieBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the range index option
+     */
+    public static final String PROPERTY_NAME = "drools.rangeIndex";
+
+    private boolean value;
+
+    RangeIndexOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isRangeIndex() {
+        return this.value;
+    }
+
+}
@@ -65,4 +65,15 @@ public interface CorrelationAwareProcessRuntime {
      * @return the process instance with the given id or <code>null</code> if it cannot be found
      */
     ProcessInstance getProcessInstance(CorrelationKey correlationKey);
+
+    /**
+     * Signals the process instance with the given correlationKey that an event has occurred,
+     * without notifying the other process instances waiting for events of the same type.
+     * The process instance only receives the event if it is waiting for it.
+     *
+     * @param type the type of event
+     * @param event the data associated with this event
+     * @param correlationKey the custom correlation key assigned when process instance was created
+     */
+    void signalEvent(String type, Object event, CorrelationKey correlationKey);
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An enum to configure the store keeping the fact handles of each entry point of a session.
+ *
+ * The "CLASS_AWARE" store indexes the handles in a hash map for each class of the
+ * inserted facts. The "COMPACT" one keeps them in open addressing tables made of
+ * plain arrays, without allocating any map entry per fact, and is meant to reduce
+ * the memory footprint and the GC pressure of sessions holding very large numbers of facts.
+ */
+public enum ObjectStoreOption implements SingleValueKieSessionOption {
+
+    CLASS_AWARE("classaware"),
+    COMPACT("compact");
+
+    /**
+     * The property name for the object store configuration
+     */
+    public static final String PROPERTY_NAME = "drools.objectStore";
+
+    private String             option;
+
+    ObjectStoreOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public String toString() {
+        return "ObjectStoreOption( " + option + " )";
+    }
+
+    public static ObjectStoreOption determineObjectStore(String option) {
+        if ( CLASS_AWARE.getAsString().equalsIgnoreCase( option ) ) {
+            return CLASS_AWARE;
+        } else if ( COMPACT.getAsString().equalsIgnoreCase( option ) ) {
+            return COMPACT;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for ObjectStoreOption" );
+    }
+
+}
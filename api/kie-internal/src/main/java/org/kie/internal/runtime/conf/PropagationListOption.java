@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * An enum to configure the list collecting the propagations of a session.
+ *
+ * The "SYNCHRONIZED" list guards all its operations with a single monitor. The
+ * "LOCK_FREE" one lets many threads insert into the session without blocking
+ * each other nor the thread firing the rules, as it happens for instance when
+ * feeding events to a session running fireUntilHalt from many threads.
+ */
+public enum PropagationListOption implements SingleValueKieSessionOption {
+
+    SYNCHRONIZED("synchronized"),
+    LOCK_FREE("lockfree");
+
+    /**
+     * The property name for the propagation list configuration
+     */
+    public static final String PROPERTY_NAME = "drools.propagationList";
+
+    private String             option;
+
+    PropagationListOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public String toString() {
+        return "PropagationListOption( " + option + " )";
+    }
+
+    public static PropagationListOption determinePropagationList(String option) {
+        if ( SYNCHRONIZED.getAsString().equalsIgnoreCase( option ) ) {
+            return SYNCHRONIZED;
+        } else if ( LOCK_FREE.getAsString().equalsIgnoreCase( option ) ) {
+            return LOCK_FREE;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for PropagationListOption" );
+    }
+
+}
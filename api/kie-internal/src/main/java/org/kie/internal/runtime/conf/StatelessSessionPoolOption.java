@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * A class to configure the pool of sessions used by the stateless sessions created
+ * with this configuration.
+ *
+ * When the size is greater than 0 the stateless sessions borrow the sessions executing
+ * their commands from a pool shared by all the stateless sessions of the same KieBase
+ * and configuration, instead of creating a new one for each call. The given number of
+ * sessions is created eagerly and the pool grows on demand. A size of 0, the default,
+ * disables the pool.
+ */
+public class StatelessSessionPoolOption implements SingleValueKieSessionOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the stateless session pool configuration
+     */
+    public static final String PROPERTY_NAME = "drools.statelessSessionPool";
+
+    public static final StatelessSessionPoolOption DISABLED = new StatelessSessionPoolOption( 0 );
+
+    private final int size;
+
+    private StatelessSessionPoolOption( int size ) {
+        this.size = size;
+    }
+
+    /**
+     * This is a factory method for this stateless session pool configuration.
+     *
+     * @param size the number of sessions eagerly created in the pool, or 0 to disable it
+     *
+     * @return the actual type safe stateless session pool configuration.
+     */
+    public static StatelessSessionPoolOption get( int size ) {
+        if ( size < 0 ) {
+            throw new IllegalArgumentException( "Illegal size '" + size + "' for StatelessSessionPoolOption" );
+        }
+        return size == 0 ? DISABLED : new StatelessSessionPoolOption( size );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null || getClass() != obj.getClass() ) { return false; }
+        return size == ((StatelessSessionPoolOption) obj).size;
+    }
+
+    public String toString() {
+        return "StatelessSessionPoolOption( " + size + " )";
+    }
+}
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.drools.compiler.lang.descr.CompositePackageDescr;
 import org.drools.compiler.lang.descr.PackageDescr;
@@ -191,6 +192,10 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
     private void buildResource(Map<String, CompositePackageDescr> packages, ResourceType resourceType, ResourceToPkgDescrMapper mapper) {
         List<ResourceDescr> resourcesByType = this.resourcesByType.remove(resourceType);
         if (resourcesByType != null) {
+            if (mapper == ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR && resourcesByType.size() > 1 && kBuilder.isParallelBuild()) {
+                buildResourceInParallel(packages, resourcesByType, mapper);
+                return;
+            }
             for (ResourceDescr resourceDescr : resourcesByType) {
                 try {
                     registerPackageDescr(resourceDescr, packages, resourceDescr.resource, mapper.map(kBuilder, resourceDescr));
@@ -207,6 +212,36 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
         }
     }
 
+    private void buildResourceInParallel(Map<String, CompositePackageDescr> packages, List<ResourceDescr> resourceDescrs, ResourceToPkgDescrMapper mapper) {
+        // the resources are parsed concurrently, but registered in their original order
+        Object[] parsed = new Object[resourceDescrs.size()];
+        kBuilder.runInParallel(() -> IntStream.range(0, parsed.length).parallel().forEach(i -> {
+            try {
+                parsed[i] = mapper.map(kBuilder, resourceDescrs.get(i));
+            } catch (Exception e) {
+                parsed[i] = e;
+            }
+        }), "Resources parsing");
+
+        // as in the sequential build, a failing resource is recorded and doesn't prevent the registration of the others
+        for (int i = 0; i < parsed.length; i++) {
+            try {
+                if (parsed[i] instanceof Exception) {
+                    throw (Exception) parsed[i];
+                }
+                registerPackageDescr(resourceDescrs.get(i), packages, resourceDescrs.get(i).resource, (PackageDescr) parsed[i]);
+            } catch (RuntimeException e) {
+                if (buildException == null) {
+                    buildException = e;
+                }
+            } catch (Exception e) {
+                if (buildException == null) {
+                    buildException = new RuntimeException( e );
+                }
+            }
+        }
+    }
+
     private void registerPackageDescr(ResourceDescr resourceDescr, Map<String, CompositePackageDescr> packages, Resource resource, PackageDescr packageDescr) {
         if (packageDescr != null) {
             CompositePackageDescr compositePackageDescr = packages.get(packageDescr.getNamespace());
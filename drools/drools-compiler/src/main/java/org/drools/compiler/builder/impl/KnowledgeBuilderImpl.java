@@ -537,9 +537,12 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
         } else {
             final DrlParser parser = new DrlParser(configuration.getLanguageLevel());
             pkg = parser.parse(resource);
-            this.results.addAll(parser.getErrors());
-            if (pkg == null) {
-                addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
+            // many resources may be parsed concurrently
+            synchronized (this.results) {
+                this.results.addAll(parser.getErrors());
+                if (pkg == null) {
+                    addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
+                }
             }
             hasErrors = parser.hasErrors();
         }
@@ -1065,7 +1068,7 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
 
             // We need to compile all the functions now, so scripting
             // languages like mvel can find them
-            compileAll();
+            compileAllSequentially();
 
             for (FunctionDescr functionDescr : functions) {
                 if (filterAccepts(ResourceChange.Type.FUNCTION, functionDescr.getNamespace(), functionDescr.getName())) {
@@ -1100,12 +1103,10 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
     }
 
     private void compileRulesLevel(PackageDescr packageDescr, PackageRegistry pkgRegistry, List<RuleDescr> rules) {
-        boolean parallelRulesBuild = this.kBase == null && parallelRulesBuildThreshold != -1 && rules.size() > parallelRulesBuildThreshold;
+        boolean parallelRulesBuild = isParallelBuild() && rules.size() > parallelRulesBuildThreshold;
         if (parallelRulesBuild) {
             Map<String, RuleBuildContext> ruleCxts = new ConcurrentHashMap<>();
-            ForkJoinPool pool = new ForkJoinPool(); // avoid common pool
-            try {
-                pool.submit(() -> 
+            runInParallel(() ->
                 rules.stream().parallel()
                         .filter(ruleDescr -> filterAccepts(ResourceChange.Type.RULE, ruleDescr.getNamespace(), ruleDescr.getName()))
                         .forEach(ruleDescr -> {
@@ -1118,11 +1119,8 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
                                     this.results.addAll(results);
                                 }
                             }
-                        })
-                ).get();
-            } catch (InterruptedException | ExecutionException e) { 
-                throw new RuntimeException("Rules compilation failed or interrupted", e);
-            }
+                        }),
+                "Rules compilation");
             for (RuleDescr ruleDescr : rules) {
                 RuleBuildContext context = ruleCxts.get(ruleDescr.getName());
                 if (context != null) {
@@ -1431,11 +1429,37 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
     }
 
     public void compileAll() {
+        if (isParallelBuild() && this.pkgRegistryMap.size() > 1) {
+            // the functions and the declared types of all the packages are already compiled, so the
+            // sources of a package can only depend on classes of other packages that already exist
+            runInParallel(() -> this.pkgRegistryMap.values().parallelStream().forEach(PackageRegistry::compileAll),
+                          "Java compilation");
+        } else {
+            compileAllSequentially();
+        }
+    }
+
+    private void compileAllSequentially() {
         for (PackageRegistry pkgRegistry : this.pkgRegistryMap.values()) {
             pkgRegistry.compileAll();
         }
     }
 
+    boolean isParallelBuild() {
+        return this.kBase == null && parallelRulesBuildThreshold != -1;
+    }
+
+    void runInParallel(Runnable task, String phase) {
+        ForkJoinPool pool = new ForkJoinPool(); // avoid common pool
+        try {
+            pool.submit(task).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(phase + " failed or interrupted", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     public void reloadAll() {
         for (PackageRegistry pkgRegistry : this.pkgRegistryMap.values()) {
             pkgRegistry.getDialectRuntimeRegistry().onBeforeExecute();
@@ -23,9 +23,9 @@ import org.drools.compiler.compiler.PackageBuilderErrors;
 import org.drools.compiler.reteoo.compiled.ObjectTypeNodeCompiler;
 import org.drools.core.InitialFact;
 import org.drools.core.base.ClassObjectType;
-import org.drools.core.common.ClassAwareObjectStore;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.InternalWorkingMemoryEntryPoint;
+import org.drools.core.common.ObjectStore;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.impl.KnowledgePackageImpl;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -135,7 +135,7 @@ public class KieBaseUpdater implements Runnable {
         for (InternalWorkingMemory wm : ctx.kBase.getWorkingMemories()) {
             for (EntryPoint ep : wm.getEntryPoints()) {
                 InternalWorkingMemoryEntryPoint wmEp = (InternalWorkingMemoryEntryPoint) wm.getWorkingMemoryEntryPoint( ep.getEntryPointId() );
-                ClassAwareObjectStore store = ( (ClassAwareObjectStore) wmEp.getObjectStore() );
+                ObjectStore store = wmEp.getObjectStore();
                 if ( store.clearClassStore( cls ) ) {
                     log.warn( "Class " + cls.getName() + " has been modified and therfore its old instances will no longer match" );
                 }
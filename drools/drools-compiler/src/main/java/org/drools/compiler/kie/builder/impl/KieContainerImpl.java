@@ -268,7 +268,10 @@ public class KieContainerImpl
         }
 
         for (String kbaseToRemove : kbasesToRemove) {
-            kBases.remove(kbaseToRemove);
+            KieBase removedKBase = kBases.remove(kbaseToRemove);
+            if (removedKBase != null) {
+                ( (InternalKnowledgeBase) removedKBase ).disposeStatelessSessionPools();
+            }
         }
 
         // remove sessions that no longer exist
@@ -671,7 +674,10 @@ public class KieContainerImpl
 
     public void dispose() {
         sessionConfsCache.clear();
-        kBases.values().forEach( kb -> ( (InternalKnowledgeBase) kb ).setKieContainer( null ) );
+        kBases.values().forEach( kb -> {
+            ( (InternalKnowledgeBase) kb ).setKieContainer( null );
+            ( (InternalKnowledgeBase) kb ).disposeStatelessSessionPools();
+        } );
 
         Set<DroolsManagementAgent.CBSKey> cbskeys = new HashSet<DroolsManagementAgent.CBSKey>();
         if ( isMBeanOptionEnabled() ) {
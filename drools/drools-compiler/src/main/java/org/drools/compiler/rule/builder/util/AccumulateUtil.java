@@ -31,20 +31,25 @@ public class AccumulateUtil {
             if (exprClass == BigDecimal.class) {
                 functionName = "averageBD";
             }
-        } else if (functionName.equals("max")) {
-            final Class<?> exprClass = convertFromPrimitiveType( exprClassSupplier.get() );
-            if (Number.class.isAssignableFrom( exprClass )) {
-                functionName = "maxN";
-            }
-        } else if (functionName.equals("min")) {
-            final Class<?> exprClass = convertFromPrimitiveType( exprClassSupplier.get() );
-            if (Number.class.isAssignableFrom( exprClass )) {
-                functionName = "minN";
-            }
+        } else if (functionName.equals("max") || functionName.equals("min")) {
+            functionName += getNumericSuffix( convertFromPrimitiveType( exprClassSupplier.get() ) );
         }
         return functionName;
     }
 
+    private static String getNumericSuffix(Class<?> exprClass) {
+        if (exprClass == Integer.class) {
+            return "I";
+        } else if (exprClass == Long.class) {
+            return "L";
+        } else if (exprClass == Double.class) {
+            return "D";
+        } else if (Number.class.isAssignableFrom( exprClass )) {
+            return "N";
+        }
+        return "";
+    }
+
     @SuppressWarnings("unchecked")
     public static AccumulateFunction loadAccumulateFunction(ClassLoader classLoader, String identifier,
                                                             String className) {
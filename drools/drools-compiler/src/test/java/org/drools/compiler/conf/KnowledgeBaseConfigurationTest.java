@@ -37,6 +37,7 @@ import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.RangeIndexOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.SequentialOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
@@ -198,6 +199,30 @@ public class KnowledgeBaseConfigurationTest {
                       config.getProperty( IndexRightBetaMemoryOption.PROPERTY_NAME ) );
     }
 
+    @Test
+    public void testRangeIndexConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( RangeIndexOption.YES );
+
+        // checking the type safe getOption() method
+        assertEquals( RangeIndexOption.YES,
+                      config.getOption( RangeIndexOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( RangeIndexOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( RangeIndexOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertEquals( RangeIndexOption.NO,
+                      config.getOption( RangeIndexOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( RangeIndexOption.PROPERTY_NAME ) );
+    }
+
     @Test
     public void testIndexPrecedenceConfiguration() {
         // setting the option using the type safe method
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.junit.Test;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.MultithreadEvaluationOption;
+import org.kie.internal.utils.KieHelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class InsertAllTest {
+
+    private static final String DRL =
+            "global java.util.List list;\n" +
+            "rule R1 when\n" +
+            "    $i : Integer( intValue > 2 )\n" +
+            "then\n" +
+            "    list.add( \"R1 \" + $i );\n" +
+            "end\n" +
+            "rule R2 when\n" +
+            "    $s : String( length == 1 )\n" +
+            "    $i : Integer( intValue == $s.length )\n" +
+            "then\n" +
+            "    list.add( \"R2 \" + $s );\n" +
+            "end\n";
+
+    @Test
+    public void testInsertAll() {
+        KieSession ksession = new KieHelper().addContent( DRL, ResourceType.DRL ).build().newKieSession();
+        List<String> list = new ArrayList<String>();
+        ksession.setGlobal( "list", list );
+
+        List<Object> facts = Arrays.<Object>asList( 1, "a", 3, null, "bb", 4 );
+        List<FactHandle> handles = ( (StatefulKnowledgeSessionImpl) ksession ).insertAll( facts );
+
+        assertEquals( facts.size(), handles.size() );
+        for ( int i = 0; i < facts.size(); i++ ) {
+            if ( facts.get( i ) == null ) {
+                assertNull( handles.get( i ) );
+            } else {
+                assertSame( facts.get( i ), ksession.getObject( handles.get( i ) ) );
+            }
+        }
+        assertEquals( 5, ksession.getFactCount() );
+
+        ksession.fireAllRules();
+        list.sort( null );
+        assertEquals( Arrays.asList( "R1 3", "R1 4", "R2 a" ), list );
+    }
+
+    @Test
+    public void testInsertAllReturnsExistingHandles() {
+        KieSession ksession = new KieHelper().addContent( DRL, ResourceType.DRL ).build().newKieSession();
+        List<String> list = new ArrayList<String>();
+        ksession.setGlobal( "list", list );
+
+        Integer three = 3;
+        FactHandle fh = ksession.insert( three );
+        List<FactHandle> handles = ( (StatefulKnowledgeSessionImpl) ksession ).insertAll( Arrays.asList( three, 5, three ) );
+
+        assertSame( fh, handles.get( 0 ) );
+        assertSame( fh, handles.get( 2 ) );
+        assertEquals( 2, ksession.getFactCount() );
+        assertEquals( 2, ksession.fireAllRules() );
+    }
+
+    @Test
+    public void testInsertAllNotifiesEachInsertion() {
+        KieSession ksession = new KieHelper().addContent( DRL, ResourceType.DRL ).build().newKieSession();
+        ksession.setGlobal( "list", new ArrayList<String>() );
+
+        List<Object> inserted = new ArrayList<Object>();
+        ksession.addEventListener( new DefaultRuleRuntimeEventListener() {
+            @Override
+            public void objectInserted( ObjectInsertedEvent event ) {
+                inserted.add( event.getObject() );
+            }
+        } );
+
+        List<Object> facts = Arrays.<Object>asList( 1, "a", 3, "bb" );
+        ( (StatefulKnowledgeSessionImpl) ksession ).insertAll( facts );
+        assertEquals( facts, inserted );
+    }
+
+    @Test(timeout = 40000L)
+    public void testInsertAllWithMultithreadEvaluation() {
+        StringBuilder drl = new StringBuilder( "global java.util.List list;\n" );
+        for ( int i = 0; i < 10; i++ ) {
+            drl.append( "rule R" ).append( i ).append( " when\n" )
+               .append( "    $i : Integer( intValue == " ).append( i ).append( " )\n" )
+               .append( "    String( toString == $i.toString )\n" )
+               .append( "then\n" )
+               .append( "    list.add( $i );\n" )
+               .append( "end\n" );
+        }
+
+        KieSession ksession = new KieHelper().addContent( drl.toString(), ResourceType.DRL )
+                                             .build( MultithreadEvaluationOption.YES )
+                                             .newKieSession();
+        List<Integer> list = Collections.synchronizedList( new ArrayList<Integer>() );
+        ksession.setGlobal( "list", list );
+
+        List<Object> facts = new ArrayList<Object>();
+        for ( int i = 0; i < 10; i++ ) {
+            facts.add( i );
+            facts.add( "" + i );
+        }
+        ( (StatefulKnowledgeSessionImpl) ksession ).insertAll( facts );
+
+        assertEquals( 10, ksession.fireAllRules() );
+        assertEquals( 10, list.size() );
+    }
+}
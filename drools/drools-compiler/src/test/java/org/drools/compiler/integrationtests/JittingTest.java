@@ -18,16 +18,28 @@ package org.drools.compiler.integrationtests;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.api.Assertions;
 import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.Person;
 import org.drools.compiler.integrationtests.facts.AnEnum;
 import org.drools.compiler.integrationtests.facts.FactWithEnum;
+import org.drools.core.common.BetaConstraints;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.rule.constraint.MvelConstraint;
+import org.drools.core.spi.BetaNodeFieldConstraint;
 import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.EagerJittingOption;
 import org.kie.internal.utils.KieHelper;
 
 public class JittingTest extends CommonTestMethodBase {
@@ -121,4 +133,80 @@ public class JittingTest extends CommonTestMethodBase {
         kieSession.insert(new FactWithEnum(AnEnum.FIRST));
         Assertions.assertThat(kieSession.fireAllRules()).isEqualTo(1);
     }
+
+    @Test
+    public void testEagerJitting() throws Exception {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                " rule R1 \n" +
+                " when \n" +
+                "    $p1 : Person( age > 30, name.startsWith( \"M\" ) )\n" +
+                "    $p2 : Person( this != $p1, age > $p1.age )\n" +
+                " then \n" +
+                "    list.add( $p1.getName() + \">\" + $p2.getName() );\n" +
+                " end ";
+
+        final KieHelper kieHelper = new KieHelper();
+        kieHelper.addContent( drl, ResourceType.DRL );
+        final KieBase kieBase = kieHelper.build(EagerJittingOption.YES);
+
+        // the constraints are compiled while building the network, but not jitted
+        final List<MvelConstraint> constraints = getEvaluatedMvelConstraints(kieBase, Person.class);
+        Assertions.assertThat(constraints).extracting(MvelConstraint::getExpression).contains("age > 30", "this != $p1");
+        for (MvelConstraint constraint : constraints) {
+            Assertions.assertThat(constraint.isEvaluatorCompiled()).isTrue();
+            Assertions.assertThat(constraint.isEvaluatorJitted()).isFalse();
+        }
+
+        for (int i = 0; i < 2; i++) {
+            final KieSession kieSession = kieBase.newKieSession();
+            final List<String> list = new ArrayList<>();
+            kieSession.setGlobal( "list", list );
+            kieSession.insert(new Person("Mario", 40));
+            kieSession.insert(new Person("Mark", 38));
+            kieSession.insert(new Person("Edson", 41));
+            kieSession.insert(new Person("Max", 20));
+            Assertions.assertThat(kieSession.fireAllRules()).isEqualTo(3);
+            Assertions.assertThat(list).containsExactlyInAnyOrder("Mario>Edson", "Mark>Mario", "Mark>Edson");
+            kieSession.dispose();
+        }
+
+        // the first evaluations started jitting the constraints in background
+        for (MvelConstraint constraint : constraints) {
+            waitUntilJitted(constraint);
+        }
+    }
+
+    private void waitUntilJitted(final MvelConstraint constraint) throws InterruptedException {
+        for (int i = 0; i < 100 && !constraint.isEvaluatorJitted(); i++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertThat(constraint.isEvaluatorJitted()).as(constraint.getExpression()).isTrue();
+    }
+
+    private List<MvelConstraint> getEvaluatedMvelConstraints(final KieBase kieBase, final Class<?> factClass) {
+        final List<MvelConstraint> constraints = new ArrayList<>();
+        for (ObjectTypeNode otn : ((InternalKnowledgeBase) kieBase).getRete().getObjectTypeNodes()) {
+            if (otn.getObjectType().isAssignableFrom(factClass)) {
+                collectMvelConstraints(otn.getObjectSinkPropagator().getSinks(), constraints);
+            }
+        }
+        return constraints;
+    }
+
+    private void collectMvelConstraints(final ObjectSink[] sinks, final List<MvelConstraint> constraints) {
+        for (ObjectSink sink : sinks) {
+            if (sink instanceof AlphaNode) {
+                constraints.add((MvelConstraint) ((AlphaNode) sink).getConstraint());
+                collectMvelConstraints(((AlphaNode) sink).getObjectSinkPropagator().getSinks(), constraints);
+            } else if (sink instanceof BetaNode) {
+                // the indexed constraints are never evaluated
+                final BetaConstraints betaConstraints = ((BetaNode) sink).getRawConstraints();
+                final BetaNodeFieldConstraint[] betaNodeConstraints = betaConstraints.getConstraints();
+                for (int i = betaConstraints.getIndexCount(); i < betaNodeConstraints.length; i++) {
+                    constraints.add((MvelConstraint) betaNodeConstraints[i]);
+                }
+            }
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.util.List;
 import org.drools.compiler.Bar;
 import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.Foo;
+import org.drools.core.base.accumulators.MaxAccumulateFunction;
 import org.junit.Test;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
@@ -326,6 +327,7 @@ public class MatchTest extends CommonTestMethodBase {
         String rule = "package testpkg;\n" +
                       "import " + CloudComputer.class.getCanonicalName() + "\n;" +
                       "import " + CloudProcess.class.getCanonicalName() + "\n;" +
+                      "import accumulate " + NonReversibleMaxAccumulateFunction.class.getCanonicalName() + " nonReversibleMax\n;" +
                       "rule requiredCpuPowerTotal\n" +
                       "    when\n" +
                       "        $computer : CloudComputer($cpuPower : cpuPower)\n" +
@@ -333,7 +335,7 @@ public class MatchTest extends CommonTestMethodBase {
                       "            CloudProcess(\n" +
                       "                computer == $computer,\n" +
                       "                $requiredCpuPower : requiredCpuPower);\n" +
-                      "            $requiredCpuPowerTotal : max($requiredCpuPower);\n" +
+                      "            $requiredCpuPowerTotal : nonReversibleMax($requiredCpuPower);\n" +
                       "            (Integer) $requiredCpuPowerTotal > $cpuPower\n" +
                       "        )\n" +
                       "    then\n" +
@@ -357,6 +359,13 @@ public class MatchTest extends CommonTestMethodBase {
         }
     }
 
+    public static class NonReversibleMaxAccumulateFunction extends MaxAccumulateFunction {
+        @Override
+        public boolean supportsReverse() {
+            return false;
+        }
+    }
+
     public static class CloudComputer {
         public int getCpuPower() {
             return 0;
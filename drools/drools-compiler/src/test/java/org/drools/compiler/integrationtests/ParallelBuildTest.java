@@ -16,18 +16,45 @@
 
 package org.drools.compiler.integrationtests;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.drools.compiler.Person;
+import org.drools.compiler.lang.descr.ImportDescr;
+import org.drools.compiler.lang.descr.PackageDescr;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.io.impl.ByteArrayResource;
+import org.drools.core.io.impl.DescrResource;
 import org.junit.Test;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.CompositeKnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.ParallelRulesBuildThresholdOption;
 import org.kie.internal.io.ResourceFactory;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 public class ParallelBuildTest {
 
+    private static final int PACKAGES = 4;
+    private static final int FILES_PER_PACKAGE = 3;
+    private static final int RULES_PER_FILE = 20;
+
     private final List<Class<?>> classes = Arrays.asList(
             java.util.List.class,
             java.awt.Color.class,
@@ -62,4 +89,202 @@ public class ParallelBuildTest {
         kbuilder.add(ResourceFactory.newByteArrayResource(sb.toString().getBytes(StandardCharsets.UTF_8)), ResourceType.DRL);
     }
 
+    @Test
+    public void testParallelBuildOfManyPackages() {
+        for (int threshold : new int[] { -1, 0 }) {
+            KnowledgeBuilder kbuilder = build( threshold );
+            assertFalse( kbuilder.getErrors().toString(), kbuilder.hasErrors() );
+
+            InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+            kbase.addPackages( kbuilder.getKnowledgePackages() );
+            assertEquals( PACKAGES * FILES_PER_PACKAGE * RULES_PER_FILE,
+                          kbase.getKiePackages().stream().mapToInt( pkg -> pkg.getRules().size() ).sum() );
+
+            KieSession ksession = kbase.newKieSession();
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal( "list", list );
+            ksession.insert( new Person( "Mario", 40 ) );
+            assertEquals( PACKAGES * FILES_PER_PACKAGE * RULES_PER_FILE, ksession.fireAllRules() );
+            assertEquals( PACKAGES * FILES_PER_PACKAGE * RULES_PER_FILE, list.size() );
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testParallelBuildOfDependentPackages() {
+        // the packages compiled in parallel use the functions and the declared types of each other
+        String items = "package org.items;\n" +
+                       "declare Item name : String end\n" +
+                       "function String label(Item item) { return \"item \" + item.getName(); }\n" +
+                       "rule InsertItem when\n" +
+                       "  String( $s : this )\n" +
+                       "then\n" +
+                       "  insert( new Item( $s ) );\n" +
+                       "end\n";
+        String orders = "package org.orders;\n" +
+                        "import org.items.Item;\n" +
+                        "import function org.items.Label.label;\n" +
+                        "global java.util.List list;\n" +
+                        "declare Order extends Item quantity : int end\n" +
+                        "function String describe(Order order) { return label( order ) + \" x\" + order.getQuantity(); }\n" +
+                        "rule OrderItem when\n" +
+                        "  $i : Item()\n" +
+                        "  not Order()\n" +
+                        "then\n" +
+                        "  insert( new Order( $i.getName(), 2 ) );\n" +
+                        "  list.add( label( $i ) );\n" +
+                        "end\n";
+        String shipments = "package org.shipments;\n" +
+                           "import org.orders.Order;\n" +
+                           "import function org.orders.Describe.describe;\n" +
+                           "global java.util.List list;\n" +
+                           "declare Shipment order : Order end\n" +
+                           "rule ShipOrder when\n" +
+                           "  $o : Order()\n" +
+                           "then\n" +
+                           "  insert( new Shipment( $o ) );\n" +
+                           "end\n" +
+                           "rule ListShipment when\n" +
+                           "  Shipment( $o : order )\n" +
+                           "then\n" +
+                           "  list.add( \"shipped \" + describe( $o ) );\n" +
+                           "end\n";
+
+        for (int threshold : new int[] { -1, 0 }) {
+            // a function can only be imported from a package that is already built
+            KnowledgeBuilder kbuilder = newKnowledgeBuilder( threshold );
+            kbuilder.add( ResourceFactory.newByteArrayResource( items.getBytes() ), ResourceType.DRL );
+            kbuilder.add( ResourceFactory.newByteArrayResource( orders.getBytes() ), ResourceType.DRL );
+            kbuilder.add( ResourceFactory.newByteArrayResource( shipments.getBytes() ), ResourceType.DRL );
+            assertFalse( kbuilder.getErrors().toString(), kbuilder.hasErrors() );
+            checkDependentPackages( kbuilder );
+
+            // the declared types can also come from a package of the same batch
+            kbuilder = newKnowledgeBuilder( threshold );
+            kbuilder.add( ResourceFactory.newByteArrayResource( items.getBytes() ), ResourceType.DRL );
+            kbuilder.add( ResourceFactory.newByteArrayResource( orders.getBytes() ), ResourceType.DRL );
+            kbuilder.batch()
+                    .add( ResourceFactory.newByteArrayResource( shipments.getBytes() ), ResourceType.DRL )
+                    .add( ResourceFactory.newByteArrayResource( shipments.replace( "org.shipments", "org.returns" ).replace( "shipped", "returned" ).getBytes() ), ResourceType.DRL )
+                    .build();
+            assertFalse( kbuilder.getErrors().toString(), kbuilder.hasErrors() );
+            checkDependentPackages( kbuilder, "returned item a x2" );
+        }
+    }
+
+    private void checkDependentPackages( KnowledgeBuilder kbuilder, String... moreResults ) {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages( kbuilder.getKnowledgePackages() );
+        KieSession ksession = kbase.newKieSession();
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ksession.insert( "a" );
+        assertEquals( 4 + 2 * moreResults.length, ksession.fireAllRules() );
+        List<String> expected = new ArrayList<>( Arrays.asList( "item a", "shipped item a x2" ) );
+        expected.addAll( Arrays.asList( moreResults ) );
+        list.sort( null );
+        expected.sort( null );
+        assertEquals( expected, list );
+        ksession.dispose();
+    }
+
+    @Test
+    public void testErrorsOfParallelBuild() {
+        String wrongSyntax = "package org.pkg0;\nrule Wrong when Person( then end\n";
+        String wrongConsequence = "package org.pkg1;\nrule WrongConsequence when then undefinedMethod(); end\n";
+
+        int sequentialErrors = build( -1, wrongSyntax, wrongConsequence ).getErrors().size();
+        assertTrue( sequentialErrors > 0 );
+        assertEquals( sequentialErrors, build( 0, wrongSyntax, wrongConsequence ).getErrors().size() );
+    }
+
+    @Test
+    public void testExceptionsOfParallelBuild() {
+        IOException unreadable = new IOException( "unreadable" );
+        Resource unreadableResource = new ByteArrayResource( "package org.unreadable;".getBytes() ) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw unreadable;
+            }
+        };
+        IllegalStateException unregistrable = new IllegalStateException( "unregistrable" );
+        Resource unregistrableResource = new DescrResource( new PackageDescr( "org.wrong" ) {
+            @Override
+            public List<ImportDescr> getImports() {
+                throw unregistrable;
+            }
+        } );
+
+        for (int threshold : new int[] { -1, 0 }) {
+            // a failing resource fails the whole batch, but the others are built anyway
+            KnowledgeBuilder kbuilder = newKnowledgeBuilder( threshold );
+            try {
+                kbuilder.batch()
+                        .add( ResourceFactory.newByteArrayResource( drl( 0, 0 ).getBytes() ), ResourceType.DRL )
+                        .add( unreadableResource, ResourceType.DRL )
+                        .build();
+                fail( "the unreadable resource should fail the build" );
+            } catch (RuntimeException e) {
+                assertSame( unreadable, e.getCause() );
+            }
+            assertEquals( RULES_PER_FILE, getPackage( kbuilder, "org.pkg0" ).getRules().size() );
+
+            kbuilder = newKnowledgeBuilder( threshold );
+            try {
+                kbuilder.batch()
+                        .add( new DescrResource( new PackageDescr( "org.right" ) ), ResourceType.DESCR )
+                        .add( unregistrableResource, ResourceType.DESCR )
+                        .build();
+                fail( "the unregistrable package should fail the build" );
+            } catch (RuntimeException e) {
+                assertSame( unregistrable, e );
+            }
+            assertNotNull( getPackage( kbuilder, "org.right" ) );
+        }
+    }
+
+    private KiePackage getPackage( KnowledgeBuilder kbuilder, String name ) {
+        return kbuilder.getKnowledgePackages().stream().filter( pkg -> pkg.getName().equals( name ) ).findFirst().orElse( null );
+    }
+
+    private KnowledgeBuilder newKnowledgeBuilder( int threshold ) {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption( ParallelRulesBuildThresholdOption.get( threshold ) );
+        return KnowledgeBuilderFactory.newKnowledgeBuilder( conf );
+    }
+
+    private KnowledgeBuilder build( int threshold, String... extraDrls ) {
+        KnowledgeBuilder kbuilder = newKnowledgeBuilder( threshold );
+
+        CompositeKnowledgeBuilder ckbuilder = kbuilder.batch();
+        for (int p = 0; p < PACKAGES; p++) {
+            for (int f = 0; f < FILES_PER_PACKAGE; f++) {
+                ckbuilder.add( ResourceFactory.newByteArrayResource( drl( p, f ).getBytes() ), ResourceType.DRL );
+            }
+        }
+        for (String drl : extraDrls) {
+            ckbuilder.add( ResourceFactory.newByteArrayResource( drl.getBytes() ), ResourceType.DRL );
+        }
+        ckbuilder.build();
+        return kbuilder;
+    }
+
+    private static String drl( int pkg, int file ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package org.pkg" ).append( pkg ).append( ";\n" )
+          .append( "import " ).append( Person.class.getCanonicalName() ).append( ";\n" )
+          .append( "global java.util.List list;\n" );
+        if (file == 0) {
+            sb.append( "function String describe(Person p, int i) { return p.getName() + \"_\" + i; }\n" );
+        }
+        for (int i = 0; i < RULES_PER_FILE; i++) {
+            String name = "R_" + file + "_" + i;
+            sb.append( "rule " ).append( name ).append( " when\n" )
+              .append( "  $p : Person( age > " ).append( i ).append( " )\n" )
+              .append( "then\n" )
+              .append( "  list.add( describe( $p, " ).append( i ).append( " ) );\n" )
+              .append( "end\n" );
+        }
+        return sb.toString();
+    }
 }
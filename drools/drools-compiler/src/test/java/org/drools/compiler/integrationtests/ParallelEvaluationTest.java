@@ -23,7 +23,10 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -246,6 +249,63 @@ public class ParallelEvaluationTest {
         }
     }
 
+    @Test(timeout = 40000L)
+    public void testFireUntilHaltReusesPartitionThreads() throws InterruptedException {
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        sb.append( "global java.util.Set threads;\n" );
+        for (int i = 0; i < 10; i++) {
+            sb.append( getRule( i, "threads.add(Thread.currentThread());\n" ) );
+        }
+
+        KieSession ksession = new KieHelper().addContent( sb.toString(), ResourceType.DRL )
+                                             .build( MultithreadEvaluationOption.YES )
+                                             .newKieSession();
+
+        assertTrue( ( (InternalWorkingMemory) ksession ).getAgenda().isParallelAgenda() );
+
+        DebugList<Integer> list = new DebugList<Integer>();
+        ksession.setGlobal( "list", list );
+        Set<Thread> threads = Collections.synchronizedSet( new HashSet<>() );
+        ksession.setGlobal( "threads", threads );
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                ksession.insert( i );
+            }
+
+            Set<Thread> firstRunThreads = fireUntilHaltWithNewStrings( ksession, list, threads, 10 );
+            Set<Thread> secondRunThreads = fireUntilHaltWithNewStrings( ksession, list, threads, 20 );
+
+            // the partitions not evaluated by the thread firing until halt always run on the same threads
+            assertTrue( firstRunThreads.containsAll( secondRunThreads ) );
+            assertEquals( 20, list.size() );
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private Set<Thread> fireUntilHaltWithNewStrings( KieSession ksession, DebugList<Integer> list, Set<Thread> threads, int expectedFirings ) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        list.onItemAdded = ( l -> { if (l.size() == expectedFirings) {
+            ksession.halt();
+            done.countDown();
+        }} );
+        threads.clear();
+
+        Thread firingThread = new Thread(ksession::fireUntilHalt);
+        firingThread.start();
+        for (int i = 0; i < 10; i++) {
+            ksession.insert( new String( "" + i ) );
+        }
+        done.await();
+        firingThread.join();
+
+        Set<Thread> partitionThreads = new HashSet<>( threads );
+        partitionThreads.remove( firingThread );
+        return partitionThreads;
+    }
+
     @Test(timeout = 40000L)
     public void testFireUntilHalt2() {
         int rulesNr = 4;
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.drools.compiler.CommonTestMethodBase;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.reteoo.BetaMemory;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.index.RightTupleIndexRangeRBTree;
+import org.drools.core.util.index.TupleIndexRBTree;
+import org.drools.core.util.index.TupleList;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.RangeIndexOption;
+
+public class RangeIndexTest extends CommonTestMethodBase {
+
+    private static final String DRL =
+            "import " + Band.class.getCanonicalName() + ";\n" +
+            "import " + Trade.class.getCanonicalName() + ";\n" +
+            "query inBand()\n" +
+            "    Band( $min : min, $max : max )\n" +
+            "    Trade( price > $min, price <= $max )\n" +
+            "end\n" +
+            "query aboveMin()\n" +
+            "    Band( $min : min )\n" +
+            "    Trade( price >= $min )\n" +
+            "end\n" +
+            "query emptyBand()\n" +
+            "    Band( $min : min, $max : max )\n" +
+            "    not Trade( price > $min, price <= $max )\n" +
+            "end\n" +
+            "query tradedBand()\n" +
+            "    Band( $min : min, $max : max )\n" +
+            "    exists Trade( price > $min, price <= $max )\n" +
+            "end\n";
+
+    @Test
+    public void testRangeIndexMemories() {
+        KieBase kbase = loadKnowledgeBase( RangeIndexOption.YES );
+        KieSession ksession = kbase.newKieSession();
+        ksession.insert( new Band( 1, 10 ) );
+        ksession.insert( new Trade( 5 ) );
+        assertEquals( 1, ksession.getQueryResults( "inBand" ).size() );
+
+        List<Class<?>> rightMemoryTypes = getJoinRightMemoryTypes( (InternalKnowledgeBase) kbase, (InternalWorkingMemory) ksession );
+        assertTrue( rightMemoryTypes.contains( RightTupleIndexRangeRBTree.class ) );
+        assertTrue( rightMemoryTypes.contains( TupleIndexRBTree.class ) );
+        ksession.dispose();
+
+        kbase = loadKnowledgeBase( RangeIndexOption.NO );
+        ksession = kbase.newKieSession();
+        ksession.insert( new Band( 1, 10 ) );
+        ksession.insert( new Trade( 5 ) );
+        assertEquals( 1, ksession.getQueryResults( "inBand" ).size() );
+
+        for ( Class<?> memoryType : getJoinRightMemoryTypes( (InternalKnowledgeBase) kbase, (InternalWorkingMemory) ksession ) ) {
+            assertEquals( TupleList.class, memoryType );
+        }
+        ksession.dispose();
+    }
+
+    @Test
+    public void testRangeIndexWithInsertUpdateDelete() {
+        KieSession ksession = loadKnowledgeBase( RangeIndexOption.YES ).newKieSession();
+
+        Random random = new Random( 0 );
+        List<Band> bands = new ArrayList<Band>();
+        List<FactHandle> bandHandles = new ArrayList<FactHandle>();
+        List<Trade> trades = new ArrayList<Trade>();
+        List<FactHandle> tradeHandles = new ArrayList<FactHandle>();
+
+        for ( int i = 0; i < 30; i++ ) {
+            int min = random.nextInt( 50 );
+            Band band = new Band( min, min + random.nextInt( 20 ) );
+            bands.add( band );
+            bandHandles.add( ksession.insert( band ) );
+        }
+        for ( int i = 0; i < 100; i++ ) {
+            Trade trade = new Trade( random.nextInt( 80 ) );
+            trades.add( trade );
+            tradeHandles.add( ksession.insert( trade ) );
+        }
+        checkQueries( ksession, bands, trades );
+
+        for ( int round = 0; round < 20; round++ ) {
+            for ( int i = 0; i < 10; i++ ) {
+                int pos = random.nextInt( trades.size() );
+                trades.get( pos ).setPrice( random.nextInt( 80 ) );
+                ksession.update( tradeHandles.get( pos ), trades.get( pos ) );
+            }
+            for ( int i = 0; i < 3; i++ ) {
+                int pos = random.nextInt( bands.size() );
+                int min = random.nextInt( 50 );
+                bands.get( pos ).setMin( min );
+                bands.get( pos ).setMax( min + random.nextInt( 20 ) );
+                ksession.update( bandHandles.get( pos ), bands.get( pos ) );
+            }
+
+            int pos = random.nextInt( trades.size() );
+            ksession.delete( tradeHandles.remove( pos ) );
+            trades.remove( pos );
+
+            Trade trade = new Trade( random.nextInt( 80 ) );
+            trades.add( trade );
+            tradeHandles.add( ksession.insert( trade ) );
+
+            checkQueries( ksession, bands, trades );
+        }
+
+        ksession.dispose();
+    }
+
+    private void checkQueries( KieSession ksession, List<Band> bands, List<Trade> trades ) {
+        int inBand = 0;
+        int aboveMin = 0;
+        int emptyBand = 0;
+        for ( Band band : bands ) {
+            int matching = 0;
+            for ( Trade trade : trades ) {
+                if ( trade.getPrice() > band.getMin() && trade.getPrice() <= band.getMax() ) {
+                    matching++;
+                }
+                if ( trade.getPrice() >= band.getMin() ) {
+                    aboveMin++;
+                }
+            }
+            inBand += matching;
+            if ( matching == 0 ) {
+                emptyBand++;
+            }
+        }
+
+        assertEquals( inBand, ksession.getQueryResults( "inBand" ).size() );
+        assertEquals( aboveMin, ksession.getQueryResults( "aboveMin" ).size() );
+        assertEquals( emptyBand, ksession.getQueryResults( "emptyBand" ).size() );
+        assertEquals( bands.size() - emptyBand, ksession.getQueryResults( "tradedBand" ).size() );
+    }
+
+    private KieBase loadKnowledgeBase( RangeIndexOption rangeIndexOption ) {
+        KieBaseConfiguration kbaseConf = KnowledgeBaseFactory.newKnowledgeBaseConfiguration();
+        kbaseConf.setOption( rangeIndexOption );
+        return loadKnowledgeBaseFromString( null, kbaseConf, DRL );
+    }
+
+    private List<Class<?>> getJoinRightMemoryTypes( InternalKnowledgeBase kbase, InternalWorkingMemory wm ) {
+        List<Class<?>> memoryTypes = new ArrayList<Class<?>>();
+        for ( ObjectTypeNode otn : kbase.getRete().getObjectTypeNodes() ) {
+            if ( !otn.getObjectType().getClassName().equals( Trade.class.getName() ) ) {
+                continue;
+            }
+            for ( ObjectSink sink : otn.getObjectSinkPropagator().getSinks() ) {
+                if ( sink instanceof JoinNode ) {
+                    TupleMemory rtm = ( (BetaMemory) wm.getNodeMemory( (JoinNode) sink ) ).getRightTupleMemory();
+                    memoryTypes.add( rtm.getClass() );
+                }
+            }
+        }
+        return memoryTypes;
+    }
+
+    public static class Band {
+        private int min;
+        private int max;
+
+        public Band( int min, int max ) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public int getMin() {
+            return min;
+        }
+
+        public void setMin( int min ) {
+            this.min = min;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public void setMax( int max ) {
+            this.max = max;
+        }
+    }
+
+    public static class Trade {
+        private int price;
+
+        public Trade( int price ) {
+            this.price = price;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public void setPrice( int price ) {
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests.concurrency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.compiler.CommonTestMethodBase;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.phreak.LockFreePropagationList;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.drools.core.phreak.SynchronizedPropagationList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.internal.runtime.conf.PropagationListOption;
+import org.kie.internal.utils.KieHelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class PropagationListTest extends CommonTestMethodBase {
+
+    private final PropagationListOption propagationList;
+
+    public PropagationListTest( PropagationListOption propagationList ) {
+        this.propagationList = propagationList;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> getParameters() {
+        return Arrays.asList( new Object[][] { { PropagationListOption.SYNCHRONIZED }, { PropagationListOption.LOCK_FREE } } );
+    }
+
+    @Test
+    public void testPropagationListImplementation() {
+        KieSession ksession = newKieSession( "" );
+        try {
+            PropagationList list = ( (InternalWorkingMemory) ksession ).getAgenda().getPropagationList();
+            assertEquals( propagationList == PropagationListOption.LOCK_FREE ? LockFreePropagationList.class : SynchronizedPropagationList.class,
+                          list.getClass() );
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testEntriesAreFlushedInInsertionOrder() {
+        KieSession ksession = newKieSession( "" );
+        try {
+            PropagationList list = ( (InternalWorkingMemory) ksession ).getAgenda().getPropagationList();
+            List<Integer> executed = new ArrayList<>();
+            for ( int i = 0; i < 10; i++ ) {
+                list.addEntry( new RecordingEntry( i, executed ) );
+            }
+
+            List<Integer> iterated = new ArrayList<>();
+            list.iterator().forEachRemaining( entry -> iterated.add( ( (RecordingEntry) entry ).id ) );
+            assertEquals( Arrays.asList( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 ), iterated );
+
+            list.flush();
+            assertEquals( Arrays.asList( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 ), executed );
+            assertTrue( list.isEmpty() );
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void testConcurrentInsertsOnFireUntilHalt() throws Exception {
+        final String drl =
+                "global java.util.concurrent.atomic.AtomicInteger counter;\n" +
+                "rule R when\n" +
+                "    String()\n" +
+                "then\n" +
+                "    counter.incrementAndGet();\n" +
+                "end\n";
+
+        final int producers = 8;
+        final int factsPerProducer = 2000;
+
+        final KieSession ksession = newKieSession( drl );
+        final AtomicInteger counter = new AtomicInteger();
+        ksession.setGlobal( "counter", counter );
+
+        final ExecutorService executor = Executors.newFixedThreadPool( producers + 1 );
+        try {
+            final Future<?> engine = executor.submit( () -> { ksession.fireUntilHalt(); } );
+
+            final CountDownLatch start = new CountDownLatch( 1 );
+            final List<Future<?>> inserts = new ArrayList<>();
+            for ( int i = 0; i < producers; i++ ) {
+                inserts.add( executor.submit( () -> {
+                    start.await();
+                    for ( int j = 0; j < factsPerProducer; j++ ) {
+                        ksession.insert( String.valueOf( j ) );
+                    }
+                    return null;
+                } ) );
+            }
+            start.countDown();
+            for ( Future<?> insert : inserts ) {
+                insert.get();
+            }
+
+            while ( counter.get() < producers * factsPerProducer ) {
+                Thread.sleep( 10L );
+            }
+            ksession.halt();
+            engine.get( 10, TimeUnit.SECONDS );
+
+            assertEquals( producers * factsPerProducer, counter.get() );
+            assertEquals( producers * factsPerProducer, ksession.getFactCount() );
+        } finally {
+            executor.shutdownNow();
+            ksession.dispose();
+        }
+    }
+
+    private KieSession newKieSession( String drl ) {
+        KieSessionConfiguration conf = KnowledgeBaseFactory.newKnowledgeSessionConfiguration();
+        conf.setOption( propagationList );
+        return new KieHelper().addContent( drl, ResourceType.DRL ).build().newKieSession( conf, null );
+    }
+
+    private static class RecordingEntry extends PropagationEntry.AbstractPropagationEntry {
+        private final int id;
+        private final List<Integer> executed;
+
+        private RecordingEntry( int id, List<Integer> executed ) {
+            this.id = id;
+            this.executed = executed;
+        }
+
+        @Override
+        public void execute( InternalWorkingMemory wm ) {
+            executed.add( id );
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.marshalling.impl.ProtobufMarshaller;
+import org.drools.core.marshalling.impl.SessionChunks;
+import org.drools.core.time.SessionPseudoClock;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.marshalling.MarshallerFactory;
+import org.kie.internal.utils.KieHelper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class StreamingMarshallingTest {
+
+    private static final int FACTS = SessionChunks.BATCH_SIZE * 2 + 500;
+
+    public static class Holder implements Serializable {
+        private final int id;
+        private final List<String> shared;
+
+        public Holder( int id, List<String> shared ) {
+            this.id = id;
+            this.shared = shared;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public List<String> getShared() {
+            return shared;
+        }
+    }
+
+    @Test
+    public void testFactsAndMatches() throws Exception {
+        String drl =
+                "import " + Holder.class.getCanonicalName() + ";\n" +
+                "global java.util.List results;\n" +
+                "rule R when\n" +
+                "    $h : Holder( id < " + FACTS / 2 + " )\n" +
+                "then\n" +
+                "    results.add( $h.getId() );\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent( drl, ResourceType.DRL ).build();
+        for ( boolean streaming : new boolean[] { true, false } ) {
+            KieSession ksession = kbase.newKieSession();
+            List<Integer> results = new ArrayList<>();
+            ksession.setGlobal( "results", results );
+
+            List<String> shared = new ArrayList<>();
+            for ( int i = 0; i < FACTS; i++ ) {
+                ksession.insert( new Holder( i, shared ) );
+            }
+
+            byte[] bytes = marshall( kbase, ksession, streaming );
+            assertEquals( streaming, new ObjectInputStream( new ByteArrayInputStream( bytes ) ).read() == 0 );
+
+            KieSession restored = unmarshall( kbase, ksession, bytes );
+            assertEquals( FACTS, restored.getFactCount() );
+            assertEquals( FACTS / 2, restored.fireAllRules() );
+            assertEquals( FACTS / 2, results.size() );
+
+            // references shared by facts written in different chunks are still shared once restored
+            List<String> restoredShared = ( (Holder) restored.getObjects().iterator().next() ).getShared();
+            for ( Object fact : restored.getObjects() ) {
+                assertSame( restoredShared, ( (Holder) fact ).getShared() );
+            }
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testLogicalInsertions() throws Exception {
+        String drl =
+                "import " + Holder.class.getCanonicalName() + ";\n" +
+                "rule L when\n" +
+                "    Holder( $id : id )\n" +
+                "then\n" +
+                "    insertLogical( \"\" + $id );\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent( drl, ResourceType.DRL ).build();
+        KieSession ksession = kbase.newKieSession();
+        List<String> shared = new ArrayList<>();
+        for ( int i = 0; i < FACTS; i++ ) {
+            ksession.insert( new Holder( i, shared ) );
+        }
+        ksession.fireAllRules();
+        assertEquals( FACTS * 2, ksession.getFactCount() );
+
+        KieSession restored = unmarshall( kbase, ksession, marshall( kbase, ksession, true ) );
+        assertEquals( FACTS * 2, restored.getFactCount() );
+
+        // deleting a justifier still retracts its logical insertion
+        FactHandle fh = restored.getFactHandles( o -> o instanceof Holder && ( (Holder) o ).getId() == 0 ).iterator().next();
+        restored.delete( fh );
+        restored.fireAllRules();
+        assertEquals( FACTS * 2 - 2, restored.getFactCount() );
+        assertEquals( 0, restored.getObjects( o -> "0".equals( o ) ).size() );
+        restored.dispose();
+    }
+
+    @Test
+    public void testEventsAndTimers() throws Exception {
+        String drl =
+                "import " + Holder.class.getCanonicalName() + ";\n" +
+                "global java.util.List results;\n" +
+                "declare Holder @role( event ) end\n" +
+                "rule T timer( int: 5s ) when\n" +
+                "    $h : Holder()\n" +
+                "then\n" +
+                "    results.add( $h.getId() );\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent( drl, ResourceType.DRL ).build( EventProcessingOption.STREAM );
+        KieSessionConfiguration conf = KnowledgeBaseFactory.newKnowledgeSessionConfiguration();
+        conf.setOption( ClockTypeOption.get( "pseudo" ) );
+        KieSession ksession = kbase.newKieSession( conf, null );
+        List<Integer> results = new ArrayList<>();
+        ksession.setGlobal( "results", results );
+
+        List<String> shared = new ArrayList<>();
+        for ( int i = 0; i < FACTS; i++ ) {
+            ksession.insert( new Holder( i, shared ) );
+        }
+        ksession.fireAllRules();
+        assertEquals( 0, results.size() );
+
+        KieSession restored = unmarshall( kbase, ksession, marshall( kbase, ksession, true ) );
+        SessionPseudoClock clock = restored.getSessionClock();
+
+        clock.advanceTime( 6, TimeUnit.SECONDS );
+        restored.fireAllRules();
+        assertEquals( FACTS, results.size() );
+        assertEquals( FACTS, restored.getFactCount() );
+        restored.dispose();
+    }
+
+    private byte[] marshall( KieBase kbase, KieSession ksession, boolean streaming ) throws Exception {
+        ProtobufMarshaller marshaller = (ProtobufMarshaller) MarshallerFactory.newMarshaller( kbase );
+        marshaller.setStreaming( streaming );
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall( baos, ksession );
+        return baos.toByteArray();
+    }
+
+    private KieSession unmarshall( KieBase kbase, KieSession ksession, byte[] bytes ) throws Exception {
+        // both the formats are read regardless of the marshaller setting
+        ProtobufMarshaller marshaller = (ProtobufMarshaller) MarshallerFactory.newMarshaller( kbase );
+        ksession.getEnvironment().set( EnvironmentName.GLOBALS, ksession.getGlobals() );
+        KieSession restored = marshaller.unmarshall( new ByteArrayInputStream( bytes ),
+                                                     ksession.getSessionConfiguration(),
+                                                     ksession.getEnvironment() );
+        ksession.dispose();
+        return restored;
+    }
+}
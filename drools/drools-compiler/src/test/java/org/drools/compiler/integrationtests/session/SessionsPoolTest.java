@@ -17,13 +17,17 @@
 package org.drools.compiler.integrationtests.session;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
@@ -31,17 +35,24 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.impl.StatefulSessionPool;
+import org.drools.core.impl.StatelessKnowledgeSessionImpl;
 import org.junit.Test;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
 import org.kie.api.command.Command;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieContainerSessionsPool;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.command.CommandFactory;
 import org.kie.internal.conf.SequentialOption;
+import org.kie.internal.runtime.conf.StatelessSessionPoolOption;
 import org.kie.internal.utils.KieHelper;
 
 public class SessionsPoolTest {
@@ -256,4 +267,107 @@ public class SessionsPoolTest {
 
         pool.shutdown();
     }
+
+    @Test
+    public void testStatelessSessionPoolOption() {
+        KieBase kbase = getKieContainer().getKieBase();
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( StatelessSessionPoolOption.get( 2 ) );
+
+        StatelessKieSession ksession = kbase.newStatelessKieSession( conf );
+        StatefulSessionPool sessionPool = ( (StatelessKnowledgeSessionImpl) ksession ).getSessionPool();
+        assertNotNull( sessionPool );
+        assertEquals( 2, sessionPool.getSize() );
+
+        // the stateless sessions created with the same configuration share the same pool
+        assertSame( sessionPool, ( (StatelessKnowledgeSessionImpl) kbase.newStatelessKieSession( conf ) ).getSessionPool() );
+        assertNull( ( (StatelessKnowledgeSessionImpl) kbase.newStatelessKieSession() ).getSessionPool() );
+
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ( (StatelessKnowledgeSessionImpl) ksession ).warmUp( Arrays.asList( "warm", "up" ) );
+        assertEquals( 4, list.size() );
+
+        AtomicInteger inserted = new AtomicInteger();
+        ksession.addEventListener( new DefaultRuleRuntimeEventListener() {
+            @Override
+            public void objectInserted( ObjectInsertedEvent event ) {
+                inserted.incrementAndGet();
+            }
+        } );
+
+        list.clear();
+        for (int i = 0; i < 10; i++) {
+            ksession.execute( "test" + i );
+        }
+        assertEquals( 10, list.size() );
+        // the listeners are removed from the pooled sessions after each call
+        assertEquals( 10, inserted.get() );
+
+        assertEquals( 2, sessionPool.getSize() );
+        assertEquals( 0, sessionPool.getMissCount() );
+        assertEquals( 1.0, sessionPool.getHitRate(), 0.0 );
+        assertEquals( 10, sessionPool.getCallCount() );
+        assertTrue( sessionPool.getAllocatedBytesPerCall() != 0 );
+    }
+
+    @Test
+    public void testStatelessSessionPoolSharedByEqualConfigurations() {
+        KieBase kbase = getKieContainer().getKieBase();
+        StatefulSessionPool sessionPool = getStatelessSessionPool( kbase, 2 );
+        assertNotNull( sessionPool );
+
+        // a new configuration with the same options gets the same pool
+        for (int i = 0; i < 100; i++) {
+            assertSame( sessionPool, getStatelessSessionPool( kbase, 2 ) );
+        }
+
+        // while the configurations with different options get their own pool, until there are too many of them
+        Set<StatefulSessionPool> pools = new HashSet<>();
+        pools.add( sessionPool );
+        int notPooled = 0;
+        for (int size = 3; size < 100; size++) {
+            StatefulSessionPool pool = getStatelessSessionPool( kbase, size );
+            if (pool == null) {
+                notPooled++;
+            } else {
+                assertEquals( size, pool.getSize() );
+                assertTrue( pools.add( pool ) );
+            }
+        }
+        assertTrue( pools.size() < 100 - 2 );
+        assertEquals( 100 - 2 - pools.size(), notPooled );
+        assertSame( sessionPool, getStatelessSessionPool( kbase, 2 ) );
+
+        // a stateless session created with a configuration which isn't pooled anymore still works
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( StatelessSessionPoolOption.get( 100 ) );
+        StatelessKieSession ksession = kbase.newStatelessKieSession( conf );
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ksession.execute( "test" );
+        assertEquals( 1, list.size() );
+    }
+
+    private StatefulSessionPool getStatelessSessionPool( KieBase kbase, int size ) {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( StatelessSessionPoolOption.get( size ) );
+        return ( (StatelessKnowledgeSessionImpl) kbase.newStatelessKieSession( conf ) ).getSessionPool();
+    }
+
+    @Test
+    public void testStatelessSessionPoolDisposedWithKieContainer() {
+        KieContainer kcontainer = getKieContainer();
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( StatelessSessionPoolOption.get( 2 ) );
+
+        StatelessKieSession ksession = kcontainer.getKieBase().newStatelessKieSession( conf );
+        StatefulSessionPool sessionPool = ( (StatelessKnowledgeSessionImpl) ksession ).getSessionPool();
+        assertEquals( 2, sessionPool.getSize() );
+
+        kcontainer.dispose();
+        assertEquals( 0, sessionPool.getSize() );
+        // a stateless session created after the disposal doesn't get the disposed pool
+        assertTrue( sessionPool != ( (StatelessKnowledgeSessionImpl) kcontainer.getKieBase().newStatelessKieSession( conf ) ).getSessionPool() );
+    }
 }
@@ -17,6 +17,7 @@
 package org.drools.statics.common;
 
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 public class SimpleInstanceCreator {
     static Constructor<?> constructor( String className ) {
@@ -27,6 +28,17 @@ public class SimpleInstanceCreator {
         }
     }
 
+    static Supplier<?> instanceSupplier( String className ) {
+        Constructor<?> constructor = constructor( className );
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (Exception e) {
+                throw new RuntimeException( e );
+            }
+        };
+    }
+
     static Object instance( String className ) {
         try {
             return Class.forName(className).newInstance();
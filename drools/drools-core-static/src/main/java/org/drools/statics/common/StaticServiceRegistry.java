@@ -16,26 +16,50 @@
 
 package org.drools.statics.common;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.kie.api.internal.utils.ServiceRegistry;
 
-import static org.drools.statics.common.SimpleInstanceCreator.constructor;
 import static org.drools.statics.common.SimpleInstanceCreator.instance;
+import static org.drools.statics.common.SimpleInstanceCreator.instanceSupplier;
 
 public class StaticServiceRegistry implements ServiceRegistry {
 
+    public static final String GENERATED_WIRING_CLASS = "org.drools.project.model.ProjectServices";
+
     static final StaticServiceRegistry INSTANCE = new StaticServiceRegistry();
 
     private Map<Class<?>, Object> serviceMap = new HashMap<>();
 
-    private Map<String, Constructor<?>> constructorMap = new HashMap<>();
+    private Map<String, Supplier<?>> instanceSupplierMap = new HashMap<>();
 
     StaticServiceRegistry() {
-        wireServices();
+        this( findGeneratedWiring() );
+    }
+
+    /**
+     * Creates a registry wired by the given {@link StaticServiceWiring}, or by looking up the default
+     * service implementations by name when it is null.
+     */
+    public StaticServiceRegistry( StaticServiceWiring wiring ) {
+        if (wiring != null) {
+            wiring.wireServices( this );
+        } else {
+            wireServices();
+        }
+    }
+
+    private static StaticServiceWiring findGeneratedWiring() {
+        // the only lookup by name left when the project has been built with the executable model
+        try {
+            return (StaticServiceWiring) Class.forName( GENERATED_WIRING_CLASS ).newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException( e );
+        }
     }
 
     private void wireServices() {
@@ -51,7 +75,15 @@ public class StaticServiceRegistry implements ServiceRegistry {
             throw new RuntimeException( e );
         }
 
-        constructorMap.put( "TimerService", constructor("org.drools.core.time.impl.JDKTimerService") );
+        instanceSupplierMap.put( "TimerService", instanceSupplier("org.drools.core.time.impl.JDKTimerService") );
+    }
+
+    public <T> void registerService( Class<T> cls, T service ) {
+        serviceMap.put( cls, service );
+    }
+
+    public void registerInstanceSupplier( String name, Supplier<?> supplier ) {
+        instanceSupplierMap.put( name, supplier );
     }
 
     @Override
@@ -60,10 +92,6 @@ public class StaticServiceRegistry implements ServiceRegistry {
     }
 
     public <T> T newInstance( String name ) {
-        try {
-            return (T) constructorMap.get(name).newInstance();
-        } catch (InvocationTargetException | IllegalAccessException | InstantiationException e) {
-            throw new RuntimeException( e );
-        }
+        return (T) instanceSupplierMap.get(name).get();
     }
 }
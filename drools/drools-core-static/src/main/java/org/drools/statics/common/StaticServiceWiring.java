@@ -0,0 +1,29 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.statics.common;
+
+/**
+ * Registers the services of a {@link StaticServiceRegistry} through direct calls.
+ *
+ * An implementation is generated by the executable model compiler, as {@link StaticServiceRegistry#GENERATED_WIRING_CLASS},
+ * when building a project with drools-core-static on its classpath: the registry then doesn't need to look up
+ * the service implementations by name.
+ */
+public interface StaticServiceWiring {
+
+    void wireServices( StaticServiceRegistry registry );
+}
@@ -52,12 +52,14 @@ import org.kie.internal.conf.AlphaThresholdOption;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
+import org.kie.internal.conf.EagerJittingOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
+import org.kie.internal.conf.RangeIndexOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.SequentialOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
@@ -94,6 +96,7 @@ import org.slf4j.LoggerFactory;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
  * drools.indexRightBetaMemory = &lt;true/false&gt;
+ * drools.rangeIndex = &lt;true/false&gt;
  * drools.equalityBehavior = &lt;identity|equality&gt;
  * drools.conflictResolver = &lt;qualified class name&gt;
  * drools.consequenceExceptionHandler = &lt;qualified class name&gt;
@@ -105,6 +108,7 @@ import org.slf4j.LoggerFactory;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt; 
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.eagerJitting = &lt;true|false&gt;
  * </pre>
  */
 public class RuleBaseConfiguration
@@ -133,10 +137,12 @@ public class RuleBaseConfiguration
     private boolean         shareBetaNodes;
     private int             permGenThreshold;
     private int             jittingThreshold;
+    private boolean         eagerJitting;
     private int             alphaNodeHashingThreshold;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
+    private boolean         rangeIndex;
     private AssertBehaviour assertBehaviour;
     private String          consequenceExceptionHandler;
     private String          ruleBaseUpdateHandler;
@@ -188,10 +194,12 @@ public class RuleBaseConfiguration
         out.writeBoolean(shareBetaNodes);
         out.writeInt(permGenThreshold);
         out.writeInt(jittingThreshold);
+        out.writeBoolean(eagerJitting);
         out.writeInt(alphaNodeHashingThreshold);
         out.writeInt(compositeKeyDepth);
         out.writeBoolean(indexLeftBetaMemory);
         out.writeBoolean(indexRightBetaMemory);
+        out.writeBoolean(rangeIndex);
         out.writeObject(indexPrecedenceOption);
         out.writeObject(assertBehaviour);
         out.writeObject(consequenceExceptionHandler);
@@ -219,10 +227,12 @@ public class RuleBaseConfiguration
         shareBetaNodes = in.readBoolean();
         permGenThreshold = in.readInt();
         jittingThreshold = in.readInt();
+        eagerJitting = in.readBoolean();
         alphaNodeHashingThreshold = in.readInt();
         compositeKeyDepth = in.readInt();
         indexLeftBetaMemory = in.readBoolean();
         indexRightBetaMemory = in.readBoolean();
+        rangeIndex = in.readBoolean();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
         assertBehaviour = (AssertBehaviour) in.readObject();
         consequenceExceptionHandler = (String) in.readObject();
@@ -297,6 +307,8 @@ public class RuleBaseConfiguration
             setPermGenThreshold(StringUtils.isEmpty(value) ? PermGenThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             setJittingThreshold( StringUtils.isEmpty( value ) ? ConstraintJittingThresholdOption.DEFAULT_VALUE : Integer.parseInt( value ) );
+        } else if ( name.equals( EagerJittingOption.PROPERTY_NAME ) ) {
+            setEagerJitting( StringUtils.isEmpty( value ) ? false : Boolean.valueOf( value ) );
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             setAlphaNodeHashingThreshold( StringUtils.isEmpty( value ) ? 3 : Integer.parseInt(value));
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
@@ -305,6 +317,8 @@ public class RuleBaseConfiguration
             setIndexLeftBetaMemory( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
         } else if ( name.equals( IndexRightBetaMemoryOption.PROPERTY_NAME ) ) {
             setIndexRightBetaMemory( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
+        } else if ( name.equals( RangeIndexOption.PROPERTY_NAME ) ) {
+            setRangeIndex( StringUtils.isEmpty( value ) ? true : Boolean.valueOf(value));
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             setIndexPrecedenceOption( StringUtils.isEmpty( value ) ? IndexPrecedenceOption.EQUALITY_PRIORITY : IndexPrecedenceOption.determineIndexPrecedence(value));
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
@@ -348,6 +362,8 @@ public class RuleBaseConfiguration
             return Integer.toString( getPermGenThreshold() );
         } else if ( name.equals( ConstraintJittingThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getJittingThreshold() );
+        } else if ( name.equals( EagerJittingOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isEagerJitting() );
         } else if ( name.equals( AlphaThresholdOption.PROPERTY_NAME ) ) {
             return Integer.toString( getAlphaNodeHashingThreshold() );
         } else if ( name.equals( CompositeKeyDepthOption.PROPERTY_NAME ) ) {
@@ -356,6 +372,8 @@ public class RuleBaseConfiguration
             return Boolean.toString( isIndexLeftBetaMemory() );
         } else if ( name.equals( IndexRightBetaMemoryOption.PROPERTY_NAME ) ) {
             return Boolean.toString( isIndexRightBetaMemory());
+        } else if ( name.equals( RangeIndexOption.PROPERTY_NAME ) ) {
+            return Boolean.toString( isRangeIndex() );
         } else if ( name.equals( IndexPrecedenceOption.PROPERTY_NAME ) ) {
             return getIndexPrecedenceOption().getValue();
         } else if ( name.equals( EqualityBehaviorOption.PROPERTY_NAME ) ) {
@@ -424,6 +442,8 @@ public class RuleBaseConfiguration
 
         setJittingThreshold( Integer.parseInt( this.chainedProperties.getProperty( ConstraintJittingThresholdOption.PROPERTY_NAME, "" + ConstraintJittingThresholdOption.DEFAULT_VALUE)));
 
+        setEagerJitting( Boolean.valueOf( this.chainedProperties.getProperty( EagerJittingOption.PROPERTY_NAME, "false" ) ) );
+
         setAlphaNodeHashingThreshold(Integer.parseInt(this.chainedProperties.getProperty(AlphaThresholdOption.PROPERTY_NAME, "3")));
 
         setCompositeKeyDepth(Integer.parseInt(this.chainedProperties.getProperty(CompositeKeyDepthOption.PROPERTY_NAME, "3")));
@@ -432,6 +452,8 @@ public class RuleBaseConfiguration
 
         setIndexRightBetaMemory(Boolean.valueOf(this.chainedProperties.getProperty(IndexRightBetaMemoryOption.PROPERTY_NAME, "true")).booleanValue());
 
+        setRangeIndex(Boolean.valueOf(this.chainedProperties.getProperty(RangeIndexOption.PROPERTY_NAME, "true")).booleanValue());
+
         setIndexPrecedenceOption(IndexPrecedenceOption.determineIndexPrecedence(this.chainedProperties.getProperty(IndexPrecedenceOption.PROPERTY_NAME, "equality")));
 
         setAssertBehaviour(AssertBehaviour.determineAssertBehaviour(this.chainedProperties.getProperty(EqualityBehaviorOption.PROPERTY_NAME, "identity")));
@@ -562,6 +584,15 @@ public class RuleBaseConfiguration
         this.jittingThreshold = jittingThreshold;
     }
 
+    public boolean isEagerJitting() {
+        return eagerJitting;
+    }
+
+    public void setEagerJitting( boolean eagerJitting ) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.eagerJitting = eagerJitting;
+    }
+
     public int getAlphaNodeHashingThreshold() {
         return this.alphaNodeHashingThreshold;
     }
@@ -622,6 +653,15 @@ public class RuleBaseConfiguration
         this.indexRightBetaMemory = indexRightBetaMemory;
     }
 
+    public boolean isRangeIndex() {
+        return this.rangeIndex;
+    }
+
+    public void setRangeIndex(final boolean rangeIndex) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.rangeIndex = rangeIndex;
+    }
+
     public IndexPrecedenceOption getIndexPrecedenceOption() {
         return this.indexPrecedenceOption;
     }
@@ -1070,6 +1110,8 @@ public class RuleBaseConfiguration
             return (T) (this.indexLeftBetaMemory ? IndexLeftBetaMemoryOption.YES : IndexLeftBetaMemoryOption.NO);
         } else if (IndexRightBetaMemoryOption.class.equals(option)) {
             return (T) (this.indexRightBetaMemory ? IndexRightBetaMemoryOption.YES : IndexRightBetaMemoryOption.NO);
+        } else if (RangeIndexOption.class.equals(option)) {
+            return (T) (this.rangeIndex ? RangeIndexOption.YES : RangeIndexOption.NO);
         } else if (IndexPrecedenceOption.class.equals(option)) {
             return (T) getIndexPrecedenceOption();
         } else if (EqualityBehaviorOption.class.equals(option)) {
@@ -1080,6 +1122,8 @@ public class RuleBaseConfiguration
             return (T) PermGenThresholdOption.get(permGenThreshold);
         } else if (ConstraintJittingThresholdOption.class.equals(option)) {
             return (T) ConstraintJittingThresholdOption.get(jittingThreshold);
+        } else if (EagerJittingOption.class.equals(option)) {
+            return (T) (this.eagerJitting ? EagerJittingOption.YES : EagerJittingOption.NO);
         } else if (AlphaThresholdOption.class.equals(option)) {
             return (T) AlphaThresholdOption.get(alphaNodeHashingThreshold);
         } else if (CompositeKeyDepthOption.class.equals(option)) {
@@ -1123,6 +1167,8 @@ public class RuleBaseConfiguration
             setIndexLeftBetaMemory(((IndexLeftBetaMemoryOption) option).isIndexLeftBetaMemory());
         } else if (option instanceof IndexRightBetaMemoryOption) {
             setIndexRightBetaMemory(((IndexRightBetaMemoryOption) option).isIndexRightBetaMemory());
+        } else if (option instanceof RangeIndexOption) {
+            setRangeIndex(((RangeIndexOption) option).isRangeIndex());
         } else if (option instanceof IndexPrecedenceOption) {
             setIndexPrecedenceOption((IndexPrecedenceOption) option);
         } else if (option instanceof EqualityBehaviorOption) {
@@ -1133,6 +1179,8 @@ public class RuleBaseConfiguration
             setPermGenThreshold(((PermGenThresholdOption) option).getThreshold());
         } else if (option instanceof ConstraintJittingThresholdOption) {
             setJittingThreshold( ( (ConstraintJittingThresholdOption) option ).getThreshold());
+        } else if (option instanceof EagerJittingOption) {
+            setEagerJitting( ( (EagerJittingOption) option ).isEagerJitting());
         } else if (option instanceof AlphaThresholdOption) {
             setAlphaNodeHashingThreshold( ( (AlphaThresholdOption) option ).getThreshold());
         } else if (option instanceof CompositeKeyDepthOption) {
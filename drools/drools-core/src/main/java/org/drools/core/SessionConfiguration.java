@@ -42,6 +42,9 @@ import org.kie.api.runtime.conf.WorkItemHandlerOption;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
+import org.kie.internal.runtime.conf.StatelessSessionPoolOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 public abstract class SessionConfiguration implements KieSessionConfiguration, Externalizable {
 
@@ -101,6 +104,15 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract QueryListenerOption getQueryListenerOption();
     public abstract void setQueryListenerOption( QueryListenerOption queryListener );
 
+    public abstract PropagationListOption getPropagationListOption();
+    public abstract void setPropagationListOption( PropagationListOption propagationList );
+
+    public abstract ObjectStoreOption getObjectStoreOption();
+    public abstract void setObjectStoreOption( ObjectStoreOption objectStore );
+
+    public abstract StatelessSessionPoolOption getStatelessSessionPoolOption();
+    public abstract void setStatelessSessionPoolOption( StatelessSessionPoolOption statelessSessionPool );
+
     public final <T extends KieSessionOption> void setOption(T option) {
         if ( option instanceof ClockTypeOption ) {
             setClockType( ClockType.resolveClockType( ((ClockTypeOption) option).getClockType() ) );
@@ -119,6 +131,12 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( (QueryListenerOption) option );
         } else if ( option instanceof BeliefSystemTypeOption ) {
             setBeliefSystemType( ((BeliefSystemType.resolveBeliefSystemType( ((BeliefSystemTypeOption) option).getBeliefSystemType() ))) );
+        } else if ( option instanceof PropagationListOption ) {
+            setPropagationListOption( (PropagationListOption) option );
+        } else if ( option instanceof ObjectStoreOption ) {
+            setObjectStoreOption( (ObjectStoreOption) option );
+        } else if ( option instanceof StatelessSessionPoolOption ) {
+            setStatelessSessionPoolOption( (StatelessSessionPoolOption) option );
         }
     }
 
@@ -134,6 +152,12 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return (T) getQueryListenerOption();
         } else if ( BeliefSystemTypeOption.class.equals( option ) ) {
             return (T) BeliefSystemTypeOption.get( this.getBeliefSystemType().getId() );
+        } else if ( PropagationListOption.class.equals( option ) ) {
+            return (T) getPropagationListOption();
+        } else if ( ObjectStoreOption.class.equals( option ) ) {
+            return (T) getObjectStoreOption();
+        } else if ( StatelessSessionPoolOption.class.equals( option ) ) {
+            return (T) getStatelessSessionPoolOption();
         }
         return null;
     }
@@ -170,6 +194,14 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( property ) );
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            String property = StringUtils.isEmpty(value) ? PropagationListOption.SYNCHRONIZED.getAsString() : value;
+            setPropagationListOption( PropagationListOption.determinePropagationList( property ) );
+        } else if ( name.equals( ObjectStoreOption.PROPERTY_NAME ) ) {
+            String property = StringUtils.isEmpty(value) ? ObjectStoreOption.CLASS_AWARE.getAsString() : value;
+            setObjectStoreOption( ObjectStoreOption.determineObjectStore( property ) );
+        } else if ( name.equals( StatelessSessionPoolOption.PROPERTY_NAME ) ) {
+            setStatelessSessionPoolOption( StatelessSessionPoolOption.get( StringUtils.isEmpty(value) ? 0 : Integer.parseInt( value.trim() ) ) );
         }
     }
 
@@ -189,6 +221,12 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return getQueryListenerOption().getAsString();
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             return getBeliefSystemType().getId();
+        } else if ( name.equals( PropagationListOption.PROPERTY_NAME ) ) {
+            return getPropagationListOption().getAsString();
+        } else if ( name.equals( ObjectStoreOption.PROPERTY_NAME ) ) {
+            return getObjectStoreOption().getAsString();
+        } else if ( name.equals( StatelessSessionPoolOption.PROPERTY_NAME ) ) {
+            return Integer.toString( getStatelessSessionPoolOption().getSize() );
         }
         return null;
     }
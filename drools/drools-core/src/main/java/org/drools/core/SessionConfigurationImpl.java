@@ -43,6 +43,9 @@ import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.process.WorkItemHandler;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
+import org.kie.internal.runtime.conf.StatelessSessionPoolOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.kie.internal.utils.ChainedProperties;
 
 /**
@@ -82,6 +85,12 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private QueryListenerOption            queryListener;
 
+    private PropagationListOption          propagationList;
+
+    private ObjectStoreOption              objectStore;
+
+    private StatelessSessionPoolOption     statelessSessionPool;
+
     private Map<String, WorkItemHandler>   workItemHandlers;
     private WorkItemManagerFactory         workItemManagerFactory;
     private ExecutableRunner runner;
@@ -175,6 +184,15 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
         setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType(this.chainedProperties.getProperty(TimerJobFactoryOption.PROPERTY_NAME,
                                                                                                                  TimerJobFactoryType.THREAD_SAFE_TRACKABLE.getId())));
+
+        setPropagationListOption( PropagationListOption.determinePropagationList( this.chainedProperties.getProperty( PropagationListOption.PROPERTY_NAME,
+                                                                                                                      PropagationListOption.SYNCHRONIZED.getAsString() ) ) );
+
+        setObjectStoreOption( ObjectStoreOption.determineObjectStore( this.chainedProperties.getProperty( ObjectStoreOption.PROPERTY_NAME,
+                                                                                                          ObjectStoreOption.CLASS_AWARE.getAsString() ) ) );
+
+        setStatelessSessionPoolOption( StatelessSessionPoolOption.get( Integer.parseInt( this.chainedProperties.getProperty( StatelessSessionPoolOption.PROPERTY_NAME,
+                                                                                                                             "0" ).trim() ) ) );
     }
 
     public SessionConfigurationImpl addDefaultProperties(Properties properties) {
@@ -421,4 +439,31 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         checkCanChange();
         this.queryListener = queryListener;
     }
+
+    public PropagationListOption getPropagationListOption() {
+        return this.propagationList;
+    }
+
+    public void setPropagationListOption( PropagationListOption propagationList ) {
+        checkCanChange();
+        this.propagationList = propagationList;
+    }
+
+    public ObjectStoreOption getObjectStoreOption() {
+        return this.objectStore;
+    }
+
+    public void setObjectStoreOption( ObjectStoreOption objectStore ) {
+        checkCanChange();
+        this.objectStore = objectStore;
+    }
+
+    public StatelessSessionPoolOption getStatelessSessionPoolOption() {
+        return this.statelessSessionPool;
+    }
+
+    public void setStatelessSessionPoolOption( StatelessSessionPoolOption statelessSessionPool ) {
+        checkCanChange();
+        this.statelessSessionPool = statelessSessionPool;
+    }
 }
@@ -357,6 +357,11 @@ public final class WrappedStatefulKnowledgeSessionForRHS
 		return delegate.insert( object );
 	}
 
+	@Override
+	public List<FactHandle> insertAll( Collection<?> objects ) {
+		return delegate.insertAll( objects );
+	}
+
 	public Collection<RuleRuntimeEventListener> getRuleRuntimeEventListeners() {
 		return delegate.getRuleRuntimeEventListeners();
 	}
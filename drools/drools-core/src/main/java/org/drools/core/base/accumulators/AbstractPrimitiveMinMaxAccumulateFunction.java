@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.base.accumulators;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Base class of the min and max accumulate functions specialised for the primitive numeric types.
+ * The values are encoded as longs preserving their ordering and kept in a PrimitiveMinMaxData,
+ * the max being calculated as the min of the complemented values.
+ */
+public abstract class AbstractPrimitiveMinMaxAccumulateFunction extends AbstractAccumulateFunction<PrimitiveMinMaxData> {
+
+    private final boolean max;
+
+    protected AbstractPrimitiveMinMaxAccumulateFunction(boolean max) {
+        this.max = max;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+    }
+
+    /**
+     * Encodes the given value in a long such that the natural ordering of the longs is the one of the values
+     */
+    protected abstract long toLong(Number value);
+
+    protected abstract Number fromLong(long value);
+
+    public PrimitiveMinMaxData createContext() {
+        return new PrimitiveMinMaxData();
+    }
+
+    public void init(PrimitiveMinMaxData data) {
+        data.clear();
+    }
+
+    public void accumulate(PrimitiveMinMaxData data,
+                           Object value) {
+        if (value != null) {
+            data.add( encode( (Number) value ) );
+        }
+    }
+
+    public void reverse(PrimitiveMinMaxData data,
+                        Object value) {
+        if (value != null) {
+            data.remove( encode( (Number) value ) );
+        }
+    }
+
+    public Object getResult(PrimitiveMinMaxData data) {
+        if (data.isEmpty()) {
+            return null;
+        }
+        long result = data.getMin();
+        return fromLong( max ? ~result : result );
+    }
+
+    private long encode(Number value) {
+        long result = toLong( value );
+        return max ? ~result : result;
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return Number.class;
+    }
+
+    /**
+     * Maps the bits of a double to a long ordered as Double.compare() orders the doubles.
+     * The mapping is its own inverse.
+     */
+    protected static long sortableDoubleBits(long bits) {
+        return bits ^ ( ( bits >> 63 ) & Long.MAX_VALUE );
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.base.accumulators;
+
+/**
+ * An implementation of an accumulator capable of calculating the minimum of double values
+ * without boxing them in its context.
+ */
+public class DoubleMinAccumulateFunction extends AbstractPrimitiveMinMaxAccumulateFunction {
+
+    public DoubleMinAccumulateFunction() {
+        super( false );
+    }
+
+    @Override
+    protected long toLong(Number value) {
+        return sortableDoubleBits( Double.doubleToLongBits( value.doubleValue() ) );
+    }
+
+    @Override
+    protected Number fromLong(long value) {
+        return Double.longBitsToDouble( sortableDoubleBits( value ) );
+    }
+}
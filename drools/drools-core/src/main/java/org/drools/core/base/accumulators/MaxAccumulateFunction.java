@@ -16,15 +16,16 @@
 
 package org.drools.core.base.accumulators;
 
-import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- * An implementation of an accumulator capable of calculating maximum values
+ * An implementation of an accumulator capable of calculating maximum values.
+ * It supports reverse, so retracting a value doesn't require to recalculate
+ * the whole accumulation.
  */
-public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumulateFunction.MaxData> {
+public class MaxAccumulateFunction extends AbstractAccumulateFunction<MinMaxData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -34,52 +35,34 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
 
     }
 
-    protected static class MaxData implements Externalizable {
-        public Comparable max = null;
-
-        public MaxData() {}
-
-        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Comparable) in.readObject();
-        }
-
-        public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
-        }
-
-        @Override
-        public String toString() {
-            return "max";
-        }
-    }
-
-    public MaxData createContext() {
-        return new MaxData();
+    public MinMaxData createContext() {
+        return new MinMaxData();
     }
 
-    public void init(MaxData data) {
-        data.max = null;
+    public void init(MinMaxData data) {
+        data.clear();
     }
 
-    public void accumulate(MaxData data,
+    public void accumulate(MinMaxData data,
                            Object value) {
         if (value != null) {
-            data.max = data.max == null || data.max.compareTo( value ) < 0 ?
-                       (Comparable) value :
-                       data.max;
+            data.add( value );
         }
     }
 
-    public void reverse(MaxData data,
+    public void reverse(MinMaxData data,
                         Object value) {
+        if (value != null) {
+            data.remove( value );
+        }
     }
 
-    public Object getResult(MaxData data) {
-        return data.max;
+    public Object getResult(MinMaxData data) {
+        return data.getMax();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -16,15 +16,16 @@
 
 package org.drools.core.base.accumulators;
 
-import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- * An implementation of an accumulator capable of calculating minimun values
+ * An implementation of an accumulator capable of calculating minimum values.
+ * It supports reverse, so retracting a value doesn't require to recalculate
+ * the whole accumulation.
  */
-public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumulateFunction.MinData> {
+public class MinAccumulateFunction extends AbstractAccumulateFunction<MinMaxData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -34,52 +35,34 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
 
     }
 
-    protected static class MinData implements Externalizable {
-        public Comparable min = null;
-        
-        public MinData() {}
-
-        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Comparable) in.readObject();
-        }
-
-        public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
-        }
-
-        @Override
-        public String toString() {
-            return "min";
-        }
-    }
-
-    public MinData createContext() {
-        return new MinData();
+    public MinMaxData createContext() {
+        return new MinMaxData();
     }
 
-    public void init(MinData data) {
-        data.min = null;
+    public void init(MinMaxData data) {
+        data.clear();
     }
 
-    public void accumulate(MinData data,
+    public void accumulate(MinMaxData data,
                            Object value) {
         if (value != null) {
-            data.min = data.min == null || data.min.compareTo( value ) > 0 ?
-                       (Comparable) value :
-                       data.min;
+            data.add( value );
         }
     }
 
-    public void reverse(MinData data,
+    public void reverse(MinMaxData data,
                         Object value) {
+        if (value != null) {
+            data.remove( value );
+        }
     }
 
-    public Object getResult(MinData data) {
-        return data.min;
+    public Object getResult(MinMaxData data) {
+        return data.getMin();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.TreeMap;
+
+/**
+ * The context of the min and max accumulate functions: the accumulated values are counted
+ * in a sorted map, so that accumulating or reversing a value and reading the current min
+ * or max all cost O(log n), where n is the number of distinct values.
+ */
+public class MinMaxData implements Externalizable {
+
+    public static final Comparator<Object> NUMBER_COMPARATOR = new NumberComparator();
+
+    private TreeMap<Object, Counter> values;
+
+    public MinMaxData() {
+        this( null );
+    }
+
+    public MinMaxData(Comparator<Object> comparator) {
+        this.values = new TreeMap<Object, Counter>( comparator );
+    }
+
+    public void add(Object value) {
+        Counter counter = values.get( value );
+        if ( counter == null ) {
+            counter = new Counter();
+            values.put( value, counter );
+        }
+        counter.value++;
+    }
+
+    public void remove(Object value) {
+        Counter counter = values.get( value );
+        if ( counter != null && --counter.value == 0 ) {
+            values.remove( value );
+        }
+    }
+
+    public Object getMin() {
+        return values.isEmpty() ? null : values.firstKey();
+    }
+
+    public Object getMax() {
+        return values.isEmpty() ? null : values.lastKey();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        values = (TreeMap<Object, Counter>) in.readObject();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( values );
+    }
+
+    @Override
+    public String toString() {
+        return "minmax" + values.keySet();
+    }
+
+    public static class Counter implements Serializable {
+        private static final long serialVersionUID = 510l;
+        public int value = 0;
+    }
+
+    /**
+     * Orders numbers by their double value. Numbers with the same double value are told apart by
+     * their class and then by their natural ordering, so that each value is counted under its own key
+     * and reversing it never removes an equal value of another type, like 1.0 for 1.
+     */
+    private static class NumberComparator implements Comparator<Object>, Serializable {
+        private static final long serialVersionUID = 510l;
+
+        @SuppressWarnings("unchecked")
+        public int compare(Object n1, Object n2) {
+            int result = Double.compare( ( (Number) n1 ).doubleValue(), ( (Number) n2 ).doubleValue() );
+            if ( result != 0 ) {
+                return result;
+            }
+            if ( n1.getClass() != n2.getClass() ) {
+                return n1.getClass().getName().compareTo( n2.getClass().getName() );
+            }
+            return n1 instanceof Comparable ? ( (Comparable<Object>) n1 ).compareTo( n2 ) : 0;
+        }
+
+        private Object readResolve() {
+            return NUMBER_COMPARATOR;
+        }
+    }
+}
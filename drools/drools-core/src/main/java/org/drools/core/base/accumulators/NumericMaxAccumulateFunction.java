@@ -16,15 +16,16 @@
 
 package org.drools.core.base.accumulators;
 
-import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- * An implementation of an accumulator capable of calculating maximum values
+ * An implementation of an accumulator capable of calculating maximum values.
+ * It supports reverse, so retracting a value doesn't require to recalculate
+ * the whole accumulation.
  */
-public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<NumericMaxAccumulateFunction.MaxData> {
+public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<MinMaxData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -34,51 +35,34 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
 
     }
 
-    protected static class MaxData implements Externalizable {
-        public Number max = null;
-
-        public MaxData() {}
-
-        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            max = (Number) in.readObject();
-        }
-
-        public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(max);
-        }
-
-        @Override
-        public String toString() {
-            return "max";
-        }
-    }
-
-    public MaxData createContext() {
-        return new MaxData();
+    public MinMaxData createContext() {
+        return new MinMaxData( MinMaxData.NUMBER_COMPARATOR );
     }
 
-    public void init(MaxData data) {
-        data.max = null;
+    public void init(MinMaxData data) {
+        data.clear();
     }
 
-    public void accumulate(MaxData data,
+    public void accumulate(MinMaxData data,
                            Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.max = data.max == null || data.max.doubleValue() < number.doubleValue() ? number : data.max;
+            data.add( value );
         }
     }
 
-    public void reverse(MaxData data,
+    public void reverse(MinMaxData data,
                         Object value) {
+        if (value != null) {
+            data.remove( value );
+        }
     }
 
-    public Object getResult(MaxData data) {
-        return data.max;
+    public Object getResult(MinMaxData data) {
+        return data.getMax();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
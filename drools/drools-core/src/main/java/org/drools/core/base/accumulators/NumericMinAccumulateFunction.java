@@ -16,15 +16,16 @@
 
 package org.drools.core.base.accumulators;
 
-import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
 /**
- * An implementation of an accumulator capable of calculating maximum values
+ * An implementation of an accumulator capable of calculating minimum values.
+ * It supports reverse, so retracting a value doesn't require to recalculate
+ * the whole accumulation.
  */
-public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<NumericMinAccumulateFunction.MaxData> {
+public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<MinMaxData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -34,51 +35,34 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
 
     }
 
-    protected static class MaxData implements Externalizable {
-        public Number min = null;
-
-        public MaxData() {}
-
-        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Double) in.readObject();
-        }
-
-        public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject(min);
-        }
-
-        @Override
-        public String toString() {
-            return "min";
-        }
-    }
-
-    public MaxData createContext() {
-        return new MaxData();
+    public MinMaxData createContext() {
+        return new MinMaxData( MinMaxData.NUMBER_COMPARATOR );
     }
 
-    public void init(MaxData data) {
-        data.min = null;
+    public void init(MinMaxData data) {
+        data.clear();
     }
 
-    public void accumulate(MaxData data,
+    public void accumulate(MinMaxData data,
                            Object value) {
         if (value != null) {
-            Number number = (Number)value;
-            data.min = data.min == null || data.min.doubleValue() > number.doubleValue() ? number : data.min;
+            data.add( value );
         }
     }
 
-    public void reverse(MaxData data,
+    public void reverse(MinMaxData data,
                         Object value) {
+        if (value != null) {
+            data.remove( value );
+        }
     }
 
-    public Object getResult(MaxData data) {
-        return data.min;
+    public Object getResult(MinMaxData data) {
+        return data.getMin();
     }
 
     public boolean supportsReverse() {
-        return false;
+        return true;
     }
 
     public Class<?> getResultType() {
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+/**
+ * The context of the primitive min and max accumulate functions. The accumulated values, encoded
+ * as longs, are kept in a binary min-heap backed by a primitive array. Reversed values are pushed
+ * into a second heap and removed lazily, when they reach the top of the first one, so both
+ * accumulate and reverse cost O(log n) without boxing.
+ * When the pending removals outnumber the live values both heaps are sorted and merged,
+ * which bounds the memory to a small multiple of the live values.
+ */
+public class PrimitiveMinMaxData implements Externalizable {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final int MIN_REMOVALS_TO_COMPACT = 32;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int valuesSize;
+
+    private long[] removed = new long[INITIAL_CAPACITY];
+    private int removedSize;
+
+    public PrimitiveMinMaxData() { }
+
+    public void add(long value) {
+        if (valuesSize == values.length) {
+            values = Arrays.copyOf( values, valuesSize * 2 );
+        }
+        push( values, valuesSize++, value );
+    }
+
+    public void remove(long value) {
+        if (removedSize == removed.length) {
+            removed = Arrays.copyOf( removed, removedSize * 2 );
+        }
+        push( removed, removedSize++, value );
+        if (removedSize > MIN_REMOVALS_TO_COMPACT && removedSize > size()) {
+            compact();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return valuesSize - removedSize;
+    }
+
+    /**
+     * Returns the smallest of the values added and not removed. The data must not be empty.
+     */
+    public long getMin() {
+        while (removedSize > 0 && removed[0] == values[0]) {
+            pop( values, valuesSize-- );
+            pop( removed, removedSize-- );
+        }
+        return values[0];
+    }
+
+    public void clear() {
+        valuesSize = 0;
+        removedSize = 0;
+        if (values.length > INITIAL_CAPACITY) {
+            values = new long[INITIAL_CAPACITY];
+            removed = new long[INITIAL_CAPACITY];
+        }
+    }
+
+    int capacity() {
+        return values.length + removed.length;
+    }
+
+    private void compact() {
+        Arrays.sort( values, 0, valuesSize );
+        Arrays.sort( removed, 0, removedSize );
+        int size = 0;
+        for (int i = 0, j = 0; i < valuesSize; i++) {
+            while (j < removedSize && removed[j] < values[i]) {
+                j++;
+            }
+            if (j < removedSize && removed[j] == values[i]) {
+                j++;
+            } else {
+                values[size++] = values[i];
+            }
+        }
+        // a sorted array is already a valid heap
+        valuesSize = size;
+        removedSize = 0;
+        if (values.length > INITIAL_CAPACITY && values.length > valuesSize * 4) {
+            values = Arrays.copyOf( values, Math.max( INITIAL_CAPACITY, valuesSize * 2 ) );
+        }
+        removed = new long[INITIAL_CAPACITY];
+    }
+
+    private static void push(long[] heap, int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void pop(long[] heap, int size) {
+        long last = heap[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = last;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        values = (long[]) in.readObject();
+        valuesSize = in.readInt();
+        removed = (long[]) in.readObject();
+        removedSize = in.readInt();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject( values );
+        out.writeInt( valuesSize );
+        out.writeObject( removed );
+        out.writeInt( removedSize );
+    }
+
+    @Override
+    public String toString() {
+        return "minmax";
+    }
+}
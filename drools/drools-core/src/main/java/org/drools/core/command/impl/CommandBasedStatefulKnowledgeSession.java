@@ -48,6 +48,7 @@ import org.drools.core.command.runtime.process.GetProcessInstancesCommand;
 import org.drools.core.command.runtime.process.GetWorkItemCommand;
 import org.drools.core.command.runtime.process.ReTryWorkItemCommand;
 import org.drools.core.command.runtime.process.RegisterWorkItemHandlerCommand;
+import org.drools.core.command.runtime.process.SignalCorrelatedEventCommand;
 import org.drools.core.command.runtime.process.SignalEventCommand;
 import org.drools.core.command.runtime.process.StartCorrelatedProcessCommand;
 import org.drools.core.command.runtime.process.StartProcessCommand;
@@ -580,4 +581,10 @@ public class CommandBasedStatefulKnowledgeSession extends AbstractRuntime
         
         return this.runner.execute(new GetProcessInstanceByCorrelationKeyCommand(correlationKey));
     }
+
+    @Override
+    public void signalEvent(String type, Object event, CorrelationKey correlationKey) {
+
+        this.runner.execute(new SignalCorrelatedEventCommand(correlationKey, type, event));
+    }
 }
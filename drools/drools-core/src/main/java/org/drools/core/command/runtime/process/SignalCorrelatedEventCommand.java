@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.command.runtime.process;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.drools.core.xml.jaxb.util.JaxbUnknownAdapter;
+import org.kie.api.command.ExecutableCommand;
+import org.kie.api.runtime.Context;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.command.CorrelationKeyCommand;
+import org.kie.internal.command.RegistryContext;
+import org.kie.internal.jaxb.CorrelationKeyXmlAdapter;
+import org.kie.internal.process.CorrelationAwareProcessRuntime;
+import org.kie.internal.process.CorrelationKey;
+
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public class SignalCorrelatedEventCommand implements ExecutableCommand<Void>, CorrelationKeyCommand {
+
+    /** Generated serial version UID */
+    private static final long serialVersionUID = -6326437452563427218L;
+
+    @XmlElement(name = "correlation-key", required = true)
+    @XmlJavaTypeAdapter(value = CorrelationKeyXmlAdapter.class)
+    private CorrelationKey correlationKey;
+
+    @XmlAttribute(name="event-type", required=true)
+    private String eventType;
+
+    @XmlElement(name="event")
+    @XmlJavaTypeAdapter(JaxbUnknownAdapter.class)
+    private Object event;
+
+    public SignalCorrelatedEventCommand() {
+    }
+
+    public SignalCorrelatedEventCommand(CorrelationKey correlationKey,
+                                        String eventType,
+                                        Object event) {
+        this.correlationKey = correlationKey;
+        this.eventType = eventType;
+        this.event = event;
+    }
+
+    @Override
+    public CorrelationKey getCorrelationKey() {
+        return correlationKey;
+    }
+
+    @Override
+    public void setCorrelationKey(CorrelationKey correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public Object getEvent() {
+        return event;
+    }
+
+    public void setEvent(Object event) {
+        this.event = event;
+    }
+
+    public Void execute(Context context) {
+        KieSession ksession = ((RegistryContext) context).lookup( KieSession.class );
+        ((CorrelationAwareProcessRuntime) ksession).signalEvent(eventType, event, correlationKey);
+        return null;
+    }
+
+    public String toString() {
+        return "ksession.signalEvent(" + eventType + ", " + event + ", " + correlationKey + ");";
+    }
+
+}
@@ -204,6 +204,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         return new CompositeFactHandleIterator(concreteStores, true);
     }
 
+    @Override
     public Iterator<InternalFactHandle> iterateFactHandles(Class<?> clazz) {
         return getOrCreateClassStore(clazz).factHandlesIterator(true);
     }
@@ -253,6 +254,7 @@ public class ClassAwareObjectStore implements Externalizable, ObjectStore {
         return store;
     }
 
+    @Override
     public boolean clearClassStore(Class<?> clazz) {
         return storesMap.remove( clazz.getName() ) != null;
     }
@@ -0,0 +1,573 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.factmodel.traits.CoreWrapper;
+import org.drools.core.factmodel.traits.TraitTypeEnum;
+import org.drools.core.util.AbstractHashTable;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.ObjectFilter;
+
+import static org.drools.core.common.ClassAwareObjectStore.getActualClass;
+
+/**
+ * An ObjectStore for sessions holding very large numbers of facts.
+ *
+ * Like the ClassAwareObjectStore it keeps a table of handles for each class of the inserted
+ * objects, but each table is an open addressing one made of a primitive array of hash codes and
+ * a parallel array of handles, so that storing a fact doesn't allocate any map entry: each fact
+ * only costs a slot of 8 bytes, in tables kept at most 75% full, instead of a 32 bytes entry object
+ * plus its slot in the bucket array of a hash map.
+ * Removed slots are marked rather than compacted, so removing handles doesn't move the other
+ * ones and the iterators stay consistent while the store is modified.
+ */
+public class CompactObjectStore implements Externalizable, ObjectStore {
+
+    private Lock lock;
+
+    private Map<String, HandleTable> tablesMap = new HashMap<String, HandleTable>();
+    private List<HandleTable> tables = new CopyOnWriteArrayList<HandleTable>();
+
+    // the tables of the subclasses of each class used to filter the iterations, kept up to date when tables are added or dropped
+    private Map<Class<?>, List<HandleTable>> assignableTables = new HashMap<Class<?>, List<HandleTable>>();
+
+    private HandleTable negTable;
+
+    private HandleTable equalityTable;
+
+    private boolean isEqualityBehaviour;
+
+    private int size;
+
+    public CompactObjectStore() { }
+
+    public CompactObjectStore(RuleBaseConfiguration conf, Lock lock) {
+        this(conf.getAssertBehaviour(), lock);
+    }
+
+    public CompactObjectStore( RuleBaseConfiguration.AssertBehaviour assertBehaviour, Lock lock ) {
+        this.lock = lock;
+        this.isEqualityBehaviour = RuleBaseConfiguration.AssertBehaviour.EQUALITY.equals(assertBehaviour);
+        this.negTable = new HandleTable(Object.class, false);
+        if (isEqualityBehaviour) {
+            this.equalityTable = new HandleTable(Object.class, true);
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject(tables);
+        out.writeObject(negTable);
+        out.writeObject(equalityTable);
+        out.writeInt(size);
+        out.writeBoolean(isEqualityBehaviour);
+        out.writeObject(lock);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        tables = (List<HandleTable>) in.readObject();
+        negTable = (HandleTable) in.readObject();
+        equalityTable = (HandleTable) in.readObject();
+        size = in.readInt();
+        isEqualityBehaviour = in.readBoolean();
+        lock = (Lock)in.readObject();
+        for (HandleTable table : tables) {
+            tablesMap.put(table.getStoredClass().getName(), table);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        tablesMap.clear();
+        tables = new CopyOnWriteArrayList<HandleTable>();
+        assignableTables.clear();
+        negTable.clear();
+        if (isEqualityBehaviour) {
+            equalityTable.clear();
+        }
+        size = 0;
+    }
+
+    @Override
+    public Object getObjectForHandle(InternalFactHandle handle) {
+        try {
+            this.lock.lock();
+            InternalFactHandle reconnectedHandle = reconnect(handle);
+            return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InternalFactHandle reconnect(InternalFactHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        String handleClass = handle.getObjectClassName();
+        if (handleClass != null) {
+            HandleTable table = tablesMap.get(handleClass);
+            if (table == null) {
+                return null;
+            }
+            return handle.isNegated() ? negTable.getHandle(handle) : table.getHandle(handle);
+        }
+
+        if (isEqualityBehaviour) {
+            return equalityTable.getHandle(handle);
+        }
+
+        for (HandleTable table : tables) {
+            InternalFactHandle reconnectedHandle = table.getHandle(handle);
+            if (reconnectedHandle != null) {
+                return reconnectedHandle;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObject(Object object) {
+        if ( object == null ) {
+            return null;
+        }
+
+        return isEqualityBehaviour ? equalityTable.getHandleForObject(object) : getHandleForObjectIdentity(object);
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObjectIdentity(Object object) {
+        HandleTable table = tablesMap.get(getActualClass(object).getName());
+        return table != null ? table.getHandleForObject(object) : null;
+    }
+
+    @Override
+    public void updateHandle(InternalFactHandle handle, Object object) {
+        removeHandle(handle);
+        handle.setObject(object);
+        addHandle(handle, object);
+    }
+
+    @Override
+    public void addHandle(InternalFactHandle handle, Object object) {
+        if ( handle.isNegated() ) {
+            negTable.add(handle);
+        } else {
+            getOrCreateTable(getActualClass(object)).add(handle);
+            size++;
+        }
+        if (isEqualityBehaviour) {
+            equalityTable.add(handle);
+        }
+    }
+
+    @Override
+    public void removeHandle(InternalFactHandle handle) {
+        if ( handle.isNegated() ) {
+            negTable.remove(handle);
+        } else {
+            HandleTable table = tablesMap.get(getActualClass(handle.getObject()).getName());
+            if (table != null && table.remove(handle) != null) {
+                size--;
+            }
+        }
+        if (isEqualityBehaviour) {
+            equalityTable.remove(handle);
+        }
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects() {
+        return new TableIterator<Object>(tables, true);
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects(ObjectFilter filter) {
+        if (filter instanceof ClassObjectFilter) {
+            return new TableIterator<Object>(getTables(((ClassObjectFilter) filter).getFilteredClass()), true);
+        }
+        return new TableIterator<Object>(tables, true, filter);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles() {
+        return new TableIterator<InternalFactHandle>(tables, false);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles(Class<?> clazz) {
+        return new TableIterator<InternalFactHandle>(getTables(clazz), false);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles(ObjectFilter filter) {
+        if (filter instanceof ClassObjectFilter) {
+            return iterateFactHandles(((ClassObjectFilter) filter).getFilteredClass());
+        }
+        return new TableIterator<InternalFactHandle>(tables, false, filter);
+    }
+
+    @Override
+    public Iterator<Object> iterateNegObjects(ObjectFilter filter) {
+        return new TableIterator<Object>(negTable, true, filter);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateNegFactHandles(ObjectFilter filter) {
+        return new TableIterator<InternalFactHandle>(negTable, false, filter);
+    }
+
+    @Override
+    public boolean clearClassStore(Class<?> clazz) {
+        HandleTable table = tablesMap.remove( clazz.getName() );
+        if (table == null) {
+            return false;
+        }
+        tables.remove(table);
+        for (List<HandleTable> assignable : assignableTables.values()) {
+            assignable.remove(table);
+        }
+        if (isEqualityBehaviour) {
+            for (Object slot : table.slots) {
+                if (slot instanceof InternalFactHandle) {
+                    equalityTable.remove((InternalFactHandle) slot);
+                }
+            }
+        }
+        size -= table.size();
+        return true;
+    }
+
+    private HandleTable getOrCreateTable(Class<?> clazz) {
+        HandleTable table = tablesMap.get(clazz.getName());
+        if (table == null) {
+            table = new HandleTable(clazz, false);
+            tablesMap.put(clazz.getName(), table);
+            tables.add(table);
+            for (Map.Entry<Class<?>, List<HandleTable>> entry : assignableTables.entrySet()) {
+                if (entry.getKey().isAssignableFrom(clazz)) {
+                    entry.getValue().add(table);
+                }
+            }
+        }
+        return table;
+    }
+
+    private List<HandleTable> getTables(Class<?> clazz) {
+        List<HandleTable> result = assignableTables.get(clazz);
+        if (result == null) {
+            result = new CopyOnWriteArrayList<HandleTable>();
+            for (HandleTable table : tables) {
+                if (clazz.isAssignableFrom(table.getStoredClass())) {
+                    result.add(table);
+                }
+            }
+            assignableTables.put(clazz, result);
+        }
+        return result;
+    }
+
+    /**
+     * An open addressing table with linear probing. Each handle is hashed either on the identity
+     * or on the equality hash code of its object, as the IdentityAssertMapComparator and
+     * the EqualityAssertMapComparator do, and its hash code is kept in a primitive array, so that
+     * the probes don't need to dereference the handles of the colliding slots.
+     */
+    static class HandleTable implements Externalizable {
+
+        private static final Object REMOVED = new Object();
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private Class<?> storedClass;
+        private boolean equality;
+
+        private int[] hashes;
+        private Object[] slots;
+
+        private int size;
+        // the number of slots not null, including the removed ones
+        private int used;
+        private int threshold;
+
+        public HandleTable() { }
+
+        HandleTable(Class<?> storedClass, boolean equality) {
+            this.storedClass = storedClass;
+            this.equality = equality;
+            init(INITIAL_CAPACITY);
+        }
+
+        private void init(int capacity) {
+            this.hashes = new int[capacity];
+            this.slots = new Object[capacity];
+            this.threshold = (int) (capacity * 0.75f);
+            this.size = 0;
+            this.used = 0;
+        }
+
+        Class<?> getStoredClass() {
+            return storedClass;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return slots.length;
+        }
+
+        void clear() {
+            init(INITIAL_CAPACITY);
+        }
+
+        void add(InternalFactHandle handle) {
+            if (used >= threshold) {
+                // grow only if the table is actually full, otherwise just purge the removed slots
+                resize(size >= threshold / 2 ? slots.length * 2 : slots.length);
+            }
+            int hash = hashOf(handle);
+            int mask = slots.length - 1;
+            int i = hash & mask;
+            while (slots[i] != null && slots[i] != REMOVED) {
+                i = (i + 1) & mask;
+            }
+            if (slots[i] == null) {
+                used++;
+            }
+            hashes[i] = hash;
+            slots[i] = handle;
+            size++;
+        }
+
+        InternalFactHandle remove(InternalFactHandle handle) {
+            int i = indexOfHandle(handle);
+            if (i < 0) {
+                return null;
+            }
+            int mask = slots.length - 1;
+            if (slots[(i + 1) & mask] == null) {
+                // the slot ends a probe sequence, so it and the removed slots preceding it can be freed
+                slots[i] = null;
+                used--;
+                for (int j = (i - 1) & mask; slots[j] == REMOVED; j = (j - 1) & mask) {
+                    slots[j] = null;
+                    used--;
+                }
+            } else {
+                slots[i] = REMOVED;
+            }
+            size--;
+            return handle;
+        }
+
+        InternalFactHandle getHandle(InternalFactHandle handle) {
+            int i = indexOfHandle(handle);
+            return i < 0 ? null : (InternalFactHandle) slots[i];
+        }
+
+        InternalFactHandle getHandleForObject(Object object) {
+            int hash = AbstractHashTable.rehash( equality ? object.hashCode() : System.identityHashCode( object ) );
+            int mask = slots.length - 1;
+            for (int i = hash & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == hash && slots[i] != REMOVED && matches( object, (InternalFactHandle) slots[i] )) {
+                    return (InternalFactHandle) slots[i];
+                }
+            }
+            return null;
+        }
+
+        private int indexOfHandle(InternalFactHandle handle) {
+            int hash = hashOf(handle);
+            int mask = slots.length - 1;
+            for (int i = hash & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (hashes[i] == hash && slots[i] != REMOVED && ((InternalFactHandle) slots[i]).getId() == handle.getId()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int hashOf(InternalFactHandle handle) {
+            return AbstractHashTable.rehash( equality ? handle.getObjectHashCode() : handle.getIdentityHashCode() );
+        }
+
+        private boolean matches(Object object, InternalFactHandle handle) {
+            Object handleObject = handle.getObject();
+            if (object == handleObject) {
+                return true;
+            }
+            if (equality) {
+                return handleObject.equals( object );
+            }
+            return handle.getTraitType() == TraitTypeEnum.WRAPPED_TRAITABLE && object == ( (CoreWrapper) handleObject ).getCore();
+        }
+
+        private void resize(int capacity) {
+            int[] oldHashes = hashes;
+            Object[] oldSlots = slots;
+            init(capacity);
+            int mask = capacity - 1;
+            for (int j = 0; j < oldSlots.length; j++) {
+                if (oldSlots[j] != null && oldSlots[j] != REMOVED) {
+                    int i = oldHashes[j] & mask;
+                    while (slots[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    hashes[i] = oldHashes[j];
+                    slots[i] = oldSlots[j];
+                    size++;
+                    used++;
+                }
+            }
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(storedClass);
+            out.writeBoolean(equality);
+            out.writeInt(size);
+            for (Object slot : slots) {
+                if (slot != null && slot != REMOVED) {
+                    out.writeObject(slot);
+                }
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            storedClass = (Class<?>) in.readObject();
+            equality = in.readBoolean();
+            int handlesNr = in.readInt();
+            init(INITIAL_CAPACITY);
+            for (int i = 0; i < handlesNr; i++) {
+                add((InternalFactHandle) in.readObject());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Compact object store for class: " + storedClass;
+        }
+    }
+
+    private static class TableIterator<T> implements Iterator<T> {
+        private final Iterator<HandleTable> tables;
+        private final boolean objects;
+        private final ObjectFilter filter;
+
+        private Object[] slots;
+        private int index;
+
+        private InternalFactHandle currentNext;
+
+        private TableIterator(Iterable<HandleTable> tables, boolean objects) {
+            this(tables.iterator(), objects, null);
+        }
+
+        private TableIterator(Iterable<HandleTable> tables, boolean objects, ObjectFilter filter) {
+            this(tables.iterator(), objects, filter);
+        }
+
+        private TableIterator(HandleTable table, boolean objects, ObjectFilter filter) {
+            this(Collections.singletonList(table).iterator(), objects, filter);
+        }
+
+        private TableIterator(Iterator<HandleTable> tables, boolean objects, ObjectFilter filter) {
+            this.tables = tables;
+            this.objects = objects;
+            this.filter = filter;
+            fetchNext();
+        }
+
+        private void fetchNext() {
+            currentNext = null;
+            while (true) {
+                while (slots != null && index < slots.length) {
+                    Object slot = slots[index++];
+                    if (slot instanceof InternalFactHandle && accept((InternalFactHandle) slot)) {
+                        currentNext = (InternalFactHandle) slot;
+                        return;
+                    }
+                }
+                if (!tables.hasNext()) {
+                    return;
+                }
+                slots = tables.next().slots;
+                index = 0;
+            }
+        }
+
+        private boolean accept(InternalFactHandle handle) {
+            if (filter == null) {
+                return true;
+            }
+            if (filter instanceof ClassObjectFilter) {
+                return ((ClassObjectFilter) filter).getFilteredClass().isAssignableFrom( getActualClass( handle.getObject() ) );
+            }
+            return filter.accept( handle.getObject() );
+        }
+
+        @Override
+        public boolean hasNext() {
+            return currentNext != null;
+        }
+
+        @Override
+        public T next() {
+            if (currentNext == null) {
+                throw new NoSuchElementException();
+            }
+            InternalFactHandle next = currentNext;
+            fetchNext();
+            return (T) (objects ? next.getObject() : next);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
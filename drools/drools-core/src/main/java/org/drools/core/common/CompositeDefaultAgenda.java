@@ -27,7 +27,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.drools.core.impl.InternalKnowledgeBase;
@@ -58,14 +57,15 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     private static final ExecutorService EXECUTOR = ExecutorProviderFactory.getExecutorProvider().getExecutor();
 
-    private static final AtomicBoolean FIRING_UNTIL_HALT_USING_EXECUTOR = new AtomicBoolean( false );
-
     private final DefaultAgenda[] agendas = new DefaultAgenda[RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER];
 
     private final DefaultAgenda.ExecutionStateMachine executionStateMachine = new DefaultAgenda.ExecutionStateMachine();
 
     private PropagationList propagationList;
 
+    // the threads owned by the partitions while firing until halt, the last partition uses the firing thread
+    private ExecutorService[] partitionExecutors;
+
     public CompositeDefaultAgenda() { }
 
     public CompositeDefaultAgenda(InternalKnowledgeBase kBase) {
@@ -176,22 +176,17 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     @Override
     public void fireUntilHalt( AgendaFilter agendaFilter ) {
-        ExecutorService fireUntilHaltExecutor = EXECUTOR;
-
-        if ( FIRING_UNTIL_HALT_USING_EXECUTOR.getAndSet( true )) {
-            fireUntilHaltExecutor = ExecutorProviderFactory.getExecutorProvider().newFixedThreadPool();
-        }
-
         if ( log.isTraceEnabled() ) {
             log.trace("Starting Fire Until Halt");
         }
         if (executionStateMachine.toFireUntilHalt()) {
             try {
+                ExecutorService[] executors = getPartitionExecutors();
                 while ( isFiring() ) {
                     CompletableFuture<Void>[] futures = new CompletableFuture[agendas.length - 1];
                     for ( int i = 0; i < futures.length; i++ ) {
                         final int j = i;
-                        futures[j] = runAsync( () -> agendas[j].internalFireUntilHalt( agendaFilter, false ), fireUntilHaltExecutor );
+                        futures[j] = runAsync( () -> agendas[j].internalFireUntilHalt( agendaFilter, false ), executors[j] );
                     }
 
                     agendas[agendas.length - 1].internalFireUntilHalt( agendaFilter, false );
@@ -202,11 +197,6 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
                 }
             } finally {
                 executionStateMachine.immediateHalt( propagationList );
-                if ( fireUntilHaltExecutor == EXECUTOR ) {
-                    FIRING_UNTIL_HALT_USING_EXECUTOR.set( false );
-                } else {
-                    fireUntilHaltExecutor.shutdown();
-                }
             }
         }
         if ( log.isTraceEnabled() ) {
@@ -214,12 +204,39 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         }
     }
 
+    /**
+     * While firing until halt each partition runs on a thread of its own, so its propagation queue is
+     * always drained by the same thread and the partitions of a session never compete with the
+     * ones of other sessions for the threads of the shared executor. These threads are created
+     * the first time this agenda fires until halt and live as long as the session.
+     */
+    private synchronized ExecutorService[] getPartitionExecutors() {
+        if ( partitionExecutors == null ) {
+            partitionExecutors = new ExecutorService[agendas.length - 1];
+            for ( int i = 0; i < partitionExecutors.length; i++ ) {
+                partitionExecutors[i] = ExecutorProviderFactory.getExecutorProvider().newSingleThreadExecutor();
+            }
+        }
+        return partitionExecutors;
+    }
+
+    private synchronized void shutdownPartitionExecutors() {
+        if ( partitionExecutors != null ) {
+            for ( ExecutorService executor : partitionExecutors ) {
+                executor.shutdown();
+            }
+            partitionExecutors = null;
+        }
+    }
+
     @Override
     public boolean dispose(InternalWorkingMemory wm) {
         for ( int i = 0; i < agendas.length; i++ ) {
             agendas[i].getPropagationList().dispose();
         }
-        return executionStateMachine.dispose( wm );
+        boolean disposed = executionStateMachine.dispose( wm );
+        shutdownPartitionExecutors();
+        return disposed;
     }
 
     @Override
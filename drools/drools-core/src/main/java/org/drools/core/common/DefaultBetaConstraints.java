@@ -52,6 +52,8 @@ public class DefaultBetaConstraints
 
     private IndexPrecedenceOption       indexPrecedenceOption;
 
+    private boolean                     rangeIndex;
+
     private int                         indexed;
 
     private transient Boolean           leftUpdateOptimizationAllowed;
@@ -73,6 +75,7 @@ public class DefaultBetaConstraints
         this.constraints = constraints;
         this.disableIndexing = disableIndexing;
         this.indexPrecedenceOption = conf.getIndexPrecedenceOption();
+        this.rangeIndex = conf.isRangeIndex();
     }
 
     public DefaultBetaConstraints cloneIfInUse() {
@@ -85,6 +88,7 @@ public class DefaultBetaConstraints
             clone.constraints = clonedConstraints;
             clone.disableIndexing = disableIndexing;
             clone.indexPrecedenceOption = indexPrecedenceOption;
+            clone.rangeIndex = rangeIndex;
             clone.indexed = indexed;
             return clone;
         }
@@ -109,7 +113,7 @@ public class DefaultBetaConstraints
 
     public void initIndexes(int depth, short betaNodeType) {
         indexed = 0;
-        boolean[] indexable = isIndexableForNode(indexPrecedenceOption, betaNodeType, depth, constraints);
+        boolean[] indexable = isIndexableForNode(indexPrecedenceOption, rangeIndex, betaNodeType, depth, constraints);
         for (boolean i : indexable) {
             if (i) {
                 indexed++;
@@ -123,12 +127,14 @@ public class DefaultBetaConstraints
         constraints = (BetaNodeFieldConstraint[])in.readObject();
         indexed     = in.readInt();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
+        rangeIndex = in.readBoolean();
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(constraints);
         out.writeInt(indexed);
         out.writeObject(indexPrecedenceOption);
+        out.writeBoolean(rangeIndex);
     }
 
     public ContextEntry[] createContext() {
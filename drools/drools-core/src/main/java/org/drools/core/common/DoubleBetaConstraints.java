@@ -49,8 +49,9 @@ public class DoubleBetaConstraints extends MultipleBetaConstraint {
 
     private DoubleBetaConstraints( BetaNodeFieldConstraint[] constraints,
                                    IndexPrecedenceOption indexPrecedenceOption,
+                                   boolean rangeIndex,
                                    boolean disableIndexing) {
-        super(constraints, indexPrecedenceOption, disableIndexing);
+        super(constraints, indexPrecedenceOption, rangeIndex, disableIndexing);
     }
 
     public DoubleBetaConstraints cloneIfInUse() {
@@ -59,7 +60,7 @@ public class DoubleBetaConstraints extends MultipleBetaConstraint {
             for (int i = 0; i < constraints.length; i++) {
                 clonedConstraints[i] = constraints[i].cloneIfInUse();
             }
-            DoubleBetaConstraints clone = new DoubleBetaConstraints(clonedConstraints, indexPrecedenceOption, disableIndexing);
+            DoubleBetaConstraints clone = new DoubleBetaConstraints(clonedConstraints, indexPrecedenceOption, rangeIndex, disableIndexing);
             clone.indexed = indexed;
             return clone;
         }
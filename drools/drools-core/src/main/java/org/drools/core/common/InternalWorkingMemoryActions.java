@@ -17,6 +17,7 @@
 package org.drools.core.common;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -46,6 +47,8 @@ public interface InternalWorkingMemoryActions
 
     FactHandle insertAsync(Object object);
 
+    List<FactHandle> insertAll(Collection<?> objects);
+
     void updateTraits( InternalFactHandle h, BitMask mask, Class<?> modifiedClass, Activation activation );
 
     <T, K, X extends TraitableBean> Thing<K> shed( Activation activation, TraitableBean<K,X> core, Class<T> trait );
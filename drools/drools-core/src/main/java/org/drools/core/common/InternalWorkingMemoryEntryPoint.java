@@ -16,6 +16,9 @@
 
 package org.drools.core.common;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.core.base.TraitHelper;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -51,6 +54,8 @@ public interface InternalWorkingMemoryEntryPoint extends WorkingMemoryEntryPoint
 
     FactHandle insertAsync(Object object);
 
+    List<FactHandle> insertAll(Collection<?> objects);
+
     InternalFactHandle update(InternalFactHandle handle,
                               Object object,
                               BitMask mask,
@@ -36,6 +36,7 @@ public abstract class MultipleBetaConstraint implements BetaConstraints {
     protected BetaNodeFieldConstraint[] constraints;
     protected boolean[]                 indexed;
     protected IndexPrecedenceOption     indexPrecedenceOption;
+    protected boolean                   rangeIndex;
     protected transient boolean         disableIndexing;
 
     private transient Boolean           leftUpdateOptimizationAllowed;
@@ -45,14 +46,16 @@ public abstract class MultipleBetaConstraint implements BetaConstraints {
     public MultipleBetaConstraint( BetaNodeFieldConstraint[] constraints,
                                    RuleBaseConfiguration conf,
                                    boolean disableIndexing) {
-        this(constraints, conf.getIndexPrecedenceOption(), disableIndexing);
+        this(constraints, conf.getIndexPrecedenceOption(), conf.isRangeIndex(), disableIndexing);
     }
 
     protected MultipleBetaConstraint( BetaNodeFieldConstraint[] constraints,
                                       IndexPrecedenceOption indexPrecedenceOption,
+                                      boolean rangeIndex,
                                       boolean disableIndexing) {
         this.constraints = constraints;
         this.indexPrecedenceOption = indexPrecedenceOption;
+        this.rangeIndex = rangeIndex;
         this.disableIndexing = disableIndexing;
     }
 
@@ -60,12 +63,14 @@ public abstract class MultipleBetaConstraint implements BetaConstraints {
         constraints = (BetaNodeFieldConstraint[])in.readObject();
         indexed = (boolean[]) in.readObject();
         indexPrecedenceOption = (IndexPrecedenceOption) in.readObject();
+        rangeIndex = in.readBoolean();
     }
 
     public final void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(constraints);
         out.writeObject(indexed);
         out.writeObject(indexPrecedenceOption);
+        out.writeBoolean(rangeIndex);
     }
 
     public final void init(BuildContext context, short betaNodeType) {
@@ -85,7 +90,7 @@ public abstract class MultipleBetaConstraint implements BetaConstraints {
     }
 
     public final void initIndexes(int depth, short betaNodeType) {
-        indexed = isIndexableForNode(indexPrecedenceOption, betaNodeType, depth, constraints);
+        indexed = isIndexableForNode(indexPrecedenceOption, rangeIndex, betaNodeType, depth, constraints);
     }
 
     public final boolean isIndexed() {
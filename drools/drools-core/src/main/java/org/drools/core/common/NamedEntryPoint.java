@@ -24,9 +24,13 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -40,6 +44,7 @@ import org.drools.core.factmodel.traits.TraitableBean;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.StatefulKnowledgeSessionImpl;
 import org.drools.core.impl.StatefulKnowledgeSessionImpl.ObjectStoreWrapper;
+import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -52,6 +57,7 @@ import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.bitmask.AllSetBitMask;
 import org.drools.core.util.bitmask.BitMask;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -108,7 +114,9 @@ public class NamedEntryPoint
         this.lock = lock;
         this.handleFactory = this.wm.getFactHandleFactory();
         this.pctxFactory = kBase.getConfiguration().getComponentFactory().getPropagationContextFactory();
-        this.objectStore = new ClassAwareObjectStore(this.kBase.getConfiguration(), this.lock);
+        this.objectStore = wm.getSessionConfiguration().getObjectStoreOption() == ObjectStoreOption.COMPACT ?
+                           new CompactObjectStore(this.kBase.getConfiguration(), this.lock) :
+                           new ClassAwareObjectStore(this.kBase.getConfiguration(), this.lock);
         this.traitHelper = new TraitHelper( wm, this );
     }
 
@@ -308,6 +316,78 @@ public class NamedEntryPoint
         return handle;
     }
 
+    /**
+     * Inserts all the given objects taking the entry point lock only once and propagating the new facts
+     * grouped by their type, with a single propagation for each group instead of one for each fact.
+     * The returned handles are in the same order of the objects, with a null for each null object.
+     */
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        List<FactHandle> handles = new ArrayList<FactHandle>( objects.size() );
+        if ( this.wm.isSequential() ) {
+            for ( Object object : objects ) {
+                handles.add( insert( object ) );
+            }
+            return handles;
+        }
+
+        try {
+            this.wm.startOperation();
+            this.lock.lock();
+            try {
+                this.kBase.executeQueuedActions();
+
+                Map<ObjectTypeConf, PropagationEntry.InsertAll> insertAlls = new LinkedHashMap<ObjectTypeConf, PropagationEntry.InsertAll>();
+                List<PropagationContext> insertions = new ArrayList<PropagationContext>( objects.size() );
+                for ( Object object : objects ) {
+                    if ( object == null ) {
+                        handles.add( null );
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                        // the equality keys and the property change listeners are managed by the single insert
+                        handles.add( insert( object ) );
+                        continue;
+                    }
+
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        PropagationContext pctx = this.pctxFactory.createPropagationContext(this.wm.getNextPropagationIdCounter(),
+                                                                                            PropagationContext.Type.INSERTION,
+                                                                                            null, null, handle, entryPoint);
+                        this.objectStore.addHandle( handle, object );
+
+                        PropagationEntry.InsertAll insertAll = insertAlls.get( typeConf );
+                        if ( insertAll == null ) {
+                            insertAll = new PropagationEntry.InsertAll( typeConf );
+                            insertAlls.put( typeConf, insertAll );
+                        }
+                        insertAll.add( handle, pctx, this.wm );
+                        insertions.add( pctx );
+                    }
+                    handles.add( handle );
+                }
+
+                for ( PropagationEntry.InsertAll insertAll : insertAlls.values() ) {
+                    this.entryPointNode.assertObjects( insertAll, this.wm );
+                }
+                for ( PropagationContext pctx : insertions ) {
+                    this.wm.getRuleRuntimeEventSupport().fireObjectInserted(pctx,
+                                                                            pctx.getFactHandle(),
+                                                                            pctx.getFactHandle().getObject(),
+                                                                            this.wm);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+            return handles;
+        } finally {
+            this.wm.endOperation();
+        }
+    }
+
     public void update(final FactHandle factHandle,
                        final Object object) {
         update( (InternalFactHandle) factHandle,
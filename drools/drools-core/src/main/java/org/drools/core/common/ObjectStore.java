@@ -62,8 +62,20 @@ public interface ObjectStore {
      */
     Iterator<InternalFactHandle> iterateFactHandles(ObjectFilter filter);
 
+    /**
+     * Iterates the handles of the objects of the given class or of any of its subclasses.
+     * This class is not thread safe, changes to the working memory during iteration may give unexpected results
+     */
+    Iterator<InternalFactHandle> iterateFactHandles(Class<?> clazz);
+
     Iterator<Object> iterateNegObjects(ObjectFilter filter);
 
     Iterator<InternalFactHandle> iterateNegFactHandles(ObjectFilter filter);
 
+    /**
+     * Forgets the given class, so that the instances of a modified class with the same name are stored separately
+     * @return true if the class was stored
+     */
+    boolean clearClassStore(Class<?> clazz);
+
 }
@@ -49,8 +49,9 @@ public class QuadroupleBetaConstraints extends MultipleBetaConstraint {
 
     private QuadroupleBetaConstraints( BetaNodeFieldConstraint[] constraints,
                                    IndexPrecedenceOption indexPrecedenceOption,
+                                   boolean rangeIndex,
                                    boolean disableIndexing) {
-        super(constraints, indexPrecedenceOption, disableIndexing);
+        super(constraints, indexPrecedenceOption, rangeIndex, disableIndexing);
     }
 
     public QuadroupleBetaConstraints cloneIfInUse() {
@@ -59,7 +60,7 @@ public class QuadroupleBetaConstraints extends MultipleBetaConstraint {
             for (int i = 0; i < constraints.length; i++) {
                 clonedConstraints[i] = constraints[i].cloneIfInUse();
             }
-            QuadroupleBetaConstraints clone = new QuadroupleBetaConstraints(clonedConstraints, indexPrecedenceOption, disableIndexing);
+            QuadroupleBetaConstraints clone = new QuadroupleBetaConstraints(clonedConstraints, indexPrecedenceOption, rangeIndex, disableIndexing);
             clone.indexed = indexed;
             return clone;
         }
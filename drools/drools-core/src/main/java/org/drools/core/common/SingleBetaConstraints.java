@@ -42,6 +42,8 @@ public class SingleBetaConstraints
 
     private boolean indexed;
 
+    private boolean rangeIndex;
+
     private transient boolean disableIndex;
 
     public SingleBetaConstraints() {
@@ -67,6 +69,7 @@ public class SingleBetaConstraints
                                  final boolean disableIndex) {
         this.constraint = constraint;
         this.disableIndex = disableIndex;
+        this.rangeIndex = conf != null && conf.isRangeIndex();
     }
 
     public void init(BuildContext context, short betaNodeType) {
@@ -80,24 +83,27 @@ public class SingleBetaConstraints
     }
 
     public void initIndexes(int depth, short betaNodeType) {
-        indexed = depth >= 1 && IndexUtil.isIndexableForNode(betaNodeType, constraint);
+        indexed = depth >= 1 && IndexUtil.isIndexableForNode(betaNodeType, constraint, rangeIndex);
     }
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         constraint = (BetaNodeFieldConstraint) in.readObject();
         indexed = in.readBoolean();
+        rangeIndex = in.readBoolean();
 
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(constraint);
         out.writeBoolean(indexed);
+        out.writeBoolean(rangeIndex);
     }
 
     public SingleBetaConstraints cloneIfInUse() {
         if (constraint instanceof MutableTypeConstraint && ((MutableTypeConstraint) constraint).setInUse()) {
             SingleBetaConstraints clone = new SingleBetaConstraints(constraint.cloneIfInUse(), null, disableIndex);
             clone.indexed = indexed;
+            clone.rangeIndex = rangeIndex;
             return clone;
         }
         return this;
@@ -49,8 +49,9 @@ public class TripleBetaConstraints extends MultipleBetaConstraint {
 
     private TripleBetaConstraints( BetaNodeFieldConstraint[] constraints,
                                    IndexPrecedenceOption indexPrecedenceOption,
+                                   boolean rangeIndex,
                                    boolean disableIndexing) {
-        super(constraints, indexPrecedenceOption, disableIndexing);
+        super(constraints, indexPrecedenceOption, rangeIndex, disableIndexing);
     }
 
     public TripleBetaConstraints cloneIfInUse() {
@@ -59,7 +60,7 @@ public class TripleBetaConstraints extends MultipleBetaConstraint {
             for (int i = 0; i < constraints.length; i++) {
                 clonedConstraints[i] = constraints[i].cloneIfInUse();
             }
-            TripleBetaConstraints clone = new TripleBetaConstraints(clonedConstraints, indexPrecedenceOption, disableIndexing);
+            TripleBetaConstraints clone = new TripleBetaConstraints(clonedConstraints, indexPrecedenceOption, rangeIndex, disableIndexing);
             clone.indexed = indexed;
             return clone;
         }
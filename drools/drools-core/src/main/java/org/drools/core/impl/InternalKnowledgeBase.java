@@ -95,6 +95,8 @@ public interface InternalKnowledgeBase extends KieBase {
 
     void disposeStatefulSession(StatefulKnowledgeSessionImpl statefulSession);
 
+    void disposeStatelessSessionPools();
+
     TripleStore getTripleStore();
 
     TraitRegistry getTraitRegistry();
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -156,6 +157,10 @@ public class KnowledgeBaseImpl
 
     private transient final Set<StatefulKnowledgeSessionImpl> statefulSessions = ConcurrentHashMap.newKeySet();
 
+    static final int MAX_STATELESS_SESSION_POOLS = 16;
+
+    private transient final Map<StatelessSessionPoolKey, StatefulSessionPool> statelessSessionPools = new HashMap<>();
+
     // lock for entire rulebase, used for dynamic updates
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -386,6 +391,47 @@ public class KnowledgeBaseImpl
         return new StatelessKnowledgeSessionImpl( this, null );
     }
 
+    /**
+     * Returns the pool of the sessions created with the given configuration, shared by all the configurations
+     * with the same options, or null if this kie base already has too many pools, so that a stateless session
+     * created with a new configuration at each call doesn't pile up pools of idle sessions that are never freed
+     */
+    StatefulSessionPool getStatelessSessionPool( SessionConfiguration sessionConfig ) {
+        StatelessSessionPoolKey key = new StatelessSessionPoolKey( sessionConfig );
+        synchronized (statelessSessionPools) {
+            StatefulSessionPool pool = statelessSessionPools.get( key );
+            if (pool == null) {
+                if (statelessSessionPools.size() >= MAX_STATELESS_SESSION_POOLS) {
+                    logger.warn( "Too many configurations of stateless sessions for the kie base " + id +
+                                 ", the stateless sessions using a new one will not be pooled" );
+                    return null;
+                }
+                pool = createStatelessSessionPool( sessionConfig );
+                statelessSessionPools.put( key, pool );
+            }
+            return pool;
+        }
+    }
+
+    private StatefulSessionPool createStatelessSessionPool( SessionConfiguration conf ) {
+        Environment environment = EnvironmentFactory.newEnvironment();
+        return new StatefulSessionPool( this, conf.getStatelessSessionPoolOption().getSize(), () -> {
+            readLock();
+            try {
+                return internalCreateStatefulKnowledgeSession( environment, conf ).setStateless( true );
+            } finally {
+                readUnlock();
+            }
+        } );
+    }
+
+    public void disposeStatelessSessionPools() {
+        synchronized (statelessSessionPools) {
+            statelessSessionPools.values().forEach( StatefulSessionPool::shutdown );
+            statelessSessionPools.clear();
+        }
+    }
+
     public Collection<KiePackage> getKiePackages() {
         InternalKnowledgePackage[] pkgs = getPackages();
         List<KiePackage> list = new ArrayList<KiePackage>( pkgs.length );
@@ -427,7 +473,10 @@ public class KnowledgeBaseImpl
         boolean classLoaderCacheEnabled = droolsStream.readBoolean();
         Map<String, byte[]> store = (Map<String, byte[]>) droolsStream.readObject();
 
-        this.rootClassLoader = createProjectClassLoader(droolsStream.getParentClassLoader(), store);
+        // a kie base without classes of its own must not reset the ones of the class loader it is read with
+        this.rootClassLoader = store != null ?
+                createProjectClassLoader(droolsStream.getParentClassLoader(), store) :
+                createProjectClassLoader(droolsStream.getParentClassLoader());
 
         droolsStream.setClassLoader(this.rootClassLoader);
         droolsStream.setKnowledgeBase(this);
@@ -1803,4 +1852,37 @@ public class KnowledgeBaseImpl
         }
         receiveNodes.add(node);
     }
+
+    /**
+     * The options of a session configuration affecting the sessions of a stateless pool, taken when the pool
+     * is requested because the configuration is mutable. The work item handlers aren't part of it, since a new
+     * set of them is loaded by each configuration.
+     */
+    private static final class StatelessSessionPoolKey {
+
+        private final List<Object> options;
+
+        private StatelessSessionPoolKey( SessionConfiguration conf ) {
+            this.options = Arrays.asList( conf.isKeepReference(),
+                                          conf.getBeliefSystemType(),
+                                          conf.getClockType(),
+                                          conf.getTimerJobFactoryType(),
+                                          conf.getQueryListenerOption(),
+                                          conf.getPropagationListOption(),
+                                          conf.getObjectStoreOption(),
+                                          conf.getStatelessSessionPoolOption().getSize(),
+                                          conf.getForceEagerActivationFilter(),
+                                          conf.getTimedRuleExecutionFilter() );
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+            return this == obj || ( obj instanceof StatelessSessionPoolKey && options.equals( ( (StatelessSessionPoolKey) obj ).options ) );
+        }
+
+        @Override
+        public int hashCode() {
+            return options.hashCode();
+        }
+    }
 }
@@ -572,6 +572,13 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         this.getProcessRuntime().signalEvent( type, event, processInstanceId );
     }
 
+    @Override
+    public void signalEvent(String type,
+                            Object event,
+                            CorrelationKey correlationKey) {
+        this.getProcessRuntime().signalEvent( type, event, correlationKey );
+    }
+
     public Globals getGlobals() {
         return (Globals) this.getGlobalResolver();
     }
@@ -1445,6 +1452,11 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return defaultEntryPoint.insertAsync( object );
     }
 
+    public List<FactHandle> insertAll(final Collection<?> objects) {
+        checkAlive();
+        return defaultEntryPoint.insertAll( objects );
+    }
+
     /**
      * @see org.drools.core.WorkingMemory
      */
@@ -2208,6 +2220,11 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
             throw new UnsupportedOperationException( );
         }
 
+        @Override
+        public void signalEvent( String type, Object event, CorrelationKey correlationKey ) {
+            throw new UnsupportedOperationException( );
+        }
+
         @Override
         public Collection<ProcessInstance> getProcessInstances() {
             throw new UnsupportedOperationException( );
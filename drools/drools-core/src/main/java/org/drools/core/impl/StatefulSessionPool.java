@@ -16,17 +16,29 @@
 
 package org.drools.core.impl;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.drools.core.util.ScalablePool;
 
 public class StatefulSessionPool {
 
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
     private final KnowledgeBaseImpl kbase;
     private final ScalablePool<StatefulKnowledgeSessionImpl> pool;
+    private final int initialSize;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
 
     public StatefulSessionPool( KnowledgeBaseImpl kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier ) {
         this.kbase = kbase;
+        this.initialSize = initialSize;
         this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
     }
 
@@ -42,7 +54,91 @@ public class StatefulSessionPool {
         pool.release( session );
     }
 
+    /**
+     * Runs the given work on as many sessions as the initial size of this pool, so that the node and
+     * segment memories they need are already created, and kept across resets, when they are first used.
+     */
+    public void warmUp(Consumer<? super StatefulKnowledgeSessionImpl> work) {
+        List<StatefulKnowledgeSessionImpl> sessions = new ArrayList<>();
+        try {
+            for (int i = 0; i < initialSize; i++) {
+                StatefulKnowledgeSessionImpl session = get();
+                sessions.add( session );
+                work.accept( session );
+            }
+        } finally {
+            sessions.forEach( StatefulKnowledgeSessionImpl::dispose );
+        }
+    }
+
+    /**
+     * Returns a counter of the bytes allocated so far by the current thread, to be passed
+     * to {@link #recordCall(long)} at the end of the call using a session of this pool.
+     */
+    public long startCall() {
+        return THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() ) : -1L;
+    }
+
+    public void recordCall(long start) {
+        calls.increment();
+        if (start >= 0) {
+            allocatedBytes.add( THREAD_MX_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() ) - start );
+        }
+    }
+
+    public long getHitCount() {
+        return pool.getHitCount();
+    }
+
+    public long getMissCount() {
+        return pool.getMissCount();
+    }
+
+    /**
+     * The ratio of the requests served with a session already available in the pool
+     */
+    public double getHitRate() {
+        long hits = pool.getHitCount();
+        long total = hits + pool.getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public int getSize() {
+        return pool.getSize();
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    /**
+     * The average number of bytes allocated by the thread executing a call, or -1 if the JVM doesn't
+     * support measuring the allocations of a thread
+     */
+    public long getAllocatedBytesPerCall() {
+        if (THREAD_MX_BEAN == null) {
+            return -1L;
+        }
+        long count = calls.sum();
+        return count == 0 ? 0L : allocatedBytes.sum() / count;
+    }
+
     public void shutdown() {
         pool.shutdown();
     }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunBean;
+                }
+            }
+        } catch (Throwable t) {
+            // the com.sun.management API isn't available on this JVM
+        }
+        return null;
+    }
 }
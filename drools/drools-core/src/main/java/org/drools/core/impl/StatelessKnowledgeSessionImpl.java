@@ -84,7 +84,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         this.kBase = (KnowledgeBaseImpl)kBase;
         this.conf = conf != null ? (SessionConfiguration) conf : kBase.getSessionConfiguration();
         this.environment = EnvironmentFactory.newEnvironment();
-        this.pool = null;
+        this.pool = this.conf.getStatelessSessionPoolOption().isEnabled() ? this.kBase.getStatelessSessionPool( this.conf ) : null;
         wmCreated = new AtomicLong(0);
     }
 
@@ -101,9 +101,43 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         return this.kBase;
     }
 
+    /**
+     * Returns the pool providing the sessions used by this stateless session, or null if it creates
+     * a new session for each call
+     */
+    public StatefulSessionPool getSessionPool() {
+        return pool;
+    }
+
+    /**
+     * Pre-warms the pool of this stateless session, if any, inserting the given representative facts
+     * and firing the rules on the sessions created eagerly by the pool. This way the node and segment
+     * memories needed by the later calls are already in place.
+     */
+    public void warmUp(Iterable<?> objects) {
+        if ( pool == null ) {
+            return;
+        }
+        pool.warmUp( ksession -> {
+            initWorkingMemory( ksession );
+            try {
+                for ( Object object : objects ) {
+                    ksession.insert( object );
+                }
+                ksession.fireAllRules();
+            } finally {
+                cleanWorkingMemory( ksession );
+            }
+        } );
+    }
+
     private StatefulKnowledgeSession newWorkingMemory() {
         StatefulKnowledgeSessionImpl ksession = pool != null ? pool.get() : createWorkingMemory();
+        initWorkingMemory( ksession );
+        return ksession;
+    }
 
+    private void initWorkingMemory( StatefulKnowledgeSessionImpl ksession ) {
         ((Globals ) ksession.getGlobalResolver()).setDelegate(this.sessionGlobals);
 
         registerListeners( ksession );
@@ -111,8 +145,15 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         for( Map.Entry<String, Channel> entry : this.channels.entrySet() ) {
             ksession.registerChannel( entry.getKey(), entry.getValue() );
         }
+    }
 
-        return ksession;
+    private void cleanWorkingMemory( StatefulKnowledgeSessionImpl ksession ) {
+        // a pooled session can be reused by another stateless session
+        unregisterListeners( ksession );
+
+        for( String name : this.channels.keySet() ) {
+            ksession.unregisterChannel( name );
+        }
     }
 
     private StatefulKnowledgeSessionImpl createWorkingMemory() {
@@ -158,6 +199,25 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         }
     }
 
+    private void unregisterListeners( StatefulKnowledgeSessionImpl wm ) {
+        if ( listeners.isEmpty()) {
+            return;
+        }
+        for (ListnerHolder listnerHolder : listeners ) {
+            switch (listnerHolder.type) {
+                case AGENDA:
+                    wm.removeEventListener( (AgendaEventListener)listnerHolder.listener );
+                    break;
+                case RUNTIME:
+                    wm.removeEventListener( (RuleRuntimeEventListener)listnerHolder.listener );
+                    break;
+                case PROCESS:
+                    wm.removeEventListener( (ProcessEventListener)listnerHolder.listener );
+                    break;
+            }
+        }
+    }
+
     public void addEventListener(AgendaEventListener listener) {
         listeners.add( new ListnerHolder( ListnerHolder.Type.AGENDA, listener ) );
     }
@@ -237,6 +297,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
     }
 
     public <T> T execute(Command<T> command) {
+        long start = startCall();
         StatefulKnowledgeSession ksession = newWorkingMemory();
 
         RegistryContext context = new ContextImpl().register( KieSession.class, ksession );
@@ -271,21 +332,23 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
             }
         } finally {
             ((StatefulKnowledgeSessionImpl) ksession).endBatchExecution();
-            dispose(ksession);
+            dispose(ksession, start);
         }
     }
 
     public void execute(Object object) {
+        long start = startCall();
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
             ksession.insert( object );
             ksession.fireAllRules();
         } finally {
-            dispose(ksession);
+            dispose(ksession, start);
         }
     }
 
     public void execute(Iterable objects) {
+        long start = startCall();
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
             for ( Object object : objects ) {
@@ -293,12 +356,13 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
             }
             ksession.fireAllRules();
         } finally {
-            dispose(ksession);
+            dispose(ksession, start);
         }
     }
 
     public List executeWithResults(Iterable objects, ObjectFilter filter) {
         List list = new ArrayList();
+        long start = startCall();
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
             for ( Object object : objects ) {
@@ -309,13 +373,23 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
                 list.add(((InternalFactHandle) fh).getObject());
             }
         } finally {
-            dispose(ksession);
+            dispose(ksession, start);
         }
         return list;
     }
 
-    private void dispose(StatefulKnowledgeSession ksession) {
-        ksession.dispose();
+    private long startCall() {
+        return pool != null ? pool.startCall() : -1L;
+    }
+
+    private void dispose(StatefulKnowledgeSession ksession, long start) {
+        if ( pool != null ) {
+            cleanWorkingMemory( (StatefulKnowledgeSessionImpl) ksession );
+            ksession.dispose();
+            pool.recordCall( start );
+        } else {
+            ksession.dispose();
+        }
     }
 
     private static class ListnerHolder {
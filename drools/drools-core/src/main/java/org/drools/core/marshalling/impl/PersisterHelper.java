@@ -24,6 +24,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SignatureException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
@@ -210,11 +211,7 @@ public class PersisterHelper {
     public static void writeToStreamWithHeader( MarshallerWriteContext context,
                                                 Message payload ) throws IOException {
         ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
-        _header.setVersion( ProtobufMessages.Version.newBuilder()
-                                            .setVersionMajor( Drools.getMajorVersion() )
-                                            .setVersionMinor( Drools.getMinorVersion() )
-                                            .setVersionRevision( Drools.getRevisionVersion() )
-                            .build() );
+        _header.setVersion( buildVersion() );
         
         writeStrategiesIndex( context, _header );
 
@@ -227,6 +224,14 @@ public class PersisterHelper {
         context.stream.write( _header.build().toByteArray() );
     }
 
+    static ProtobufMessages.Version buildVersion() {
+        return ProtobufMessages.Version.newBuilder()
+                                       .setVersionMajor( Drools.getMajorVersion() )
+                                       .setVersionMinor( Drools.getMinorVersion() )
+                                       .setVersionRevision( Drools.getRevisionVersion() )
+                                       .build();
+    }
+
     public static void writeRuntimeDefinedClasses( MarshallerWriteContext context,
                                                   ProtobufMessages.Header.Builder _header ) {
         if (context.kBase == null) {
@@ -298,20 +303,44 @@ public class PersisterHelper {
     }
 
     public static ProtobufMessages.Header readFromStreamWithHeaderPreloaded( MarshallerReaderContext context, ExtensionRegistry registry ) throws IOException, ClassNotFoundException {
+        return readFromStreamWithHeaderPreloaded( context, registry, new byte[0] );
+    }
+
+    /**
+     * Reads the Header message whose first bytes have already been read from the stream
+     */
+    public static ProtobufMessages.Header readFromStreamWithHeaderPreloaded( MarshallerReaderContext context, ExtensionRegistry registry, byte[] start ) throws IOException, ClassNotFoundException {
         // we preload the stream into a byte[] to overcome a message size limit
         // imposed by protobuf as per https://issues.jboss.org/browse/DROOLS-25
-        byte[] preloaded = preload(context.stream);
+        byte[] preloaded = preload(context.stream, start);
         ProtobufMessages.Header _header = ProtobufMessages.Header.parseFrom( preloaded, registry );
 
         return loadStrategiesCheckSignature(context, _header);
     }
+
+    /**
+     * Reads the first bytes of a marshalled session, telling the streaming format from the single message one
+     */
+    public static byte[] readStart( InputStream stream ) throws IOException {
+        byte[] start = new byte[SessionChunks.MAGIC.length];
+        int length = 0;
+        while ( length < start.length ) {
+            int read = stream.read( start, length, start.length - length );
+            if ( read == -1 ) {
+                return Arrays.copyOf( start, length );
+            }
+            length += read;
+        }
+        return start;
+    }
     
     /* Method that preloads the source stream into a byte array to bypass the message size limitations in Protobuf unmarshalling.
        (Protobuf does not enforce a message size limit when unmarshalling from a byte array)
     */
-    private static byte[] preload(InputStream stream) throws IOException {
+    private static byte[] preload(InputStream stream, byte[] start) throws IOException {
         byte[] buf = new byte[4096];
         ByteArrayOutputStream preloaded = new ByteArrayOutputStream();
+        preloaded.write(start);
 
         int read;
         while((read = stream.read(buf)) != -1) {
@@ -109,8 +109,27 @@ public class ProtobufInputMarshaller {
     public static StatefulKnowledgeSessionImpl readSession(StatefulKnowledgeSessionImpl session,
                                                     MarshallerReaderContext context) throws IOException,
                                                                                     ClassNotFoundException {
+        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, processMarshaller );
+
+        byte[] start = PersisterHelper.readStart( context );
+        if ( SessionChunks.isChunked( start ) ) {
+            try (SessionChunks.ChunkReader chunks = new SessionChunks.ChunkReader( context, registry )) {
+                ProtobufMessages.KnowledgeSession _session = readSessionChunk( chunks, context );
+
+                InternalAgenda agenda = resetSession( session,
+                                                      context,
+                                                      _session );
+
+                readSessionChunks( chunks,
+                                   _session,
+                                   session,
+                                   agenda,
+                                   context );
+            }
+            return session;
+        }
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context, registry, start );
 
         InternalAgenda agenda = resetSession( session,
                                              context,
@@ -147,8 +166,33 @@ public class ProtobufInputMarshaller {
                                                            Environment environment,
                                                            SessionConfiguration config,
                                                            KieSessionInitializer initializer) throws IOException, ClassNotFoundException {
+        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, processMarshaller );
+
+        byte[] start = PersisterHelper.readStart( context );
+        if ( SessionChunks.isChunked( start ) ) {
+            try (SessionChunks.ChunkReader chunks = new SessionChunks.ChunkReader( context, registry )) {
+                ProtobufMessages.KnowledgeSession _session = readSessionChunk( chunks, context );
+
+                StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
+                                                                                   id,
+                                                                                   environment,
+                                                                                   config,
+                                                                                   _session );
+                if (initializer != null) {
+                    initializer.init( session );
+                }
+
+                // the returned message only holds the content of the session chunk
+                return new ReadSessionResult(readSessionChunks(chunks,
+                                                               _session,
+                                                               session,
+                                                               session.getAgenda(),
+                                                               context),
+                                             _session);
+            }
+        }
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context, registry, start );
 
         StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
                                                                            id,
@@ -197,44 +241,124 @@ public class ProtobufInputMarshaller {
                                             config, agenda, environment );
     }
 
-    private static ProtobufMessages.KnowledgeSession loadAndParseSession(MarshallerReaderContext context) throws IOException,
-                                                                                                         ClassNotFoundException {
-        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, processMarshaller );
-
-        ProtobufMessages.Header _header = PersisterHelper.readFromStreamWithHeaderPreloaded( context, registry );
+    private static ProtobufMessages.KnowledgeSession loadAndParseSession(MarshallerReaderContext context,
+                                                                         ExtensionRegistry registry,
+                                                                         byte[] start) throws IOException,
+                                                                                       ClassNotFoundException {
+        ProtobufMessages.Header _header = PersisterHelper.readFromStreamWithHeaderPreloaded( context, registry, start );
 
         return ProtobufMessages.KnowledgeSession.parseFrom( _header.getPayload(), registry );
     }
 
-    public static StatefulKnowledgeSessionImpl readSession(ProtobufMessages.KnowledgeSession _session,
-                                                           StatefulKnowledgeSessionImpl session,
-                                                    InternalAgenda agenda,
-                                                    MarshallerReaderContext context) throws IOException,
-                                                                                    ClassNotFoundException {
-        GlobalResolver globalResolver = (GlobalResolver) context.env.get( EnvironmentName.GLOBALS );
-        if ( globalResolver != null ) {
-            session.setGlobalResolver( globalResolver );
+    /**
+     * Reads the session chunk and the following matches, which are needed before creating the session
+     */
+    private static ProtobufMessages.KnowledgeSession readSessionChunk(SessionChunks.ChunkReader chunks,
+                                                                      MarshallerReaderContext context) throws IOException,
+                                                                                                       ClassNotFoundException {
+        SessionChunks.Chunk chunk = chunks.next();
+        if ( chunk.getType() != SessionChunks.ChunkType.SESSION ) {
+            throw new IllegalStateException( "Unexpected " + chunk.getType() + " chunk while deserializing session." );
         }
+        ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.parseFrom( chunk.getPayload(), chunks.getRegistry() );
 
-        if ( session.getTimerService() instanceof PseudoClockScheduler ) {
-            PseudoClockScheduler clock = (PseudoClockScheduler) session.getTimerService();
-            clock.advanceTime( _session.getTime(),
-                               TimeUnit.MILLISECONDS );
+        while ( chunks.peek() == SessionChunks.ChunkType.MATCHES ) {
+            ProtobufMessages.Agenda _agenda = ProtobufMessages.Agenda.parseFrom( chunks.next().getPayload(), chunks.getRegistry() );
+            readActivations( context,
+                             _agenda.getMatchList(),
+                             _agenda.getRuleActivationList() );
         }
+        return _session;
+    }
 
-        context.wm = session;
-
-        // need to read node memories before reading the fact handles
-        // because this data is required during fact propagation 
-        readNodeMemories( context,
-                          _session.getRuleData() );
+    /**
+     * Rebuilds the working memory from the chunks following the session one, as they are read
+     */
+    private static StatefulKnowledgeSessionImpl readSessionChunks(SessionChunks.ChunkReader chunks,
+                                                                  ProtobufMessages.KnowledgeSession _session,
+                                                                  StatefulKnowledgeSessionImpl session,
+                                                                  InternalAgenda agenda,
+                                                                  MarshallerReaderContext context) throws IOException,
+                                                                                                   ClassNotFoundException {
+        initSession( _session,
+                     session,
+                     context );
 
         List<PropagationContext> pctxs = new ArrayList<PropagationContext>();
-
-        if ( _session.getRuleData().hasInitialFact() ) {
-            session.setInitialFactHandle( session.initInitialFact(context.kBase, context) );
-            context.handles.put( session.getInitialFactHandle().getId(), session.getInitialFactHandle() );
+        ExtensionRegistry registry = chunks.getRegistry();
+
+        EntryPoint wmep = null;
+        boolean handlesRead = true;
+        boolean entryPointsRead = false;
+        for ( SessionChunks.Chunk chunk = chunks.next(); chunk.getType() != SessionChunks.ChunkType.END; chunk = chunks.next() ) {
+            if ( !handlesRead && chunk.getType() != SessionChunks.ChunkType.FACT_HANDLES ) {
+                context.filter.fireRNEAs( context.wm );
+                handlesRead = true;
+            }
+            switch ( chunk.getType() ) {
+                case ENTRY_POINT : {
+                    ProtobufMessages.EntryPoint _ep = ProtobufMessages.EntryPoint.parseFrom( chunk.getPayload(), registry );
+                    wmep = session.getEntryPointMap().get( _ep.getEntryPointId() );
+                    handlesRead = false;
+                    break;
+                }
+                case FACT_HANDLES : {
+                    readFactHandles( context,
+                                     ProtobufMessages.EntryPoint.parseFrom( chunk.getPayload(), registry ),
+                                     ((WorkingMemoryEntryPoint) wmep).getObjectStore(),
+                                     pctxs );
+                    break;
+                }
+                case TRUTH_MAINTENANCE_SYSTEM : {
+                    readTruthMaintenanceSystem( context,
+                                                wmep,
+                                                ProtobufMessages.EntryPoint.parseFrom( chunk.getPayload(), registry ),
+                                                pctxs );
+                    break;
+                }
+                case ACTION_QUEUE : {
+                    entryPointsRead = cleanReaderContexts( pctxs, entryPointsRead );
+                    readActionQueue( context,
+                                     RuleData.parseFrom( chunk.getPayload(), registry ) );
+                    break;
+                }
+                case PROCESS_DATA : {
+                    entryPointsRead = cleanReaderContexts( pctxs, entryPointsRead );
+                    readProcessData( context,
+                                     ProtobufMessages.KnowledgeSession.parseFrom( chunk.getPayload(), registry ) );
+                    break;
+                }
+                case TIMERS : {
+                    entryPointsRead = cleanReaderContexts( pctxs, entryPointsRead );
+                    readTimers( context,
+                                ProtobufMessages.Timers.parseFrom( chunk.getPayload(), registry ) );
+                    break;
+                }
+                default : {
+                    throw new IllegalStateException( "Unexpected " + chunk.getType() + " chunk while deserializing session." );
+                }
+            }
         }
+        cleanReaderContexts( pctxs, entryPointsRead );
+
+        scheduleTimerNodeTimers( context );
+
+        // remove the activations filter
+        agenda.setActivationsFilter( null );
+
+        return session;
+    }
+
+    public static StatefulKnowledgeSessionImpl readSession(ProtobufMessages.KnowledgeSession _session,
+                                                           StatefulKnowledgeSessionImpl session,
+                                                    InternalAgenda agenda,
+                                                    MarshallerReaderContext context) throws IOException,
+                                                                                    ClassNotFoundException {
+        initSession( _session,
+                     session,
+                     context );
+
+        List<PropagationContext> pctxs = new ArrayList<PropagationContext>();
 
         for ( ProtobufMessages.EntryPoint _ep : _session.getRuleData().getEntryPointList() ) {
             EntryPoint wmep = ((StatefulKnowledgeSessionImpl)context.wm).getEntryPointMap().get(_ep.getEntryPointId());
@@ -256,6 +380,51 @@ public class ProtobufInputMarshaller {
         readActionQueue( context,
                          _session.getRuleData() );
 
+        readProcessData( context,
+                         _session );
+
+        if ( _session.hasTimers() ) {
+            readTimers( context,
+                        _session.getTimers() );
+        }
+        scheduleTimerNodeTimers( context );
+
+        // remove the activations filter
+        agenda.setActivationsFilter( null );
+
+        return session;
+    }
+
+    private static void initSession(ProtobufMessages.KnowledgeSession _session,
+                                    StatefulKnowledgeSessionImpl session,
+                                    MarshallerReaderContext context) {
+        GlobalResolver globalResolver = (GlobalResolver) context.env.get( EnvironmentName.GLOBALS );
+        if ( globalResolver != null ) {
+            session.setGlobalResolver( globalResolver );
+        }
+
+        if ( session.getTimerService() instanceof PseudoClockScheduler ) {
+            PseudoClockScheduler clock = (PseudoClockScheduler) session.getTimerService();
+            clock.advanceTime( _session.getTime(),
+                               TimeUnit.MILLISECONDS );
+        }
+
+        context.wm = session;
+
+        // need to read node memories before reading the fact handles
+        // because this data is required during fact propagation 
+        readNodeMemories( context,
+                          _session.getRuleData() );
+
+        if ( _session.getRuleData().hasInitialFact() ) {
+            session.setInitialFactHandle( session.initInitialFact(context.kBase, context) );
+            context.handles.put( session.getInitialFactHandle().getId(), session.getInitialFactHandle() );
+        }
+    }
+
+    private static void readProcessData(MarshallerReaderContext context,
+                                        ProtobufMessages.KnowledgeSession _session) throws IOException,
+                                                                                   ClassNotFoundException {
         if ( processMarshaller != null ) {
             if ( _session.hasProcessData() ) {
                 context.parameterObject = _session.getProcessData();
@@ -274,13 +443,18 @@ public class ProtobufInputMarshaller {
                 throw new IllegalStateException( "No process marshaller, unable to unmarshall process data." );
             }
         }
+    }
 
-        if ( _session.hasTimers() ) {
-            for ( ProtobufMessages.Timers.Timer _timer : _session.getTimers().getTimerList() ) {
-                readTimer( context,
-                           _timer );
-            }
+    private static void readTimers(MarshallerReaderContext context,
+                                   ProtobufMessages.Timers _timers) throws IOException,
+                                                                   ClassNotFoundException {
+        for ( ProtobufMessages.Timers.Timer _timer : _timers.getTimerList() ) {
+            readTimer( context,
+                       _timer );
         }
+    }
+
+    private static void scheduleTimerNodeTimers(MarshallerReaderContext context) {
         // need to process any eventual left over timer node timers
         if( ! context.timerNodeSchedulers.isEmpty() ) {
             for( Map<TupleKey, Scheduler> schedulers : context.timerNodeSchedulers.values() ) {
@@ -290,11 +464,6 @@ public class ProtobufInputMarshaller {
             }
             context.timerNodeSchedulers.clear();
         }
-
-        // remove the activations filter
-        agenda.setActivationsFilter( null );
-
-        return session;
     }
 
     private static void readNodeMemories(MarshallerReaderContext context,
@@ -477,6 +646,13 @@ public class ProtobufInputMarshaller {
         }
     }
 
+    private static boolean cleanReaderContexts(List<PropagationContext> pctxs, boolean cleaned) {
+        if ( !cleaned ) {
+            cleanReaderContexts( pctxs );
+        }
+        return true;
+    }
+
     public static InternalFactHandle readFactHandle(MarshallerReaderContext context,
                                                     EntryPoint entryPoint,
                                                     FactHandle _handle) throws IOException,
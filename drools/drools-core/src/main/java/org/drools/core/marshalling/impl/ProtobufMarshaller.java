@@ -29,6 +29,7 @@ import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.KnowledgeBaseFactory;
 import org.drools.core.impl.KnowledgeBaseImpl;
 import org.drools.core.impl.StatefulKnowledgeSessionImpl;
+import org.drools.core.util.KeyStoreHelper;
 import org.drools.core.phreak.PhreakTimerNode.TimerNodeTimerInputMarshaller;
 import org.drools.core.reteoo.ObjectTypeNode.ExpireJobContextTimerInputMarshaller;
 import org.drools.core.rule.SlidingTimeWindow.BehaviorJobContextTimerInputMarshaller;
@@ -51,8 +52,16 @@ public class ProtobufMarshaller
         implements
         InternalMarshaller {
 
+    /**
+     * The property enabling the streaming, chunked format when marshalling sessions.
+     * Both the formats can be unmarshalled regardless of this setting.
+     */
+    public static final String STREAMING_PROPERTY = "drools.marshalling.streaming";
+
     protected KieSessionInitializer initializer;
 
+    protected boolean streaming = Boolean.getBoolean( STREAMING_PROPERTY );
+
     public KieSessionInitializer getInitializer() {
         return initializer;
     }
@@ -61,6 +70,14 @@ public class ProtobufMarshaller
         this.initializer = initializer;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming( boolean streaming ) {
+        this.streaming = streaming;
+    }
+
     public static final Map<Integer, TimersInputMarshaller> TIMER_READERS = new HashMap<>();
     static {
         TIMER_READERS.put( ProtobufMessages.Timers.TimerType.BEHAVIOR_VALUE, new BehaviorJobContextTimerInputMarshaller() );
@@ -117,7 +134,12 @@ public class ProtobufMarshaller
                                                                      this.marshallingConfig.isMarshallWorkItems(),
                                                                      ksession.getEnvironment() );
         context.clockTime = clockTime;
-        ProtobufOutputMarshaller.writeSession( context );
+        // signed sessions are only supported by the single message format
+        if ( streaming && !new KeyStoreHelper().isSigned() ) {
+            ProtobufOutputMarshaller.writeSessionInChunks( context );
+        } else {
+            ProtobufOutputMarshaller.writeSession( context );
+        }
         context.close();
     }
 
@@ -125,34 +125,11 @@ public class ProtobufOutputMarshaller {
         StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.wm;
 
         try {
-            wm.getLock().lock();
-            for (WorkingMemoryEntryPoint ep : wm.getWorkingMemoryEntryPoints().values()) {
-                if (ep instanceof NamedEntryPoint) {
-                    ((NamedEntryPoint)ep).lock();
-                }
-            }
+            lockSession( wm );
 
             evaluateRuleActivations( wm );
 
-            ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
-
-            long time = 0;
-            if ( context.wm.getTimerService() instanceof PseudoClockScheduler ) {
-                time = context.clockTime;
-            }
-            _ruleData.setLastId( wm.getFactHandleFactory().getId() );
-            _ruleData.setLastRecency( wm.getFactHandleFactory().getRecency() );
-
-            InternalFactHandle handle = context.wm.getInitialFactHandle();
-            if ( handle != null ) {
-                // can be null for RETE, if fireAllRules has not yet been called
-                ProtobufMessages.FactHandle _ifh = ProtobufMessages.FactHandle.newBuilder()
-                        .setType( ProtobufMessages.FactHandle.HandleType.INITIAL_FACT )
-                        .setId( handle.getId() )
-                        .setRecency( handle.getRecency() )
-                        .build();
-                _ruleData.setInitialFact( _ifh );
-            }
+            ProtobufMessages.RuleData.Builder _ruleData = writeRuleData( context );
 
             writeAgenda( context, _ruleData );
 
@@ -182,26 +159,12 @@ public class ProtobufOutputMarshaller {
 
             ProtobufMessages.KnowledgeSession.Builder _session = ProtobufMessages.KnowledgeSession.newBuilder()
                     .setMultithread( false )
-                    .setTime( time )
+                    .setTime( getSessionTime( context ) )
                     .setRuleData( _ruleData.build() );
 
-            if ( processMarshaller != null ) {
-                Builder _pdata = ProtobufMessages.ProcessData.newBuilder();
-                if ( context.marshalProcessInstances ) {
-                    context.parameterObject = _pdata;
-                    processMarshaller.writeProcessInstances( context );
-                }
-
-                if ( context.marshalWorkItems ) {
-                    context.parameterObject = _pdata;
-                    processMarshaller.writeWorkItems( context );
-                }
-
-                // this now just assigns the writer, it will not write out any timer information
-                context.parameterObject = _pdata;
-                processMarshaller.writeProcessTimers( context );
-
-                _session.setProcessData( _pdata.build() );
+            ProtobufMessages.ProcessData _processData = writeProcessData( context );
+            if ( _processData != null ) {
+                _session.setProcessData( _processData );
             }
 
             Timers _timers = writeTimers( context.wm.getTimerService().getTimerJobInstances( context.wm.getIdentifier() ),
@@ -212,15 +175,175 @@ public class ProtobufOutputMarshaller {
 
             return _session.build();
         } finally {
-            for (WorkingMemoryEntryPoint ep : wm.getWorkingMemoryEntryPoints().values()) {
-                if (ep instanceof NamedEntryPoint) {
-                    ((NamedEntryPoint)ep).unlock();
+            unlockSession( wm );
+        }
+    }
+
+    /**
+     * Writes the session in the streaming format described by {@link SessionChunks}: the facts, matches,
+     * equality keys and timers are serialized and written a batch at a time, instead of building
+     * the whole KnowledgeSession message in memory.
+     */
+    public static void writeSessionInChunks(MarshallerWriteContext context) throws IOException {
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.wm;
+        SessionChunks.ChunkWriter chunks = new SessionChunks.ChunkWriter( context );
+
+        try {
+            lockSession( wm );
+
+            evaluateRuleActivations( wm );
+
+            chunks.writeHeader();
+
+            // the session chunk holds everything needed to create the session, except the matches
+            ProtobufMessages.RuleData.Builder _ruleData = writeRuleData( context );
+            _ruleData.setAgenda( writeAgendaGroups( wm.getAgenda() ) );
+            writeNodeMemories( context, _ruleData );
+            ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.newBuilder()
+                    .setMultithread( false )
+                    .setTime( getSessionTime( context ) )
+                    .setRuleData( _ruleData.build() )
+                    .build();
+            chunks.write( SessionChunks.ChunkType.SESSION, _session );
+
+            writeMatchesInChunks( context, chunks );
+
+            for ( EntryPoint wmep : wm.getWorkingMemoryEntryPoints().values() ) {
+                ProtobufMessages.EntryPoint.Builder _epb = ProtobufMessages.EntryPoint.newBuilder();
+                _epb.setEntryPointId( wmep.getEntryPointId() );
+                writeObjectTypeConfiguration( context,
+                                              ((WorkingMemoryEntryPoint) wmep).getObjectTypeConfigurationRegistry(),
+                                              _epb );
+                ProtobufMessages.EntryPoint _ep = _epb.build();
+                chunks.write( SessionChunks.ChunkType.ENTRY_POINT, _ep );
+
+                // the facts are kept in the order of their ids, as they will be inserted again in this order
+                InternalFactHandle[] handles = orderFacts( ((NamedEntryPoint) wmep).getObjectStore() );
+                for ( int i = 0; i < handles.length; i += SessionChunks.BATCH_SIZE ) {
+                    ProtobufMessages.EntryPoint.Builder _handles = ProtobufMessages.EntryPoint.newBuilder()
+                            .setEntryPointId( wmep.getEntryPointId() );
+                    for ( int j = i; j < Math.min( handles.length, i + SessionChunks.BATCH_SIZE ); j++ ) {
+                        _handles.addHandle( writeFactHandle( context,
+                                                             context.objectMarshallingStrategyStore,
+                                                             handles[j] ) );
+                    }
+                    chunks.write( SessionChunks.ChunkType.FACT_HANDLES, _handles.build() );
+                }
+
+                EqualityKey[] keys = orderEqualityKeys( ((NamedEntryPoint) wmep).getTruthMaintenanceSystem() );
+                for ( int i = 0; i < keys.length; i += SessionChunks.BATCH_SIZE ) {
+                    ProtobufMessages.TruthMaintenanceSystem.Builder _tms = ProtobufMessages.TruthMaintenanceSystem.newBuilder();
+                    for ( int j = i; j < Math.min( keys.length, i + SessionChunks.BATCH_SIZE ); j++ ) {
+                        _tms.addKey( writeEqualityKey( context, keys[j] ) );
+                    }
+                    chunks.write( SessionChunks.ChunkType.TRUTH_MAINTENANCE_SYSTEM, ProtobufMessages.EntryPoint.newBuilder( _ep )
+                            .setTms( _tms.build() )
+                            .build() );
+                }
+            }
+
+            ProtobufMessages.RuleData.Builder _actionQueue = ProtobufMessages.RuleData.newBuilder();
+            writeActionQueue( context,
+                              _actionQueue );
+            if ( _actionQueue.hasActionQueue() ) {
+                chunks.write( SessionChunks.ChunkType.ACTION_QUEUE, _actionQueue.build() );
+            }
+
+            ProtobufMessages.ProcessData _processData = writeProcessData( context );
+            if ( _processData != null ) {
+                chunks.write( SessionChunks.ChunkType.PROCESS_DATA, ProtobufMessages.KnowledgeSession.newBuilder()
+                        .setProcessData( _processData )
+                        .build() );
+            }
+
+            List<TimerJobInstance> timers = orderTimers( context.wm.getTimerService().getTimerJobInstances( context.wm.getIdentifier() ) );
+            ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
+            for ( TimerJobInstance timer : timers ) {
+                Timer _timer = writeTimer( timer, context );
+                if ( _timer != null ) {
+                    _timers.addTimer( _timer );
+                    if ( _timers.getTimerCount() == SessionChunks.BATCH_SIZE ) {
+                        chunks.write( SessionChunks.ChunkType.TIMERS, _timers.build() );
+                        _timers.clear();
+                    }
                 }
             }
-            wm.getLock().unlock();
+            if ( _timers.getTimerCount() > 0 ) {
+                chunks.write( SessionChunks.ChunkType.TIMERS, _timers.build() );
+            }
+
+            chunks.writeEnd();
+        } finally {
+            unlockSession( wm );
         }
     }
 
+    private static void lockSession(StatefulKnowledgeSessionImpl wm) {
+        wm.getLock().lock();
+        for (WorkingMemoryEntryPoint ep : wm.getWorkingMemoryEntryPoints().values()) {
+            if (ep instanceof NamedEntryPoint) {
+                ((NamedEntryPoint)ep).lock();
+            }
+        }
+    }
+
+    private static void unlockSession(StatefulKnowledgeSessionImpl wm) {
+        for (WorkingMemoryEntryPoint ep : wm.getWorkingMemoryEntryPoints().values()) {
+            if (ep instanceof NamedEntryPoint) {
+                ((NamedEntryPoint)ep).unlock();
+            }
+        }
+        wm.getLock().unlock();
+    }
+
+    private static long getSessionTime(MarshallerWriteContext context) {
+        if ( context.wm.getTimerService() instanceof PseudoClockScheduler ) {
+            return context.clockTime;
+        }
+        return 0;
+    }
+
+    private static ProtobufMessages.RuleData.Builder writeRuleData(MarshallerWriteContext context) {
+        ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+
+        _ruleData.setLastId( context.wm.getFactHandleFactory().getId() );
+        _ruleData.setLastRecency( context.wm.getFactHandleFactory().getRecency() );
+
+        InternalFactHandle handle = context.wm.getInitialFactHandle();
+        if ( handle != null ) {
+            // can be null for RETE, if fireAllRules has not yet been called
+            ProtobufMessages.FactHandle _ifh = ProtobufMessages.FactHandle.newBuilder()
+                    .setType( ProtobufMessages.FactHandle.HandleType.INITIAL_FACT )
+                    .setId( handle.getId() )
+                    .setRecency( handle.getRecency() )
+                    .build();
+            _ruleData.setInitialFact( _ifh );
+        }
+        return _ruleData;
+    }
+
+    private static ProtobufMessages.ProcessData writeProcessData(MarshallerWriteContext context) throws IOException {
+        if ( processMarshaller == null ) {
+            return null;
+        }
+        Builder _pdata = ProtobufMessages.ProcessData.newBuilder();
+        if ( context.marshalProcessInstances ) {
+            context.parameterObject = _pdata;
+            processMarshaller.writeProcessInstances( context );
+        }
+
+        if ( context.marshalWorkItems ) {
+            context.parameterObject = _pdata;
+            processMarshaller.writeWorkItems( context );
+        }
+
+        // this now just assigns the writer, it will not write out any timer information
+        context.parameterObject = _pdata;
+        processMarshaller.writeProcessTimers( context );
+
+        return _pdata.build();
+    }
+
     private static void writeObjectTypeConfiguration( MarshallerWriteContext context, 
     		                                          ObjectTypeConfigurationRegistry otcr,
     		                                          org.drools.core.marshalling.impl.ProtobufMessages.EntryPoint.Builder _epb) {
@@ -289,6 +412,48 @@ public class ProtobufOutputMarshaller {
         InternalWorkingMemory wm = context.wm;
         InternalAgenda agenda = wm.getAgenda();
 
+        org.drools.core.marshalling.impl.ProtobufMessages.Agenda.Builder _ab = writeAgendaGroups( agenda );
+
+        for ( org.drools.core.spi.Activation activation : getDormantActivations( wm ) ) {
+            _ab.addMatch( writeActivation( context, (AgendaItem) activation, true) );
+        }
+
+        // serialize all network evaluator activations
+        for ( Activation activation : agenda.getActivations() ) {
+            if ( activation.isRuleAgendaItem() ) {
+                // serialize it
+                _ab.addRuleActivation( writeActivation( context, (AgendaItem) activation, false) );
+            }
+        }
+
+        _ksb.setAgenda( _ab.build() );
+    }
+
+    private static void writeMatchesInChunks(MarshallerWriteContext context,
+                                             SessionChunks.ChunkWriter chunks) throws IOException {
+        ProtobufMessages.Agenda.Builder _ab = ProtobufMessages.Agenda.newBuilder();
+        for ( org.drools.core.spi.Activation activation : getDormantActivations( context.wm ) ) {
+            _ab.addMatch( writeActivation( context, (AgendaItem) activation, true) );
+            if ( _ab.getMatchCount() == SessionChunks.BATCH_SIZE ) {
+                chunks.write( SessionChunks.ChunkType.MATCHES, _ab.build() );
+                _ab.clear();
+            }
+        }
+        for ( Activation activation : context.wm.getAgenda().getActivations() ) {
+            if ( activation.isRuleAgendaItem() ) {
+                _ab.addRuleActivation( writeActivation( context, (AgendaItem) activation, false) );
+                if ( _ab.getRuleActivationCount() == SessionChunks.BATCH_SIZE ) {
+                    chunks.write( SessionChunks.ChunkType.MATCHES, _ab.build() );
+                    _ab.clear();
+                }
+            }
+        }
+        if ( _ab.getMatchCount() > 0 || _ab.getRuleActivationCount() > 0 ) {
+            chunks.write( SessionChunks.ChunkType.MATCHES, _ab.build() );
+        }
+    }
+
+    private static ProtobufMessages.Agenda.Builder writeAgendaGroups(InternalAgenda agenda) {
         org.drools.core.marshalling.impl.ProtobufMessages.Agenda.Builder _ab = ProtobufMessages.Agenda.newBuilder();
 
         AgendaGroup[] agendaGroups = agenda.getAgendaGroupsMap().values().toArray( new AgendaGroup[agenda.getAgendaGroupsMap().size()] );
@@ -322,7 +487,10 @@ public class ProtobufOutputMarshaller {
             _fsb.addGroupName( group.getName() );
         }
         _ab.setFocusStack( _fsb.build() );
+        return _ab;
+    }
 
+    private static List<org.drools.core.spi.Activation> getDormantActivations(InternalWorkingMemory wm) {
         // serialize all dormant activations
         org.drools.core.util.Iterator it = ActivationIterator.iterator( wm );
         List<org.drools.core.spi.Activation> dormant = new ArrayList<org.drools.core.spi.Activation>();
@@ -333,19 +501,7 @@ public class ProtobufOutputMarshaller {
         }
 
         Collections.sort( dormant, ActivationsSorter.INSTANCE );
-        for ( org.drools.core.spi.Activation activation : dormant ) {
-            _ab.addMatch( writeActivation( context, (AgendaItem) activation, true) );
-        }
-
-        // serialize all network evaluator activations
-        for ( Activation activation : agenda.getActivations() ) {
-            if ( activation.isRuleAgendaItem() ) {
-                // serialize it
-                _ab.addRuleActivation( writeActivation( context, (AgendaItem) activation, false) );
-            }
-        }
-
-        _ksb.setAgenda( _ab.build() );
+        return dormant;
     }
 
     private static void writeNodeMemories(MarshallerWriteContext context,
@@ -466,46 +622,55 @@ public class ProtobufOutputMarshaller {
     public static void writeTruthMaintenanceSystem(MarshallerWriteContext context,
                                                    EntryPoint wmep,
                                                    ProtobufMessages.EntryPoint.Builder _epb) throws IOException {
-        TruthMaintenanceSystem tms = ((NamedEntryPoint) wmep).getTruthMaintenanceSystem();
-        ObjectHashMap justifiedMap = tms.getEqualityKeyMap();
-
-        if ( !justifiedMap.isEmpty() ) {
-            EqualityKey[] keys = new EqualityKey[justifiedMap.size()];
-            org.drools.core.util.Iterator it = justifiedMap.iterator();
-            int i = 0;
-            for ( org.drools.core.util.ObjectHashMap.ObjectEntry entry = (org.drools.core.util.ObjectHashMap.ObjectEntry) it.next(); entry != null; entry = (org.drools.core.util.ObjectHashMap.ObjectEntry) it.next() ) {
-                EqualityKey key = (EqualityKey) entry.getKey();
-                keys[i++] = key;
-            }
-
-            Arrays.sort( keys,
-                         EqualityKeySorter.instance );
+        EqualityKey[] keys = orderEqualityKeys( ((NamedEntryPoint) wmep).getTruthMaintenanceSystem() );
 
+        if ( keys.length > 0 ) {
             ProtobufMessages.TruthMaintenanceSystem.Builder _tms = ProtobufMessages.TruthMaintenanceSystem.newBuilder();
 
             // write the assert map of Equality keys
             for ( EqualityKey key : keys ) {
-                ProtobufMessages.EqualityKey.Builder _key = ProtobufMessages.EqualityKey.newBuilder();
-                _key.setStatus( key.getStatus() );
-                _key.setHandleId( key.getFactHandle().getId() );
-
-                if ( key.size() > 1 ) {
-                    // add all the other key's if they exist
-                    FastIterator keyIter = key.fastIterator();
-                    for ( DefaultFactHandle handle = key.getFirst().getNext(); handle != null; handle = (DefaultFactHandle) keyIter.next( handle ) ) {
-                        _key.addOtherHandle( handle.getId() );
-                    }
-                }
+                _tms.addKey( writeEqualityKey( context, key ) );
+            }
 
-                if ( key.getBeliefSet() != null ) {
-                    writeBeliefSet( context, key.getBeliefSet(), _key );
-                }
+            _epb.setTms( _tms.build() );
+        }
+    }
 
-                _tms.addKey( _key.build() );
+    private static EqualityKey[] orderEqualityKeys(TruthMaintenanceSystem tms) {
+        ObjectHashMap justifiedMap = tms.getEqualityKeyMap();
+
+        EqualityKey[] keys = new EqualityKey[justifiedMap.size()];
+        org.drools.core.util.Iterator it = justifiedMap.iterator();
+        int i = 0;
+        for ( org.drools.core.util.ObjectHashMap.ObjectEntry entry = (org.drools.core.util.ObjectHashMap.ObjectEntry) it.next(); entry != null; entry = (org.drools.core.util.ObjectHashMap.ObjectEntry) it.next() ) {
+            EqualityKey key = (EqualityKey) entry.getKey();
+            keys[i++] = key;
+        }
+
+        Arrays.sort( keys,
+                     EqualityKeySorter.instance );
+        return keys;
+    }
+
+    private static ProtobufMessages.EqualityKey writeEqualityKey(MarshallerWriteContext context,
+                                                                 EqualityKey key) throws IOException {
+        ProtobufMessages.EqualityKey.Builder _key = ProtobufMessages.EqualityKey.newBuilder();
+        _key.setStatus( key.getStatus() );
+        _key.setHandleId( key.getFactHandle().getId() );
+
+        if ( key.size() > 1 ) {
+            // add all the other key's if they exist
+            FastIterator keyIter = key.fastIterator();
+            for ( DefaultFactHandle handle = key.getFirst().getNext(); handle != null; handle = (DefaultFactHandle) keyIter.next( handle ) ) {
+                _key.addOtherHandle( handle.getId() );
             }
+        }
 
-            _epb.setTms( _tms.build() );
+        if ( key.getBeliefSet() != null ) {
+            writeBeliefSet( context, key.getBeliefSet(), _key );
         }
+
+        return _key.build();
     }
 
     private static void writeBeliefSet(MarshallerWriteContext context,
@@ -761,24 +926,9 @@ public class ProtobufOutputMarshaller {
     private static ProtobufMessages.Timers writeTimers(Collection<TimerJobInstance> timers,
                                                        MarshallerWriteContext outCtx) {
         if ( !timers.isEmpty() ) {
-            List<TimerJobInstance> sortedTimers = new ArrayList<TimerJobInstance>( timers );
-            Collections.sort( sortedTimers,
-                              new Comparator<TimerJobInstance>() {
-                                  public int compare(TimerJobInstance o1,
-                                                     TimerJobInstance o2) {
-                                      return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
-                                  }
-                              } );
-
             ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
-            for ( TimerJobInstance timer : sortedTimers ) {
-                JobContext jctx = ((SelfRemovalJobContext) timer.getJobContext()).getJobContext();
-                if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
-                    !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {
-                    continue;
-                }
-                TimersOutputMarshaller writer = outCtx.writersByClass.get( jctx.getClass() );
-                Timer _timer = writer.serialize( jctx, outCtx );
+            for ( TimerJobInstance timer : orderTimers( timers ) ) {
+                Timer _timer = writeTimer( timer, outCtx );
                 if ( _timer != null ) {
                     _timers.addTimer( _timer );
                 }
@@ -788,6 +938,29 @@ public class ProtobufOutputMarshaller {
         return null;
     }
 
+    private static List<TimerJobInstance> orderTimers(Collection<TimerJobInstance> timers) {
+        List<TimerJobInstance> sortedTimers = new ArrayList<TimerJobInstance>( timers );
+        Collections.sort( sortedTimers,
+                          new Comparator<TimerJobInstance>() {
+                              public int compare(TimerJobInstance o1,
+                                                 TimerJobInstance o2) {
+                                  return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
+                              }
+                          } );
+        return sortedTimers;
+    }
+
+    private static Timer writeTimer(TimerJobInstance timer,
+                                    MarshallerWriteContext outCtx) {
+        JobContext jctx = ((SelfRemovalJobContext) timer.getJobContext()).getJobContext();
+        if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
+            !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {
+            return null;
+        }
+        TimersOutputMarshaller writer = outCtx.writersByClass.get( jctx.getClass() );
+        return writer.serialize( jctx, outCtx );
+    }
+
     public static ProtobufMessages.Trigger writeTrigger(Trigger trigger,
                                                         MarshallerWriteContext outCtx) {
         if ( trigger instanceof CronTrigger ) {
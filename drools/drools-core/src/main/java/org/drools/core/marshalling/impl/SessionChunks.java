@@ -0,0 +1,359 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.marshalling.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.drools.core.common.DroolsObjectInputStream;
+import org.drools.core.common.DroolsObjectOutputStream;
+import org.drools.core.util.KeyStoreHelper;
+import org.drools.reflective.classloader.ProjectClassLoader;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.marshalling.ObjectMarshallingStrategy.Context;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.Message;
+
+/**
+ * The streaming format of a marshalled session. Instead of a single Header message wrapping the whole
+ * KnowledgeSession, the session is written as a sequence of chunks, each one made of its type, its length
+ * and a protobuf message of the type already used by the single message format:
+ *
+ * <pre>
+ * MAGIC HEADER SESSION MATCHES* (ENTRY_POINT FACT_HANDLES* TRUTH_MAINTENANCE_SYSTEM*)* ACTION_QUEUE? PROCESS_DATA? TIMERS* END
+ * </pre>
+ *
+ * The facts, matches, equality keys and timers are written in batches of at most BATCH_SIZE elements,
+ * so that neither the writer nor the reader ever hold more than one batch in memory. The data of the
+ * strategy contexts is written in a STRATEGIES chunk right before each chunk which filled them, through
+ * a single object stream per strategy, so that the references shared by objects of different chunks
+ * are preserved as in the single message format.
+ *
+ * The chunks are read by a background thread, so that the working memory is rebuilt while the
+ * following chunks are still being read. Signed sessions are not supported by this format.
+ */
+public class SessionChunks {
+
+    // a Header message, as the one of the single message format, never starts with a 0 byte
+    static final byte[] MAGIC = { 0, 'D', 'S', 'C' };
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final int PREFETCHED_CHUNKS = 4;
+
+    public enum ChunkType {
+        HEADER,
+        STRATEGIES,
+        SESSION,
+        MATCHES,
+        ENTRY_POINT,
+        FACT_HANDLES,
+        TRUTH_MAINTENANCE_SYSTEM,
+        ACTION_QUEUE,
+        PROCESS_DATA,
+        TIMERS,
+        END
+    }
+
+    static boolean isChunked(byte[] start) {
+        return Arrays.equals( MAGIC, start );
+    }
+
+    public static class ChunkWriter {
+
+        private final MarshallerWriteContext context;
+
+        private final Map<ObjectMarshallingStrategy, StrategyOutput> strategyOutputs = new HashMap<>();
+
+        public ChunkWriter(MarshallerWriteContext context) {
+            this.context = context;
+        }
+
+        public void writeHeader() throws IOException {
+            context.stream.write( MAGIC );
+            ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
+            _header.setVersion( PersisterHelper.buildVersion() );
+            PersisterHelper.writeRuntimeDefinedClasses( context, _header );
+            writeChunk( ChunkType.HEADER, _header.build() );
+        }
+
+        public void write(ChunkType type, Message payload) throws IOException {
+            writeStrategies();
+            writeChunk( type, payload );
+        }
+
+        public void writeEnd() throws IOException {
+            writeChunk( ChunkType.END, ProtobufMessages.Header.getDefaultInstance() );
+            context.stream.flush();
+        }
+
+        /**
+         * Writes the data collected by the strategy contexts while building the next chunk
+         * and replaces them with new ones
+         */
+        private void writeStrategies() throws IOException {
+            if ( context.usedStrategies.isEmpty() ) {
+                return;
+            }
+            ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
+            for ( Map.Entry<ObjectMarshallingStrategy, Integer> entry : context.usedStrategies.entrySet() ) {
+                ObjectMarshallingStrategy strategy = entry.getKey();
+                ProtobufMessages.Header.StrategyIndex.Builder _strategy = ProtobufMessages.Header.StrategyIndex.newBuilder()
+                        .setId( entry.getValue() )
+                        .setName( strategy.getName() );
+
+                Context ctx = context.strategyContext.get( strategy );
+                if ( ctx != null ) {
+                    StrategyOutput output = strategyOutputs.get( strategy );
+                    if ( output == null ) {
+                        output = new StrategyOutput();
+                        strategyOutputs.put( strategy, output );
+                    }
+                    _strategy.setData( output.write( ctx ) );
+                    context.strategyContext.put( strategy, strategy.createContext() );
+                }
+                _header.addStrategy( _strategy.build() );
+            }
+            writeChunk( ChunkType.STRATEGIES, _header.build() );
+        }
+
+        private void writeChunk(ChunkType type, Message payload) throws IOException {
+            byte[] bytes = payload.toByteArray();
+            context.stream.writeByte( type.ordinal() );
+            context.stream.writeInt( bytes.length );
+            context.stream.write( bytes );
+        }
+    }
+
+    private static class StrategyOutput {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private ObjectOutputStream out;
+
+        private ByteString write(Context ctx) throws IOException {
+            if ( out == null ) {
+                out = new DroolsObjectOutputStream( buffer );
+            }
+            ctx.write( out );
+            out.flush();
+            ByteString data = ByteString.copyFrom( buffer.toByteArray() );
+            buffer.reset();
+            return data;
+        }
+    }
+
+    public static class Chunk {
+        private final ChunkType type;
+        private final byte[] payload;
+        private final Exception failure;
+
+        private Chunk(ChunkType type, byte[] payload, Exception failure) {
+            this.type = type;
+            this.payload = payload;
+            this.failure = failure;
+        }
+
+        public ChunkType getType() {
+            return type;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+
+    public static class ChunkReader implements AutoCloseable {
+
+        private final MarshallerReaderContext context;
+        private final ExtensionRegistry registry;
+
+        private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>( PREFETCHED_CHUNKS );
+        private final Thread prefetcher;
+
+        private final Map<ObjectMarshallingStrategy, StrategyInput> strategyInputs = new HashMap<>();
+
+        private Chunk next;
+
+        public ChunkReader(MarshallerReaderContext context, ExtensionRegistry registry) throws IOException, ClassNotFoundException {
+            if ( new KeyStoreHelper().isSigned() ) {
+                throw new RuntimeException( "This environment is configured to work with signed serialized objects, " +
+                                            "but the given session has been written in the unsigned streaming format. Deserialization aborted." );
+            }
+            this.context = context;
+            this.registry = registry;
+
+            // the header is read before starting the prefetcher, as the classes it defines can be needed by the following chunks
+            Chunk header = readChunk();
+            if ( header.type != ChunkType.HEADER ) {
+                throw new IllegalStateException( "Unexpected " + header.type + " chunk at the beginning of the session" );
+            }
+            readHeader( ProtobufMessages.Header.parseFrom( header.payload, registry ) );
+
+            this.prefetcher = new Thread( this::prefetch, "drools-session-reader" );
+            this.prefetcher.setDaemon( true );
+            this.prefetcher.start();
+        }
+
+        /**
+         * Returns the type of the next chunk without consuming it
+         */
+        public ChunkType peek() throws IOException, ClassNotFoundException {
+            if ( next == null ) {
+                next = take();
+            }
+            return next.type;
+        }
+
+        public Chunk next() throws IOException, ClassNotFoundException {
+            peek();
+            Chunk chunk = next;
+            if ( chunk.type != ChunkType.END ) {
+                next = null;
+            }
+            return chunk;
+        }
+
+        public ExtensionRegistry getRegistry() {
+            return registry;
+        }
+
+        @Override
+        public void close() {
+            prefetcher.interrupt();
+        }
+
+        private Chunk take() throws IOException, ClassNotFoundException {
+            while ( true ) {
+                Chunk chunk;
+                try {
+                    chunk = chunks.take();
+                } catch ( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException( "Interrupted while reading the session", e );
+                }
+                if ( chunk.failure instanceof IOException ) {
+                    throw (IOException) chunk.failure;
+                } else if ( chunk.failure != null ) {
+                    throw new IOException( "Unable to read the session", chunk.failure );
+                }
+                if ( chunk.type != ChunkType.STRATEGIES ) {
+                    return chunk;
+                }
+                readStrategies( ProtobufMessages.Header.parseFrom( chunk.payload, registry ) );
+            }
+        }
+
+        private void prefetch() {
+            try {
+                Chunk chunk;
+                do {
+                    chunk = readChunk();
+                    chunks.put( chunk );
+                } while ( chunk.type != ChunkType.END );
+            } catch ( InterruptedException e ) {
+                // the reader has been closed
+            } catch ( Exception e ) {
+                try {
+                    chunks.put( new Chunk( null, null, e ) );
+                } catch ( InterruptedException ie ) {
+                    // the reader has been closed
+                }
+            }
+        }
+
+        private Chunk readChunk() throws IOException {
+            int type = context.stream.readUnsignedByte();
+            if ( type >= ChunkType.values().length ) {
+                throw new IllegalStateException( "Unknown chunk type " + type + " while deserializing session." );
+            }
+            byte[] payload = new byte[context.stream.readInt()];
+            context.stream.readFully( payload );
+            return new Chunk( ChunkType.values()[type], payload, null );
+        }
+
+        private void readHeader(ProtobufMessages.Header _header) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = getClassLoader();
+            if ( classLoader instanceof ProjectClassLoader ) {
+                PersisterHelper.readRuntimeDefinedClasses( _header, (ProjectClassLoader) classLoader );
+            }
+        }
+
+        private void readStrategies(ProtobufMessages.Header _header) throws IOException, ClassNotFoundException {
+            for ( ProtobufMessages.Header.StrategyIndex _entry : _header.getStrategyList() ) {
+                ObjectMarshallingStrategy strategy = context.usedStrategies.get( _entry.getId() );
+                if ( strategy == null ) {
+                    strategy = context.resolverStrategyFactory.getStrategyObject( _entry.getName() );
+                    if ( strategy == null ) {
+                        throw new IllegalStateException( "No strategy of type " + _entry.getName() + " available." );
+                    }
+                    context.usedStrategies.put( _entry.getId(), strategy );
+                }
+                Context ctx = strategy.createContext();
+                context.strategyContexts.put( strategy, ctx );
+                if ( _entry.hasData() && ctx != null ) {
+                    StrategyInput input = strategyInputs.get( strategy );
+                    if ( input == null ) {
+                        input = new StrategyInput();
+                        strategyInputs.put( strategy, input );
+                    }
+                    input.read( ctx, _entry.getData().toByteArray(), getClassLoader() );
+                }
+            }
+        }
+
+        private ClassLoader getClassLoader() {
+            if ( context.classLoader != null ) {
+                return context.classLoader;
+            }
+            return context.kBase != null ? context.kBase.getRootClassLoader() : null;
+        }
+    }
+
+    private static class StrategyInput extends InputStream {
+        private InputStream data;
+        private ObjectInputStream in;
+
+        private void read(Context ctx, byte[] bytes, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+            data = new ByteArrayInputStream( bytes );
+            if ( in == null ) {
+                in = new DroolsObjectInputStream( this, classLoader );
+            }
+            ctx.read( in );
+        }
+
+        @Override
+        public int read() throws IOException {
+            return data.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return data.read( b, off, len );
+        }
+    }
+}
@@ -199,11 +199,13 @@ public class PhreakJoinNode {
 
             // first check our index (for indexed nodes only) hasn't changed and we are returning the same bucket
             // if rightTuple is null, we assume there was a bucket change and that bucket is empty
+            // a comparison index spans many buckets, so its matches cannot be checked by bucket and are always recalculated
             if (rtm.isIndexed() && !it.isFullIterator()) {
+                boolean useComparisonIndex = rtm.getIndexType().isComparison();
                 // our index has changed, so delete all the previous propagations
                 for (LeftTuple childLeftTuple = leftTuple.getFirstChild(); childLeftTuple != null; ) {
                     LeftTuple nextChild = childLeftTuple.getHandleNext();
-                    if (rightTuple == null || rightTuple.getMemory() != childLeftTuple.getRightParent().getMemory()) {
+                    if (useComparisonIndex || rightTuple == null || rightTuple.getMemory() != childLeftTuple.getRightParent().getMemory()) {
                         RuleNetworkEvaluator.unlinkAndDeleteChildLeftTuple( childLeftTuple, trgLeftTuples, stagedLeftTuples );
                     }
                     childLeftTuple = nextChild;
@@ -302,9 +304,10 @@ public class PhreakJoinNode {
                                                   rightTuple.getFactHandleForEvaluation() );
 
                 // first check our index (for indexed nodes only) hasn't changed and we are returning the same bucket
-                // We assume a bucket change if leftTuple == null
+                // We assume a bucket change if leftTuple == null or if the memory uses a comparison index
                 LeftTuple childLeftTuple = rightTuple.getFirstChild();
-                if ( childLeftTuple != null && ltm.isIndexed() && !it.isFullIterator() && ( leftTuple == null || ( leftTuple.getMemory() != childLeftTuple.getLeftParent().getMemory() ) ) ) {
+                if ( childLeftTuple != null && ltm.isIndexed() && !it.isFullIterator() &&
+                     ( leftTuple == null || ltm.getIndexType().isComparison() || ( leftTuple.getMemory() != childLeftTuple.getLeftParent().getMemory() ) ) ) {
                     // our index has changed, so delete all the previous propagations
                     while ( childLeftTuple != null ) {
                         childLeftTuple.setPropagationContext( rightTuple.getPropagationContext() );
@@ -17,6 +17,8 @@ package org.drools.core.phreak;
 
 import static org.drools.core.rule.TypeDeclaration.NEVER_EXPIRES;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import org.drools.core.WorkingMemoryEntryPoint;
@@ -209,6 +211,47 @@ public interface PropagationEntry {
         }
     }
 
+    /**
+     * The insertion of a batch of facts of the same type. The facts are propagated one object type node
+     * at a time, so that each alpha network is traversed by the whole batch before moving to the next one.
+     */
+    class InsertAll extends AbstractPropagationEntry {
+
+        private final ObjectTypeConf objectTypeConf;
+        private final List<InternalFactHandle> handles = new ArrayList<>();
+        private final List<PropagationContext> contexts = new ArrayList<>();
+
+        public InsertAll( ObjectTypeConf objectTypeConf ) {
+            this.objectTypeConf = objectTypeConf;
+        }
+
+        public void add( InternalFactHandle handle, PropagationContext context, InternalWorkingMemory workingMemory ) {
+            handles.add( handle );
+            contexts.add( context );
+
+            if ( objectTypeConf.isEvent() ) {
+                Insert.scheduleExpiration(workingMemory, handle, context, objectTypeConf, workingMemory.getTimerService().getCurrentTime());
+            }
+        }
+
+        public int size() {
+            return handles.size();
+        }
+
+        public void execute( InternalWorkingMemory wm ) {
+            for ( ObjectTypeNode otn : objectTypeConf.getObjectTypeNodes() ) {
+                for ( int i = 0; i < handles.size(); i++ ) {
+                    otn.propagateAssert( handles.get( i ), contexts.get( i ), wm );
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of " + handles.size() + " facts of " + objectTypeConf.getTypeName();
+        }
+    }
+
     class Update extends AbstractPropagationEntry {
         private final InternalFactHandle handle;
         private final PropagationContext context;
@@ -39,6 +39,7 @@ import org.drools.core.spi.ReadAccessor;
 import org.drools.core.util.Iterator;
 import org.drools.core.util.LinkedList;
 import org.drools.core.util.LinkedListNode;
+import org.drools.core.util.LongObjectHashMap;
 import org.drools.core.util.ObjectHashMap;
 import org.drools.core.util.ObjectHashMap.ObjectEntry;
 
@@ -132,6 +133,9 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                                                          fieldIndex.getFieldExtractor() ),
                                             alphaNode,
                                             false );
+                    if ( fieldIndex.primitiveSinks != null ) {
+                        fieldIndex.primitiveSinks.put( value.getLongValue(), alphaNode );
+                    }
                 } else {
                     if ( this.hashableSinks == null ) {
                         this.hashableSinks = new ObjectSinkNodeList();
@@ -191,6 +195,9 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                                                        value,
                                                        fieldAccessor );
                         this.hashedSinkMap.remove( hashKey );
+                        if ( fieldIndex.primitiveSinks != null ) {
+                            fieldIndex.primitiveSinks.remove( value.getLongValue() );
+                        }
                         if ( fieldIndex.getCount() <= this.alphaNodeHashingThreshold - 1 ) {
                             // we have less than three so unhash
                             unHashSinks( fieldIndex );
@@ -225,6 +232,8 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         final int index = fieldIndex.getIndex();
         final InternalReadAccessor fieldReader = fieldIndex.getFieldExtractor();
 
+        fieldIndex.setHashed( true );
+
         ObjectSinkNode currentSink = this.hashableSinks.getFirst();
 
         while ( currentSink != null ) {
@@ -244,6 +253,9 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                                                      value,
                                                      fieldReader ),
                                         alphaNode );
+                if ( fieldIndex.primitiveSinks != null ) {
+                    fieldIndex.primitiveSinks.put( value.getLongValue(), alphaNode );
+                }
 
                 // remove the alpha from the possible candidates of hashable sinks since it is now hashed
                 hashableSinks.remove( alphaNode );
@@ -253,8 +265,6 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         if ( this.hashableSinks.isEmpty() ) {
             this.hashableSinks = null;
         }
-
-        fieldIndex.setHashed( true );
     }
 
     void unHashSinks(final FieldIndex fieldIndex) {
@@ -372,7 +382,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = (AlphaNode) this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = getHashedSink( fieldIndex, object );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateAssertObject( factHandle, context, workingMemory );
@@ -417,7 +427,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = (AlphaNode) this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = getHashedSink( fieldIndex, object );
                 if ( sink != null ) {
                     // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
                     sink.getObjectSinkPropagator().propagateModifyObject( factHandle, modifyPreviousTuples, context, workingMemory );
@@ -462,7 +472,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
                     continue;
                 }
                 // this field is hashed so set the existing hashKey and see if there is a sink for it
-                final AlphaNode sink = (AlphaNode) this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+                final AlphaNode sink = getHashedSink( fieldIndex, object );
                 if ( sink != null ) {
                     // only alpha nodes are hashable
                     sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, workingMemory );
@@ -487,6 +497,15 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         }        
     }
 
+    private AlphaNode getHashedSink(final FieldIndex fieldIndex, final Object object) {
+        final LongObjectHashMap<AlphaNode> primitiveSinks = fieldIndex.primitiveSinks;
+        if ( primitiveSinks != null ) {
+            // a primitive field can't be null, so its value can be looked up without creating a HashKey
+            return primitiveSinks.get( fieldIndex.getFieldExtractor().getLongValue( null, object ) );
+        }
+        return (AlphaNode) this.hashedSinkMap.get( new HashKey( fieldIndex, object ) );
+    }
+
     /**
      * This is a Hook method for subclasses to override. Please keep it protected unless you know
      * what you are doing.
@@ -897,6 +916,10 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         private boolean              hashed;
 
+        // the hashed sinks of a primitive integer field keyed by the constraint's value: it is not serialized,
+        // so a deserialized FieldIndex falls back to the HashKey lookup until it gets hashed again
+        LongObjectHashMap<AlphaNode> primitiveSinks;
+
         private FieldIndex           previous;
         private FieldIndex           next;
 
@@ -946,6 +969,13 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
         public void setHashed(final boolean hashed) {
             this.hashed = hashed;
+            this.primitiveSinks = hashed && isPrimitiveIntegerNumber( this.fieldExtactor.getValueType() ) ?
+                                  new LongObjectHashMap<AlphaNode>() :
+                                  null;
+        }
+
+        private static boolean isPrimitiveIntegerNumber(final ValueType valueType) {
+            return valueType.isIntegerNumber() && valueType.getClassType() != null && valueType.getClassType().isPrimitive();
         }
 
         public void increaseCounter() {
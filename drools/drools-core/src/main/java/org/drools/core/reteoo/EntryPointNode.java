@@ -239,6 +239,19 @@ public class EntryPointNode extends ObjectSource
         }
     }
 
+    public void assertObjects(final PropagationEntry.InsertAll insertAll,
+                              final InternalWorkingMemory workingMemory) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert {}", insertAll.toString());
+        }
+
+        if ( partitionsEnabled ) {
+            insertAll.execute( workingMemory );
+        } else {
+            workingMemory.addPropagation( insertAll );
+        }
+    }
+
 
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
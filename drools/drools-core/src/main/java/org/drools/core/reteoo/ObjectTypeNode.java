@@ -30,7 +30,6 @@ import org.drools.core.InitialFact;
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassObjectType;
 import org.drools.core.base.ValueType;
-import org.drools.core.common.ClassAwareObjectStore;
 import org.drools.core.common.DefaultFactHandle;
 import org.drools.core.common.DroolsObjectInputStream;
 import org.drools.core.common.EventFactHandle;
@@ -38,6 +37,7 @@ import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.Memory;
 import org.drools.core.common.MemoryFactory;
+import org.drools.core.common.ObjectStore;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.common.UpdateContext;
 import org.drools.core.impl.StatefulKnowledgeSessionImpl.WorkingMemoryReteExpireAction;
@@ -734,7 +734,7 @@ public class ObjectTypeNode extends ObjectSource
 
 
     public static class ObjectTypeNodeMemory implements Memory {
-        private ClassAwareObjectStore.SingleClassStore store;
+        private ObjectStore store;
         private Class<?> classType;
 
         ObjectTypeNodeMemory(Class<?> classType) {
@@ -743,7 +743,7 @@ public class ObjectTypeNode extends ObjectSource
 
         ObjectTypeNodeMemory(Class<?> classType, InternalWorkingMemory wm) {
             this(classType);
-            store = ((ClassAwareObjectStore) wm.getObjectStore()).getOrCreateClassStore(classType);
+            store = wm.getObjectStore();
         }
 
         public short getNodeType() {
@@ -751,7 +751,7 @@ public class ObjectTypeNode extends ObjectSource
         }
 
         public Iterator<InternalFactHandle> iterator() {
-            return store.factHandlesIterator(true);
+            return store.iterateFactHandles(classType);
         }
 
         public SegmentMemory getSegmentMemory() {
@@ -27,6 +27,14 @@ public interface IndexableConstraint extends Constraint {
 
     boolean isIndexable(short nodeType);
 
+    /**
+     * Like {@link #isIndexable(short)}, but also accepting the comparisons that a node of the given type
+     * can only index with a range index, when the range index is enabled.
+     */
+    default boolean isIndexable(short nodeType, boolean rangeIndex) {
+        return isIndexable(nodeType);
+    }
+
     IndexUtil.ConstraintType getConstraintType();
 
     FieldValue getField();
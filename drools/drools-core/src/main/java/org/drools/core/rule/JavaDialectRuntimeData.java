@@ -39,7 +39,6 @@ import java.security.SignatureException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -73,7 +72,8 @@ public class JavaDialectRuntimeData
 
     private final Map<String, byte[]>      classLookups = new ConcurrentHashMap<>();
 
-    private Map<String, byte[]>            store = new HashMap<String, byte[]>();
+    // read by the compilation of the other packages while the package builder may compile them in parallel
+    private Map<String, byte[]>            store = new ConcurrentHashMap<String, byte[]>();
 
     private transient ClassLoader          classLoader;
 
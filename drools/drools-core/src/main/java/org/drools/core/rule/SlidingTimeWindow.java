@@ -22,8 +22,13 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.PriorityQueue;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
 
 import org.drools.core.common.EventFactHandle;
 import org.drools.core.common.InternalFactHandle;
@@ -112,7 +117,7 @@ public class SlidingTimeWindow
     }
 
     public Behavior.Context createContext() {
-        return new SlidingTimeWindowContext();
+        return new SlidingTimeWindowContext( size );
     }
 
     public boolean assertFact(final Object context,
@@ -224,17 +229,31 @@ public class SlidingTimeWindow
         return "SlidingTimeWindow( size=" + size + " )";
     }
 
+    /**
+     * Keeps the events of the window sorted by timestamp in time buckets, each one covering
+     * an equal slice of the window. Since events mostly arrive in chronological order they are
+     * appended to the last bucket and expired from the head of the first one, while retracting
+     * an event only needs a binary search in its bucket instead of a scan of the whole window.
+     */
     public static class SlidingTimeWindowContext
             implements
             Behavior.Context,
             Externalizable {
 
-        private PriorityQueue<EventFactHandle> queue;
+        static final int BUCKETS_PER_WINDOW = 1024;
+
+        private long                           bucketWidth;
+        private TreeMap<Long, Bucket>          buckets = new TreeMap<Long, Bucket>();
+        private int                            size;
         private EventFactHandle                expiringHandle;
         private JobHandle                      jobHandle;
 
         public SlidingTimeWindowContext() {
-            this.queue = new PriorityQueue<EventFactHandle>( 16 ); // arbitrary size... can we improve it?
+            this( 0 );
+        }
+
+        public SlidingTimeWindowContext(long windowSize) {
+            this.bucketWidth = Math.max( 1, windowSize / BUCKETS_PER_WINDOW );
         }
 
         public JobHandle getJobHandle() {
@@ -245,15 +264,24 @@ public class SlidingTimeWindow
             this.jobHandle = jobHandle;
         }
 
-        @SuppressWarnings("unchecked")
         public void readExternal(ObjectInput in) throws IOException,
                                                         ClassNotFoundException {
-            this.queue = (PriorityQueue<EventFactHandle>) in.readObject();
+            this.bucketWidth = in.readLong();
+            this.buckets = new TreeMap<Long, Bucket>();
+            this.size = 0;
+            int handles = in.readInt();
+            for ( int i = 0; i < handles; i++ ) {
+                add( (EventFactHandle) in.readObject() );
+            }
             this.expiringHandle = (EventFactHandle) in.readObject();
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
-            out.writeObject( this.queue );
+            out.writeLong( this.bucketWidth );
+            out.writeInt( this.size );
+            for ( EventFactHandle handle : getFactHandles() ) {
+                out.writeObject( handle );
+            }
             out.writeObject( this.expiringHandle );
         }
 
@@ -270,31 +298,149 @@ public class SlidingTimeWindow
         }
 
         public void add(EventFactHandle handle) {
-            queue.add( handle );
+            Long key = bucketOf( handle );
+            Bucket bucket = buckets.get( key );
+            if ( bucket == null ) {
+                bucket = new Bucket();
+                buckets.put( key, bucket );
+            }
+            bucket.add( handle );
+            size++;
         }
 
         public void remove(EventFactHandle handle) {
-            queue.remove( handle );
+            Long key = bucketOf( handle );
+            Bucket bucket = buckets.get( key );
+            if ( bucket != null && bucket.remove( handle ) ) {
+                size--;
+                if ( bucket.isEmpty() ) {
+                    buckets.remove( key );
+                }
+            }
         }
 
         public boolean isEmpty() {
-            return queue.isEmpty();
+            return size == 0;
+        }
+
+        public int size() {
+            return size;
         }
 
         public EventFactHandle peek() {
-            return queue.peek( );
+            Map.Entry<Long, Bucket> first = buckets.firstEntry();
+            return first != null ? first.getValue().peek() : null;
         }
 
         public EventFactHandle poll() {
-            return queue.poll( );
+            Map.Entry<Long, Bucket> first = buckets.firstEntry();
+            if ( first == null ) {
+                return null;
+            }
+            EventFactHandle handle = first.getValue().poll();
+            size--;
+            if ( first.getValue().isEmpty() ) {
+                buckets.remove( first.getKey() );
+            }
+            return handle;
         }
 
         public EventFactHandle remove() {
-            return queue.remove( );
+            if ( isEmpty() ) {
+                throw new NoSuchElementException();
+            }
+            return poll();
         }
 
         public Collection<EventFactHandle> getFactHandles() {
-            return queue;
+            List<EventFactHandle> handles = new ArrayList<EventFactHandle>( size );
+            for ( Bucket bucket : buckets.values() ) {
+                bucket.addTo( handles );
+            }
+            return handles;
+        }
+
+        private Long bucketOf(EventFactHandle handle) {
+            return Math.floorDiv( handle.getStartTimestamp(), bucketWidth );
+        }
+    }
+
+    /**
+     * The events falling in a slice of the window, sorted by timestamp and then in insertion order.
+     */
+    private static class Bucket {
+        private EventFactHandle[] handles = new EventFactHandle[8];
+        private int               head;
+        private int               tail;
+
+        void add(EventFactHandle handle) {
+            if ( tail == handles.length ) {
+                ensureCapacity();
+            }
+            long timestamp = handle.getStartTimestamp();
+            int pos = tail;
+            // events out of chronological order are the exception, so look for the position from the end
+            while ( pos > head && handles[pos - 1].getStartTimestamp() > timestamp ) {
+                pos--;
+            }
+            System.arraycopy( handles, pos, handles, pos + 1, tail - pos );
+            handles[pos] = handle;
+            tail++;
+        }
+
+        boolean remove(EventFactHandle handle) {
+            long timestamp = handle.getStartTimestamp();
+            int low = head;
+            int high = tail;
+            while ( low < high ) {
+                int mid = ( low + high ) >>> 1;
+                if ( handles[mid].getStartTimestamp() < timestamp ) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for ( int i = low; i < tail && handles[i].getStartTimestamp() == timestamp; i++ ) {
+                if ( handles[i].equals( handle ) ) {
+                    System.arraycopy( handles, i + 1, handles, i, tail - i - 1 );
+                    handles[--tail] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        EventFactHandle peek() {
+            return head < tail ? handles[head] : null;
+        }
+
+        EventFactHandle poll() {
+            EventFactHandle handle = handles[head];
+            handles[head++] = null;
+            return handle;
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void addTo(List<EventFactHandle> list) {
+            for ( int i = head; i < tail; i++ ) {
+                list.add( handles[i] );
+            }
+        }
+
+        private void ensureCapacity() {
+            int length = tail - head;
+            // reuse the room left by the expired events before growing the array
+            EventFactHandle[] target = length * 2 > handles.length ? new EventFactHandle[handles.length * 2] : handles;
+            System.arraycopy( handles, head, target, 0, length );
+            if ( target == handles ) {
+                Arrays.fill( handles, length, tail, null );
+            }
+            handles = target;
+            head = 0;
+            tail = length;
         }
     }
 
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.ClassFieldReader;
 import org.drools.core.base.DroolsQuery;
 import org.drools.core.base.EvaluatorWrapper;
@@ -107,6 +108,8 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
     private EvaluationContext evaluationContext = new EvaluationContext();
 
     protected transient volatile ConditionEvaluator conditionEvaluator;
+    // the mvel evaluator compiled while building the network when eager jitting is enabled
+    private transient volatile ConditionEvaluator compiledEvaluator;
     private transient volatile Condition analyzedCondition;
 
     private static final Declaration[] EMPTY_DECLARATIONS = new Declaration[0];
@@ -206,6 +209,11 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         return getConstraintType().isIndexableForNode(nodeType);
     }
 
+    @Override
+    public boolean isIndexable(short nodeType, boolean rangeIndex) {
+        return getConstraintType().isIndexableForNode(nodeType, rangeIndex);
+    }
+
     public IndexUtil.ConstraintType getConstraintType() {
         return constraintType;
     }
@@ -249,9 +257,26 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         return evaluate(mvelContextEntry.rightHandle, mvelContextEntry.workingMemory, tuple);
     }
 
+    /**
+     * Returns true if the mvel evaluator of this constraint is available, either because it has been
+     * compiled while building the network or because the constraint has already been evaluated.
+     */
+    public boolean isEvaluatorCompiled() {
+        return compiledEvaluator != null || conditionEvaluator != null;
+    }
+
+    /**
+     * Returns true if this constraint is evaluated through bytecode generated from its expression.
+     */
+    public boolean isEvaluatorJitted() {
+        ConditionEvaluator evaluator = conditionEvaluator;
+        return evaluator != null && !(evaluator instanceof MvelConditionEvaluator);
+    }
+
     protected boolean evaluate(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
         if (!jitted) {
-            int jittingThreshold = TEST_JITTING ? 0 : workingMemory.getKnowledgeBase().getConfiguration().getJittingThreshold();
+            RuleBaseConfiguration conf = workingMemory.getKnowledgeBase().getConfiguration();
+            int jittingThreshold = TEST_JITTING ? 0 : conf.getJittingThreshold();
             if (conditionEvaluator == null) {
                 if (jittingThreshold == 0 && !isDynamic) { // Only for test purposes or when jitting is enforced at first evaluation
                     synchronized (this) {
@@ -260,11 +285,14 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
                         }
                     }
                 } else {
-                    conditionEvaluator = createMvelConditionEvaluator( workingMemory );
+                    conditionEvaluator = getMvelConditionEvaluator( workingMemory );
                 }
             }
 
-            if (jittingThreshold != 0 && !isDynamic && invocationCounter.getAndIncrement() == jittingThreshold) {
+            // with eager jitting the evaluator compiled while building the network is used in interpreted
+            // mode from the first evaluation, which also starts the jitting in background
+            int jittingInvocation = conf.isEagerJitting() && jittingThreshold > 0 ? 1 : jittingThreshold;
+            if (jittingThreshold != 0 && !isDynamic && invocationCounter.getAndIncrement() == jittingInvocation) {
                 jitEvaluator(handle, workingMemory, tuple);
             }
         }
@@ -275,21 +303,42 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
         }
     }
 
+    private ConditionEvaluator getMvelConditionEvaluator(InternalWorkingMemory workingMemory) {
+        ConditionEvaluator evaluator = compiledEvaluator;
+        if (evaluator != null) {
+            compiledEvaluator = null;
+            return evaluator;
+        }
+        return createMvelConditionEvaluator( workingMemory );
+    }
+
     protected ConditionEvaluator createMvelConditionEvaluator(InternalWorkingMemory workingMemory) {
         if (compilationUnit != null) {
-            MVELDialectRuntimeData data = getMVELDialectRuntimeData(workingMemory);
-            ExecutableStatement statement = (ExecutableStatement)compilationUnit.getCompiledExpression(data, evaluationContext);
-            ParserConfiguration configuration = statement instanceof CompiledExpression ?
-                    ((CompiledExpression)statement).getParserConfiguration() :
-                    data.getParserConfiguration();
-            return new MvelConditionEvaluator(compilationUnit, configuration, statement, declarations, operators, getAccessedClass());
+            return createMvelConditionEvaluator(getMVELDialectRuntimeData(workingMemory));
         } else {
             return new MvelConditionEvaluator(getParserConfiguration(workingMemory), expression, declarations, operators, getAccessedClass());
         }
     }
 
+    protected ConditionEvaluator createMvelConditionEvaluator(InternalKnowledgeBase kbase) {
+        MVELDialectRuntimeData data = getMVELDialectRuntimeData(kbase);
+        if (compilationUnit != null) {
+            return createMvelConditionEvaluator(data);
+        } else {
+            return new MvelConditionEvaluator(data.getParserConfiguration(), expression, declarations, operators, getAccessedClass());
+        }
+    }
+
+    private ConditionEvaluator createMvelConditionEvaluator(MVELDialectRuntimeData data) {
+        ExecutableStatement statement = (ExecutableStatement)compilationUnit.getCompiledExpression(data, evaluationContext);
+        ParserConfiguration configuration = statement instanceof CompiledExpression ?
+                ((CompiledExpression)statement).getParserConfiguration() :
+                data.getParserConfiguration();
+        return new MvelConditionEvaluator(compilationUnit, configuration, statement, declarations, operators, getAccessedClass());
+    }
+
     protected ConditionEvaluator forceJitEvaluator(InternalFactHandle handle, InternalWorkingMemory workingMemory, Tuple tuple) {
-        ConditionEvaluator mvelEvaluator = createMvelConditionEvaluator(workingMemory);
+        ConditionEvaluator mvelEvaluator = getMvelConditionEvaluator(workingMemory);
         try {
             mvelEvaluator.evaluate(handle, workingMemory, tuple);
         } catch (ClassCastException cce) { }
@@ -888,6 +937,21 @@ public class MvelConstraint extends MutableTypeConstraint implements IndexableCo
 
     public void registerEvaluationContext(BuildContext buildContext) {
         evaluationContext.addContext(buildContext);
+        InternalKnowledgeBase kbase = buildContext.getKnowledgeBase();
+        if (kbase != null && kbase.getConfiguration().isEagerJitting() && !isDynamic && conditionEvaluator == null) {
+            compileEvaluator(kbase);
+        }
+    }
+
+    private void compileEvaluator(InternalKnowledgeBase kbase) {
+        try {
+            if (getMVELDialectRuntimeData(kbase) != null) {
+                compiledEvaluator = createMvelConditionEvaluator(kbase);
+            }
+        } catch (Exception e) {
+            // the constraint will be compiled at its first evaluation reporting the failure there
+            logger.debug( "Unable to compile constraint '" + expression + "' in " + evaluationContext, e );
+        }
     }
 
     public static class EvaluationContext implements Externalizable {
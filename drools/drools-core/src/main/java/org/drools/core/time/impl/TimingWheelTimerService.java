@@ -0,0 +1,461 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.Trigger;
+import org.kie.api.time.SessionClock;
+
+/**
+ * A Scheduler implementation keeping the pending jobs in a hierarchical timing wheel
+ * and using the system clock as the clock.
+ *
+ * Differently from the JDKTimerService, whose delay queue costs O(log n) for each
+ * scheduled or cancelled job, here both operations only link or unlink the job handle
+ * from the list of a slot of the wheel. This makes it a better fit for sessions keeping
+ * a very large number of pending timers, at the price of firing the jobs with the
+ * granularity of a tick instead of a millisecond.
+ *
+ * The first level of the wheel has 256 slots of one tick each, and each of the 4 upper
+ * levels has 64 slots covering a whole rotation of the level below. The jobs are moved
+ * down one level when the level below completes its rotation, while the ones expiring
+ * more than 2^32 ticks ahead wait in an overflow list. The expired jobs are run by a
+ * single daemon thread, started when the first job is scheduled.
+ *
+ * It can be used by setting the drools.timerService property of the session
+ * configuration to the name of this class.
+ */
+public class TimingWheelTimerService
+        implements
+        TimerService,
+        SessionClock,
+        InternalSchedulerService {
+
+    private static final int[] LEVEL_BITS = { 8, 6, 6, 6, 6 };
+    private static final int LEVELS = LEVEL_BITS.length;
+    private static final int[] LEVEL_SHIFT = new int[LEVELS];
+    private static final int[] LEVEL_MASK = new int[LEVELS];
+
+    static {
+        int shift = 0;
+        for (int i = 0; i < LEVELS; i++) {
+            LEVEL_SHIFT[i] = shift;
+            LEVEL_MASK[i] = (1 << LEVEL_BITS[i]) - 1;
+            shift += LEVEL_BITS[i];
+        }
+    }
+
+    private static final long WHEEL_SPAN = 1L << ( LEVEL_SHIFT[LEVELS - 1] + LEVEL_BITS[LEVELS - 1] );
+
+    private final long tickMillis;
+
+    private final AtomicLong idCounter = new AtomicLong(0L);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+
+    private final WheelJobHandle[][] wheel = new WheelJobHandle[LEVELS][];
+    private final WheelJobHandle overflow = new WheelJobHandle(-1L);
+    private final WheelJobHandle ready = new WheelJobHandle(-1L);
+
+    // the last tick whose jobs have been collected
+    private long currentTick;
+    // the number of jobs in the wheel and in the overflow list, and the ones in the first level only
+    private int size;
+    private int firstLevelSize;
+    // the tick the worker is waiting for, if it is waiting
+    private long wakeUpTick = Long.MIN_VALUE;
+
+    private Thread worker;
+    private volatile boolean shutdown;
+
+    protected TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.instance;
+
+    public TimingWheelTimerService() {
+        this(1L);
+    }
+
+    public TimingWheelTimerService(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("The tick of the timing wheel must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        for (int i = 0; i < LEVELS; i++) {
+            wheel[i] = new WheelJobHandle[LEVEL_MASK[i] + 1];
+            for (int j = 0; j < wheel[i].length; j++) {
+                wheel[i][j] = new WheelJobHandle(-1L);
+            }
+        }
+        this.currentTick = toTick(getCurrentTime());
+    }
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public void reset() {
+        lock.lock();
+        try {
+            clearList(overflow);
+            clearList(ready);
+            for (WheelJobHandle[] level : wheel) {
+                for (WheelJobHandle slot : level) {
+                    clearList(slot);
+                }
+            }
+            size = 0;
+            firstLevelSize = 0;
+            idCounter.set(0L);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        // as for the JDKTimerService the pending jobs are discarded,
+        // this is an irreversible operation called on session dispose
+        shutdown = true;
+        lock.lock();
+        try {
+            if (worker != null) {
+                worker.interrupt();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public JobHandle scheduleJob(Job job,
+            JobContext ctx,
+            Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if (date != null) {
+            WheelJobHandle jobHandle = new WheelJobHandle(idCounter.getAndIncrement());
+
+            TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance(job,
+                    ctx,
+                    trigger,
+                    jobHandle,
+                    this);
+            jobHandle.setTimerJobInstance(jobInstance);
+            internalSchedule(jobInstance);
+
+            return jobHandle;
+        } else {
+            return null;
+        }
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        Date date = timerJobInstance.getTrigger().hasNextFireTime();
+        WheelJobHandle jobHandle = (WheelJobHandle) timerJobInstance.getJobHandle();
+
+        lock.lock();
+        try {
+            if (jobHandle.isLinked()) {
+                unlink(jobHandle);
+            }
+            if (size == 0) {
+                // nothing to collect in between, so the wheel can move straight to the current time
+                currentTick = Math.max(currentTick, toTick(getCurrentTime()));
+            }
+            // rounded up, so that a job never fires before its time
+            jobHandle.expirationTick = (date.getTime() + tickMillis - 1) / tickMillis;
+            add(jobHandle);
+            startWorker();
+        } finally {
+            lock.unlock();
+        }
+
+        jobFactoryManager.addTimerJobInstance(timerJobInstance);
+    }
+
+    public boolean removeJob(JobHandle jobHandle) {
+        jobHandle.setCancel(true);
+        WheelJobHandle wheelJobHandle = (WheelJobHandle) jobHandle;
+        jobFactoryManager.removeTimerJobInstance(wheelJobHandle.getTimerJobInstance());
+
+        lock.lock();
+        try {
+            if (!wheelJobHandle.isLinked()) {
+                return false;
+            }
+            unlink(wheelJobHandle);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getTimeToNextJob() {
+        return 0;
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    private long toTick(long time) {
+        return time / tickMillis;
+    }
+
+    private void add(WheelJobHandle jobHandle) {
+        long expirationTick = jobHandle.expirationTick;
+        long delta = expirationTick - currentTick;
+        if (delta <= 0) {
+            jobHandle.level = -1;
+            link(ready, jobHandle);
+        } else if (delta < WHEEL_SPAN) {
+            int level = 0;
+            while (delta >= 1L << ( LEVEL_SHIFT[level] + LEVEL_BITS[level] )) {
+                level++;
+            }
+            jobHandle.level = level;
+            link(wheel[level][(int) ( ( expirationTick >>> LEVEL_SHIFT[level] ) & LEVEL_MASK[level] )], jobHandle);
+            if (level == 0) {
+                firstLevelSize++;
+            }
+            size++;
+        } else {
+            jobHandle.level = LEVELS;
+            link(overflow, jobHandle);
+            size++;
+        }
+
+        if (expirationTick < wakeUpTick) {
+            wakeUpTick = expirationTick;
+            wakeUp.signal();
+        }
+    }
+
+    private void unlink(WheelJobHandle jobHandle) {
+        jobHandle.prev.next = jobHandle.next;
+        jobHandle.next.prev = jobHandle.prev;
+        jobHandle.prev = null;
+        jobHandle.next = null;
+        if (jobHandle.level >= 0) {
+            if (jobHandle.level == 0) {
+                firstLevelSize--;
+            }
+            size--;
+        }
+    }
+
+    private static void link(WheelJobHandle head, WheelJobHandle jobHandle) {
+        jobHandle.prev = head.prev;
+        jobHandle.next = head;
+        head.prev.next = jobHandle;
+        head.prev = jobHandle;
+    }
+
+    private static void clearList(WheelJobHandle head) {
+        WheelJobHandle jobHandle = head.next;
+        while (jobHandle != head) {
+            WheelJobHandle next = jobHandle.next;
+            jobHandle.prev = null;
+            jobHandle.next = null;
+            jobHandle = next;
+        }
+        head.prev = head;
+        head.next = head;
+    }
+
+    /**
+     * Moves the wheel forward up to the given tick, collecting the expired jobs
+     */
+    private void advance(long tick, List<WheelJobHandle> expired) {
+        collect(ready, expired);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+            return;
+        }
+        int firstLevelMask = LEVEL_MASK[0];
+        while (currentTick < tick) {
+            if (firstLevelSize == 0 && ( currentTick & firstLevelMask ) != firstLevelMask) {
+                // nothing to expire until the end of this rotation
+                currentTick = Math.min(tick, currentTick | firstLevelMask);
+                continue;
+            }
+            currentTick++;
+            if (( currentTick & firstLevelMask ) == 0) {
+                cascade();
+            }
+            collect(wheel[0][(int) ( currentTick & firstLevelMask )], expired);
+        }
+    }
+
+    /**
+     * Moves down the jobs of the slots of the upper levels reached by the current tick
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ( ( currentTick >>> LEVEL_SHIFT[level] ) & LEVEL_MASK[level] );
+            relink(wheel[level][index]);
+            if (index != 0) {
+                return;
+            }
+        }
+        relink(overflow);
+    }
+
+    private void relink(WheelJobHandle head) {
+        WheelJobHandle jobHandle = head.next;
+        head.prev = head;
+        head.next = head;
+        while (jobHandle != head) {
+            WheelJobHandle next = jobHandle.next;
+            size--;
+            add(jobHandle);
+            jobHandle = next;
+        }
+    }
+
+    private void collect(WheelJobHandle head, List<WheelJobHandle> expired) {
+        while (head.next != head) {
+            WheelJobHandle jobHandle = head.next;
+            unlink(jobHandle);
+            expired.add(jobHandle);
+        }
+    }
+
+    /**
+     * Returns the milliseconds until the next tick having to be processed, or -1 if there are no pending jobs
+     */
+    private long timeToNextTick() {
+        if (ready.next != ready) {
+            return 0;
+        }
+        if (size == 0) {
+            wakeUpTick = Long.MAX_VALUE;
+            return -1;
+        }
+        long rotationEnd = currentTick | LEVEL_MASK[0];
+        long nextTick = rotationEnd + 1;
+        if (firstLevelSize > 0) {
+            for (long tick = currentTick + 1; tick <= rotationEnd; tick++) {
+                WheelJobHandle head = wheel[0][(int) ( tick & LEVEL_MASK[0] )];
+                if (head.next != head) {
+                    nextTick = tick;
+                    break;
+                }
+            }
+        }
+        wakeUpTick = nextTick;
+        return Math.max(0, nextTick * tickMillis - getCurrentTime());
+    }
+
+    private void startWorker() {
+        if (worker == null && !shutdown) {
+            worker = new Thread(this::runWorker, "drools-timing-wheel");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        List<WheelJobHandle> expired = new ArrayList<WheelJobHandle>();
+        while (!shutdown) {
+            lock.lock();
+            try {
+                advance(toTick(getCurrentTime()), expired);
+                if (expired.isEmpty()) {
+                    long wait = timeToNextTick();
+                    if (wait < 0) {
+                        wakeUp.await();
+                    } else if (wait > 0) {
+                        wakeUp.await(wait, TimeUnit.MILLISECONDS);
+                    }
+                    wakeUpTick = Long.MIN_VALUE;
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                // interrupted by shutdown
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            for (WheelJobHandle jobHandle : expired) {
+                if (shutdown) {
+                    return;
+                }
+                if (!jobHandle.isCancel()) {
+                    try {
+                        ((Callable<Void>) jobHandle.getTimerJobInstance()).call();
+                    } catch (Exception e) {
+                        // as for the JDKTimerService a failing job doesn't stop the following ones,
+                        // the DefaultTimerJobInstance already logged the error
+                    }
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    public static class WheelJobHandle extends DefaultJobHandle
+            implements
+            JobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient WheelJobHandle prev;
+        private transient WheelJobHandle next;
+
+        private transient long expirationTick;
+        private transient int level;
+
+        public WheelJobHandle(long id) {
+            super(id);
+            if (id < 0) {
+                // the head of a list
+                this.prev = this;
+                this.next = this;
+            }
+        }
+
+        private boolean isLinked() {
+            return next != null;
+        }
+    }
+}
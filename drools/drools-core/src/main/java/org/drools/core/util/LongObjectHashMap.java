@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map with primitive long keys, so that neither the keys nor the lookups
+ * need to be boxed. Collisions are resolved with linear probing and removals shift back the
+ * following entries of the same cluster, so there are no tombstones slowing down the lookups.
+ * Null values are not supported.
+ */
+public class LongObjectHashMap<T> {
+
+    private static final int   DEFAULT_CAPACITY = 16;
+
+    private long[]             keys;
+    private Object[]           values;
+
+    private int                size;
+    private int                mask;
+
+    public LongObjectHashMap() {
+        this( DEFAULT_CAPACITY );
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while ( capacity < expectedSize * 2 ) {
+            capacity <<= 1;
+        }
+        allocate( capacity );
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public T get(long key) {
+        for ( int i = slot( key ); ; i = (i + 1) & mask ) {
+            Object value = values[i];
+            if ( value == null || keys[i] == key ) {
+                return (T) value;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get( key ) != null;
+    }
+
+    public T put(long key, T value) {
+        if ( value == null ) {
+            throw new IllegalArgumentException( "Null values are not supported" );
+        }
+        int i = slot( key );
+        for ( ; values[i] != null; i = (i + 1) & mask ) {
+            if ( keys[i] == key ) {
+                T previous = (T) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if ( ++size * 2 > values.length ) {
+            resize( values.length << 1 );
+        }
+        return null;
+    }
+
+    public T remove(long key) {
+        int i = slot( key );
+        for ( ; values[i] != null; i = (i + 1) & mask ) {
+            if ( keys[i] == key ) {
+                T previous = (T) values[i];
+                shiftBack( i );
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    private void shiftBack(int removed) {
+        int gap = removed;
+        for ( int i = (removed + 1) & mask; values[i] != null; i = (i + 1) & mask ) {
+            int home = slot( keys[i] );
+            // move the entry in the gap unless its home slot lies cyclically in (gap, i]
+            if ( ((i - home) & mask) >= ((i - gap) & mask) ) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate( capacity );
+        for ( int i = 0; i < oldValues.length; i++ ) {
+            if ( oldValues[i] != null ) {
+                int j = slot( oldKeys[i] );
+                while ( values[j] != null ) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill( values, null );
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
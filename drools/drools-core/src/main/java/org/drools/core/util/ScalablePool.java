@@ -18,58 +18,172 @@ package org.drools.core.util;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A pool growing on demand. The idle resources are kept in a few stacks, one per group of threads, so a
+ * thread first borrows the resource it released last, whose data is more likely to still be in the caches
+ * of the CPU running it. When its own stack is empty a thread takes the idle resources of the other stacks,
+ * so no resource is reserved to a thread, and the threads don't keep any reference to the resources they used.
+ * The idle resources kept by the pool are bounded by the highest number of resources used at the same time
+ * during the last {@link #TRIM_WINDOW} releases (but never less than the initial size), so the resources
+ * created during a peak of load are disposed once it has passed.
+ */
 public class ScalablePool<T> {
 
     private static final Logger log = LoggerFactory.getLogger(ScalablePool.class);
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<T>();
+    static final int TRIM_WINDOW = 1024;
+
+    private final Deque<T>[] stripes;
+    private final int stripeMask;
     private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
 
+    private final int initialSize;
+
+    private final AtomicInteger idle = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final AtomicInteger releases = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile boolean alive = true;
+
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this( initialSize, Runtime.getRuntime().availableProcessors(), supplier, resetter, disposer );
+    }
+
+    @SuppressWarnings("unchecked")
+    ScalablePool( int initialSize, int concurrency, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
+        this.initialSize = initialSize;
+
+        int stripesNr = Integer.highestOneBit( Math.max( 1, concurrency ) * 2 - 1 );
+        this.stripes = new Deque[stripesNr];
+        for (int i = 0; i < stripesNr; i++) {
+            stripes[i] = new ConcurrentLinkedDeque<T>();
+        }
+        this.stripeMask = stripesNr - 1;
 
         for (int i = 0; i < initialSize; i++) {
             T t = this.supplier.get();
-            pool.offer( t );
+            stripes[i & stripeMask].offerFirst( t );
             resources.add( t );
         }
+        idle.set( initialSize );
     }
 
     public T get() {
-        T t = pool.poll();
+        T t = pollIdle();
         if (t != null) {
-            return t;
+            hits.increment();
+        } else {
+            misses.increment();
+            t = this.supplier.get();
+            resources.add( t );
         }
 
-        t = this.supplier.get();
-        resources.add( t );
+        int used = inUse.incrementAndGet();
+        int peak = peakInUse.get();
+        while (used > peak && !peakInUse.compareAndSet( peak, used )) {
+            peak = peakInUse.get();
+        }
+        return t;
+    }
+
+    private T pollIdle() {
+        int stripe = currentStripe();
+        T t = stripes[stripe].pollFirst();
+        for (int i = 1; t == null && i < stripes.length; i++) {
+            t = stripes[(stripe + i) & stripeMask].pollFirst();
+        }
+        if (t != null) {
+            idle.decrementAndGet();
+        }
         return t;
     }
 
+    private int currentStripe() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    int getStripe( Thread thread ) {
+        return (int) thread.getId() & stripeMask;
+    }
+
     public void release(T t) {
+        if (!alive) {
+            // the resources owned when the pool was shut down, including the ones in use, have already been disposed
+            if (resources.remove( t )) {
+                disposer.accept( t );
+            }
+            return;
+        }
         resetter.accept( t );
-        pool.offer( t );
+
+        int used = inUse.decrementAndGet();
+        if (releases.incrementAndGet() % TRIM_WINDOW == 0) {
+            // start a new window, forgetting the peaks of the previous one
+            peakInUse.set( used );
+        }
+
+        if (idle.incrementAndGet() > Math.max( initialSize, peakInUse.get() )) {
+            idle.decrementAndGet();
+            resources.remove( t );
+            disposer.accept( t );
+            return;
+        }
+
+        stripes[currentStripe()].offerFirst( t );
+    }
+
+    /**
+     * The number of times a resource was found in the pool
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of times a resource had to be created because none was available in the pool
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of resources currently owned by this pool, both idle and in use
+     */
+    public int getSize() {
+        return resources.size();
     }
 
     public void shutdown() {
+        alive = false;
         for (T t : resources) {
             disposer.accept( t );
         }
-        pool.clear();
+        for (Deque<T> stripe : stripes) {
+            stripe.clear();
+        }
         resources.clear();
+        idle.set( 0 );
     }
 }
@@ -119,7 +119,7 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
 
         public Entry next(Entry object) {
             Entry temp = next;
-            next = checkUpperBound( recurse( next ) );
+            next = checkUpperBound( successor( next ) );
             return temp;
         }
 
@@ -127,28 +127,6 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
             return false;
         }
 
-        private Node<K> recurse(Node<K> current) {
-            if (current == null) {
-                return null;
-            }
-
-            if (current.right != null) {
-                Node<K> p = current.right;
-                while (p.left != null) {
-                    p = p.left;
-                }
-                return p;
-            }
-
-            Node<K> p = current.parent;
-            Node<K> ch = current;
-            while (p != null && ch == p.right) {
-                ch = p;
-                p = p.parent;
-            }
-            return p;
-        }
-
         public Node<K> checkUpperBound(Node<K> current) {
             if (upperBound == null) {
                 return current;
@@ -161,6 +139,32 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
         return root == null;
     }
 
+    /**
+     * Returns the node following the given one in key order, or null if it is the last one.
+     * The node holding the null key is not part of the tree and has no successor.
+     */
+    public static <K extends Comparable< ? super K>> Node<K> successor(Node<K> current) {
+        if (current == null) {
+            return null;
+        }
+
+        if (current.right != null) {
+            Node<K> p = current.right;
+            while (p.left != null) {
+                p = p.left;
+            }
+            return p;
+        }
+
+        Node<K> p = current.parent;
+        Node<K> ch = current;
+        while (p != null && ch == p.right) {
+            ch = p;
+            p = p.parent;
+        }
+        return p;
+    }
+
     public Node<K> first() {
         if (root == null) {
             return null;
@@ -385,6 +389,11 @@ public class TupleRBTree<K extends Comparable< ? super K>> {
     }
 
     public void delete(K key) {
+        if (key == null) {
+            // the null node is kept outside of the tree
+            nullNode = null;
+            return;
+        }
         Node<K> n = lookup(key);
         if ( n == null ) return; // Key not found, do nothing
         if ( n.left != null && n.right != null ) {
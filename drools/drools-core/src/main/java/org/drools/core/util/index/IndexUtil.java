@@ -37,7 +37,6 @@ import org.kie.internal.conf.IndexPrecedenceOption;
 public class IndexUtil {
 
     private static final boolean USE_COMPARISON_INDEX = true;
-    private static final boolean USE_RANGE_INDEX = USE_COMPARISON_INDEX && false;
 
     public static boolean compositeAllowed(BetaNodeFieldConstraint[] constraints, short betaNodeType) {
         // 1) If there is 1 or more unification restrictions it cannot be composite
@@ -70,42 +69,55 @@ public class IndexUtil {
         return constraint instanceof IndexableConstraint && ((IndexableConstraint)constraint).isIndexable(nodeType);
     }
 
+    private static boolean isIndexable(BetaNodeFieldConstraint constraint, short nodeType, boolean rangeIndex) {
+        return constraint instanceof IndexableConstraint && ((IndexableConstraint)constraint).isIndexable(nodeType, rangeIndex);
+    }
+
     private static boolean canHaveRangeIndex(short nodeType) {
         return USE_COMPARISON_INDEX && ( nodeType == NodeTypeEnums.NotNode || nodeType == NodeTypeEnums.ExistsNode );
     }
 
+    private static boolean canHaveRangeIndex(short nodeType, boolean rangeIndex) {
+        return rangeIndex ?
+               nodeType == NodeTypeEnums.JoinNode || nodeType == NodeTypeEnums.NotNode || nodeType == NodeTypeEnums.ExistsNode :
+               canHaveRangeIndex(nodeType);
+    }
+
     public static boolean isIndexableForNode(short nodeType, BetaNodeFieldConstraint constraint) {
-        if ( !(constraint instanceof IndexableConstraint) ) {
-            return false;
-        }
+        return isIndexableForNode(nodeType, constraint, false);
+    }
 
-        ConstraintType constraintType = ((IndexableConstraint)constraint).getConstraintType();
-        return constraintType.isIndexableForNode(nodeType);
+    public static boolean isIndexableForNode(short nodeType, BetaNodeFieldConstraint constraint, boolean rangeIndex) {
+        return isIndexable(constraint, nodeType, rangeIndex);
     }
 
     public static boolean[] isIndexableForNode(IndexPrecedenceOption indexPrecedenceOption, short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
+        return isIndexableForNode(indexPrecedenceOption, false, nodeType, keyDepth, constraints);
+    }
+
+    public static boolean[] isIndexableForNode(IndexPrecedenceOption indexPrecedenceOption, boolean rangeIndex, short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
         if (keyDepth < 1) {
             return new boolean[constraints.length];
         }
 
         return indexPrecedenceOption == IndexPrecedenceOption.EQUALITY_PRIORITY ?
-                findIndexableWithEqualityPriority(nodeType, keyDepth, constraints) :
-                findIndexableWithPatternOrder(nodeType, keyDepth, constraints);
+                findIndexableWithEqualityPriority(rangeIndex, nodeType, keyDepth, constraints) :
+                findIndexableWithPatternOrder(rangeIndex, nodeType, keyDepth, constraints);
     }
 
-    private static boolean[] findIndexableWithEqualityPriority(short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
+    private static boolean[] findIndexableWithEqualityPriority(boolean rangeIndex, short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
         boolean[] indexable = new boolean[constraints.length];
         if (hasEqualIndexable(keyDepth, indexable, constraints)) {
             return indexable;
         }
 
-        if (!canHaveRangeIndex(nodeType)) {
+        if (!canHaveRangeIndex(nodeType, rangeIndex)) {
             return indexable;
         }
 
         for (int i = 0; i < constraints.length; i++) {
-            if (isIndexable(constraints[i], nodeType)) {
-                sortRangeIndexable(constraints, indexable, i);
+            if (isIndexable(constraints[i], nodeType, rangeIndex)) {
+                sortRangeIndexable(rangeIndex, constraints, indexable, i);
                 break;
             }
         }
@@ -113,14 +125,14 @@ public class IndexUtil {
         return indexable;
     }
 
-    private static boolean[] findIndexableWithPatternOrder(short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
+    private static boolean[] findIndexableWithPatternOrder(boolean rangeIndex, short nodeType, int keyDepth, BetaNodeFieldConstraint[] constraints) {
         boolean[] indexable = new boolean[constraints.length];
         for (int i = 0; i < constraints.length; i++) {
-            if (isIndexable(constraints[i], nodeType)) {
+            if (isIndexable(constraints[i], nodeType, rangeIndex)) {
                 if (isEqualIndexable(constraints[i])) {
                     sortEqualIndexable(keyDepth, indexable, constraints, i);
                 } else {
-                    sortRangeIndexable(constraints, indexable, i);
+                    sortRangeIndexable(rangeIndex, constraints, indexable, i);
                 }
                 break;
             }
@@ -148,8 +160,8 @@ public class IndexUtil {
         return hasEqualIndexable;
     }
 
-    private static void sortRangeIndexable(BetaNodeFieldConstraint[] constraints, boolean[] indexable, int i) {
-        int dualConstraintPosition = findDualConstraint(constraints, i);
+    private static void sortRangeIndexable(boolean rangeIndex, BetaNodeFieldConstraint[] constraints, boolean[] indexable, int i) {
+        int dualConstraintPosition = rangeIndex ? findDualConstraint(constraints, i) : -1;
         swap(constraints, i, 0);
         indexable[0] = true;
         if (dualConstraintPosition > 0) {
@@ -159,7 +171,7 @@ public class IndexUtil {
     }
 
     private static int findDualConstraint(BetaNodeFieldConstraint[] constraints, int comparisonPos) {
-        if ( !(USE_RANGE_INDEX && constraints[comparisonPos] instanceof MvelConstraint) ) {
+        if ( !(constraints[comparisonPos] instanceof MvelConstraint) ) {
             return -1;
         }
         MvelConstraint firstConstraint = (MvelConstraint) constraints[comparisonPos];
@@ -234,6 +246,10 @@ public class IndexUtil {
         }
 
         public boolean isIndexableForNode(short nodeType) {
+            return isIndexableForNode(nodeType, false);
+        }
+
+        public boolean isIndexableForNode(short nodeType, boolean rangeIndex) {
             switch (this) {
                 case EQUAL:
                     return true;
@@ -241,7 +257,7 @@ public class IndexUtil {
                 case UNKNOWN:
                     return false;
                 default:
-                    return canHaveRangeIndex(nodeType);
+                    return canHaveRangeIndex(nodeType, rangeIndex);
             }
         }
 
@@ -265,7 +281,7 @@ public class IndexUtil {
             return Collections.emptyList();
         }
 
-        Factory.IndexSpec indexSpec = new Factory.IndexSpec(config.getIndexPrecedenceOption(), keyDepth, betaNode.getType(), betaNode.getConstraints());
+        Factory.IndexSpec indexSpec = new Factory.IndexSpec(config.getIndexPrecedenceOption(), config.isRangeIndex(), keyDepth, betaNode.getType(), betaNode.getConstraints());
         List<String> indexedProps = new ArrayList<String>();
         for (FieldIndex fieldIndex : indexSpec.indexes) {
             indexedProps.add( getter2property(fieldIndex.getExtractor().getNativeReadMethodName()) );
@@ -284,7 +300,7 @@ public class IndexUtil {
                                        nodeType );
             }
 
-            IndexSpec indexSpec = new IndexSpec(config.getIndexPrecedenceOption(), keyDepth, nodeType, constraints);
+            IndexSpec indexSpec = new IndexSpec(config.getIndexPrecedenceOption(), config.isRangeIndex(), keyDepth, nodeType, constraints);
             return new BetaMemory( createLeftMemory(config, indexSpec),
                                    createRightMemory(config, indexSpec),
                                    createContext(constraints),
@@ -305,7 +321,6 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.RANGE) {
-                // missing TreeMap based implementation for range indexes
                 return new RightTupleIndexRangeRBTree( indexSpec.ascendingConstraintType, indexSpec.indexes[0],
                                                        indexSpec.descendingConstraintType, indexSpec.indexes[1] );
             }
@@ -330,7 +345,6 @@ public class IndexUtil {
             }
 
             if (indexSpec.constraintType == ConstraintType.RANGE) {
-                // missing TreeMap based implementation for range indexes
                 return new LeftTupleIndexRangeRBTree( indexSpec.ascendingConstraintType, indexSpec.indexes[0],
                                                       indexSpec.descendingConstraintType, indexSpec.indexes[1] );
             }
@@ -353,14 +367,14 @@ public class IndexUtil {
             private ConstraintType ascendingConstraintType = null;
             private ConstraintType descendingConstraintType = null;
 
-            private IndexSpec(IndexPrecedenceOption indexPrecedenceOption, int keyDepth, short nodeType, BetaNodeFieldConstraint[] constraints) {
-                init(indexPrecedenceOption, keyDepth, nodeType, constraints);
+            private IndexSpec(IndexPrecedenceOption indexPrecedenceOption, boolean rangeIndex, int keyDepth, short nodeType, BetaNodeFieldConstraint[] constraints) {
+                init(indexPrecedenceOption, rangeIndex, keyDepth, nodeType, constraints);
             }
 
-            private void init(IndexPrecedenceOption indexPrecedenceOption, int keyDepth, short nodeType, BetaNodeFieldConstraint[] constraints) {
+            private void init(IndexPrecedenceOption indexPrecedenceOption, boolean rangeIndex, int keyDepth, short nodeType, BetaNodeFieldConstraint[] constraints) {
                 int firstIndexableConstraint = indexPrecedenceOption == IndexPrecedenceOption.EQUALITY_PRIORITY ?
-                        determineTypeWithEqualityPriority(nodeType, constraints) :
-                        determineTypeWithPatternOrder(nodeType, constraints);
+                        determineTypeWithEqualityPriority(rangeIndex, nodeType, constraints) :
+                        determineTypeWithPatternOrder(rangeIndex, nodeType, constraints);
 
                 if (constraintType == ConstraintType.EQUAL) {
                     List<FieldIndex> indexList = new ArrayList<FieldIndex>();
@@ -376,7 +390,7 @@ public class IndexUtil {
 
                 } else if (constraintType.isComparison()) {
                     // look for a dual constraint to create a range index
-                    if (USE_RANGE_INDEX && constraints[firstIndexableConstraint] instanceof MvelConstraint) {
+                    if (rangeIndex && constraints[firstIndexableConstraint] instanceof MvelConstraint) {
                         MvelConstraint firstConstraint = (MvelConstraint) constraints[firstIndexableConstraint];
                         String leftValue = getLeftValueInExpression(firstConstraint.getExpression());
                         for (int i = firstIndexableConstraint+1; i < constraints.length; i++) {
@@ -403,7 +417,7 @@ public class IndexUtil {
                 }
             }
 
-            private int determineTypeWithEqualityPriority(short nodeType, BetaNodeFieldConstraint[] constraints) {
+            private int determineTypeWithEqualityPriority(boolean rangeIndex, short nodeType, BetaNodeFieldConstraint[] constraints) {
                 int indexedConstraintPos = 0;
                 for (int i = 0; i < constraints.length; i++) {
                     if (constraints[i] instanceof IndexableConstraint) {
@@ -412,7 +426,7 @@ public class IndexUtil {
                         if (type == ConstraintType.EQUAL) {
                             constraintType = type;
                             return i;
-                        } else if (constraintType == ConstraintType.UNKNOWN && type.isIndexableForNode(nodeType)) {
+                        } else if (constraintType == ConstraintType.UNKNOWN && type.isIndexableForNode(nodeType, rangeIndex)) {
                             constraintType = type;
                             indexedConstraintPos = i;
                         }
@@ -421,10 +435,10 @@ public class IndexUtil {
                 return indexedConstraintPos;
             }
 
-            private int determineTypeWithPatternOrder(short nodeType, BetaNodeFieldConstraint[] constraints) {
+            private int determineTypeWithPatternOrder(boolean rangeIndex, short nodeType, BetaNodeFieldConstraint[] constraints) {
                 for (int i = 0; i < constraints.length; i++) {
                     ConstraintType type = ConstraintType.getType(constraints[i]);
-                    if ( type.isIndexableForNode(nodeType) ) {
+                    if ( type.isIndexableForNode(nodeType, rangeIndex) ) {
                         constraintType = type;
                         return i;
                     }
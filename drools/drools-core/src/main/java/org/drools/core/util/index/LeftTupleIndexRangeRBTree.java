@@ -41,6 +41,8 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
     private AbstractHashTable.FieldIndex descendingIndex;
     private IndexUtil.ConstraintType descendingConstraintType;
 
+    // tuples with a null bound can never be matched, but they still belong to this memory
+    private Bucket nullBucket;
 
     private transient TupleFastIterator tupleFastIterator;
 
@@ -62,6 +64,7 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
 
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject( tree );
+        out.writeObject( nullBucket );
         out.writeObject( ascendingIndex );
         out.writeObject( ascendingConstraintType );
         out.writeObject( descendingIndex );
@@ -71,6 +74,7 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         tree = (RBTree<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>>) in.readObject();
+        nullBucket = (Bucket) in.readObject();
         ascendingIndex = (AbstractHashTable.FieldIndex) in.readObject();
         ascendingConstraintType = (IndexUtil.ConstraintType) in.readObject();
         descendingIndex = (AbstractHashTable.FieldIndex) in.readObject();
@@ -81,22 +85,39 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
     public void add(Tuple tuple) {
         Comparable lowerBound = getLeftAscendingIndexedValue(tuple);
         Comparable upperBound = getLeftDescendingIndexedValue(tuple);
-        RBTree<Comparable<Comparable>, TupleList> nestedTree = tree.lookup(lowerBound);
-        if (nestedTree == null) {
-            nestedTree = new RBTree<Comparable<Comparable>, TupleList>();
-            tree.insert(lowerBound, nestedTree);
-        }
-        TupleList list = nestedTree.lookup(upperBound);
-        if (list == null) {
-            list = new TupleList();
-            nestedTree.insert(upperBound, list);
+        TupleList list;
+        if (lowerBound == null || upperBound == null) {
+            if (nullBucket == null) {
+                nullBucket = new Bucket(null, null);
+            }
+            list = nullBucket;
+        } else {
+            RBTree<Comparable<Comparable>, TupleList> nestedTree = tree.lookup(lowerBound);
+            if (nestedTree == null) {
+                nestedTree = new RBTree<Comparable<Comparable>, TupleList>();
+                tree.insert(lowerBound, nestedTree);
+            }
+            list = nestedTree.lookup(upperBound);
+            if (list == null) {
+                list = new Bucket(lowerBound, upperBound);
+                nestedTree.insert(upperBound, list);
+            }
         }
         list.add(tuple);
         size++;
     }
 
     public void remove(Tuple tuple) {
-        tuple.getMemory().remove(tuple);
+        Bucket bucket = (Bucket) tuple.getMemory();
+        bucket.remove(tuple);
+        if (bucket.isEmpty() && bucket.ascendingKey != null) {
+            // the bucket keeps its own keys, the indexed values of the tuple may have been already modified
+            RBTree<Comparable<Comparable>, TupleList> nestedTree = tree.lookup(bucket.ascendingKey);
+            nestedTree.delete(bucket.descendingKey);
+            if (nestedTree.isEmpty()) {
+                tree.delete(bucket.ascendingKey);
+            }
+        }
         size--;
     }
 
@@ -114,68 +135,34 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
     }
 
     public Entry[] toArray() {
-        FastIterator it = tree.fastIterator();
-        if (it == null) {
-            return new Entry[0];
-        }
-
-        List<Comparable> toBeRemoved = new ArrayList<Comparable>();
-        List<Comparable> nestedToBeRemoved = new ArrayList<Comparable>();
-        List<Tuple> result = new ArrayList<Tuple>();
-
-        RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>> node = null;
-        RBTree.Node<Comparable<Comparable>, TupleList> nestedNode = null;
-
-        while ( (node = (RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>>) it.next( node )) != null ) {
-            nestedToBeRemoved.clear();
-            RBTree<Comparable<Comparable>, TupleList> nestedTree = node.value;
-            FastIterator nestedIt = nestedTree.fastIterator();
-
-            while ( (nestedNode = (RBTree.Node<Comparable<Comparable>, TupleList>) nestedIt.next( nestedNode )) != null ) {
-                TupleList list = nestedNode.value;
-                int listSize = list.size();
-                if (listSize == 0) {
-                    nestedToBeRemoved.add(nestedNode.key);
-                } else {
-                    Tuple entry = list.getFirst();
-                    while (entry != null) {
-                        result.add(entry);
-                        entry = (Tuple) entry.getNext();
-                    }
-                }
-            }
-
-            for (Comparable key : nestedToBeRemoved) {
-                nestedTree.delete(key);
-            }
-
-            if (nestedTree.isEmpty()) {
-                toBeRemoved.add(node.key);
-            }
+        List<Tuple> result = new ArrayList<Tuple>(size);
+        FastIterator it = fullFastIterator();
+        for (Tuple entry = (Tuple) it.next(null); entry != null; entry = (Tuple) it.next(entry)) {
+            result.add(entry);
         }
-
-        for (Comparable key : toBeRemoved) {
-            tree.delete(key);
-        }
-
         return result.toArray(new Tuple[result.size()]);
     }
 
     public Tuple getFirst(Tuple tuple) {
-        Comparable key = getRightIndexedValue(tuple);
-        return getFirst(key);
+        // the iterator is shared, so it has to be moved to the value of the current rightTuple
+        TupleFastIterator it = (TupleFastIterator) fastIterator();
+        it.value = getRightIndexedValue(tuple);
+        return it.value == null ? null : getFirst(tree.first(), it.value);
     }
 
     public Iterator<Tuple> iterator() {
-        TupleList list = tree.first().value.first().value;
-        Tuple firstTuple = list != null ? list.getFirst() : null;
-        return new FastIterator.IteratorAdapter(fastIterator(), firstTuple);
+        FastIterator it = fullFastIterator();
+        return new FastIterator.IteratorAdapter(it, it.next(null));
     }
 
     public boolean contains(Tuple tuple) {
         Comparable lowerBound = getLeftAscendingIndexedValue(tuple);
+        Comparable upperBound = getLeftDescendingIndexedValue(tuple);
+        if (lowerBound == null || upperBound == null) {
+            return nullBucket != null;
+        }
         RBTree<Comparable<Comparable>, TupleList> nestedTree = tree.lookup(lowerBound);
-        return nestedTree == null ? false : nestedTree.lookup(getLeftDescendingIndexedValue(tuple)) != null;
+        return nestedTree == null ? false : nestedTree.lookup(upperBound) != null;
     }
 
     public FastIterator fastIterator() {
@@ -186,16 +173,12 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
     }
 
     public FastIterator fullFastIterator() {
-        if ( tupleFastIterator == null ) {
-            tupleFastIterator = new TupleFastIterator();
-        }
-        return tupleFastIterator;
+        return new FullFastIterator();
     }
 
     public FastIterator fullFastIterator(Tuple tuple) {
-        FastIterator fastIterator = fullFastIterator();
-        fastIterator.next(getNext(tuple));
-        return fastIterator;
+        // the full iterator is stateless, so it can be resumed from any tuple in this memory
+        return fullFastIterator();
     }
 
     private Comparable getLeftAscendingIndexedValue(Tuple tuple) {
@@ -210,111 +193,109 @@ public class LeftTupleIndexRangeRBTree implements Externalizable, TupleMemory {
         return (Comparable) ascendingIndex.getExtractor().getValue( tuple.getFactHandle().getObject() );
     }
 
-    private Tuple getFirst(Comparable key) {
-        RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>> nestedNode = null;
-        RBTree.Node<Comparable<Comparable>, TupleList> firstNode;
-
-        boolean findNextNestedNode = true;
-        while (true) {
-            if (findNextNestedNode) {
-                switch (ascendingConstraintType) {
-                    case GREATER_THAN:
-                        nestedNode = tree.findNearestNode(key, false, RBTree.Boundary.UPPER);
-                        break;
-                    case GREATER_OR_EQUAL:
-                        nestedNode = tree.findNearestNode(key, true, RBTree.Boundary.UPPER);
-                        break;
-                    default:
-                        throw new UnsupportedOperationException("Cannot call remove constraint of type: " + ascendingConstraintType);
-                }
+    /**
+     * Returns the first tuple, starting from the given lower bound node, whose range contains the given value
+     */
+    private Tuple getFirst(RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>> lowerBoundNode, Comparable value) {
+        for (; lowerBoundNode != null && acceptLowerBound(lowerBoundNode.key, value); lowerBoundNode = tree.findNearestNode(lowerBoundNode.key, false, RBTree.Boundary.LOWER)) {
+            RBTree.Node<Comparable<Comparable>, TupleList> upperBoundNode =
+                    lowerBoundNode.value.findNearestNode(value, descendingConstraintType == IndexUtil.ConstraintType.LESS_OR_EQUAL, RBTree.Boundary.LOWER);
+            if (upperBoundNode != null) {
+                return upperBoundNode.value.getFirst();
             }
+        }
+        return null;
+    }
 
-            findNextNestedNode = true;
-            if (nestedNode == null) {
-                return null;
-            }
-            if (nestedNode.value.isEmpty()) {
-                tree.delete(nestedNode.key);
-                continue;
-            }
+    private boolean acceptLowerBound(Comparable lowerBound, Comparable value) {
+        int compResult = lowerBound.compareTo(value);
+        return compResult < 0 || (compResult == 0 && ascendingConstraintType == IndexUtil.ConstraintType.GREATER_OR_EQUAL);
+    }
 
-            RBTree<Comparable<Comparable>, TupleList> nestedTree = nestedNode.value;
-            while (true) {
-                switch (descendingConstraintType) {
-                    case LESS_THAN:
-                        firstNode = nestedTree.findNearestNode(key, false, RBTree.Boundary.LOWER);
-                        break;
-                    case LESS_OR_EQUAL:
-                        firstNode = nestedTree.findNearestNode(key, true, RBTree.Boundary.LOWER);
-                        break;
-                    default:
-                        throw new UnsupportedOperationException("Cannot call remove constraint of type: " + descendingConstraintType);
-                }
+    public class TupleFastIterator implements FastIterator {
 
-                if (firstNode != null && firstNode.value.size() == 0) {
-                    nestedTree.delete(firstNode.key);
-                    firstNode = null;
-                }
+        private Comparable value;
 
-                if (firstNode == null) {
-                    nestedNode = tree.findNearestNode(nestedNode.key, false, RBTree.Boundary.UPPER);
-                    if (nestedNode == null) {
-                        return null;
-                    }
-                    findNextNestedNode = false;
-                    break;
-                }
+        public Entry next(Entry object) {
+            if (object == null) {
+                return null;
+            }
+            Tuple tuple = (Tuple) object;
+            Tuple next = (Tuple) tuple.getNext();
+            if (next != null) {
+                return next;
+            }
+            Bucket bucket = (Bucket) tuple.getMemory();
+            if (bucket.ascendingKey == null || value == null) {
+                return null;
+            }
 
-                return firstNode.value.getFirst();
+            // all the following upper bounds within the same lower bound are greater than the current one, so still match
+            RBTree.Node<Comparable<Comparable>, TupleList> upperBoundNode =
+                    tree.lookup(bucket.ascendingKey).findNearestNode(bucket.descendingKey, false, RBTree.Boundary.LOWER);
+            if (upperBoundNode != null) {
+                return upperBoundNode.value.getFirst();
             }
+            return getFirst(tree.findNearestNode(bucket.ascendingKey, false, RBTree.Boundary.LOWER), value);
         }
-    }
 
-    private Entry getNext(Tuple tuple) {
-        Tuple next = (Tuple) tuple.getNext();
-        if (next != null) {
-            return next;
+        public boolean isFullIterator() {
+            return false;
         }
+    }
 
-        Comparable ascendingKey = getLeftAscendingIndexedValue(tuple);
-        Comparable descendingKey = getLeftDescendingIndexedValue(tuple);
+    public class FullFastIterator implements FastIterator {
 
-        RBTree<Comparable<Comparable>, TupleList> nestedTree = tree.lookup(ascendingKey);
-        while (nestedTree != null) {
-            while (true) {
-                RBTree.Node<Comparable<Comparable>, TupleList> nextNode = nestedTree.findNearestNode(descendingKey, false, RBTree.Boundary.LOWER);
-                if (nextNode == null) {
-                    break;
+        public Entry next(Entry object) {
+            RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>> lowerBoundNode;
+            if (object == null) {
+                lowerBoundNode = tree.first();
+            } else {
+                Tuple tuple = (Tuple) object;
+                Tuple next = (Tuple) tuple.getNext();
+                if (next != null) {
+                    return next;
                 }
-                if (nextNode.value.size() == 0) {
-                    nestedTree.delete(nextNode.key);
-                } else {
-                    return nextNode.value.getFirst();
+                Bucket bucket = (Bucket) tuple.getMemory();
+                if (bucket.ascendingKey == null) {
+                    return null;
                 }
+                RBTree.Node<Comparable<Comparable>, TupleList> upperBoundNode =
+                        tree.lookup(bucket.ascendingKey).findNearestNode(bucket.descendingKey, false, RBTree.Boundary.LOWER);
+                if (upperBoundNode != null) {
+                    return upperBoundNode.value.getFirst();
+                }
+                lowerBoundNode = tree.findNearestNode(bucket.ascendingKey, false, RBTree.Boundary.LOWER);
             }
-
-            RBTree.Node<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>> nextNode = tree.findNearestNode(ascendingKey, false, RBTree.Boundary.UPPER);
-            nestedTree = nextNode == null ? null : nextNode.value;
-        }
-
-        return null;
-    }
-
-    public class TupleFastIterator implements FastIterator {
-        public Entry next(Entry object) {
-            return object == null ? null : getNext((Tuple) object);
+            if (lowerBoundNode != null) {
+                return lowerBoundNode.value.first().value.getFirst();
+            }
+            return nullBucket != null ? nullBucket.getFirst() : null;
         }
 
         public boolean isFullIterator() {
-            return false;
+            return true;
         }
     }
 
     public void clear() {
         tree = new RBTree<Comparable<Comparable>, RBTree<Comparable<Comparable>, TupleList>>();
+        nullBucket = null;
+        size = 0;
     }
 
     public TupleMemory.IndexType getIndexType() {
-        return TupleMemory.IndexType.COMPARISON;
+        return TupleMemory.IndexType.RANGE;
+    }
+
+    public static class Bucket extends TupleList {
+
+        private final Comparable ascendingKey;
+        private final Comparable descendingKey;
+
+        public Bucket(Comparable ascendingKey, Comparable descendingKey) {
+            this.ascendingKey = ascendingKey;
+            this.descendingKey = descendingKey;
+        }
     }
 }
@@ -41,7 +41,10 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
     private FieldIndex descendingIndex;
     private ConstraintType descendingConstraintType;
 
-    private RightTupleBoundedFastIterator rightTupleBoundedFastIterator;
+    // tuples with a null indexed value can never satisfy a range constraint, but they still belong to this memory
+    private Bucket nullBucket;
+
+    private transient RightTupleBoundedFastIterator rightTupleBoundedFastIterator;
 
     private int size;
 
@@ -61,6 +64,7 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
 
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject( tree );
+        out.writeObject( nullBucket );
         out.writeObject( ascendingIndex );
         out.writeObject( ascendingConstraintType );
         out.writeObject( descendingIndex );
@@ -70,6 +74,7 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
         tree = (RBTree<Comparable<Comparable>, TupleList>) in.readObject();
+        nullBucket = (Bucket) in.readObject();
         ascendingIndex = (FieldIndex) in.readObject();
         ascendingConstraintType = (ConstraintType) in.readObject();
         descendingIndex = (FieldIndex) in.readObject();
@@ -79,17 +84,30 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
 
     public void add(Tuple tuple) {
         Comparable key = getRightIndexedValue(tuple);
-        TupleList list = tree.lookup(key);
-        if (list == null) {
-            list = new TupleList();
-            tree.insert(key, list);
+        TupleList list;
+        if (key == null) {
+            if (nullBucket == null) {
+                nullBucket = new Bucket(null);
+            }
+            list = nullBucket;
+        } else {
+            list = tree.lookup(key);
+            if (list == null) {
+                list = new Bucket(key);
+                tree.insert(key, list);
+            }
         }
         list.add(tuple);
         size++;
     }
 
     public void remove(Tuple tuple) {
-        tuple.getMemory().remove(tuple);
+        Bucket bucket = (Bucket) tuple.getMemory();
+        bucket.remove(tuple);
+        if (bucket.isEmpty() && bucket.key != null) {
+            // the bucket keeps its own key, the indexed value of the tuple may have been already modified
+            tree.delete(bucket.key);
+        }
         size--;
     }
 
@@ -107,102 +125,60 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
     }
 
     public Entry[] toArray() {
-        FastIterator it = tree.fastIterator();
-        if (it == null) {
-            return new Entry[0];
-        }
-
-        List<Comparable> toBeRemoved = new ArrayList<Comparable>();
-        List<Tuple> result = new ArrayList<Tuple>();
-
-        RBTree.Node<Comparable<Comparable>, TupleList> node;
-        while ( (node = (RBTree.Node<Comparable<Comparable>, TupleList>) it.next( null )) != null ) {
-            TupleList bucket = node.value;
-            if (bucket.size() == 0) {
-                toBeRemoved.add(node.key);
-            } else {
-                Tuple entry = bucket.getFirst();
-                while (entry != null) {
-                    result.add(entry);
-                    entry = (Tuple) entry.getNext();
-                }
-            }
-        }
-
-        for (Comparable key : toBeRemoved) {
-            tree.delete(key);
+        List<Tuple> result = new ArrayList<Tuple>(size);
+        FastIterator it = fullFastIterator();
+        for (Tuple entry = (Tuple) it.next(null); entry != null; entry = (Tuple) it.next(entry)) {
+            result.add(entry);
         }
-
         return result.toArray(new Tuple[result.size()]);
     }
 
     public Tuple getFirst(Tuple leftTuple) {
+        // the bounded iterator is shared, so it has to be moved to the range of the current leftTuple
+        RightTupleBoundedFastIterator it = (RightTupleBoundedFastIterator) fastIterator();
+        it.setUpperBound(leftTuple);
+
         Comparable lowerBound = getLeftAscendingIndexedValue(leftTuple);
-        Tuple rightTuple = getNext(lowerBound, true);
-        return rightTuple == null ? null : checkUpperBound(rightTuple, getLeftDescendingIndexedValue(leftTuple));
+        if (lowerBound == null || it.upperBound == null) {
+            return null;
+        }
+        RBTree.Node<Comparable<Comparable>, TupleList> firstNode = tree.findNearestNode(lowerBound, ascendingConstraintType == ConstraintType.GREATER_OR_EQUAL, RBTree.Boundary.LOWER);
+        return firstNode == null ? null : checkUpperBound((Bucket) firstNode.value, it.upperBound);
     }
 
-    private Tuple checkUpperBound(Tuple rightTuple, Comparable upperBound) {
-        int compResult = getRightIndexedValue(rightTuple).compareTo(upperBound);
-        return compResult < 0 || (compResult == 0 && descendingConstraintType == ConstraintType.LESS_OR_EQUAL) ? rightTuple : null;
+    private Tuple checkUpperBound(Bucket bucket, Comparable upperBound) {
+        int compResult = bucket.key.compareTo(upperBound);
+        return compResult < 0 || (compResult == 0 && descendingConstraintType == ConstraintType.LESS_OR_EQUAL) ? bucket.getFirst() : null;
     }
 
     public Iterator iterator() {
-        TupleList list = tree.first().value;
-        Tuple firstTuple = list != null ? list.getFirst() : null;
-        return new FastIterator.IteratorAdapter(fastIterator(), firstTuple);
+        FastIterator it = fullFastIterator();
+        return new FastIterator.IteratorAdapter(it, it.next(null));
     }
 
     public boolean contains(Tuple tuple) {
         Comparable key = getRightIndexedValue(tuple);
-        return tree.lookup(key) != null;
+        return key == null ? nullBucket != null : tree.lookup(key) != null;
     }
 
     public FastIterator fastIterator() {
-        if ( rightTupleBoundedFastIterator != null ) {
+        if ( rightTupleBoundedFastIterator == null ) {
             rightTupleBoundedFastIterator = new RightTupleBoundedFastIterator();
         }
         return rightTupleBoundedFastIterator;
     }
 
     public FastIterator fullFastIterator() {
-        if ( rightTupleBoundedFastIterator != null ) {
-            rightTupleBoundedFastIterator = new RightTupleBoundedFastIterator();
-        }
-        return rightTupleBoundedFastIterator;
+        return new RightTupleFullFastIterator();
     }
 
     public FastIterator fullFastIterator(Tuple tuple) {
-        FastIterator fastIterator = fullFastIterator();
-        Comparable key = getRightIndexedValue(tuple);
-        fastIterator.next(getNext(key, true));
-        return fastIterator;
+        // the full iterator is stateless, so it can be resumed from any tuple in this memory
+        return fullFastIterator();
     }
 
     public IndexType getIndexType() {
-        return IndexType.COMPARISON;
-    }
-
-    private Tuple getNext(Comparable lowerBound, boolean first) {
-        RBTree.Node<Comparable<Comparable>, TupleList> firstNode;
-        while (true) {
-            switch (ascendingConstraintType) {
-                case GREATER_THAN:
-                    firstNode = tree.findNearestNode(lowerBound, false, RBTree.Boundary.LOWER);
-                    break;
-                case GREATER_OR_EQUAL:
-                    firstNode = tree.findNearestNode(lowerBound, first, RBTree.Boundary.LOWER);
-                    break;
-                default:
-                    throw new UnsupportedOperationException("Cannot call remove constraint of type: " + ascendingConstraintType);
-            }
-            if (firstNode != null && firstNode.value.size() == 0) {
-                tree.delete(firstNode.key);
-            } else {
-                break;
-            }
-        }
-        return firstNode == null ? null : firstNode.value.getFirst();
+        return IndexType.RANGE;
     }
 
     private Comparable getLeftAscendingIndexedValue(Tuple leftTuple) {
@@ -234,9 +210,12 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
             if (next != null) {
                 return next;
             }
-            Comparable key = getRightIndexedValue(rightTuple);
-            next = getNext(key, false);
-            return next == null ? null : checkUpperBound(next, upperBound);
+            Bucket bucket = (Bucket) rightTuple.getMemory();
+            if (bucket.key == null || upperBound == null) {
+                return null;
+            }
+            RBTree.Node<Comparable<Comparable>, TupleList> nextNode = tree.findNearestNode(bucket.key, false, RBTree.Boundary.LOWER);
+            return nextNode == null ? null : checkUpperBound((Bucket) nextNode.value, upperBound);
         }
 
         public boolean isFullIterator() {
@@ -244,7 +223,47 @@ public class RightTupleIndexRangeRBTree implements TupleMemory, Externalizable {
         }
     }
 
+    public class RightTupleFullFastIterator implements FastIterator {
+
+        public Entry next(Entry object) {
+            RBTree.Node<Comparable<Comparable>, TupleList> nextNode;
+            if (object == null) {
+                nextNode = tree.first();
+            } else {
+                Tuple rightTuple = (Tuple) object;
+                Tuple next = (Tuple) rightTuple.getNext();
+                if (next != null) {
+                    return next;
+                }
+                Bucket bucket = (Bucket) rightTuple.getMemory();
+                if (bucket.key == null) {
+                    return null;
+                }
+                nextNode = tree.findNearestNode(bucket.key, false, RBTree.Boundary.LOWER);
+            }
+            if (nextNode != null) {
+                return nextNode.value.getFirst();
+            }
+            return nullBucket != null ? nullBucket.getFirst() : null;
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
     public void clear() {
         tree = new RBTree<Comparable<Comparable>, TupleList>();
+        nullBucket = null;
+        size = 0;
+    }
+
+    public static class Bucket extends TupleList {
+
+        private final Comparable key;
+
+        public Bucket(Comparable key) {
+            this.key = key;
+        }
     }
 }
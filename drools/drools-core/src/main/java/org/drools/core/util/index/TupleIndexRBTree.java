@@ -101,23 +101,11 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
     }
 
     public Entry[] toArray() {
-        FastIterator it = tree.fastIterator();
-        if (it == null) {
-            return new Entry[0];
+        List<Tuple> result = new ArrayList<Tuple>(size);
+        FastIterator it = fullFastIterator();
+        for (Tuple entry = (Tuple) it.next(null); entry != null; entry = (Tuple) it.next(entry)) {
+            result.add(entry);
         }
-
-        List<Comparable> toBeRemoved = new ArrayList<Comparable>();
-        List<Tuple> result = new ArrayList<Tuple>();
-
-        TupleList list = null;
-        while ( (list = (TupleList) it.next( list )) != null ) {
-            Tuple entry = list.getFirst();
-            while (entry != null) {
-                result.add(entry);
-                entry = (Tuple) entry.getNext();
-            }
-        }
-
         return result.toArray(new Tuple[result.size()]);
     }
 
@@ -127,9 +115,8 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
     }
 
     public Iterator<Tuple> iterator() {
-        TupleList list = tree.first();
-        Tuple firstTuple = list != null ? list.getFirst() : null;
-        return new FastIterator.IteratorAdapter(fastIterator(), firstTuple);
+        FastIterator it = fullFastIterator();
+        return new FastIterator.IteratorAdapter(it, it.next(null));
     }
 
     public boolean contains(Tuple leftTuple) {
@@ -142,14 +129,12 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
     }
 
     public FastIterator fullFastIterator() {
-        return new TupleFastIterator();
+        return new FullFastIterator();
     }
 
     public FastIterator fullFastIterator(Tuple leftTuple) {
-        FastIterator fastIterator = fullFastIterator();
-        Comparable key = getLeftIndexedValue( leftTuple );
-        fastIterator.next(getNext(key, true));
-        return fastIterator;
+        // the full iterator is stateless, so it can be resumed from any tuple in this memory
+        return fullFastIterator();
     }
 
     private Comparable getLeftIndexedValue( Tuple tuple ) {
@@ -223,7 +208,8 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
             if (next != null) {
                 return next;
             }
-            Comparable key = getLeftIndexedValue( tuple );
+            // use the key of the node containing the tuple, the indexed value may have been modified in the meanwhile
+            Comparable key = ((Node<Comparable<Comparable>>) tuple.getMemory()).key;
             return getNext(key, false);
         }
 
@@ -232,8 +218,44 @@ public class TupleIndexRBTree implements Externalizable, TupleMemory {
         }
     }
 
+    /**
+     * Iterates all the tuples of this memory in key order, regardless of the constraint type,
+     * and finally the ones having a null key.
+     */
+    public class FullFastIterator implements FastIterator {
+        public Entry next(Entry object) {
+            Node<Comparable<Comparable>> node;
+            if (object == null) {
+                node = tree.first();
+            } else {
+                Tuple tuple = (Tuple) object;
+                Tuple next = (Tuple) tuple.getNext();
+                if (next != null) {
+                    return next;
+                }
+                node = (Node<Comparable<Comparable>>) tuple.getMemory();
+                if (node == tree.nullNode) {
+                    return null;
+                }
+                node = TupleRBTree.successor(node);
+            }
+
+            for (; node != null; node = TupleRBTree.successor(node)) {
+                if (node.getFirst() != null) {
+                    return node.getFirst();
+                }
+            }
+            return tree.nullNode != null ? tree.nullNode.getFirst() : null;
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
     public void clear() {
         tree = new TupleRBTree<Comparable<Comparable>>();
+        size = 0;
     }
 
     public IndexType getIndexType() {
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MinMaxAccumulateFunctionTest {
+
+    @Test
+    public void testMinMaxWithReverse() throws Exception {
+        Random random = new Random( 0 );
+        List<Object> ints = new ArrayList<Object>();
+        List<Object> longs = new ArrayList<Object>();
+        List<Object> doubles = new ArrayList<Object>();
+        for (int i = 0; i < 2000; i++) {
+            ints.add( random.nextInt( 200 ) - 100 );
+            longs.add( random.nextLong() );
+            doubles.add( ( random.nextDouble() - 0.5 ) * Double.MAX_VALUE );
+        }
+        doubles.add( -0.0 );
+        doubles.add( Double.NEGATIVE_INFINITY );
+        doubles.add( Double.POSITIVE_INFINITY );
+        longs.add( Long.MIN_VALUE );
+        longs.add( Long.MAX_VALUE );
+
+        checkMinMax( new IntegerMinAccumulateFunction(), new IntegerMaxAccumulateFunction(), ints, random );
+        checkMinMax( new LongMinAccumulateFunction(), new LongMaxAccumulateFunction(), longs, random );
+        checkMinMax( new DoubleMinAccumulateFunction(), new DoubleMaxAccumulateFunction(), doubles, random );
+        checkMinMax( new NumericMinAccumulateFunction(), new NumericMaxAccumulateFunction(), ints, random );
+        checkMinMax( new MinAccumulateFunction(), new MaxAccumulateFunction(), longs, random );
+    }
+
+    @Test
+    public void testPrimitiveMinMaxDataIsBounded() {
+        PrimitiveMinMaxData data = new PrimitiveMinMaxData();
+        // a sliding window of 10 values never removing the current min
+        for (long i = 0; i < 100000; i++) {
+            data.add( 100000 - i );
+            if (i >= 10) {
+                data.remove( 100000 - i + 10 );
+            }
+            assertEquals( 100000 - i, data.getMin() );
+        }
+        assertEquals( 10, data.size() );
+        assertTrue( data.capacity() < 200 );
+    }
+
+    @Test
+    public void testNullsAreIgnored() throws Exception {
+        IntegerMinAccumulateFunction function = new IntegerMinAccumulateFunction();
+        PrimitiveMinMaxData data = function.createContext();
+        function.init( data );
+        function.accumulate( data, null );
+        assertNull( function.getResult( data ) );
+        function.accumulate( data, 3 );
+        function.reverse( data, null );
+        assertEquals( 3, function.getResult( data ) );
+    }
+
+    @Test
+    public void testNumericMinMaxKeepEqualValuesOfDifferentTypes() throws Exception {
+        NumericMinAccumulateFunction min = new NumericMinAccumulateFunction();
+        NumericMaxAccumulateFunction max = new NumericMaxAccumulateFunction();
+        MinMaxData minData = min.createContext();
+        MinMaxData maxData = max.createContext();
+        min.init( minData );
+        max.init( maxData );
+
+        for (Object value : new Object[] { 1, 1.0, 1L, 2, Long.MAX_VALUE, Long.MAX_VALUE - 1 }) {
+            min.accumulate( minData, value );
+            max.accumulate( maxData, value );
+        }
+        // longs with the same double value are still different values
+        max.reverse( maxData, Long.MAX_VALUE - 1 );
+        assertEquals( Long.MAX_VALUE, max.getResult( maxData ) );
+        max.reverse( maxData, Long.MAX_VALUE );
+        assertEquals( 2, max.getResult( maxData ) );
+
+        // reversing 1 leaves the equal values of the other types
+        assertEquals( 1.0, min.getResult( minData ) );
+        min.reverse( minData, 1 );
+        assertEquals( 1.0, min.getResult( minData ) );
+        min.reverse( minData, 1.0 );
+        assertEquals( 1L, min.getResult( minData ) );
+        min.reverse( minData, 1L );
+        assertEquals( 2, min.getResult( minData ) );
+    }
+
+    private <C extends Serializable> void checkMinMax( AccumulateFunction<C> min, AccumulateFunction<C> max, List<Object> values, Random random ) throws Exception {
+        assertTrue( min.supportsReverse() );
+        assertTrue( max.supportsReverse() );
+
+        C minData = min.createContext();
+        C maxData = max.createContext();
+        min.init( minData );
+        max.init( maxData );
+        assertNull( min.getResult( minData ) );
+        assertNull( max.getResult( maxData ) );
+
+        Comparator<Object> comparator = MinMaxData.NUMBER_COMPARATOR;
+        List<Object> accumulated = new ArrayList<Object>();
+        for (int i = 0; i < 20000; i++) {
+            if (accumulated.isEmpty() || random.nextInt( 5 ) < 3) {
+                Object value = values.get( random.nextInt( values.size() ) );
+                min.accumulate( minData, value );
+                max.accumulate( maxData, value );
+                accumulated.add( value );
+            } else {
+                Object value = accumulated.remove( random.nextInt( accumulated.size() ) );
+                min.reverse( minData, value );
+                max.reverse( maxData, value );
+            }
+
+            if (accumulated.isEmpty()) {
+                assertNull( min.getResult( minData ) );
+                assertNull( max.getResult( maxData ) );
+            } else {
+                assertEquals( Collections.min( accumulated, comparator ), min.getResult( minData ) );
+                assertEquals( Collections.max( accumulated, comparator ), max.getResult( maxData ) );
+            }
+        }
+    }
+}
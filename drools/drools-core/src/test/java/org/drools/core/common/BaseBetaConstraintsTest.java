@@ -42,6 +42,7 @@ import org.drools.core.util.AbstractHashTable.FieldIndex;
 import org.drools.core.util.AbstractHashTable.Index;
 import org.drools.core.util.LinkedList;
 import org.drools.core.util.LinkedListEntry;
+import org.drools.core.util.index.IndexUtil;
 import org.drools.core.util.index.IndexUtil.ConstraintType;
 import org.drools.core.util.index.TupleIndexHashTable;
 import org.drools.core.util.index.TupleList;
@@ -76,7 +77,13 @@ public abstract class BaseBetaConstraintsTest {
     protected void checkBetaConstraints(BetaNodeFieldConstraint[] constraints,
                                         Class cls,
                                         short betaNodeType) {
-        RuleBaseConfiguration config = new RuleBaseConfiguration();
+        checkBetaConstraints(constraints, cls, betaNodeType, new RuleBaseConfiguration());
+    }
+
+    protected void checkBetaConstraints(BetaNodeFieldConstraint[] constraints,
+                                        Class cls,
+                                        short betaNodeType,
+                                        RuleBaseConfiguration config) {
         int depth = config.getCompositeKeyDepth();
 
         BetaConstraints betaConstraints;
@@ -97,7 +104,7 @@ public abstract class BaseBetaConstraintsTest {
 
         // get indexed positions
         for ( int i = 0; i < constraints.length && list.size() < depth; i++ ) {
-            if ( ((IndexableConstraint)constraints[i]).isIndexable(betaNodeType) ) {
+            if ( IndexUtil.isIndexableForNode(betaNodeType, constraints[i], config.isRangeIndex()) ) {
                 list.add( i );
             }
         }
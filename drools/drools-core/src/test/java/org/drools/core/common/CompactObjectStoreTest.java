@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.common;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.drools.core.ClassObjectFilter;
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.RuleBaseConfiguration.AssertBehaviour;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(Parameterized.class)
+public class CompactObjectStoreTest {
+
+    private final CompactObjectStore underTest;
+
+    @Test
+    public void iterateObjectsReturnsObjectsOfAllTypes() throws Exception {
+        insertObjectWithFactHandle("a string");
+        insertObjectWithFactHandle(new BigDecimal("1"));
+
+        Collection<Object> result = collect(underTest.iterateObjects());
+        assertThat(result.size(), is(equalTo(2)));
+        assertThat(underTest.size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void queryBySuperTypeFindsSubType() throws Exception {
+        insertObjectWithFactHandle(new SubClass());
+        insertObjectWithFactHandle(new SuperClass());
+        insertObjectWithFactHandle("some string");
+
+        Collection<Object> result = collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class)));
+
+        assertThat(result.size(), is(equalTo(2)));
+        assertThat(result, hasItem(isA(SubClass.class)));
+        assertThat(result, hasItem(isA(SuperClass.class)));
+
+        assertThat(collect(underTest.iterateFactHandles(SubClass.class)).size(), is(equalTo(1)));
+        assertThat(collect(underTest.iterateFactHandles(SuperClass.class)).size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void lookupsFindTheStoredHandles() throws Exception {
+        SimpleClass object = new SimpleClass();
+        InternalFactHandle handle = insertObjectWithFactHandle(object);
+
+        assertThat(underTest.getHandleForObject(object), is(sameInstance(handle)));
+        assertThat(underTest.getHandleForObjectIdentity(object), is(sameInstance(handle)));
+        assertThat(underTest.getHandleForObject(new SimpleClass()), is(nullValue()));
+        assertThat(underTest.getHandleForObject("not inserted"), is(nullValue()));
+
+        InternalFactHandle disconnected = new DefaultFactHandle(handle.getId(), object);
+        assertThat(underTest.reconnect(disconnected), is(sameInstance(handle)));
+        assertThat(underTest.getObjectForHandle(disconnected), is(sameInstance((Object) object)));
+
+        underTest.removeHandle(handle);
+        assertThat(underTest.getHandleForObject(object), is(nullValue()));
+        assertThat(underTest.reconnect(disconnected), is(nullValue()));
+        assertTrue(underTest.isEmpty());
+    }
+
+    @Test
+    public void updateHandleReplacesTheObject() throws Exception {
+        SimpleClass oldObject = new SimpleClass();
+        SimpleClass newObject = new SimpleClass();
+        InternalFactHandle handle = insertObjectWithFactHandle(oldObject);
+
+        underTest.updateHandle(handle, newObject);
+
+        assertThat(underTest.getHandleForObjectIdentity(oldObject), is(nullValue()));
+        assertThat(underTest.getHandleForObjectIdentity(newObject), is(sameInstance(handle)));
+        assertThat(underTest.size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void negatedHandlesAreStoredSeparately() throws Exception {
+        InternalFactHandle negated = handleFor(new SimpleClass());
+        negated.setNegated(true);
+        underTest.addHandle(negated, negated.getObject());
+        insertObjectWithFactHandle(new SimpleClass());
+
+        assertThat(underTest.size(), is(equalTo(1)));
+        assertThat(collect(underTest.iterateFactHandles()).size(), is(equalTo(1)));
+        assertThat(collect(underTest.iterateNegFactHandles(new ClassObjectFilter(SimpleClass.class))), hasItem(negated));
+        assertThat(collect(underTest.iterateNegObjects(new ClassObjectFilter(SuperClass.class))).size(), is(equalTo(0)));
+
+        underTest.removeHandle(negated);
+        assertThat(collect(underTest.iterateNegFactHandles(null)).size(), is(equalTo(0)));
+    }
+
+    @Test
+    public void clearRemovesInsertedObjects() throws Exception {
+        insertObjectWithFactHandle(new SimpleClass());
+        assertThat(collect(underTest.iterateObjects()).size(), is(equalTo(1)));
+
+        underTest.clear();
+
+        assertThat(collect(underTest.iterateObjects()).size(), is(equalTo(0)));
+        assertTrue(underTest.isEmpty());
+    }
+
+    @Test
+    public void removingWhileIteratingVisitsEachHandleOnce() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            insertObjectWithFactHandle(new SimpleClass());
+        }
+
+        Set<InternalFactHandle> visited = new HashSet<InternalFactHandle>();
+        Iterator<InternalFactHandle> it = underTest.iterateFactHandles();
+        while (it.hasNext()) {
+            InternalFactHandle handle = it.next();
+            assertTrue(visited.add(handle));
+            underTest.removeHandle(handle);
+        }
+
+        assertThat(visited.size(), is(equalTo(1000)));
+        assertTrue(underTest.isEmpty());
+    }
+
+    @Test
+    public void randomChurnIsConsistentWithAMap() throws Exception {
+        Random random = new Random(0);
+        Map<Object, InternalFactHandle> expected = new HashMap<Object, InternalFactHandle>();
+        List<Object> inserted = new ArrayList<Object>();
+
+        for (int i = 0; i < 20000; i++) {
+            if (inserted.isEmpty() || random.nextInt(3) > 0) {
+                Object object = random.nextBoolean() ? new SimpleClass() : new SubClass();
+                expected.put(object, insertObjectWithFactHandle(object));
+                inserted.add(object);
+            } else {
+                Object object = inserted.remove(random.nextInt(inserted.size()));
+                underTest.removeHandle(expected.remove(object));
+            }
+        }
+
+        assertThat(underTest.size(), is(equalTo(expected.size())));
+        assertThat(new HashSet<InternalFactHandle>(collect(underTest.iterateFactHandles())), is(equalTo(new HashSet<InternalFactHandle>(expected.values()))));
+        for (Map.Entry<Object, InternalFactHandle> entry : expected.entrySet()) {
+            assertThat(underTest.getHandleForObject(entry.getKey()), is(sameInstance(entry.getValue())));
+        }
+    }
+
+    @Test
+    public void clearClassStoreDropsTheFactsOfTheClass() throws Exception {
+        insertObjectWithFactHandle(new SubClass());
+        SimpleClass simple = new SimpleClass();
+        insertObjectWithFactHandle(simple);
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class))).size(), is(equalTo(1)));
+
+        assertTrue(underTest.clearClassStore(SubClass.class));
+
+        assertThat(underTest.size(), is(equalTo(1)));
+        assertThat(collect(underTest.iterateObjects()), is(equalTo((Collection<Object>) Arrays.<Object>asList(simple))));
+        assertThat(collect(underTest.iterateFactHandles()).size(), is(equalTo(1)));
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class))).size(), is(equalTo(0)));
+
+        SubClass newSub = new SubClass();
+        insertObjectWithFactHandle(newSub);
+        assertThat(underTest.size(), is(equalTo(2)));
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class))), hasItem(sameInstance((Object) newSub)));
+        assertThat(collect(underTest.iterateFactHandles(SubClass.class)).size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void filteredIterationSeesTablesCreatedAfterTheFirstOne() throws Exception {
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class))).size(), is(equalTo(0)));
+        insertObjectWithFactHandle(new SuperClass());
+        insertObjectWithFactHandle(new SubClass());
+        insertObjectWithFactHandle(new SimpleClass());
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SuperClass.class))).size(), is(equalTo(2)));
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(Object.class))).size(), is(equalTo(3)));
+    }
+
+    @Test
+    public void removedSlotsAreReclaimed() throws Exception {
+        CompactObjectStore.HandleTable table = new CompactObjectStore.HandleTable(SimpleClass.class, false);
+        for (int i = 0; i < 100000; i++) {
+            InternalFactHandle handle = handleFor(new SimpleClass());
+            table.add(handle);
+            table.remove(handle);
+        }
+        assertThat(table.size(), is(equalTo(0)));
+        assertThat(table.capacity(), is(equalTo(16)));
+    }
+
+    private InternalFactHandle insertObjectWithFactHandle(Object objectToInsert) {
+        InternalFactHandle handle = handleFor(objectToInsert);
+        underTest.addHandle(handle, objectToInsert);
+        return handle;
+    }
+
+    private static <T> Collection<T> collect(Iterator<T> objects) {
+        List<T> result = new ArrayList<T>();
+        while (objects.hasNext()) {
+            result.add(objects.next());
+        }
+        return result;
+    }
+
+    public CompactObjectStoreTest(RuleBaseConfiguration ruleBaseConfiguration) {
+        underTest = new CompactObjectStore(ruleBaseConfiguration, new ReentrantLock());
+    }
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> ruleBaseConfigurations() {
+        List<Object[]> configurations = new ArrayList<Object[]>(2);
+        configurations.add(new Object[]{new RuleBaseConfiguration() {{
+            setAssertBehaviour(AssertBehaviour.EQUALITY);
+        }}});
+        configurations.add(new Object[]{new RuleBaseConfiguration() {{
+            setAssertBehaviour(AssertBehaviour.IDENTITY);
+        }}});
+        return configurations;
+    }
+
+    private static final AtomicInteger factCounter = new AtomicInteger(0);
+
+    private InternalFactHandle handleFor(Object object) {
+        return new DefaultFactHandle(factCounter.getAndIncrement(), object);
+    }
+
+    private static class SimpleClass {
+    }
+
+    private static class SuperClass {
+    }
+
+    private static class SubClass extends SuperClass {
+    }
+}
@@ -16,11 +16,23 @@
 
 package org.drools.core.common;
 
+import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.evaluators.Operator;
 import org.drools.core.reteoo.NodeTypeEnums;
+import org.drools.core.rule.IndexableConstraint;
 import org.drools.core.spi.BetaNodeFieldConstraint;
 import org.drools.core.test.model.Cheese;
+import org.drools.core.util.index.IndexUtil;
+import org.drools.core.util.index.IndexUtil.ConstraintType;
 import org.junit.Test;
+import org.kie.internal.conf.IndexPrecedenceOption;
+
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class SingleBetaConstraintsTest extends BaseBetaConstraintsTest {
     
@@ -47,8 +59,34 @@ public class SingleBetaConstraintsTest extends BaseBetaConstraintsTest {
 
     @Test
     public void testNotIndexedForComparison() {
+        BetaNodeFieldConstraint  constraint0 = getConstraint( "cheeseType0", Operator.LESS, "type", Cheese.class );
+        BetaNodeFieldConstraint [] constraints = new BetaNodeFieldConstraint [] { constraint0 };
+        RuleBaseConfiguration config = new RuleBaseConfiguration();
+        config.setRangeIndex( false );
+        checkBetaConstraints( constraints, SingleBetaConstraints.class, NodeTypeEnums.JoinNode, config );
+    }
+
+    @Test
+    public void testIndexedForComparisonOnJoin() {
         BetaNodeFieldConstraint  constraint0 = getConstraint( "cheeseType0", Operator.LESS, "type", Cheese.class );
         BetaNodeFieldConstraint [] constraints = new BetaNodeFieldConstraint [] { constraint0 };
         checkBetaConstraints( constraints, SingleBetaConstraints.class, NodeTypeEnums.JoinNode );
     }
+
+    @Test
+    public void testNotIndexedForComparisonNotIndexableByTheConstraint() {
+        // the range index only extends the node types indexing a comparison, the constraint can still refuse it
+        BetaNodeFieldConstraint constraint0 = mock( BetaNodeFieldConstraint.class, withSettings().extraInterfaces( IndexableConstraint.class ) );
+        IndexableConstraint indexableConstraint = (IndexableConstraint) constraint0;
+        when( indexableConstraint.getConstraintType() ).thenReturn( ConstraintType.LESS_THAN );
+        when( indexableConstraint.isIndexable( anyShort() ) ).thenReturn( false );
+        when( indexableConstraint.isIndexable( anyShort(), anyBoolean() ) ).thenCallRealMethod();
+
+        BetaNodeFieldConstraint[] constraints = new BetaNodeFieldConstraint[] { constraint0 };
+        for (short nodeType : new short[] { NodeTypeEnums.JoinNode, NodeTypeEnums.ExistsNode }) {
+            assertFalse( IndexUtil.isIndexableForNode( nodeType, constraint0, true ) );
+            assertFalse( IndexUtil.isIndexableForNode( IndexPrecedenceOption.EQUALITY_PRIORITY, true, nodeType, 3, constraints )[0] );
+            assertFalse( IndexUtil.isIndexableForNode( IndexPrecedenceOption.PATTERN_ORDER, true, nodeType, 3, constraints )[0] );
+        }
+    }
 }
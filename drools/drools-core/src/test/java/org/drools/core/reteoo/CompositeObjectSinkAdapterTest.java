@@ -361,6 +361,69 @@ public class CompositeObjectSinkAdapterTest {
         assertNull( ad.hashedSinkMap );
     }
     
+    @Test
+    public void testPrimitiveFieldHashing() {
+        final CompositeObjectSinkAdapter ad = new CompositeObjectSinkAdapter();
+        InternalReadAccessor extractor = store.getReader( Cheese.class,
+                                                          "price" );
+
+        final AlphaNode[] alphas = new AlphaNode[4];
+        for ( int i = 0; i < alphas.length; i++ ) {
+            final MvelConstraint lit = new MvelConstraintTestUtil( "price == " + i * 10,
+                                                                   new LongFieldImpl( i * 10 ),
+                                                                   extractor );
+            alphas[i] = new AlphaNode( buildContext.getNextId(),
+                                       lit,
+                                       new MockObjectSource( buildContext.getNextId() ),
+                                       buildContext );
+            ad.addObjectSink( alphas[i] );
+        }
+
+        // the int field is hashed on its primitive value
+        assertNotNull( ad.hashedSinkMap );
+        final CompositeObjectSinkAdapter.FieldIndex fieldIndex = ad.hashedFieldIndexes.getFirst();
+        assertNotNull( fieldIndex.primitiveSinks );
+        assertEquals( ad.hashedSinkMap.size(),
+                      fieldIndex.primitiveSinks.size() );
+
+        final Cheese cheese = new Cheese( "stilton", 20 );
+        assertSame( alphas[2],
+                    fieldIndex.primitiveSinks.get( extractor.getLongValue( null, cheese ) ) );
+        cheese.setPrice( 25 );
+        assertNull( fieldIndex.primitiveSinks.get( extractor.getLongValue( null, cheese ) ) );
+
+        ad.removeObjectSink( alphas[2] );
+        assertNull( fieldIndex.primitiveSinks.get( 20 ) );
+        assertSame( alphas[3],
+                    fieldIndex.primitiveSinks.get( 30 ) );
+
+        // back under the threshold
+        ad.removeObjectSink( alphas[3] );
+        assertNull( ad.hashedSinkMap );
+        assertNull( fieldIndex.primitiveSinks );
+    }
+
+    @Test
+    public void testBoxedFieldIsNotHashedOnPrimitive() {
+        final CompositeObjectSinkAdapter ad = new CompositeObjectSinkAdapter();
+        InternalReadAccessor extractor = store.getReader( Cheese.class,
+                                                          "charObjectType" );
+
+        for ( int i = 0; i < 3; i++ ) {
+            final MvelConstraint lit = new MvelConstraintTestUtil( "charObjectType == " + ( 65 + i ),
+                                                                   new LongFieldImpl( 65 + i ),
+                                                                   extractor );
+            ad.addObjectSink( new AlphaNode( buildContext.getNextId(),
+                                             lit,
+                                             new MockObjectSource( buildContext.getNextId() ),
+                                             buildContext ) );
+        }
+
+        // a boxed field may be null, so it keeps using the HashKey lookup
+        assertNotNull( ad.hashedSinkMap );
+        assertNull( ad.hashedFieldIndexes.getFirst().primitiveSinks );
+    }
+
     @Test
     public void testTripleAlphaObjectCharacterConstraint() {
         final CompositeObjectSinkAdapter ad = new CompositeObjectSinkAdapter();
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.drools.core.common.DisconnectedWorkingMemoryEntryPoint;
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.rule.SlidingTimeWindow.SlidingTimeWindowContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SlidingTimeWindowContextTest {
+
+    @Test
+    public void testEventsAreKeptInChronologicalOrder() {
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext( 1000 );
+        Random random = new Random( 0 );
+        List<EventFactHandle> live = new ArrayList<EventFactHandle>();
+
+        for ( int i = 0; i < 5000; i++ ) {
+            int op = random.nextInt( 10 );
+            if ( op < 6 ) {
+                // mostly chronological, with some late and some duplicated timestamps
+                long timestamp = i * 3 - ( random.nextInt( 5 ) == 0 ? random.nextInt( 2000 ) : 0 );
+                EventFactHandle handle = handle( i, timestamp );
+                context.add( handle );
+                live.add( handle );
+            } else if ( op < 8 && !live.isEmpty() ) {
+                EventFactHandle handle = live.remove( random.nextInt( live.size() ) );
+                context.remove( handle );
+            } else if ( !live.isEmpty() ) {
+                EventFactHandle first = context.poll();
+                assertEquals( earliest( live ), first.getStartTimestamp() );
+                assertTrue( live.remove( first ) );
+            }
+            assertEquals( live.size(), context.size() );
+        }
+
+        long last = Long.MIN_VALUE;
+        while ( !context.isEmpty() ) {
+            EventFactHandle handle = context.remove();
+            assertTrue( handle.getStartTimestamp() >= last );
+            last = handle.getStartTimestamp();
+        }
+        assertNull( context.peek() );
+    }
+
+    @Test
+    public void testSameTimestampInInsertionOrder() {
+        SlidingTimeWindowContext context = new SlidingTimeWindowContext( 10 );
+        EventFactHandle h1 = handle( 1, 5 );
+        EventFactHandle h2 = handle( 2, 5 );
+        EventFactHandle h3 = handle( 3, 4 );
+        context.add( h1 );
+        context.add( h2 );
+        context.add( h3 );
+
+        context.remove( handle( 4, 5 ) );
+        assertEquals( 3, context.size() );
+        context.remove( handle( 2, 5 ) );
+        assertEquals( 2, context.size() );
+
+        assertSame( h3, context.poll() );
+        assertSame( h1, context.poll() );
+        assertTrue( context.isEmpty() );
+    }
+
+    private static EventFactHandle handle( int id, long timestamp ) {
+        return new EventFactHandle( id, "e" + id, id, timestamp, 0, new DisconnectedWorkingMemoryEntryPoint( "DEFAULT" ) );
+    }
+
+    private static long earliest( List<EventFactHandle> handles ) {
+        long min = Long.MAX_VALUE;
+        for ( EventFactHandle handle : handles ) {
+            min = Math.min( min, handle.getStartTimestamp() );
+        }
+        return min;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.TimerServiceFactory;
+import org.drools.core.time.Trigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTimerServiceTest {
+
+    @Test
+    public void testTimerServiceFromConfiguration() {
+        TimerService timeService = newTimerService();
+        try {
+            assertTrue( timeService instanceof TimingWheelTimerService );
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSingleExecutionJob() throws Exception {
+        TimerService timeService = newTimerService();
+        Trigger trigger = new DelayedTrigger( 100 );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertEquals( 1, ctx.getList().size() );
+    }
+
+    @Test
+    public void testRepeatedExecutionJob() throws Exception {
+        TimerService timeService = newTimerService();
+        Trigger trigger = new DelayedTrigger(  new long[] { 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertEquals( 3, ctx.getList().size() );
+    }
+
+    @Test
+    public void testRepeatedExecutionJobWithRemove() throws Exception {
+        TimerService timeService = newTimerService();
+        Trigger trigger = new DelayedTrigger(  new long[] {100, 100, 100, 100, 100, 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        ctx.setLimit( 3 );
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 1000 );
+        timeService.shutdown();
+        assertEquals( 5, ctx.getList().size() );
+    }
+
+    @Test
+    public void testJobWithoutFireTimeIsNotScheduled() {
+        TimingWheelTimerService timeService = new TimingWheelTimerService();
+        try {
+            HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+            assertNull( timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( new long[0] ) ) );
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testJobsFireInOrderAcrossLevels() throws Exception {
+        TimingWheelTimerService timeService = new TimingWheelTimerService();
+        try {
+            HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService );
+            // the delays span the first two levels of the wheel, and the expired ones must not wait for a tick
+            long[] delays = { 700, -50, 0, 5, 255, 256, 257, 300, 20, 1000, 600, 100 };
+            List<Long> fired = Collections.synchronizedList( new ArrayList<>() );
+            List<Long> late = Collections.synchronizedList( new ArrayList<>() );
+            CountDownLatch latch = new CountDownLatch( delays.length );
+
+            long now = System.currentTimeMillis();
+            for (long delay : delays) {
+                long fireTime = now + delay;
+                timeService.scheduleJob( c -> {
+                    if (System.currentTimeMillis() < fireTime) {
+                        late.add( delay );
+                    }
+                    fired.add( delay );
+                    latch.countDown();
+                }, ctx, new PointInTimeTrigger( fireTime, null, null ) );
+            }
+
+            assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+            assertEquals( "jobs fired before their time: " + late, 0, late.size() );
+
+            List<Long> expected = new ArrayList<>();
+            for (long delay : delays) {
+                expected.add( Math.max( 0, delay ) );
+            }
+            Collections.sort( expected );
+            List<Long> actual = new ArrayList<>();
+            for (long delay : fired) {
+                actual.add( Math.max( 0, delay ) );
+            }
+            assertEquals( expected, actual );
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testRemoveJob() throws Exception {
+        TimingWheelTimerService timeService = new TimingWheelTimerService();
+        try {
+            HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService );
+            int jobsNumber = 1000;
+            List<Integer> fired = Collections.synchronizedList( new ArrayList<>() );
+            CountDownLatch latch = new CountDownLatch( jobsNumber / 2 );
+
+            long now = System.currentTimeMillis();
+            List<JobHandle> handles = new ArrayList<>();
+            for (int i = 0; i < jobsNumber; i++) {
+                int id = i;
+                handles.add( timeService.scheduleJob( c -> {
+                    fired.add( id );
+                    latch.countDown();
+                }, ctx, new PointInTimeTrigger( now + 100 + i % 400, null, null ) ) );
+            }
+
+            for (int i = 1; i < jobsNumber; i += 2) {
+                assertTrue( timeService.removeJob( handles.get( i ) ) );
+            }
+            assertFalse( timeService.removeJob( handles.get( 1 ) ) );
+
+            assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+            Thread.sleep( 100 );
+            assertEquals( jobsNumber / 2, fired.size() );
+            for (int id : fired) {
+                assertEquals( 0, id % 2 );
+            }
+            // a job already fired cannot be removed
+            assertFalse( timeService.removeJob( handles.get( 0 ) ) );
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    @Test
+    public void testFarJobs() {
+        TimingWheelTimerService timeService = new TimingWheelTimerService();
+        try {
+            HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService );
+            Job job = c -> { };
+            long now = System.currentTimeMillis();
+            // a minute, a day, a year and a couple of centuries ahead, the last ones waiting in the overflow list
+            long[] delays = { 60_000L, 86_400_000L, 31_536_000_000L, 6_311_520_000_000L };
+            List<JobHandle> handles = new ArrayList<>();
+            for (long delay : delays) {
+                handles.add( timeService.scheduleJob( job, ctx, new PointInTimeTrigger( now + delay, null, null ) ) );
+            }
+            for (JobHandle handle : handles) {
+                assertTrue( timeService.removeJob( handle ) );
+            }
+
+            for (long delay : delays) {
+                handles.add( timeService.scheduleJob( job, ctx, new PointInTimeTrigger( now + delay, null, null ) ) );
+            }
+            timeService.reset();
+            for (JobHandle handle : handles) {
+                assertFalse( timeService.removeJob( handle ) );
+            }
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    private TimerService newTimerService() {
+        Properties properties = new Properties();
+        properties.setProperty( "drools.timerService", TimingWheelTimerService.class.getName() );
+        SessionConfiguration config = SessionConfiguration.newInstance( properties );
+        config.setClockType( ClockType.REALTIME_CLOCK );
+        return TimerServiceFactory.getTimerService( config );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.core.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongObjectHashMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<String>();
+        assertTrue( map.isEmpty() );
+
+        assertNull( map.put( 42, "a" ) );
+        assertNull( map.put( -1, "b" ) );
+        assertNull( map.put( Long.MIN_VALUE, "c" ) );
+        assertEquals( "a", map.put( 42, "d" ) );
+        assertEquals( 3, map.size() );
+
+        assertEquals( "d", map.get( 42 ) );
+        assertEquals( "b", map.get( -1 ) );
+        assertEquals( "c", map.get( Long.MIN_VALUE ) );
+        assertNull( map.get( 0 ) );
+
+        assertEquals( "b", map.remove( -1 ) );
+        assertNull( map.remove( -1 ) );
+        assertNull( map.get( -1 ) );
+        assertEquals( 2, map.size() );
+
+        map.clear();
+        assertTrue( map.isEmpty() );
+        assertNull( map.get( 42 ) );
+    }
+
+    @Test
+    public void testAgainstHashMap() {
+        // few distinct keys on many operations, so that clusters are often created and broken by removals
+        Random random = new Random( 0 );
+        LongObjectHashMap<Long> map = new LongObjectHashMap<Long>( 4 );
+        Map<Long, Long> expected = new HashMap<Long, Long>();
+
+        for ( int i = 0; i < 100000; i++ ) {
+            long key = random.nextInt( 300 ) * 1024L;
+            switch ( random.nextInt( 3 ) ) {
+                case 0:
+                    assertEquals( expected.put( key, (long) i ), map.put( key, (long) i ) );
+                    break;
+                case 1:
+                    assertEquals( expected.remove( key ), map.remove( key ) );
+                    break;
+                default:
+                    assertEquals( expected.get( key ), map.get( key ) );
+            }
+            assertEquals( expected.size(), map.size() );
+        }
+
+        for ( long key = 0; key < 300 * 1024L; key += 1024L ) {
+            assertEquals( expected.get( key ), map.get( key ) );
+        }
+    }
+}
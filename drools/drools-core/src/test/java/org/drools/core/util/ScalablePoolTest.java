@@ -19,6 +19,9 @@ package org.drools.core.util;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 public class ScalablePoolTest {
@@ -108,6 +111,147 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test
+    public void testHitsAndMisses() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        assertEquals( 1, pool.getHitCount() );
+        assertEquals( 1, pool.getMissCount() );
+        assertEquals( 2, pool.getSize() );
+
+        pool.release( resource1 );
+        pool.release( resource2 );
+        pool.get();
+        pool.get();
+        assertEquals( 3, pool.getHitCount() );
+        assertEquals( 1, pool.getMissCount() );
+
+        pool.shutdown();
+        assertEquals( 0, pool.getSize() );
+    }
+
+    @Test
+    public void testLastReleasedFirst() throws Exception {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 2, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        pool.release( resource2 );
+        pool.release( resource1 );
+
+        // the resource released last is the first one to be borrowed again, by any thread
+        assertSame( resource1, pool.get() );
+
+        PooledResource[] fromOtherThread = new PooledResource[1];
+        Thread thread = new Thread( () -> fromOtherThread[0] = pool.get() );
+        thread.start();
+        thread.join();
+        assertSame( resource2, fromOtherThread[0] );
+
+        check( monitor, 2, 2, 0 );
+        pool.shutdown();
+    }
+
+    @Test
+    public void testResourceReleasedByAThreadIsBorrowedAgainByIt() throws Exception {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 2, 2, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource[] fromOtherThread = new PooledResource[2];
+        Thread otherThread = newThreadOnAnotherStripe( pool, () -> pool.release( fromOtherThread[0] = pool.get() ) );
+        otherThread.start();
+        otherThread.join();
+        PooledResource fromThisThread = pool.get();
+        pool.release( fromThisThread );
+
+        // the resource released last by each thread is the first one it borrows, even if another thread released one later
+        otherThread = newThreadOnAnotherStripe( pool, () -> fromOtherThread[1] = pool.get() );
+        otherThread.start();
+        otherThread.join();
+        assertSame( fromOtherThread[0], fromOtherThread[1] );
+        assertSame( fromThisThread, pool.get() );
+
+        // an idle resource is taken from the stack of another thread rather than creating a new one
+        otherThread = newThreadOnAnotherStripe( pool, () -> pool.release( fromOtherThread[1] ) );
+        otherThread.start();
+        otherThread.join();
+        assertSame( fromOtherThread[1], pool.get() );
+        assertEquals( 0, pool.getMissCount() );
+        check( monitor, 2, 3, 0 );
+        pool.shutdown();
+    }
+
+    private Thread newThreadOnAnotherStripe( ScalablePool<?> pool, Runnable task ) {
+        Thread thread = new Thread( task );
+        while (pool.getStripe( thread ) == pool.getStripe( Thread.currentThread() )) {
+            thread = new Thread( task );
+        }
+        return thread;
+    }
+
+    @Test
+    public void testResourceReleasedByAThreadIsReusedByOthers() throws Exception {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        for (int i = 0; i < 10; i++) {
+            Thread thread = new Thread( () -> pool.release( pool.get() ) );
+            thread.start();
+            thread.join();
+        }
+        pool.release( pool.get() );
+
+        assertEquals( 11, pool.getHitCount() );
+        assertEquals( 0, pool.getMissCount() );
+        assertEquals( 1, pool.getSize() );
+        check( monitor, 1, 11, 0 );
+        pool.shutdown();
+    }
+
+    @Test
+    public void testReleaseAfterShutdown() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource inUse = pool.get();
+        pool.shutdown();
+        check( monitor, 1, 0, 1 );
+
+        // the resources in use are disposed by the shutdown, the ones borrowed after it when released
+        pool.release( inUse );
+        check( monitor, 1, 0, 1 );
+        pool.release( pool.get() );
+        check( monitor, 2, 0, 2 );
+        assertEquals( 0, pool.getSize() );
+    }
+
+    @Test
+    public void testTrimAfterPeak() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        List<PooledResource> peak = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            peak.add( pool.get() );
+        }
+        peak.forEach( pool::release );
+        check( monitor, 10, 10, 0 );
+
+        // once the peak is out of the window only the resources actually needed are kept
+        for (int i = 0; i < ScalablePool.TRIM_WINDOW; i++) {
+            pool.release( pool.get() );
+        }
+        assertEquals( 1, pool.getSize() );
+        check( monitor, 10, 10 + ScalablePool.TRIM_WINDOW, 9 );
+
+        pool.shutdown();
+        check( monitor, 10, 10 + ScalablePool.TRIM_WINDOW, 10 );
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertEquals(expectedNew, monitor.newCounter);
         assertEquals(expectedReset, monitor.resetCounter);
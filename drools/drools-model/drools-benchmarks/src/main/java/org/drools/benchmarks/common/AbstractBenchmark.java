@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieBase;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the runtime benchmarks: the KieBase is built once per trial, from the DRL returned
+ * by {@link #getDrl()}, either with the DRL compiler or with the executable model one.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class AbstractBenchmark {
+
+    @Param({"DRL", "EXECUTABLE_MODEL"})
+    protected KieBaseType kieBaseType;
+
+    protected KieBase kieBase;
+    protected KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setUpKieBase() {
+        kieBase = KieBaseBuilder.build( kieBaseType, getDrl(), getKieBaseOptions() );
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        if ( kieSession != null ) {
+            kieSession.dispose();
+            kieSession = null;
+        }
+    }
+
+    protected abstract String getDrl();
+
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[0];
+    }
+
+    protected void newKieSession() {
+        disposeKieSession();
+        kieSession = kieBase.newKieSession();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.common;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.conf.KieBaseOption;
+
+public final class KieBaseBuilder {
+
+    public static KieBase build( KieBaseType type, String drl, KieBaseOption... options ) {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId( "org.drools.benchmarks", "benchmark-" + UUID.randomUUID(), "1.0" );
+
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.generateAndWritePomXML( releaseId );
+        kfs.write( "src/main/resources/org/drools/benchmarks/rules.drl", drl );
+
+        KieBuilder kieBuilder = ks.newKieBuilder( kfs );
+        if ( type == KieBaseType.EXECUTABLE_MODEL ) {
+            kieBuilder.buildAll( ExecutableModelProject.class );
+        } else {
+            kieBuilder.buildAll();
+        }
+
+        List<Message> errors = kieBuilder.getResults().getMessages( Message.Level.ERROR );
+        if ( !errors.isEmpty() ) {
+            throw new IllegalStateException( "There are build errors in the benchmark rules!\n" +
+                                             errors.stream().map( Message::getText ).collect( Collectors.joining( "\n" ) ) );
+        }
+
+        KieBaseConfiguration conf = ks.newKieBaseConfiguration();
+        for ( KieBaseOption option : options ) {
+            conf.setOption( option );
+        }
+        return ks.newKieContainer( releaseId ).newKieBase( conf );
+    }
+
+    private KieBaseBuilder() {
+        // No instances, this is just a util class.
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.domain;
+
+/**
+ * A fact identified by an id and carrying a mutable value: the concrete subclasses are
+ * just distinct types, so that the benchmarks can build join networks of any depth.
+ */
+public abstract class AbstractFact {
+
+    private final int id;
+    private int value;
+
+    protected AbstractFact( int id, int value ) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public void setValue( int value ) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals( Object o ) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        AbstractFact that = (AbstractFact) o;
+        return id == that.id && value == that.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * id + value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[id=" + id + ", value=" + value + "]";
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Sums the values of the facts belonging to each group, either inserting all the facts
+ * or updating the values of the facts already accumulated.
+ */
+public class AccumulateBenchmark extends AbstractBenchmark {
+
+    public enum Operation {
+        INSERT, UPDATE
+    }
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    @Param({"10"})
+    private int groupsNumber;
+
+    @Param({"INSERT", "UPDATE"})
+    private Operation operation;
+
+    private FactA[] facts;
+    private FactHandle[] factHandles;
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $b : FactB()\n" +
+               "    accumulate( FactA( id == $b.id, $v : value ); $sum : sum( $v ) )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+        for ( int i = 0; i < groupsNumber; i++ ) {
+            kieSession.insert( new FactB( i, 0 ) );
+        }
+        facts = new FactA[factsNumber];
+        factHandles = new FactHandle[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new FactA( i % groupsNumber, i );
+        }
+        if ( operation == Operation.UPDATE ) {
+            for ( int i = 0; i < factsNumber; i++ ) {
+                factHandles[i] = kieSession.insert( facts[i] );
+            }
+            kieSession.fireAllRules();
+        }
+    }
+
+    @Benchmark
+    public int run() {
+        for ( int i = 0; i < factsNumber; i++ ) {
+            if ( operation == Operation.INSERT ) {
+                factHandles[i] = kieSession.insert( facts[i] );
+            } else {
+                facts[i].setValue( facts[i].getValue() + 1 );
+                kieSession.update( factHandles[i], facts[i] );
+            }
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.runtime;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Evaluates an alpha constraint on every inserted fact, a not indexable join constraint on every pair
+ * of facts and a consequence for half of those pairs: with the executable model the constraints and the
+ * consequence are lambdas, invoked with 1 or 2 arguments.
+ *
+ * Run it with {@code -prof gc} to compare the bytes allocated by each invocation.
+ */
+public class ConstraintEvaluationBenchmark extends AbstractBenchmark {
+
+    @Param({"100", "1000"})
+    private int factsNumber;
+
+    private final AtomicLong firings = new AtomicLong();
+
+    private FactA[] factsA;
+    private FactB[] factsB;
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "global " + AtomicLong.class.getCanonicalName() + " firings;\n" +
+               "rule R when\n" +
+               "    $a : FactA( value >= 0 )\n" +
+               "    $b : FactB( value > $a.value )\n" +
+               "then\n" +
+               "    firings.incrementAndGet();\n" +
+               "end\n";
+    }
+
+    @Setup(Level.Trial)
+    public void setUpFacts() {
+        factsA = new FactA[factsNumber];
+        factsB = new FactB[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            factsA[i] = new FactA( i, i );
+            factsB[i] = new FactB( i, i );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+        kieSession.setGlobal( "firings", firings );
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for ( int i = 0; i < factsNumber; i++ ) {
+            kieSession.insert( factsA[i] );
+            kieSession.insert( factsB[i] );
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Inserts and then deletes the facts blocking (or enabling) a not (or exists) on
+ * half of the facts already in the session.
+ */
+public class ExistentialBenchmark extends AbstractBenchmark {
+
+    @Param({"not", "exists"})
+    private String existential;
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    private FactB[] blockers;
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $a : FactA()\n" +
+               "    " + existential + " FactB( id == $a.id )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            kieSession.insert( new FactA( i, 0 ) );
+        }
+        kieSession.fireAllRules();
+        blockers = new FactB[factsNumber / 2];
+        for ( int i = 0; i < blockers.length; i++ ) {
+            blockers[i] = new FactB( i * 2, 0 );
+        }
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        FactHandle[] handles = new FactHandle[blockers.length];
+        for ( int i = 0; i < blockers.length; i++ ) {
+            handles[i] = kieSession.insert( blockers[i] );
+        }
+        int fired = kieSession.fireAllRules();
+        for ( FactHandle handle : handles ) {
+            kieSession.delete( handle );
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
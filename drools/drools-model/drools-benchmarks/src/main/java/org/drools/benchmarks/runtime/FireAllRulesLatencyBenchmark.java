@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Samples the latency of a fireAllRules triggered by a single insertion into a session
+ * already holding factsNumber facts.
+ */
+public class FireAllRulesLatencyBenchmark extends AbstractBenchmark {
+
+    @Param({"1000", "100000"})
+    private int factsNumber;
+
+    private final Random random = new Random( 0 );
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $b : FactB()\n" +
+               "    $a : FactA( id == $b.id, value < $b.value )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpKieSession() {
+        newKieSession();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            kieSession.insert( new FactA( i, i % 10 ) );
+        }
+        kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int insertAndFire() {
+        FactHandle handle = kieSession.insert( new FactB( random.nextInt( factsNumber ), 5 ) );
+        int fired = kieSession.fireAllRules();
+        kieSession.delete( handle );
+        return fired;
+    }
+}
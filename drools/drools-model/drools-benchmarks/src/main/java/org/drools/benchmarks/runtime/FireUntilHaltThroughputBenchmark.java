@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.MultithreadEvaluationOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures how many facts per second a session firing until halt can ingest, i.e. insert, match and
+ * delete, when its rules are spread on a growing number of independent partitions. Each rule matches
+ * a different literal of the same field, so every fact is evaluated by a single partition.
+ *
+ * The partitions actually evaluated in parallel are at most as many as the available processors,
+ * since the rules are assigned to RuleBasePartitionId.PARALLEL_PARTITIONS_NUMBER parallel slots.
+ */
+public class FireUntilHaltThroughputBenchmark extends AbstractBenchmark {
+
+    private static final int FACTS_NUMBER = 10_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int partitions;
+
+    @Param({"true", "false"})
+    private boolean multithread;
+
+    private final AtomicLong firings = new AtomicLong();
+
+    private FactA[] facts;
+    private FactHandle[] factHandles;
+    private Thread firingThread;
+
+    @Override
+    protected String getDrl() {
+        StringBuilder drl = new StringBuilder();
+        drl.append( "package org.drools.benchmarks;\n" );
+        drl.append( "import " ).append( FactA.class.getCanonicalName() ).append( ";\n" );
+        drl.append( "global " ).append( AtomicLong.class.getCanonicalName() ).append( " firings;\n" );
+        for ( int i = 0; i < partitions; i++ ) {
+            drl.append( "rule R" ).append( i ).append( " when\n" );
+            drl.append( "    FactA( value == " ).append( i ).append( " )\n" );
+            drl.append( "then\n" );
+            drl.append( "    firings.incrementAndGet();\n" );
+            drl.append( "end\n" );
+        }
+        return drl.toString();
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { multithread ? MultithreadEvaluationOption.YES : MultithreadEvaluationOption.NO };
+    }
+
+    @Setup(Level.Iteration)
+    public void startFiringUntilHalt() {
+        newKieSession();
+        kieSession.setGlobal( "firings", firings );
+        facts = new FactA[FACTS_NUMBER];
+        factHandles = new FactHandle[FACTS_NUMBER];
+        for ( int i = 0; i < FACTS_NUMBER; i++ ) {
+            facts[i] = new FactA( i, i % partitions );
+        }
+        firingThread = new Thread( kieSession::fireUntilHalt );
+        firingThread.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void halt() throws InterruptedException {
+        if ( kieSession != null ) {
+            kieSession.halt();
+            firingThread.join();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(FACTS_NUMBER)
+    public long insertAndDelete() {
+        long expectedFirings = firings.get() + FACTS_NUMBER;
+        for ( int i = 0; i < FACTS_NUMBER; i++ ) {
+            factHandles[i] = kieSession.insert( facts[i] );
+        }
+        while ( firings.get() < expectedFirings ) {
+            Thread.yield();
+        }
+        for ( int i = 0; i < FACTS_NUMBER; i++ ) {
+            kieSession.delete( factHandles[i] );
+        }
+        return expectedFirings;
+    }
+}
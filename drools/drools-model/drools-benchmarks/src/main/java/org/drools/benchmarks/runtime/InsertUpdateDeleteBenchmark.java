@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.AlphaThresholdOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Inserts, updates or deletes facts matched by a set of rules constraining the same field
+ * with different literals, so that the alpha network is hashed when there are at least
+ * alphaNodeHashingThreshold of them.
+ */
+public class InsertUpdateDeleteBenchmark extends AbstractBenchmark {
+
+    public enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    @Param({"16"})
+    private int rulesNumber;
+
+    @Param({"3", "1000"})
+    private int alphaNodeHashingThreshold;
+
+    @Param({"INSERT", "UPDATE", "DELETE"})
+    private Operation operation;
+
+    private FactA[] facts;
+    private FactHandle[] factHandles;
+
+    @Override
+    protected String getDrl() {
+        StringBuilder drl = new StringBuilder();
+        drl.append( "package org.drools.benchmarks;\n" );
+        drl.append( "import " ).append( FactA.class.getCanonicalName() ).append( ";\n" );
+        for ( int i = 0; i < rulesNumber; i++ ) {
+            drl.append( "rule R" ).append( i ).append( " when\n" );
+            drl.append( "    FactA( value == " ).append( i ).append( " )\n" );
+            drl.append( "then end\n" );
+        }
+        return drl.toString();
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { AlphaThresholdOption.get( alphaNodeHashingThreshold ) };
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+        facts = new FactA[factsNumber];
+        factHandles = new FactHandle[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new FactA( i, i % rulesNumber );
+        }
+        if ( operation != Operation.INSERT ) {
+            for ( int i = 0; i < factsNumber; i++ ) {
+                factHandles[i] = kieSession.insert( facts[i] );
+            }
+            kieSession.fireAllRules();
+        }
+    }
+
+    @Benchmark
+    public int run() {
+        switch ( operation ) {
+            case INSERT:
+                for ( int i = 0; i < factsNumber; i++ ) {
+                    factHandles[i] = kieSession.insert( facts[i] );
+                }
+                break;
+            case UPDATE:
+                for ( int i = 0; i < factsNumber; i++ ) {
+                    facts[i].setValue( ( facts[i].getValue() + 1 ) % rulesNumber );
+                    kieSession.update( factHandles[i], facts[i] );
+                }
+                break;
+            case DELETE:
+                for ( int i = 0; i < factsNumber; i++ ) {
+                    kieSession.delete( factHandles[i] );
+                }
+                break;
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import java.util.function.IntFunction;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.AbstractFact;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.drools.benchmarks.domain.FactC;
+import org.drools.benchmarks.domain.FactD;
+import org.drools.benchmarks.domain.FactE;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.internal.conf.IndexLeftBetaMemoryOption;
+import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Inserts the facts of a chain of joins on equal ids, with the beta memories indexed or not.
+ */
+public class JoinBenchmark extends AbstractBenchmark {
+
+    private static final Class<?>[] TYPES = { FactA.class, FactB.class, FactC.class, FactD.class, FactE.class };
+
+    private static final IntFunction<?>[] FACTORIES = {
+            id -> new FactA( id, 0 ), id -> new FactB( id, 0 ), id -> new FactC( id, 0 ), id -> new FactD( id, 0 ), id -> new FactE( id, 0 )
+    };
+
+    @Param({"1", "2", "4"})
+    private int joinDepth;
+
+    @Param({"100", "1000"})
+    private int factsNumber;
+
+    @Param({"true", "false"})
+    private boolean betaIndexing;
+
+    private AbstractFact[][] facts;
+
+    @Override
+    protected String getDrl() {
+        StringBuilder drl = new StringBuilder();
+        drl.append( "package org.drools.benchmarks;\n" );
+        for ( int i = 0; i <= joinDepth; i++ ) {
+            drl.append( "import " ).append( TYPES[i].getCanonicalName() ).append( ";\n" );
+        }
+        drl.append( "rule R when\n" );
+        drl.append( "    $f0 : FactA()\n" );
+        for ( int i = 1; i <= joinDepth; i++ ) {
+            drl.append( "    $f" ).append( i ).append( " : " ).append( TYPES[i].getSimpleName() )
+               .append( "( id == $f" ).append( i - 1 ).append( ".id )\n" );
+        }
+        drl.append( "then end\n" );
+        return drl.toString();
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return betaIndexing ?
+               new KieBaseOption[0] :
+               new KieBaseOption[] { IndexLeftBetaMemoryOption.NO, IndexRightBetaMemoryOption.NO };
+    }
+
+    @Setup(Level.Trial)
+    public void setUpFacts() {
+        facts = new AbstractFact[joinDepth + 1][factsNumber];
+        for ( int i = 0; i <= joinDepth; i++ ) {
+            for ( int j = 0; j < factsNumber; j++ ) {
+                facts[i][j] = (AbstractFact) FACTORIES[i].apply( j );
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for ( AbstractFact[] factsOfType : facts ) {
+            for ( AbstractFact fact : factsOfType ) {
+                kieSession.insert( fact );
+            }
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Justifies a logical fact for each matching fact and then removes all the justifications,
+ * so that the truth maintenance system retracts the logical facts. Several facts share the
+ * same logical fact when supportersNumber is greater than 1.
+ */
+public class LogicalInsertBenchmark extends AbstractBenchmark {
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    @Param({"1", "4"})
+    private int supportersNumber;
+
+    private FactA[] facts;
+    private FactHandle[] factHandles;
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $a : FactA( value > 0 )\n" +
+               "then\n" +
+               "    insertLogical( new FactB( $a.getId(), 0 ) );\n" +
+               "end\n";
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        newKieSession();
+        facts = new FactA[factsNumber];
+        factHandles = new FactHandle[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new FactA( i / supportersNumber, 1 );
+        }
+    }
+
+    @Benchmark
+    public int justifyAndRetract() {
+        for ( int i = 0; i < factsNumber; i++ ) {
+            factHandles[i] = kieSession.insert( facts[i] );
+        }
+        int fired = kieSession.fireAllRules();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i].setValue( 0 );
+            kieSession.update( factHandles[i], facts[i] );
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.runtime;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a session for each inserted fact with the object store selected
+ * by {@link ObjectStoreOption}. The facts don't match any rule, so the retained heap is the one of
+ * the fact handles and of the object store only. The time score is not meaningful, since it also
+ * includes the garbage collections forced to measure the heap: compare the retainedBytesPerFact
+ * counter instead.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ObjectStoreFootprintBenchmark extends AbstractBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int factsNumber;
+
+    @Param({"classaware", "compact"})
+    private String objectStore;
+
+    private FactA[] facts;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerFact;
+    }
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    FactA( value < 0 )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpKieSession() {
+        disposeKieSession();
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( ObjectStoreOption.determineObjectStore( objectStore ) );
+        kieSession = kieBase.newKieSession( conf, null );
+        facts = new FactA[factsNumber];
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts[i] = new FactA( i, i );
+        }
+    }
+
+    @Benchmark
+    public long run( Footprint footprint ) {
+        long before = usedHeap();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            kieSession.insert( facts[i] );
+        }
+        kieSession.fireAllRules();
+        footprint.retainedBytesPerFact = ( usedHeap() - before ) / factsNumber;
+        return kieSession.getFactCount();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for ( int i = 0; i < 5; i++ ) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractBenchmark;
+import org.drools.benchmarks.domain.FactA;
+import org.drools.benchmarks.domain.FactB;
+import org.drools.core.impl.StatelessKnowledgeSessionImpl;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.StatelessKieSession;
+import org.kie.internal.runtime.conf.StatelessSessionPoolOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Executes a small decision on a stateless session, either creating a new session for each call
+ * or borrowing a pre-warmed one from the pool enabled by {@link StatelessSessionPoolOption}.
+ * Run it with {@code -prof gc} to compare the bytes allocated by each call.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatelessSessionBenchmark extends AbstractBenchmark {
+
+    @Param({"10"})
+    private int factsNumber;
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private StatelessKieSession statelessSession;
+    private List<Object> facts;
+
+    @Override
+    protected String getDrl() {
+        return "package org.drools.benchmarks;\n" +
+               "import " + FactA.class.getCanonicalName() + ";\n" +
+               "import " + FactB.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $a : FactA( value > 0 )\n" +
+               "    $b : FactB( id == $a.id )\n" +
+               "then end\n";
+    }
+
+    @Setup(Level.Trial)
+    public void setUpStatelessSession() {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( StatelessSessionPoolOption.get( pooled ? 1 : 0 ) );
+        statelessSession = kieBase.newStatelessKieSession( conf );
+
+        facts = new ArrayList<>();
+        for ( int i = 0; i < factsNumber; i++ ) {
+            facts.add( new FactA( i, i ) );
+            facts.add( new FactB( i, i ) );
+        }
+        ( (StatelessKnowledgeSessionImpl) statelessSession ).warmUp( facts );
+    }
+
+    @Benchmark
+    public void execute() {
+        statelessSession.execute( facts );
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.benchmarks.startup;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.builder.impl.KnowledgeBuilderFactoryServiceImpl;
+import org.drools.compiler.kie.builder.impl.InternalKieModuleProvider;
+import org.drools.compiler.kie.builder.impl.KieServicesImpl;
+import org.drools.core.concurrent.ExecutorProviderImpl;
+import org.drools.core.io.impl.ResourceFactoryServiceImpl;
+import org.drools.core.marshalling.impl.MarshallerProviderImpl;
+import org.drools.core.time.impl.JDKTimerService;
+import org.drools.modelcompiler.CanonicalKieModuleProvider;
+import org.drools.statics.common.StaticServiceRegistry;
+import org.drools.statics.common.StaticServiceWiring;
+import org.kie.api.KieServices;
+import org.kie.api.concurrent.KieExecutors;
+import org.kie.api.io.KieResources;
+import org.kie.api.marshalling.KieMarshallers;
+import org.kie.internal.builder.KnowledgeBuilderFactoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the startup of the drools-core-static service registry in a fresh JVM, wiring the services
+ * either by looking them up by name or with the direct calls of the ProjectServices class generated by the
+ * executable model compiler. Every fork runs a single cold invocation, so the fork count is the sample size.
+ */
+@Fork(20)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StaticServiceRegistryBenchmark {
+
+    public enum Wiring {
+        REFLECTIVE {
+            @Override
+            StaticServiceWiring create() {
+                return null;
+            }
+        },
+        GENERATED {
+            @Override
+            StaticServiceWiring create() {
+                return new GeneratedServiceWiring();
+            }
+        };
+
+        abstract StaticServiceWiring create();
+    }
+
+    @Param({"REFLECTIVE", "GENERATED"})
+    private Wiring wiring;
+
+    @Benchmark
+    public Object startRegistry() {
+        StaticServiceRegistry registry = new StaticServiceRegistry( wiring.create() );
+        registry.get( KieServices.class );
+        return registry.newInstance( "TimerService" );
+    }
+
+    /**
+     * The services wired by the generated ProjectServices, without the model of a project.
+     */
+    private static class GeneratedServiceWiring implements StaticServiceWiring {
+
+        @Override
+        public void wireServices( StaticServiceRegistry registry ) {
+            registry.registerService( KieResources.class, new ResourceFactoryServiceImpl() );
+            registry.registerService( KieMarshallers.class, new MarshallerProviderImpl() );
+            registry.registerService( KieExecutors.class, new ExecutorProviderImpl() );
+            registry.registerService( KieServices.class, new KieServicesImpl() );
+            registry.registerService( KnowledgeBuilderFactoryService.class, new KnowledgeBuilderFactoryServiceImpl() );
+            registry.registerService( InternalKieModuleProvider.class, new CanonicalKieModuleProvider() );
+            registry.registerInstanceSupplier( "TimerService", JDKTimerService::new );
+        }
+    }
+}
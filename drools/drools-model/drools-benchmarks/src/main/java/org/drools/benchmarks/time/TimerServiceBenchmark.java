@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.drools.benchmarks.time;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.JobHandle;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.JDKTimerService;
+import org.drools.core.time.impl.PointInTimeTrigger;
+import org.drools.core.time.impl.TimingWheelTimerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of scheduling and cancelling a timer on the JDK and on the timing wheel
+ * timer services, while pendingTimers other timers are waiting to fire in the next hours, as it
+ * happens in a session with many events waiting for their expiration.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerServiceBenchmark {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    public enum TimerServiceType {
+        JDK {
+            @Override
+            TimerService create() {
+                return new JDKTimerService();
+            }
+        },
+        TIMING_WHEEL {
+            @Override
+            TimerService create() {
+                return new TimingWheelTimerService();
+            }
+        };
+
+        abstract TimerService create();
+    }
+
+    @Param({"JDK", "TIMING_WHEEL"})
+    private TimerServiceType timerServiceType;
+
+    @Param({"10000", "1000000"})
+    private int pendingTimers;
+
+    private final Random random = new Random( 0 );
+
+    private final Job job = ctx -> { };
+
+    private TimerService timerService;
+
+    @Setup(Level.Trial)
+    public void setUpTimerService() {
+        timerService = timerServiceType.create();
+        long now = System.currentTimeMillis();
+        for ( int i = 0; i < pendingTimers; i++ ) {
+            schedule( now + HOUR + random.nextInt( (int) HOUR ) );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownTimerService() {
+        timerService.shutdown();
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        JobHandle handle = schedule( System.currentTimeMillis() + HOUR / 60 + random.nextInt( (int) HOUR ) );
+        return timerService.removeJob( handle );
+    }
+
+    private JobHandle schedule( long timestamp ) {
+        return timerService.scheduleJob( job, new BenchmarkJobContext(), new PointInTimeTrigger( timestamp, null, null ) );
+    }
+
+    private static class BenchmarkJobContext implements JobContext {
+
+        private JobHandle jobHandle;
+
+        @Override
+        public void setJobHandle( JobHandle jobHandle ) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public InternalWorkingMemory getWorkingMemory() {
+            return null;
+        }
+    }
+}
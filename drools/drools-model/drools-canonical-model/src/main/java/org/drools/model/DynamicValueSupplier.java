@@ -16,10 +16,12 @@
 
 package org.drools.model;
 
+import java.io.Serializable;
+
 import org.drools.model.functions.Function1;
 import org.drools.model.functions.Function2;
 
-public interface DynamicValueSupplier<T> {
+public interface DynamicValueSupplier<T> extends Serializable {
 
     Variable[] getVariables();
 
@@ -38,6 +38,10 @@ public class SingleConstraint2<A, B> extends AbstractSingleConstraint {
         return new Variable[] { var1, var2 };
     }
 
+    public Predicate2<A, B> getPredicate2() {
+        return predicate;
+    }
+
     @Override
     public PredicateN getPredicate() {
         return objs -> predicate.test( (A)objs[0], (B)objs[1] );
@@ -16,10 +16,11 @@
 
 package org.drools.model.impl;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
-public interface ModelComponent {
+public interface ModelComponent extends Serializable {
     boolean isEqualTo(ModelComponent other);
 
     static boolean areEqualInModel( Object o1, Object o2 ) {
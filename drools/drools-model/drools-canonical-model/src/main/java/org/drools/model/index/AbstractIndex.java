@@ -1,9 +1,11 @@
 package org.drools.model.index;
 
+import java.io.Serializable;
+
 import org.drools.model.Index;
 import org.drools.model.functions.Function1;
 
-public abstract class AbstractIndex<A, V> implements Index<A, V> {
+public abstract class AbstractIndex<A, V> implements Index<A, V>, Serializable {
 
     private final Class<V> indexedClass;
     private final ConstraintType constraintType;
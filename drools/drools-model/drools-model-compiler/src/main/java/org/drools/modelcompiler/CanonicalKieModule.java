@@ -23,6 +23,10 @@ import static org.drools.modelcompiler.builder.CanonicalModelKieProject.PROJECT_
 import static org.drools.modelcompiler.util.StringUtil.fileNameToClass;
 import static org.kie.api.io.ResourceType.determineResourceType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,6 +40,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import org.drools.compiler.addon.DependencyFilter;
@@ -51,9 +57,12 @@ import org.drools.compiler.kie.builder.impl.KnowledgePackagesBuildResult;
 import org.drools.compiler.kie.builder.impl.ResultsImpl;
 import org.drools.compiler.kie.builder.impl.ZipKieModule;
 import org.drools.compiler.kie.util.KieJarChangeSet;
+import org.drools.compiler.kproject.ReleaseIdImpl;
 import org.drools.compiler.kproject.models.KieBaseModelImpl;
 import org.drools.compiler.kproject.models.KieModuleModelImpl;
 import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.common.DroolsObjectInputStream;
+import org.drools.core.common.DroolsObjectOutputStream;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.impl.KnowledgePackageImpl;
 import org.drools.core.impl.InternalKnowledgeBase;
@@ -65,6 +74,7 @@ import org.drools.model.NamedModelItem;
 import org.drools.modelcompiler.builder.CanonicalKieBaseUpdater;
 import org.drools.modelcompiler.builder.CanonicalModelKieProject;
 import org.drools.modelcompiler.builder.KieBaseBuilder;
+import org.drools.reflective.ComponentsFactory;
 import org.drools.reflective.ResourceProvider;
 import org.drools.reflective.classloader.ProjectClassLoader;
 import org.kie.api.KieBaseConfiguration;
@@ -86,13 +96,23 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class CanonicalKieModule implements InternalKieModule {
 
+    private static final Logger logger = LoggerFactory.getLogger( CanonicalKieModule.class );
+
     public static final String MODEL_FILE = "META-INF/kie/drools-model";
 
     public static final String MODEL_VERSION = "Drools-Model-Version:";
 
+    /**
+     * The kmodule configuration property that, when true, makes the build of the kjar also serialize every
+     * kie base, with its fully built network, in a snapshot read in place of building it again at runtime.
+     */
+    public static final String KBASE_SNAPSHOT_OPTION = "drools.kieBaseSnapshot";
+
     private final InternalKieModule internalKieModule;
 
     private Collection<String> ruleClassesNames;
@@ -123,7 +143,10 @@ public class CanonicalKieModule implements InternalKieModule {
     }
 
     public static CanonicalKieModule createFromClasspath() {
-        CanonicalKieModuleModel kmodel = createInstance( null, CanonicalModelKieProject.PROJECT_MODEL_CLASS );
+        return createFromClasspath( createInstance( null, CanonicalModelKieProject.PROJECT_MODEL_CLASS ) );
+    }
+
+    public static CanonicalKieModule createFromClasspath( CanonicalKieModuleModel kmodel ) {
         InternalKieModule internalKieModule = new CanonicalInternalKieModule(kmodel.getReleaseId(), kmodel.getKieModuleModel());
         CanonicalKieModule canonicalKieModule = new CanonicalKieModule(internalKieModule);
         canonicalKieModule.initModels( kmodel );
@@ -144,8 +167,19 @@ public class CanonicalKieModule implements InternalKieModule {
     @Override
     public InternalKnowledgeBase createKieBase( KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, KieBaseConfiguration conf ) {
         this.moduleClassLoader = (( ProjectClassLoader ) kieProject.getClassLoader());
-        KieBaseConfiguration kBaseConf = getKieBaseConfiguration( kBaseModel, moduleClassLoader, conf );
 
+        // a snapshot has the configuration of the kmodule, so it cannot be used when a different one is provided
+        if ( conf == null && isKieBaseSnapshotEnabled( kBaseModel.getKModule() ) ) {
+            InternalKnowledgeBase kieBase = readKieBaseSnapshot( kBaseModel, kieProject );
+            if ( kieBase != null ) {
+                return kieBase;
+            }
+        }
+
+        return buildKieBase( kBaseModel, kieProject, messages, conf, getKieBaseConfiguration( kBaseModel, moduleClassLoader, conf ) );
+    }
+
+    private InternalKnowledgeBase buildKieBase( KieBaseModelImpl kBaseModel, KieProject kieProject, ResultsImpl messages, KieBaseConfiguration conf, KieBaseConfiguration kBaseConf ) {
         KnowledgePackagesBuildResult knowledgePackagesBuildResult = ((AbstractKieModule)internalKieModule).buildKnowledgePackages(kBaseModel, kieProject, messages);
         if(knowledgePackagesBuildResult.hasErrors()) {
             return null;
@@ -165,6 +199,116 @@ public class CanonicalKieModule implements InternalKieModule {
         return kieBase;
     }
 
+    public static boolean isKieBaseSnapshotEnabled( KieModuleModel kModuleModel ) {
+        return Boolean.valueOf( kModuleModel.getConfigurationProperty( KBASE_SNAPSHOT_OPTION ) );
+    }
+
+    public static String getKieBaseSnapshotPath( ReleaseId releaseId, String kbaseName ) {
+        return ( (ReleaseIdImpl) releaseId ).getCompilationCachePathPrefix() + kbaseName.replace( '.', '/' ) + "/kbase.snapshot";
+    }
+
+    /**
+     * Builds the given kie base and serializes it, after a header with the version of Drools that built it
+     * and the fingerprint of the kie base, returning null if the kie base cannot be built or serialized.
+     */
+    public byte[] createKieBaseSnapshot( KieBaseModelImpl kBaseModel, KieProject kieProject ) {
+        this.moduleClassLoader = (( ProjectClassLoader ) kieProject.getClassLoader());
+        // the classes of the module are already in the kjar: the kie base is built with a class loader
+        // without classes of its own delegating to the one of the module, so they are not serialized again
+        ClassLoader snapshotClassLoader = ComponentsFactory.createProjectClassLoader( moduleClassLoader, null );
+        ResultsImpl messages = new ResultsImpl();
+        InternalKnowledgeBase kieBase = buildKieBase( kBaseModel, kieProject, messages, null,
+                                                      getKnowledgeBaseConfiguration( kBaseModel, snapshotClassLoader ) );
+        if ( kieBase == null || messages.hasMessages( Message.Level.ERROR ) ) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream header = new DataOutputStream( bytes );
+            header.writeUTF( Drools.getFullVersion() );
+            header.writeUTF( getKieBaseSnapshotFingerprint( kBaseModel, kieProject ) );
+            header.flush();
+            try (DroolsObjectOutputStream out = new DroolsObjectOutputStream( bytes )) {
+                out.writeObject( kieBase );
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn( "Unable to create a snapshot of KieBase " + kBaseModel.getName(), e );
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private InternalKnowledgeBase readKieBaseSnapshot( KieBaseModelImpl kBaseModel, KieProject kieProject ) {
+        try {
+            byte[] bytes = getKieBaseSnapshot( getKieBaseSnapshotPath( getReleaseId(), kBaseModel.getName() ) );
+            if ( bytes == null ) {
+                return null;
+            }
+
+            ByteArrayInputStream input = new ByteArrayInputStream( bytes );
+            DataInputStream header = new DataInputStream( input );
+            String version = header.readUTF();
+            if ( !version.equals( Drools.getFullVersion() ) ) {
+                logger.info( "The snapshot of KieBase " + kBaseModel.getName() + " has been created with version " + version +
+                             " and cannot be used with version " + Drools.getFullVersion() + ", building the KieBase" );
+                return null;
+            }
+            String fingerprint = header.readUTF();
+            if ( !fingerprint.equals( getKieBaseSnapshotFingerprint( kBaseModel, kieProject ) ) ) {
+                logger.info( "The snapshot of KieBase " + kBaseModel.getName() + " has been created with a different configuration," +
+                             " includes or dependencies, building the KieBase" );
+                return null;
+            }
+
+            InternalKnowledgeBase kieBase;
+            try (DroolsObjectInputStream in = new DroolsObjectInputStream( input, moduleClassLoader )) {
+                kieBase = ( InternalKnowledgeBase ) in.readObject();
+            }
+            pkgsInKbase.put( kBaseModel.getName(), new CanonicalKiePackages( new HashMap<>( kieBase.getPackagesMap() ) ) );
+            return kieBase;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            logger.warn( "Unable to read the snapshot of KieBase " + kBaseModel.getName() + ", building the KieBase", e );
+            return null;
+        }
+    }
+
+    /**
+     * Describes everything, besides the kjar itself, that the network of a kie base depends on:
+     * its configuration, the modules providing its includes and the versions of the kjars this one depends on.
+     */
+    private String getKieBaseSnapshotFingerprint( KieBaseModelImpl kBaseModel, KieProject kieProject ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "kbase=" ).append( kBaseModel.getName() )
+                .append( ";packages=" ).append( new TreeSet<>( kBaseModel.getPackages() ) )
+                .append( ";equalsBehavior=" ).append( kBaseModel.getEqualsBehavior() )
+                .append( ";eventProcessingMode=" ).append( kBaseModel.getEventProcessingMode() )
+                .append( ";declarativeAgenda=" ).append( kBaseModel.getDeclarativeAgenda() )
+                .append( ";configuration=" ).append( new TreeMap<>( kBaseModel.getKModule().getConfigurationProperties() ) );
+        for (String include : new TreeSet<>( kieProject.getTransitiveIncludes( kBaseModel ) )) {
+            InternalKieModule includeModule = kieProject.getKieModuleForKBase( include );
+            sb.append( ";include=" ).append( include ).append( '@' )
+                    .append( includeModule == null ? null : includeModule.getReleaseId().toExternalForm() );
+        }
+        getKieDependencies().keySet().stream()
+                .map( ReleaseId::toExternalForm )
+                .sorted()
+                .forEach( dependency -> sb.append( ";dependency=" ).append( dependency ) );
+        return sb.toString();
+    }
+
+    private byte[] getKieBaseSnapshot( String path ) throws IOException {
+        if ( !( internalKieModule instanceof CanonicalInternalKieModule ) ) {
+            return internalKieModule.getBytes( path );
+        }
+        // the kjar is in the classpath
+        InputStream is = moduleClassLoader.getResourceAsStream( path );
+        if ( is == null ) {
+            return null;
+        }
+        return IoUtils.readBytesFromInputStream( is );
+    }
+
     private CanonicalKiePackages createKiePackages( KieProject kieProject, KieBaseModelImpl kBaseModel, ResultsImpl messages, KieBaseConfiguration conf ) {
         Set<String> includes = kieProject == null ? Collections.emptySet() : kieProject.getTransitiveIncludes(kBaseModel);
         List<Process> processes = findProcesses( internalKieModule, kBaseModel );
@@ -17,6 +17,7 @@
 package org.drools.modelcompiler;
 
 import java.io.File;
+import java.util.function.Supplier;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
@@ -26,6 +27,20 @@ import org.kie.api.builder.model.KieModuleModel;
 
 public class CanonicalKieModuleProvider extends InternalKieModuleProvider.DrlBasedKieModuleProvider implements InternalKieModuleProvider {
 
+    private final Supplier<CanonicalKieModuleModel> projectModelSupplier;
+
+    public CanonicalKieModuleProvider() {
+        this( null );
+    }
+
+    /**
+     * Creates a provider getting the model of the classpath project from the given supplier, like the generated
+     * {@code ProjectServices} does, instead of looking up the project model class by name.
+     */
+    public CanonicalKieModuleProvider( Supplier<CanonicalKieModuleModel> projectModelSupplier ) {
+        this.projectModelSupplier = projectModelSupplier;
+    }
+
     @Override
     public InternalKieModule createKieModule( ReleaseId releaseId, KieModuleModel kieProject, File file ) {
         return createCanonicalKieModule( super.createKieModule( releaseId, kieProject, file ) );
@@ -38,7 +53,9 @@ public class CanonicalKieModuleProvider extends InternalKieModuleProvider.DrlBas
 
     @Override
     public InternalKieModule createClasspathKieModule() {
-        return CanonicalKieModule.createFromClasspath();
+        return projectModelSupplier != null ?
+                CanonicalKieModule.createFromClasspath( projectModelSupplier.get() ) :
+                CanonicalKieModule.createFromClasspath();
     }
 
     private InternalKieModule createCanonicalKieModule( InternalKieModule internalKieModule ) {
@@ -16,12 +16,14 @@
 
 package org.drools.modelcompiler.attributes;
 
+import java.io.Serializable;
+
 import org.drools.core.reteoo.RuleTerminalNode;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Tuple;
 import org.drools.model.DynamicValueSupplier;
 
-public class DynamicAttributeEvaluator<T> {
+public class DynamicAttributeEvaluator<T> implements Serializable {
     protected final DynamicValueSupplier<T> supplier;
     private Declaration[] declarations;
 
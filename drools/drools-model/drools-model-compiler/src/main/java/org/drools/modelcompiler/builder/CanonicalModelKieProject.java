@@ -32,17 +32,32 @@ import org.drools.compiler.commons.jci.compilers.CompilationResult;
 import org.drools.compiler.compiler.io.File;
 import org.drools.compiler.compiler.io.memory.MemoryFile;
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
+import org.drools.compiler.builder.impl.KnowledgeBuilderFactoryServiceImpl;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.kie.builder.impl.InternalKieModuleProvider;
 import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.KieServicesImpl;
 import org.drools.compiler.kie.builder.impl.ResultsImpl;
 import org.drools.compiler.kproject.ReleaseIdImpl;
 import org.drools.compiler.kproject.models.KieBaseModelImpl;
+import org.drools.core.concurrent.ExecutorProviderImpl;
+import org.drools.core.io.impl.ResourceFactoryServiceImpl;
+import org.drools.core.marshalling.impl.MarshallerProviderImpl;
+import org.drools.core.time.impl.JDKTimerService;
 import org.drools.core.util.Drools;
 import org.drools.model.Model;
 import org.drools.modelcompiler.CanonicalKieModule;
 import org.drools.modelcompiler.CanonicalKieModuleModel;
+import org.drools.modelcompiler.CanonicalKieModuleProvider;
+import org.kie.api.KieServices;
 import org.kie.api.builder.Message;
 import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieBaseModel;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.concurrent.KieExecutors;
+import org.kie.api.io.KieResources;
+import org.kie.api.marshalling.KieMarshallers;
+import org.kie.internal.builder.KnowledgeBuilderFactoryService;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.jci.CompilationProblem;
 
@@ -52,6 +67,12 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
     public static final String PROJECT_MODEL_RESOURCE_CLASS = PROJECT_MODEL_CLASS.replace( '.', '/' ) + ".class";
     protected static final String PROJECT_MODEL_SOURCE = "src/main/java/" + PROJECT_MODEL_CLASS.replace( '.', '/' ) + ".java";
 
+    public static final String PROJECT_SERVICES_CLASS = "org.drools.project.model.ProjectServices";
+    protected static final String PROJECT_SERVICES_SOURCE = "src/main/java/" + PROJECT_SERVICES_CLASS.replace( '.', '/' ) + ".java";
+
+    private static final String STATIC_SERVICE_REGISTRY_CLASS = "org.drools.statics.common.StaticServiceRegistry";
+    private static final String STATIC_SERVICE_WIRING_CLASS = "org.drools.statics.common.StaticServiceWiring";
+
     private final boolean isPattern;
 
     public static BiFunction<InternalKieModule, ClassLoader, KieModuleKieProject> create(boolean isPattern) {
@@ -85,34 +106,71 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
             sourceFiles.addAll(result.getSources());
         }
 
-        if (!sourceFiles.isEmpty()) {
-            String[] sources = sourceFiles.toArray( new String[sourceFiles.size()+1] );
+        // the project sources are compiled together with the model ones, so that their errors are reported in the same way
+        sourceFiles.addAll( writeProjectSources( srcMfs, modelFiles ) );
+        String[] sources = sourceFiles.toArray( new String[sourceFiles.size()] );
+
+        CompilationResult res = getCompiler().compile(sources, srcMfs, trgMfs, getClassLoader());
+
+        Stream.of(res.getErrors()).collect(groupingBy( CompilationProblem::getFileName))
+                .forEach( (name, errors) -> {
+                    errors.forEach( messages::addMessage );
+                    File srcFile = srcMfs.getFile( name );
+                    if ( srcFile instanceof MemoryFile ) {
+                        String src = new String ( srcMfs.getFileContents( ( MemoryFile ) srcFile ) );
+                        messages.addMessage( Message.Level.ERROR, name, "Java source of " + name + " in error:\n" + src);
+                    }
+                } );
+
+        for (CompilationProblem problem : res.getWarnings()) {
+            messages.addMessage(problem);
+        }
 
-            srcMfs.write(PROJECT_MODEL_SOURCE, buildModelSourceClass( modelFiles ).getBytes());
-            sources[sources.length-1] = PROJECT_MODEL_SOURCE;
+        writeModelFile(modelFiles, trgMfs);
 
-            CompilationResult res = getCompiler().compile(sources, srcMfs, trgMfs, getClassLoader());
+        if (messages.filterMessages( Message.Level.ERROR ).isEmpty()) {
+            writeKieBaseSnapshots(trgMfs);
+        }
+    }
 
-            Stream.of(res.getErrors()).collect(groupingBy( CompilationProblem::getFileName))
-                    .forEach( (name, errors) -> {
-                        errors.forEach( messages::addMessage );
-                        File srcFile = srcMfs.getFile( name );
-                        if ( srcFile instanceof MemoryFile ) {
-                            String src = new String ( srcMfs.getFileContents( ( MemoryFile ) srcFile ) );
-                            messages.addMessage( Message.Level.ERROR, name, "Java source of " + name + " in error:\n" + src);
-                        }
-                    } );
+    private void writeKieBaseSnapshots( MemoryFileSystem trgMfs ) {
+        CanonicalKieModule kieModule = (CanonicalKieModule) getInternalKieModule();
+        KieModuleModel kModuleModel = kieModule.getKieModuleModel();
+        if (!CanonicalKieModule.isKieBaseSnapshotEnabled( kModuleModel )) {
+            return;
+        }
 
-            for (CompilationProblem problem : res.getWarnings()) {
-                messages.addMessage(problem);
+        // the kie bases are built by a new module, reading the classes just compiled,
+        // so the packages cached by the module of this project are not affected
+        CanonicalKieModule snapshotModule = new CanonicalKieModule( kieModule.getInternalKieModule() );
+        KieModuleKieProject snapshotProject = new KieModuleKieProject( snapshotModule, getClassLoader().getParent() );
+        snapshotProject.init();
+        for (KieBaseModel kBaseModel : kModuleModel.getKieBaseModels().values()) {
+            byte[] snapshot = snapshotModule.createKieBaseSnapshot( (KieBaseModelImpl) kBaseModel, snapshotProject );
+            if (snapshot != null) {
+                trgMfs.write( CanonicalKieModule.getKieBaseSnapshotPath( kieModule.getReleaseId(), kBaseModel.getName() ), snapshot, true );
             }
-        } else {
-            srcMfs.write(PROJECT_MODEL_SOURCE, buildModelSourceClass( modelFiles ).getBytes());
-            CompilationResult res = getCompiler().compile(new String[] { PROJECT_MODEL_SOURCE }, srcMfs, trgMfs, getClassLoader());
-            System.out.println(res.getErrors());
         }
+    }
 
-        writeModelFile(modelFiles, trgMfs);
+    private List<String> writeProjectSources( MemoryFileSystem srcMfs, List<String> modelFiles ) {
+        List<String> projectSources = new ArrayList<>();
+        srcMfs.write(PROJECT_MODEL_SOURCE, buildModelSourceClass( modelFiles ).getBytes());
+        projectSources.add( PROJECT_MODEL_SOURCE );
+        if (isStaticServiceRegistryAvailable()) {
+            srcMfs.write(PROJECT_SERVICES_SOURCE, buildServicesSourceClass().getBytes());
+            projectSources.add( PROJECT_SERVICES_SOURCE );
+        }
+        return projectSources;
+    }
+
+    private boolean isStaticServiceRegistryAvailable() {
+        try {
+            getClassLoader().loadClass( STATIC_SERVICE_WIRING_CLASS );
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
     }
 
     protected void writeModelFile( List<String> modelSources, MemoryFileSystem trgMfs) {
@@ -162,4 +220,35 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
                 "}" );
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds a {@code StaticServiceWiring} registering the services of drools-core-static and the model
+     * of this project with direct calls instead of looking each of them up by class name. It only removes
+     * those lookups: the generated class itself is still loaded by name, the startup time is not measurably
+     * affected, and the incremental update still reads the names of the rule classes from the model file.
+     */
+    protected String buildServicesSourceClass() {
+        return "package org.drools.project.model;\n" +
+                "\n" +
+                "import " + STATIC_SERVICE_REGISTRY_CLASS + ";\n" +
+                "import " + STATIC_SERVICE_WIRING_CLASS + ";\n" +
+                "\n" +
+                "public class ProjectServices implements StaticServiceWiring {\n" +
+                "\n" +
+                "    public void wireServices( StaticServiceRegistry registry ) {\n" +
+                registerService( KieResources.class, ResourceFactoryServiceImpl.class ) +
+                registerService( KieMarshallers.class, MarshallerProviderImpl.class ) +
+                registerService( KieExecutors.class, ExecutorProviderImpl.class ) +
+                registerService( KieServices.class, KieServicesImpl.class ) +
+                registerService( KnowledgeBuilderFactoryService.class, KnowledgeBuilderFactoryServiceImpl.class ) +
+                "        registry.registerService( " + InternalKieModuleProvider.class.getCanonicalName() + ".class, " +
+                "new " + CanonicalKieModuleProvider.class.getCanonicalName() + "( ProjectModel::new ) );\n" +
+                "        registry.registerInstanceSupplier( \"TimerService\", " + JDKTimerService.class.getCanonicalName() + "::new );\n" +
+                "    }\n" +
+                "}";
+    }
+
+    private static String registerService( Class<?> service, Class<?> implementation ) {
+        return "        registry.registerService( " + service.getCanonicalName() + ".class, new " + implementation.getCanonicalName() + "() );\n";
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.drools.modelcompiler.consequence;
 
+import java.io.Serializable;
+
 import org.drools.core.WorkingMemory;
 import org.drools.core.common.EventFactHandle;
 import org.drools.core.common.InternalFactHandle;
@@ -34,13 +36,24 @@ import org.drools.model.bitmask.EmptyBitMask;
 import org.drools.model.bitmask.EmptyButLastBitMask;
 import org.drools.model.bitmask.LongBitMask;
 import org.drools.model.bitmask.OpenBitSet;
+import org.drools.model.functions.Block1;
+import org.drools.model.functions.Block2;
+import org.drools.model.functions.BlockN;
 
-public class LambdaConsequence implements Consequence {
+public class LambdaConsequence implements Consequence, Serializable {
 
     private final org.drools.model.Consequence consequence;
 
+    // the blocks with 1 or 2 arguments are executed directly, without allocating the facts array
+    private final Block1 block1;
+    private final Block2 block2;
+
     public LambdaConsequence( org.drools.model.Consequence consequence ) {
         this.consequence = consequence;
+        int arity = consequence.getVariables().length + ( consequence.isUsingDrools() ? 1 : 0 );
+        BlockN block = consequence.getBlock();
+        this.block1 = arity == 1 && block instanceof Block1.Impl ? (Block1) (( Block1.Impl ) block).getLambda() : null;
+        this.block2 = arity == 2 && block instanceof Block2.Impl ? (Block2) (( Block2.Impl ) block).getLambda() : null;
     }
 
     @Override
@@ -51,10 +64,46 @@ public class LambdaConsequence implements Consequence {
     @Override
     public void evaluate( KnowledgeHelper knowledgeHelper, WorkingMemory workingMemory ) throws Exception {
         Declaration[] declarations = ((RuleTerminalNode)knowledgeHelper.getMatch().getTuple().getTupleSink()).getRequiredDeclarations();
+        if ( block1 != null || block2 != null ) {
+            executeBlock( knowledgeHelper, workingMemory, declarations );
+            return;
+        }
         Object[] facts = declarationsToFacts( knowledgeHelper, workingMemory, knowledgeHelper.getTuple(), declarations, consequence.getVariables(), consequence.isUsingDrools() );
         consequence.getBlock().execute( facts );
     }
 
+    private void executeBlock( KnowledgeHelper knowledgeHelper, WorkingMemory workingMemory, Declaration[] declarations ) throws Exception {
+        Tuple tuple = knowledgeHelper.getTuple();
+        Variable[] vars = consequence.getVariables();
+        if ( consequence.isUsingDrools() ) {
+            DroolsImpl drools = new DroolsImpl( knowledgeHelper, workingMemory );
+            if ( block1 != null ) {
+                block1.execute( drools );
+            } else {
+                block2.execute( drools, getArgument( drools, workingMemory, tuple, declarations, vars, 0 ) );
+            }
+        } else if ( block1 != null ) {
+            block1.execute( getArgument( null, workingMemory, tuple, declarations, vars, 0 ) );
+        } else {
+            block2.execute( getArgument( null, workingMemory, tuple, declarations, vars, 0 ),
+                            getArgument( null, workingMemory, tuple, declarations, vars, 1 ) );
+        }
+    }
+
+    private static Object getArgument( DroolsImpl drools, WorkingMemory workingMemory, Tuple tuple, Declaration[] declarations, Variable[] vars, int varIndex ) {
+        if ( !vars[varIndex].isFact() ) {
+            return workingMemory.getGlobal( vars[varIndex].getName() );
+        }
+        // the declarations are only the ones of the variables that are facts
+        int declrIndex = 0;
+        for (int i = 0; i < varIndex; i++) {
+            if ( vars[i].isFact() ) {
+                declrIndex++;
+            }
+        }
+        return getFact( drools, workingMemory, tuple, declarations[declrIndex] );
+    }
+
     public static Object[] declarationsToFacts( WorkingMemory workingMemory, Tuple tuple, Declaration[] declarations, Variable[] vars ) {
         return declarationsToFacts( null, workingMemory, tuple, declarations, vars, false );
     }
@@ -74,12 +123,7 @@ public class LambdaConsequence implements Consequence {
         int declrCounter = 0;
         for (Variable var : vars) {
             if ( var.isFact() ) {
-                Declaration declaration = declarations[declrCounter++];
-                InternalFactHandle fh = getOriginalFactHandle( tuple.get( declaration ) );
-                if (useDrools) {
-                    ( (DroolsImpl) facts[0] ).registerFactHandle( fh );
-                }
-                facts[factsOffset++] = declaration.getValue( (InternalWorkingMemory ) workingMemory, fh.getObject() );
+                facts[factsOffset++] = getFact( useDrools ? (DroolsImpl) facts[0] : null, workingMemory, tuple, declarations[declrCounter++] );
             } else {
                 facts[factsOffset++] = workingMemory.getGlobal( var.getName() );
             }
@@ -87,6 +131,14 @@ public class LambdaConsequence implements Consequence {
         return facts;
     }
 
+    private static Object getFact( DroolsImpl drools, WorkingMemory workingMemory, Tuple tuple, Declaration declaration ) {
+        InternalFactHandle fh = getOriginalFactHandle( tuple.get( declaration ) );
+        if (drools != null) {
+            drools.registerFactHandle( fh );
+        }
+        return declaration.getValue( (InternalWorkingMemory ) workingMemory, fh.getObject() );
+    }
+
     private static InternalFactHandle getOriginalFactHandle(InternalFactHandle handle) {
         InternalFactHandle linkedFH = handle.isEvent() ? ((EventFactHandle )handle).getLinkedFactHandle() : null;
         return linkedFH != null ? linkedFH : handle;
@@ -16,13 +16,15 @@
 
 package org.drools.modelcompiler.constraints;
 
+import java.io.Serializable;
+
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Tuple;
 import org.drools.model.Binding;
 
-public class BindingEvaluator {
+public class BindingEvaluator implements Serializable {
     private final Declaration[] declarations;
     private final Binding binding;
 
@@ -19,6 +19,9 @@ package org.drools.modelcompiler.constraints;
 import static java.util.stream.Collectors.toList;
 import static org.drools.model.Constraint.Type.OR;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -36,15 +39,31 @@ import org.drools.model.Constraint;
 import org.drools.modelcompiler.constraints.LambdaConstraint.LambdaContextEntry;
 
 public class CombinedConstraint extends AbstractConstraint {
-    private final Constraint.Type type;
-    private final List<AbstractConstraint> constraints;
+    private Constraint.Type type;
+    private List<AbstractConstraint> constraints;
     private Declaration[] requiredDeclarations;
 
+    public CombinedConstraint() { }
+
     public CombinedConstraint( Constraint.Type type, List<AbstractConstraint> constraints ) {
         this.type = type;
         this.constraints = constraints;
     }
 
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( type );
+        out.writeObject( constraints );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        type = ( Constraint.Type ) in.readObject();
+        constraints = ( List<AbstractConstraint> ) in.readObject();
+    }
+
     @Override
     public boolean isUnification() {
         return false;
@@ -1,5 +1,6 @@
 package org.drools.modelcompiler.constraints;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,8 +12,13 @@ import org.drools.core.spi.Tuple;
 import org.drools.core.time.Interval;
 import org.drools.model.Index;
 import org.drools.model.SingleConstraint;
+import org.drools.model.constraints.SingleConstraint1;
+import org.drools.model.constraints.SingleConstraint2;
+import org.drools.model.functions.Predicate1;
+import org.drools.model.functions.Predicate2;
+import org.drools.model.functions.PredicateN;
 
-public class ConstraintEvaluator {
+public class ConstraintEvaluator implements Serializable {
 
     protected final SingleConstraint constraint;
 
@@ -22,12 +28,18 @@ public class ConstraintEvaluator {
     private final Declaration patternDeclaration;
     private final Pattern pattern;
 
+    // the predicates of the constraints with 1 or 2 arguments are invoked directly, without allocating the arguments array
+    private PredicateN predicate;
+    private Predicate1 predicate1;
+    private Predicate2 predicate2;
+
     public ConstraintEvaluator(Declaration[] declarations, SingleConstraint constraint) {
         this.constraint = constraint;
         this.pattern = null;
         this.declarations = declarations;
         this.requiredDeclarations = declarations;
         this.patternDeclaration = null;
+        initPredicate();
     }
 
     public ConstraintEvaluator(Pattern pattern, SingleConstraint constraint) {
@@ -36,6 +48,7 @@ public class ConstraintEvaluator {
         this.declarations = new Declaration[] { pattern.getDeclaration() };
         this.patternDeclaration = findPatternDeclaration();
         this.requiredDeclarations = new Declaration[0];
+        initPredicate();
     }
 
     public ConstraintEvaluator(Declaration[] declarations, Pattern pattern, SingleConstraint constraint) {
@@ -43,6 +56,21 @@ public class ConstraintEvaluator {
         this.declarations = declarations;
         this.pattern = pattern;
         this.patternDeclaration = findPatternAndRequiredDeclaration();
+        initPredicate();
+    }
+
+    private void initPredicate() {
+        if ( constraint.isTemporal() ) {
+            // temporal constraints are evaluated by the TemporalConstraintEvaluator and have no predicate
+            return;
+        }
+        if ( constraint instanceof SingleConstraint1 && declarations.length == 1 ) {
+            this.predicate1 = (( SingleConstraint1 ) constraint).getPredicate1();
+        } else if ( constraint instanceof SingleConstraint2 && declarations.length == 2 ) {
+            this.predicate2 = (( SingleConstraint2 ) constraint).getPredicate2();
+        } else {
+            this.predicate = constraint.getPredicate();
+        }
     }
 
     private Declaration findPatternDeclaration() {
@@ -70,16 +98,27 @@ public class ConstraintEvaluator {
 
     public boolean evaluate( InternalFactHandle handle, InternalWorkingMemory workingMemory ) {
         try {
-            return constraint.getPredicate().test( declarations.length == 1 ?
-                                                   getSingleArg( handle, workingMemory ) :
-                                                   getAlphaInvocationArgs( handle, workingMemory ) );
+            if ( predicate1 != null ) {
+                return predicate1.test( getSingleArgument( handle, workingMemory ) );
+            }
+            if ( predicate2 != null ) {
+                return predicate2.test( getArgument( handle, workingMemory, declarations[0], null ),
+                                        getArgument( handle, workingMemory, declarations[1], null ) );
+            }
+            return predicate.test( declarations.length == 1 ?
+                                   getSingleArg( handle, workingMemory ) :
+                                   getAlphaInvocationArgs( handle, workingMemory ) );
         } catch (Exception e) {
             throw new RuntimeException( e );
         }
     }
 
+    private Object getSingleArgument( InternalFactHandle handle, InternalWorkingMemory workingMemory ) {
+        return declarations[0].isInternalFact() ? declarations[0].getValue( workingMemory, handle.getObject() ) : handle.getObject();
+    }
+
     private Object[] getSingleArg( InternalFactHandle handle, InternalWorkingMemory workingMemory ) {
-        return declarations[0].isInternalFact() ? new Object[] { declarations[0].getValue( workingMemory, handle.getObject() ) } : new Object[] { handle.getObject() };
+        return new Object[] { getSingleArgument( handle, workingMemory ) };
     }
 
     public Object[] getAlphaInvocationArgs( InternalFactHandle handle, InternalWorkingMemory workingMemory ) {
@@ -101,7 +140,14 @@ public class ConstraintEvaluator {
 
     public boolean evaluate(InternalFactHandle handle, Tuple tuple, InternalWorkingMemory workingMemory) {
         try {
-            return constraint.getPredicate().test( getBetaInvocationArgs( handle, tuple, workingMemory ) );
+            if ( predicate1 != null ) {
+                return predicate1.test( getArgument( handle, workingMemory, declarations[0], tuple ) );
+            }
+            if ( predicate2 != null ) {
+                return predicate2.test( getArgument( handle, workingMemory, declarations[0], tuple ),
+                                        getArgument( handle, workingMemory, declarations[1], tuple ) );
+            }
+            return predicate.test( getBetaInvocationArgs( handle, tuple, workingMemory ) );
         } catch (Exception e) {
             throw new RuntimeException( e );
         }
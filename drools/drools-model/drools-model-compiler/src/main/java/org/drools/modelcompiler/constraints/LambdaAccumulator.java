@@ -15,7 +15,7 @@ import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Accumulator;
 import org.drools.core.spi.Tuple;
 
-public abstract class LambdaAccumulator implements Accumulator {
+public abstract class LambdaAccumulator implements Accumulator, Serializable {
 
     @Override
     public boolean equals(Object o) {
@@ -28,12 +28,14 @@ import org.drools.model.Index;
 
 public class LambdaConstraint extends AbstractConstraint {
 
-    private final ConstraintEvaluator evaluator;
+    private ConstraintEvaluator evaluator;
 
     private FieldValue field;
     private InternalReadAccessor readAccessor;
     private Declaration indexingDeclaration;
 
+    public LambdaConstraint() { }
+
     public LambdaConstraint(ConstraintEvaluator evaluator) {
         this.evaluator = evaluator;
         initIndexes();
@@ -55,6 +57,24 @@ public class LambdaConstraint extends AbstractConstraint {
         }
     }
 
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( evaluator );
+        out.writeObject( field );
+        out.writeObject( readAccessor );
+        out.writeObject( indexingDeclaration );
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        evaluator = ( ConstraintEvaluator ) in.readObject();
+        field = ( FieldValue ) in.readObject();
+        readAccessor = ( InternalReadAccessor ) in.readObject();
+        indexingDeclaration = ( Declaration ) in.readObject();
+    }
+
     @Override
     public String toString() {
         return evaluator.toString();
@@ -135,6 +155,11 @@ public class LambdaConstraint extends AbstractConstraint {
         return getConstraintType().isIndexableForNode(nodeType);
     }
 
+    @Override
+    public boolean isIndexable( short nodeType, boolean rangeIndex ) {
+        return getConstraintType().isIndexableForNode(nodeType, rangeIndex);
+    }
+
     @Override
     public IndexUtil.ConstraintType getConstraintType() {
         Index index = evaluator.getIndex();
@@ -16,6 +16,8 @@
 
 package org.drools.modelcompiler.constraints;
 
+import java.io.Serializable;
+
 import org.drools.core.WorkingMemory;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.rule.Declaration;
@@ -24,7 +26,7 @@ import org.drools.core.spi.EvalExpression;
 import org.drools.core.spi.Tuple;
 import org.drools.model.SingleConstraint;
 
-public class LambdaEvalExpression implements EvalExpression {
+public class LambdaEvalExpression implements EvalExpression, Serializable {
 
     private final ConstraintEvaluator evaluator;
 
@@ -16,6 +16,9 @@
 
 package org.drools.modelcompiler.constraints;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.Objects;
 
 import org.drools.core.base.ValueType;
@@ -26,7 +29,9 @@ import org.drools.model.functions.Function1;
 
 public class LambdaReadAccessor extends BaseObjectClassFieldReader implements InternalReadAccessor {
 
-    private final Function1 lambda;
+    private Function1 lambda;
+
+    public LambdaReadAccessor() { }
 
     public LambdaReadAccessor( Class<?> fieldType, Function1 lambda ) {
         this(0, fieldType, lambda);
@@ -42,6 +47,18 @@ public class LambdaReadAccessor extends BaseObjectClassFieldReader implements In
         return lambda.apply( object );
     }
 
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( lambda );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        lambda = ( Function1 ) in.readObject();
+    }
+
     @Override
     public boolean equals( Object o ) {
         if ( this == o ) return true;
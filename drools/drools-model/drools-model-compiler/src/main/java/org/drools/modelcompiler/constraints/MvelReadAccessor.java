@@ -16,6 +16,9 @@
 
 package org.drools.modelcompiler.constraints;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Date;
 
@@ -28,7 +31,12 @@ import org.mvel2.ParserContext;
 
 public class MvelReadAccessor extends BaseObjectClassFieldReader implements InternalReadAccessor {
 
-    private final Serializable expression;
+    private Class<?> thisType;
+    private String expr;
+
+    private transient Serializable expression;
+
+    public MvelReadAccessor() { }
 
     public MvelReadAccessor( Class<?> thisType, Class<?> fieldType, String expr ) {
         this(0, thisType, fieldType, expr);
@@ -36,12 +44,33 @@ public class MvelReadAccessor extends BaseObjectClassFieldReader implements Inte
 
     public MvelReadAccessor( int index, Class<?> thisType, Class<?> fieldType, String expr ) {
         super(index, fieldType, ValueType.determineValueType( fieldType ));
+        this.thisType = thisType;
+        this.expr = expr;
+        this.expression = compileExpression( thisType, expr );
+    }
 
+    private static Serializable compileExpression( Class<?> thisType, String expr ) {
         ParserContext parserContext = new ParserContext();
         parserContext.setStrictTypeEnforcement(true);
         parserContext.setStrongTyping(true);
         parserContext.addInput("this", thisType);
-        this.expression = MVEL.compileExpression(expr, parserContext);
+        return MVEL.compileExpression(expr, parserContext);
+    }
+
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( thisType );
+        out.writeObject( expr );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        thisType = ( Class<?> ) in.readObject();
+        expr = ( String ) in.readObject();
+        // the compiled expression is not serializable, so it is compiled again
+        expression = compileExpression( thisType, expr );
     }
 
     @Override
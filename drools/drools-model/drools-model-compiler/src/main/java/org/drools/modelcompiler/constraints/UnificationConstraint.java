@@ -18,6 +18,10 @@ package org.drools.modelcompiler.constraints;
 
 import static org.drools.core.rule.constraint.MvelConstraint.INDEX_EVALUATOR;
 
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 import org.drools.core.base.DroolsQuery;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
@@ -35,12 +39,14 @@ import org.drools.modelcompiler.constraints.LambdaConstraint.LambdaContextEntry;
 
 public class UnificationConstraint extends MutableTypeConstraint implements IndexableConstraint {
 
-    private final Declaration declaration;
-    private final InternalReadAccessor readAccessor;
-    private final ConstraintEvaluator evaluator;
+    private Declaration declaration;
+    private InternalReadAccessor readAccessor;
+    private ConstraintEvaluator evaluator;
 
     private boolean unification = true;
 
+    public UnificationConstraint() { }
+
     public UnificationConstraint( Declaration declaration ) {
         this(declaration, null);
     }
@@ -56,6 +62,24 @@ public class UnificationConstraint extends MutableTypeConstraint implements Inde
         }
     }
 
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        super.writeExternal( out );
+        out.writeObject( declaration );
+        out.writeObject( readAccessor );
+        out.writeObject( evaluator );
+        out.writeBoolean( unification );
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        super.readExternal( in );
+        declaration = ( Declaration ) in.readObject();
+        readAccessor = ( InternalReadAccessor ) in.readObject();
+        evaluator = ( ConstraintEvaluator ) in.readObject();
+        unification = in.readBoolean();
+    }
+
     @Override
     public boolean isUnification() {
         return unification;
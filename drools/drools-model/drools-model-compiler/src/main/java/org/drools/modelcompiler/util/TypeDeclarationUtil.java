@@ -139,6 +139,8 @@ public class TypeDeclarationUtil {
 
     public static class ClassDefinitionForModel extends ClassDefinition {
 
+        public ClassDefinitionForModel() { }
+
         public ClassDefinitionForModel( Class<?> cls ) {
             super( cls );
             processFields();
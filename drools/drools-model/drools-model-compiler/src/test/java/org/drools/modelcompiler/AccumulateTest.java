@@ -1015,6 +1015,41 @@ public class AccumulateTest extends BaseModelTest {
         assertEquals(3, results.iterator().next().getAge());
     }
 
+    @Test
+    public void testMinMaxWithRetraction() {
+        String str =
+                "import " + Person.class.getCanonicalName() + ";" +
+                "global java.util.List list;\n" +
+                "rule X when\n" +
+                "  accumulate ( Person( $age : age ); \n" +
+                "                $min : min($age), $max : max($age) \n" +
+                "              ) \n" +
+                "then\n" +
+                "  list.add($min);\n" +
+                "  list.add($max);\n" +
+                "end";
+
+        KieSession ksession = getKieSession( str );
+        List<Integer> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        ksession.insert(new Person("Mark", 37));
+        FactHandle edson = ksession.insert(new Person("Edson", 35));
+        FactHandle mario = ksession.insert(new Person("Mario", 40));
+        ksession.fireAllRules();
+        assertEquals(Arrays.asList(35, 40), list);
+
+        list.clear();
+        ksession.delete(edson);
+        ksession.fireAllRules();
+        assertEquals(Arrays.asList(37, 40), list);
+
+        list.clear();
+        ksession.delete(mario);
+        ksession.fireAllRules();
+        assertEquals(Arrays.asList(37, 37), list);
+    }
+
     @Test
     public void testNoBinding() {
 
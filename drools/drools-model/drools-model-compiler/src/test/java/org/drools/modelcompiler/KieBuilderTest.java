@@ -16,22 +16,48 @@
 
 package org.drools.modelcompiler;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.kie.builder.impl.DrlProject;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.kie.builder.impl.InternalKieModuleProvider;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.drools.compiler.kie.builder.impl.KieServicesImpl;
+import org.drools.compiler.kie.builder.impl.MemoryKieModule;
+import org.drools.compiler.kproject.models.KieBaseModelImpl;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.rule.constraint.MvelConstraint;
 import org.drools.core.spi.AlphaNodeFieldConstraint;
+import org.drools.core.time.impl.JDKTimerService;
+import org.drools.modelcompiler.builder.CanonicalModelKieProject;
 import org.drools.modelcompiler.constraints.LambdaConstraint;
+import org.drools.statics.common.StaticServiceRegistry;
+import org.drools.statics.common.StaticServiceWiring;
 import org.junit.Test;
+import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class KieBuilderTest {
@@ -54,6 +80,124 @@ public class KieBuilderTest {
         assertTrue( getAlphaConstraint( ksession ) instanceof LambdaConstraint );
     }
 
+    @Test
+    public void testGeneratedStaticServices() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        KieFileSystem kfs = ks.newKieFileSystem().write( "src/main/resources/r1.drl", createDrl( "R1" ) );
+        ks.newKieBuilder( kfs ).buildAll( ExecutableModelProject.class );
+
+        ReleaseId releaseId = ks.getRepository().getDefaultReleaseId();
+        ClassLoader kieModuleClassLoader = ks.newKieContainer( releaseId ).getClassLoader();
+        StaticServiceWiring wiring = (StaticServiceWiring) kieModuleClassLoader.loadClass( CanonicalModelKieProject.PROJECT_SERVICES_CLASS ).newInstance();
+        StaticServiceRegistry registry = new StaticServiceRegistry( wiring );
+
+        assertTrue( registry.get( KieServices.class ) instanceof KieServicesImpl );
+        assertTrue( registry.newInstance( "TimerService" ) instanceof JDKTimerService );
+
+        InternalKieModule kieModule = registry.get( InternalKieModuleProvider.class ).createClasspathKieModule();
+        assertTrue( kieModule instanceof CanonicalKieModule );
+        assertEquals( releaseId, kieModule.getReleaseId() );
+    }
+
+    @Test
+    public void testKieBaseSnapshot() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        KieModuleModel kproj = ks.newKieModuleModel();
+        kproj.setConfigurationProperty( CanonicalKieModule.KBASE_SNAPSHOT_OPTION, "true" );
+        kproj.newKieBaseModel( "kbase1" ).addPackage( "org.p1" ).setDefault( true );
+        kproj.newKieBaseModel( "kbase2" ).addPackage( "org.p2" );
+
+        KieFileSystem kfs = ks.newKieFileSystem()
+                .writeKModuleXML( kproj.toXML() )
+                .write( "src/main/resources/org/p1/r1.drl", createSnapshotDrl( "org.p1", "R1" ) )
+                .write( "src/main/resources/org/p2/r2.drl", createSnapshotDrl( "org.p2", "R2" ) );
+        KieBuilder kieBuilder = ks.newKieBuilder( kfs ).buildAll( ExecutableModelProject.class );
+        assertTrue( kieBuilder.getResults().getMessages( Message.Level.ERROR ).isEmpty() );
+
+        ReleaseId releaseId = kieBuilder.getKieModule().getReleaseId();
+        MemoryFileSystem mfs = (( MemoryKieModule ) (( CanonicalKieModule ) kieBuilder.getKieModule()).getInternalKieModule()).getMemoryFileSystem();
+        String snapshot1 = CanonicalKieModule.getKieBaseSnapshotPath( releaseId, "kbase1" );
+        String snapshot2 = CanonicalKieModule.getKieBaseSnapshotPath( releaseId, "kbase2" );
+        assertTrue( mfs.existsFile( snapshot1 ) );
+        assertTrue( mfs.existsFile( snapshot2 ) );
+
+        KieContainer kieContainer = ks.newKieContainer( releaseId );
+        KieBase kieBase = kieContainer.getKieBase( "kbase1" );
+        assertEquals( asList( "R1 abc", "R1 fact 5" ), fireSnapshotRules( kieBase ) );
+        // the packages of the module are the ones of the kie base read from the snapshot
+        CanonicalKieModule kieModule = (CanonicalKieModule) (( KieContainerImpl ) kieContainer).getKieModuleForKBase( "kbase1" );
+        KieBaseModelImpl kBaseModel = (KieBaseModelImpl) kieContainer.getKieBaseModel( "kbase1" );
+        assertSame( kieBase.getKiePackage( "org.p1" ), kieModule.getKiePackages( kBaseModel ).getKiePackage( "org.p1" ) );
+
+        byte[] bytes1 = mfs.getBytes( snapshot1 );
+        byte[] bytes2 = mfs.getBytes( snapshot2 );
+
+        // the whole snapshot of kbase2 has a different fingerprint, so it is ignored and the kie base is built
+        mfs.write( snapshot1, bytes2, true );
+        assertEquals( asList( "R1 abc", "R1 fact 5" ), fireSnapshotRules( ks.newKieContainer( releaseId ).getKieBase( "kbase1" ) ) );
+
+        // a snapshot created by another version is ignored and the kie base is built
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream( bytes );
+        header.writeUTF( "0.0.0" );
+        header.write( snapshotBody( bytes1 ) );
+        mfs.write( snapshot1, bytes.toByteArray(), true );
+        assertEquals( asList( "R1 abc", "R1 fact 5" ), fireSnapshotRules( ks.newKieContainer( releaseId ).getKieBase( "kbase1" ) ) );
+
+        // the kie base of kbase2 after the header of kbase1 shows that the kie base is read from the snapshot
+        // (last, because the packages read with it are then cached by the module)
+        mfs.write( snapshot1, concat( snapshotHeader( bytes1 ), snapshotBody( bytes2 ) ), true );
+        assertEquals( asList( "R2 abc", "R2 fact 5" ), fireSnapshotRules( ks.newKieContainer( releaseId ).getKieBase( "kbase1" ) ) );
+    }
+
+    private byte[] snapshotHeader( byte[] snapshot ) throws IOException {
+        return Arrays.copyOf( snapshot, snapshot.length - snapshotBody( snapshot ).length );
+    }
+
+    private byte[] snapshotBody( byte[] snapshot ) throws IOException {
+        ByteArrayInputStream input = new ByteArrayInputStream( snapshot );
+        DataInputStream header = new DataInputStream( input );
+        header.readUTF(); // version
+        header.readUTF(); // fingerprint
+        return Arrays.copyOfRange( snapshot, snapshot.length - input.available(), snapshot.length );
+    }
+
+    private byte[] concat( byte[] first, byte[] second ) {
+        byte[] result = Arrays.copyOf( first, first.length + second.length );
+        System.arraycopy( second, 0, result, first.length, second.length );
+        return result;
+    }
+
+    private List<String> fireSnapshotRules( KieBase kieBase ) {
+        KieSession ksession = kieBase.newKieSession();
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+        ksession.insert( "abc" );
+        ksession.insert( "a" );
+        ksession.insert( 5 );
+        ksession.fireAllRules();
+        list.sort( null );
+        return list;
+    }
+
+    private String createSnapshotDrl( String pkg, String ruleName ) {
+        return "package " + pkg + "\n" +
+                "global java.util.List list\n" +
+                "declare Fact value : int end\n" +
+                "rule " + ruleName + " when\n" +
+                "   $s : String( length > 2 )\n" +
+                "   $i : Integer( this > $s.length )\n" +
+                "then\n" +
+                "   list.add( \"" + ruleName + " \" + $s );\n" +
+                "   insert( new Fact( $i ) );\n" +
+                "end\n" +
+                "rule " + ruleName + "Fact when\n" +
+                "   Fact( $v : value )\n" +
+                "then\n" +
+                "   list.add( \"" + ruleName + " fact \" + $v );\n" +
+                "end\n";
+    }
+
     private KieSession checkKieSession(Class<? extends KieBuilder.ProjectType> projectClass) {
         KieServices ks = KieServices.Factory.get();
         KieFileSystem kfs = ks.newKieFileSystem().write( "src/main/resources/r1.drl", createDrl( "R1" ) );
@@ -25,6 +25,11 @@ public final class BenchmarkUtil {
 
     public static KJarWithKnowledgeFiles createJarFile(KieServices kieServices, ReleaseId releaseId, int numberOfRules,
             int numberOfRulesPerFile, BenchmarkType type ) {
+        return createJarFile( kieServices, releaseId, numberOfRules, numberOfRulesPerFile, 1, type );
+    }
+
+    public static KJarWithKnowledgeFiles createJarFile(KieServices kieServices, ReleaseId releaseId, int numberOfRules,
+            int numberOfRulesPerFile, int numberOfPackages, BenchmarkType type ) {
 
         final KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
         kieFileSystem.writeKModuleXML(getDefaultKieModuleModel(kieServices).toXML());
@@ -34,7 +39,7 @@ public final class BenchmarkUtil {
 
         Collection<String> generatedKnowledge = type.useRuleModel ?
                                                 generateRuleModelSourcesToKJar(kieFileSystem, numberOfRules, numberOfRulesPerFile, type.generateExprId) :
-                                                generateDRLsToKJar(kieFileSystem, numberOfRules, numberOfRulesPerFile);
+                                                generateDRLsToKJar(kieFileSystem, numberOfRules, numberOfRulesPerFile, numberOfPackages);
 
         final KieBuilder kieBuilder = kieServices.newKieBuilder( kieFileSystem );
         testGeneratedKnowledge(kieBuilder);
@@ -49,25 +54,27 @@ public final class BenchmarkUtil {
     }
 
     private static Collection<String> generateDRLsToKJar(final KieFileSystem kieFileSystem, final int numberOfRules,
-            final int numberOfRulesPerFile) {
+            final int numberOfRulesPerFile, final int numberOfPackages) {
         final Collection<String> generatedDrls = new ArrayList<>();
         // Rounding down so we generate all files with the exact amount of rules first.
         final BigDecimal numberOfFiles = BigDecimal.valueOf(numberOfRules)
                 .divide(BigDecimal.valueOf(numberOfRulesPerFile), 0, BigDecimal.ROUND_DOWN);
         for (int i = 1; i <= numberOfFiles.intValue(); i++) {
-            generatedDrls.add(generateDRLtoKJar(kieFileSystem, numberOfRulesPerFile, i));
+            generatedDrls.add(generateDRLtoKJar(kieFileSystem, numberOfRulesPerFile, i, numberOfPackages));
         }
         // Remaining rules are generated into one last file.
         final int numberOfRulesLeftToGenerate = numberOfRules - (numberOfFiles.intValue() * numberOfRulesPerFile);
         if (numberOfRulesLeftToGenerate > 0) {
-            generatedDrls.add(generateDRLtoKJar(kieFileSystem, numberOfRulesLeftToGenerate, numberOfFiles.intValue() + 1));
+            generatedDrls.add(generateDRLtoKJar(kieFileSystem, numberOfRulesLeftToGenerate, numberOfFiles.intValue() + 1, numberOfPackages));
         }
         return generatedDrls;
     }
 
-    private static String generateDRLtoKJar(final KieFileSystem kieFileSystem, final int numberOfRules, final int fileIndex) {
+    private static String generateDRLtoKJar(final KieFileSystem kieFileSystem, final int numberOfRules, final int fileIndex,
+            final int numberOfPackages) {
         final StringBuilder rulesBuilder = new StringBuilder();
-        rulesBuilder.append("package org.drools.modelcompiler.benchmarks;\n");
+        // the files are spread round robin among the packages
+        rulesBuilder.append("package org.drools.modelcompiler.benchmarks" + (numberOfPackages > 1 ? ".p" + fileIndex % numberOfPackages : "") + ";\n");
         rulesBuilder.append("\n");
         rulesBuilder.append("import " + Person.class.getCanonicalName() + ";\n");
         rulesBuilder.append("\n");
@@ -0,0 +1,113 @@
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.kie.builder.impl.ZipKieModule;
+import org.drools.modelcompiler.benchmark.BuildFromKJarBenchmark.BenchmarkType;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieRepository;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Shows how the time to build a kbase from a DRL kjar scales with the number of cores: each benchmark
+ * runs in a jvm seeing only the given number of processors, so the parallel phases of the build
+ * (parsing, rules building and the compilation of the java sources of the different packages)
+ * can use at most that many threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelBuildBenchmark {
+
+    @Param({"10000"})
+    private int numberOfRules;
+
+    @Param("50")
+    private int numberOfRulesPerFile;
+
+    @Param({"1", "16"})
+    private int numberOfPackages;
+
+    private KieServices kieServices;
+    private KieRepository kieRepository;
+    private ReleaseId releaseId;
+    private KJarWithKnowledgeFiles kjarFiles;
+    private KieModuleModel kieModuleModel;
+
+    @Setup(Level.Trial)
+    public void setUpKJar() {
+        kieServices = KieServices.get();
+        kieRepository = kieServices.getRepository();
+        releaseId = kieServices.newReleaseId("org.kie", "kjar-parallel-test", "1.0");
+        kjarFiles = BenchmarkUtil.createJarFile( kieServices, releaseId, numberOfRules, numberOfRulesPerFile, numberOfPackages, BenchmarkType.DRL );
+        kieModuleModel = BenchmarkUtil.getDefaultKieModuleModel( kieServices );
+    }
+
+    @Setup(Level.Invocation)
+    public void cleanUpRepo() {
+        kieRepository.removeKieModule(releaseId);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        System.gc();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=1")
+    public KieBase build1Core() {
+        return buildKnowledge();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=2")
+    public KieBase build2Cores() {
+        return buildKnowledge();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=4")
+    public KieBase build4Cores() {
+        return buildKnowledge();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=8")
+    public KieBase build8Cores() {
+        return buildKnowledge();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=16")
+    public KieBase build16Cores() {
+        return buildKnowledge();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-XX:ActiveProcessorCount=32")
+    public KieBase build32Cores() {
+        return buildKnowledge();
+    }
+
+    private KieBase buildKnowledge() {
+        kieRepository.addKieModule( new ZipKieModule( releaseId, kieModuleModel, kjarFiles.getJarFile() ) );
+        return kieServices.newKieContainer(releaseId).getKieBase();
+    }
+}
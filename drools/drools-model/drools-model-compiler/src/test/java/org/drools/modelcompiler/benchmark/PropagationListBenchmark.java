@@ -0,0 +1,110 @@
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.internal.runtime.conf.PropagationListOption;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the contention on the propagation list of a session running fireUntilHalt: each invocation
+ * lets all the producers insert their facts at the same time and waits until the rule fired for all of them.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropagationListBenchmark {
+
+    private static final String DRL =
+            "global java.util.concurrent.atomic.AtomicInteger counter;\n" +
+            "rule R when\n" +
+            "    $s : String()\n" +
+            "then\n" +
+            "    delete( $s );\n" +
+            "    counter.incrementAndGet();\n" +
+            "end\n";
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int producers;
+
+    @Param({"1000"})
+    private int factsPerProducer;
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    private PropagationListOption propagationList;
+
+    private KieSession ksession;
+    private AtomicInteger counter;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUpSession() {
+        KieSessionConfiguration conf = KnowledgeBaseFactory.newKnowledgeSessionConfiguration();
+        conf.setOption( propagationList );
+        ksession = new KieHelper().addContent( DRL, ResourceType.DRL ).build().newKieSession( conf, null );
+        counter = new AtomicInteger();
+        ksession.setGlobal( "counter", counter );
+
+        executor = Executors.newFixedThreadPool( producers + 1 );
+        executor.submit( () -> { ksession.fireUntilHalt(); } );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ksession.halt();
+        executor.shutdownNow();
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public int insertConcurrently() throws InterruptedException {
+        int expected = counter.get() + producers * factsPerProducer;
+
+        CountDownLatch start = new CountDownLatch( 1 );
+        CountDownLatch done = new CountDownLatch( producers );
+        for (int i = 0; i < producers; i++) {
+            executor.execute( () -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < factsPerProducer; j++) {
+                        ksession.insert( String.valueOf( j ) );
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            } );
+        }
+        start.countDown();
+        done.await();
+
+        while (counter.get() < expected) {
+            Thread.yield();
+        }
+        return expected;
+    }
+}
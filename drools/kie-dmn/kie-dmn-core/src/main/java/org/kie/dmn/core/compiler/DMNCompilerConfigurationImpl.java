@@ -81,6 +81,8 @@ public class DMNCompilerConfigurationImpl implements DMNCompilerConfiguration {
             return (T) new CoerceDecisionServiceSingletonOutputOption(properties.get(CoerceDecisionServiceSingletonOutputOption.PROPERTY_NAME));
         } else if (ExecModelCompilerOption.class.equals(option)) {
             return (T) new ExecModelCompilerOption(properties.get(ExecModelCompilerOption.PROPERTY_NAME));
+        } else if (DecisionTableIndexOption.class.equals(option)) {
+            return (T) new DecisionTableIndexOption(properties.get(DecisionTableIndexOption.PROPERTY_NAME));
         }
         return null;
     }
@@ -113,6 +115,10 @@ public class DMNCompilerConfigurationImpl implements DMNCompilerConfiguration {
         return getOption(ExecModelCompilerOption.class).isUseExecModelCompiler();
     }
 
+    public boolean isDecisionTableIndex() {
+        return getOption(DecisionTableIndexOption.class).isDecisionTableIndex();
+    }
+
     public boolean isDeferredCompilation() {
         return deferredCompilation;
     }
@@ -572,6 +572,7 @@ public class DMNEvaluatorCompiler {
                         ctx.exitFrame();
                     }
                 }
+                rule.getInputEntryText().add( ut != null ? ut.getText() : null );
                 rule.getInputEntry().add( (c, x) -> tests.stream().anyMatch( t -> {
                     Boolean result = t.apply( c, x );
                     return result != null && result;
@@ -617,6 +618,7 @@ public class DMNEvaluatorCompiler {
 
         DecisionTableImpl dti = new DecisionTableImpl(dtName, parameterNames, inputs, outputs, rules, hp, feelInstance);
         dti.setCompiledParameterNames(compiledParameterNames);
+        dti.setIndexed(getDmnCompilerConfig().isDecisionTableIndex());
         DTInvokerFunction dtf = new DTInvokerFunction( dti );
         DMNDTExpressionEvaluator dtee = new DMNDTExpressionEvaluator(node, feelInstance, dtf);
         return dtee;
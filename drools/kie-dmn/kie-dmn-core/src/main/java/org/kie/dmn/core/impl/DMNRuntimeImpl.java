@@ -24,6 +24,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import javax.xml.namespace.QName;
@@ -60,6 +63,7 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -80,9 +84,12 @@ public class DMNRuntimeImpl
 
     private boolean overrideRuntimeTypeCheck = false;
 
+    private Executor parallelExecutor;
+
     public DMNRuntimeImpl(InternalKnowledgeBase knowledgeBase) {
         this.knowledgeBase = knowledgeBase;
         this.eventManager = new DMNRuntimeEventManagerImpl();
+        this.parallelExecutor = new ParallelEvaluationOption(System.getProperty(ParallelEvaluationOption.PROPERTY_NAME)).getExecutor();
     }
 
     @Override
@@ -131,6 +138,10 @@ public class DMNRuntimeImpl
         DMNResultImpl result = createResult( model, context );
         // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
         Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+        if (isParallelEvaluation(model)) {
+            evaluateInParallel(context, result, decisions, performRuntimeTypeCheck);
+            return result;
+        }
         for( DecisionNode decision : decisions ) {
             evaluateDecision(context, result, decision, performRuntimeTypeCheck);
         }
@@ -161,6 +172,19 @@ public class DMNRuntimeImpl
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
         Objects.requireNonNull(decisionNames, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "decisionNames"));
         final DMNResultImpl result = createResult( model, context );
+        if (isParallelEvaluation(model)) {
+            List<DecisionNode> decisions = new ArrayList<>();
+            for (String name : decisionNames) {
+                DecisionNode decision = model.getDecisionByName(name);
+                if (decision != null) {
+                    decisions.add(decision);
+                } else {
+                    MsgUtil.reportMessage( logger, DMNMessage.Severity.ERROR, null, result, null, null, Msg.DECISION_NOT_FOUND_FOR_NAME, name );
+                }
+            }
+            evaluateInParallel(context, result, decisions, performRuntimeTypeCheck(model));
+            return result;
+        }
         for (String name : decisionNames) {
             evaluateByNameInternal( model, context, result, name );
         }
@@ -190,6 +214,19 @@ public class DMNRuntimeImpl
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
         Objects.requireNonNull(decisionIds, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "decisionIds"));
         final DMNResultImpl result = createResult( model, context );
+        if (isParallelEvaluation(model)) {
+            List<DecisionNode> decisions = new ArrayList<>();
+            for (String id : decisionIds) {
+                DecisionNode decision = model.getDecisionById(id);
+                if (decision != null) {
+                    decisions.add(decision);
+                } else {
+                    MsgUtil.reportMessage( logger, DMNMessage.Severity.ERROR, null, result, null, null, Msg.DECISION_NOT_FOUND_FOR_ID, id );
+                }
+            }
+            evaluateInParallel(context, result, decisions, performRuntimeTypeCheck(model));
+            return result;
+        }
         for ( String id : decisionIds ) {
             evaluateByIdInternal( model, context, result, id );
         }
@@ -213,6 +250,75 @@ public class DMNRuntimeImpl
         }
     }
 
+    /**
+     * The decisions can be evaluated in parallel only when they don't need to walk into the scope of an imported
+     * model nor to invoke a decision service, since both of them push state on the shared context of the result.
+     */
+    private boolean isParallelEvaluation(DMNModel model) {
+        return parallelExecutor != null &&
+               ((DMNModelImpl) model).getImportAliasesForNS().isEmpty() &&
+               ((DMNModelImpl) model).getDecisionServices().isEmpty();
+    }
+
+    /**
+     * Schedules each decision on the parallel executor as soon as all the decisions it requires have been evaluated,
+     * and waits for all of them to complete.
+     */
+    private void evaluateInParallel(DMNContext context, DMNResultImpl result, Collection<DecisionNode> decisions, boolean typeCheck) {
+        Map<DecisionNode, CompletableFuture<Void>> scheduled = new HashMap<>();
+        for (DecisionNode decision : decisions) {
+            scheduleDecision(context, result, decision, typeCheck, scheduled);
+        }
+        try {
+            CompletableFuture.allOf(scheduled.values().toArray(new CompletableFuture[scheduled.size()])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private CompletableFuture<Void> scheduleDecision(DMNContext context, DMNResultImpl result, DecisionNode decision, boolean typeCheck, Map<DecisionNode, CompletableFuture<Void>> scheduled) {
+        if (scheduled.containsKey(decision)) {
+            // a null value means a cycle: the dependency is left to the sequential evaluation of the decision, as it happens when not in parallel
+            CompletableFuture<Void> task = scheduled.get(decision);
+            return task != null ? task : CompletableFuture.completedFuture(null);
+        }
+        scheduled.put(decision, null);
+        List<CompletableFuture<Void>> requirements = new ArrayList<>();
+        for (DMNNode dep : ((DecisionNodeImpl) decision).getDependencies().values()) {
+            if (dep instanceof DecisionNode) {
+                requirements.add(scheduleDecision(context, result, (DecisionNode) dep, typeCheck, scheduled));
+            }
+        }
+        CompletableFuture<Void> task = CompletableFuture.allOf(requirements.toArray(new CompletableFuture[requirements.size()]))
+                                                        .thenRunAsync(() -> evaluateDecisionInIsolation(context, result, decision, typeCheck), parallelExecutor);
+        scheduled.put(decision, task);
+        return task;
+    }
+
+    /**
+     * Evaluates the decision on a private copy of the result, containing the values of all the decisions evaluated so far,
+     * then merges the values and the messages it produced back in the shared result.
+     * The decision results are shared, so the status of the required decisions is the same seen by a sequential evaluation.
+     */
+    private void evaluateDecisionInIsolation(DMNContext context, DMNResultImpl result, DecisionNode decision, boolean typeCheck) {
+        DMNResultImpl isolated = new DMNResultImpl(result.getModel());
+        synchronized (result) {
+            isolated.setContext(result.getContext().clone());
+            for (DMNDecisionResult dr : result.getDecisionResults()) {
+                isolated.addDecisionResult(dr);
+            }
+        }
+        evaluateDecision(context, isolated, decision, typeCheck);
+        synchronized (result) {
+            for (Map.Entry<String, Object> entry : isolated.getContext().getAll().entrySet()) {
+                if (!result.getContext().isDefined(entry.getKey())) {
+                    result.getContext().set(entry.getKey(), entry.getValue());
+                }
+            }
+            result.addAll(isolated.getMessages());
+        }
+    }
+
     @Override
     public void addListener(DMNRuntimeEventListener listener) {
         this.eventManager.addListener( listener );
@@ -676,6 +782,8 @@ public class DMNRuntimeImpl
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.parallelExecutor = ((ParallelEvaluationOption) option).getExecutor();
         }
     }
 
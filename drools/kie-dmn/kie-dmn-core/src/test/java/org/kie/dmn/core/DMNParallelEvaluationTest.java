@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.api.event.DefaultDMNRuntimeEventListener;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNResultImpl;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+import org.kie.dmn.feel.runtime.FEELFunction;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    private ExecutorService executor;
+
+    public DMNParallelEvaluationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEvaluateAllInParallel() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getLendingModel(runtime);
+
+        final DMNResult sequential = runtime.evaluateAll(dmnModel, createLendingContext(true));
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final DMNResult parallel = runtime.evaluateAll(dmnModel, createLendingContext(true));
+
+        assertThat(parallel.getContext().get("Routing"), is("ACCEPT"));
+        assertThat(((BigDecimal) parallel.getContext().get("RequiredMonthlyInstallment")).setScale(5, BigDecimal.ROUND_DOWN),
+                   is(new BigDecimal("1680.880325608555").setScale(5, BigDecimal.ROUND_DOWN)));
+        assertSameResult(sequential, parallel);
+    }
+
+    @Test
+    public void testEvaluateByNameInParallel() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getLendingModel(runtime);
+
+        final DMNResult sequential = runtime.evaluateByName(dmnModel, createLendingContext(true), "Routing", "Strategy", "Missing");
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final DMNResult parallel = runtime.evaluateByName(dmnModel, createLendingContext(true), "Routing", "Strategy", "Missing");
+
+        assertThat(parallel.getContext().get("Routing"), is("ACCEPT"));
+        assertThat(parallel.getContext().get("Strategy"), is("BUREAU"));
+        assertSameResult(sequential, parallel);
+    }
+
+    @Test
+    public void testFailuresInParallel() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getLendingModel(runtime);
+
+        final DMNResult sequential = runtime.evaluateAll(dmnModel, createLendingContext(false));
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        final DMNResult parallel = runtime.evaluateAll(dmnModel, createLendingContext(false));
+
+        assertThat(parallel.hasErrors(), is(true));
+        assertThat(parallel.getDecisionResultByName("Routing").getEvaluationStatus(), is(DMNDecisionResult.DecisionEvaluationStatus.SKIPPED));
+        assertSameResult(sequential, parallel);
+    }
+
+    @Test
+    public void testEventsAreOrderedPerDecision() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = getLendingModel(runtime);
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        runtime.addListener(new DefaultDMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+                events.add("before " + event.getDecision().getName() + " " + Thread.currentThread().getId());
+            }
+
+            @Override
+            public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                events.add("after " + event.getDecision().getName() + " " + Thread.currentThread().getId());
+            }
+        });
+        runtime.evaluateAll(dmnModel, createLendingContext(true));
+
+        final Map<String, String> threadOfDecision = new HashMap<>();
+        for (String event : events) {
+            String[] tokens = event.split(" ");
+            if (tokens[0].equals("before")) {
+                assertThat(event, threadOfDecision.put(tokens[1], tokens[2]) == null, is(true));
+            } else {
+                // each decision is notified once, with the after event following the before one on the same thread
+                assertThat(event, threadOfDecision.remove(tokens[1]), is(tokens[2]));
+            }
+        }
+        assertThat(threadOfDecision.isEmpty(), is(true));
+        assertThat(events.size(), is(dmnModel.getDecisions().size() * 2));
+    }
+
+    private static DMNModel getLendingModel(final DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+        return dmnModel;
+    }
+
+    private static DMNContext createLendingContext(final boolean withBureauData) {
+        final DMNContext context = DMNFactory.newContext();
+        final Map<String, Object> applicant = new HashMap<>();
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", true);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("SupportingDocuments", "yes");
+        if (withBureauData) {
+            final Map<String, Object> bureau = new HashMap<>();
+            bureau.put("CreditScore", 649);
+            bureau.put("Bankrupt", false);
+            context.set("BureauData", bureau);
+        }
+        return context;
+    }
+
+    private static void assertSameResult(final DMNResult expected, final DMNResult actual) {
+        assertThat(actual.getContext().getAll().keySet(), is(expected.getContext().getAll().keySet()));
+        for (Map.Entry<String, Object> entry : expected.getContext().getAll().entrySet()) {
+            if (!(entry.getValue() instanceof FEELFunction)) {
+                assertThat(entry.getKey(), actual.getContext().get(entry.getKey()), is(entry.getValue()));
+            }
+        }
+        for (DMNDecisionResult dr : ((DMNResultImpl) expected).getDecisionResults()) {
+            DMNDecisionResult other = actual.getDecisionResultById(dr.getDecisionId());
+            assertThat(dr.getDecisionName(), other.getEvaluationStatus(), is(dr.getEvaluationStatus()));
+            assertThat(dr.getDecisionName(), other.getResult(), is(dr.getResult()));
+            assertThat(dr.getDecisionName(), other.getMessages().size(), is(dr.getMessages().size()));
+        }
+        assertThat(actual.getMessages().size(), is(expected.getMessages().size()));
+    }
+}
@@ -19,12 +19,14 @@
 package org.kie.dmn.feel.codegen.feel11;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -110,8 +112,26 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
         }
     }
 
+    /**
+     * The slots assigned to the entries of a context being compiled: an entry already defined
+     * can be read from its slot by the expressions of the following entries.
+     */
+    private static class ContextSlots {
+        final String layoutName;
+        final List<String> names;
+        final Set<String> defined = new HashSet<>();
+
+        ContextSlots(String layoutName, List<String> names) {
+            this.layoutName = layoutName;
+            this.names = names;
+        }
+    }
+
     ScopeHelper scopeHelper = new ScopeHelper();
 
+    private final Deque<ContextSlots> contextSlots = new ArrayDeque<>();
+    private int contextLayouts = 0;
+
     @Override
     public DirectCompilerResult visit(ASTNode n) {
         throw new UnsupportedOperationException("Not yet implemented");
@@ -185,6 +205,10 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
     public DirectCompilerResult visit(NameRefNode n) {
         String nameRef = EvalHelper.normalizeVariableName(n.getText());
         Type type = scopeHelper.resolveType(nameRef).orElse(BuiltInType.UNKNOWN);
+        ContextSlots slots = contextSlots.peek();
+        if (slots != null && slots.defined.contains(nameRef)) {
+            return DirectCompilerResult.of(FeelCtx.getValue(slots.layoutName, slots.names.indexOf(nameRef), nameRef), type);
+        }
         return DirectCompilerResult.of(FeelCtx.getValue(nameRef), type);
     }
 
@@ -216,6 +240,9 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     @Override
     public DirectCompilerResult visit(InfixOpNode n) {
+        if (isIntegralArithmetic(n) && (isIntegralArithmetic(n.getLeft()) || isIntegralArithmetic(n.getRight()))) {
+            return integralArithmetic(n);
+        }
         DirectCompilerResult left = n.getLeft().accept(this);
         DirectCompilerResult right = n.getRight().accept(this);
         MethodCallExpr expr = Expressions.binary(
@@ -225,6 +252,43 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
         return DirectCompilerResult.of(expr, BuiltInType.UNKNOWN).withFD(left).withFD(right);
     }
 
+    private static boolean isIntegralArithmetic(BaseNode n) {
+        return n instanceof InfixOpNode && Expressions.isIntegralArithmetic(((InfixOpNode) n).getOperator());
+    }
+
+    /**
+     * Compiles a chain of additions, subtractions and multiplications so that its operands are evaluated once,
+     * and its intermediate results are kept in primitive longs when all the operands are integral.
+     */
+    private DirectCompilerResult integralArithmetic(InfixOpNode n) {
+        List<DirectCompilerResult> operands = new ArrayList<>();
+        Expression[] exprs = integralArithmetic(n, operands);
+        MethodCallExpr expr = Expressions.integralArithmetic(
+                operands.stream().map(DirectCompilerResult::getExpression).collect(Collectors.toList()),
+                exprs[0],
+                exprs[1]);
+        return DirectCompilerResult.of(expr, BuiltInType.UNKNOWN, mergeFDs(operands));
+    }
+
+    /**
+     * Returns the expressions computing the node on the longs and on the objects of its operands,
+     * adding to the given list the operands of the chain it belongs to
+     */
+    private Expression[] integralArithmetic(BaseNode n, List<DirectCompilerResult> operands) {
+        if (!isIntegralArithmetic(n)) {
+            int index = operands.size();
+            operands.add(n.accept(this));
+            return new Expression[] { Expressions.integralOperand(index), Expressions.operand(index) };
+        }
+        InfixOpNode infix = (InfixOpNode) n;
+        Expression[] left = integralArithmetic(infix.getLeft(), operands);
+        Expression[] right = integralArithmetic(infix.getRight(), operands);
+        return new Expression[] {
+                Expressions.integralBinary(infix.getOperator(), left[0], right[0]),
+                Expressions.binary(infix.getOperator(), left[1], right[1])
+        };
+    }
+
     @Override
     public DirectCompilerResult visit(InstanceOfNode n) {
         DirectCompilerResult expr = n.getExpression().accept(this);
@@ -315,19 +379,32 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
         scopeHelper.pushScope();
 
-        // openContext(feelCtx)
+        // the entries are stored in the slots of a frame, resolved here once for all the evaluations
+        List<String> slotNames = n.getEntries()
+                .stream()
+                .map(e -> EvalHelper.normalizeVariableName(contextEntryKey(e)))
+                .distinct()
+                .collect(Collectors.toList());
+        String layoutName = Constants.contextLayoutName(contextLayouts++);
+        ContextSlots slots = new ContextSlots(layoutName, slotNames);
+        contextSlots.push(slots);
+
+        // openContext(feelCtx, layout)
         MapBackedType resultType = new MapBackedType();
         DirectCompilerResult openContext =
-                DirectCompilerResult.of(FeelCtx.openContext(), resultType);
+                DirectCompilerResult.of(FeelCtx.openContext(layoutName),
+                                        resultType,
+                                        Constants.contextLayout(layoutName, slotNames));
 
-        //   .setEntry( k,v )
-        //   .setEntry( k,v )
+        //   .setEntry( slot,k,v )
+        //   .setEntry( slot,k,v )
         //   ...
         DirectCompilerResult entries = n.getEntries()
                 .stream()
                 .map(e -> {
                     DirectCompilerResult r = e.accept(this);
                     scopeHelper.addType(e.getName().getText(), r.resultType);
+                    slots.defined.add(EvalHelper.normalizeVariableName(contextEntryKey(e)));
                     return r;
                 })
                 .reduce(openContext,
@@ -336,6 +413,7 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                                 r.resultType,
                                 DirectCompilerResult.mergeFDs(l, r)));
 
+        contextSlots.pop();
         scopeHelper.popScope();
 
         // .closeContext()
@@ -347,16 +425,13 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     @Override
     public DirectCompilerResult visit(ContextEntryNode n) {
-        DirectCompilerResult key = n.getName().accept(this);
+        String keyText = contextEntryKey(n);
         DirectCompilerResult value = n.getValue().accept(this);
-        if (key.resultType != BuiltInType.STRING) {
-            throw new IllegalArgumentException(
-                    "a Context Entry Key must be a valid FEEL String type");
-        }
-        String keyText = key.getExpression().asStringLiteralExpr().getValue();
 
-        // .setEntry(key, value)
-        MethodCallExpr setEntryContextCall =
+        // .setEntry(slot, key, value)
+        ContextSlots slots = contextSlots.peek();
+        MethodCallExpr setEntryContextCall = slots != null ?
+                FeelCtx.setEntry(slots.names.indexOf(EvalHelper.normalizeVariableName(keyText)), keyText, value.getExpression()) :
                 FeelCtx.setEntry(keyText, value.getExpression());
 
         return DirectCompilerResult.of(
@@ -365,6 +440,15 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
                 value.getFieldDeclarations());
     }
 
+    private String contextEntryKey(ContextEntryNode n) {
+        DirectCompilerResult key = n.getName().accept(this);
+        if (key.resultType != BuiltInType.STRING) {
+            throw new IllegalArgumentException(
+                    "a Context Entry Key must be a valid FEEL String type");
+        }
+        return key.getExpression().asStringLiteralExpr().getValue();
+    }
+
     @Override
     public DirectCompilerResult visit(FilterExpressionNode n) {
         DirectCompilerResult expr = n.getExpression().accept(this);
@@ -22,6 +22,8 @@ import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import ch.obermuhlner.math.big.BigDecimalMath;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent;
@@ -332,6 +334,29 @@ public class CompiledFEELSemanticMappings {
         return InfixOpNode.math(left, right, null, (l, r) -> BigDecimalMath.pow(l, r, MathContext.DECIMAL128));
     }
 
+    /**
+     * Evaluates a chain of additions, subtractions and multiplications of the given operands.
+     * When all the operands are integral the chain is computed on primitive longs, and only its result
+     * is converted to a BigDecimal; otherwise, or when an intermediate result overflows, the chain is
+     * computed with the FEEL operations on the same operands.
+     */
+    public static Object integralArithmetic(Object[] operands, ToLongFunction<Object[]> integralOp, Function<Object[], Object> op) {
+        for (Object operand : operands) {
+            if (!EvalHelper.isIntegral(operand)) {
+                return op.apply(operands);
+            }
+        }
+        try {
+            return BigDecimal.valueOf(integralOp.applyAsLong(operands));
+        } catch (ArithmeticException e) {
+            return op.apply(operands);
+        }
+    }
+
+    public static long integralValue(Object operand) {
+        return EvalHelper.getLong(operand);
+    }
+
     /**
      * FEEL spec Table 42 and derivations
      * Delegates to {@link EvalHelper} except evaluationcontext
@@ -58,7 +58,10 @@ import org.kie.dmn.feel.lang.ast.QuantifiedExpressionNode;
 import org.kie.dmn.feel.lang.ast.QuantifiedExpressionNode.QEIteration;
 import org.kie.dmn.feel.lang.ast.QuantifiedExpressionNode.Quantifier;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.ExecutionFrame;
 import org.kie.dmn.feel.lang.impl.SilentWrappingEvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.SlotExecutionFrame;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
 import org.kie.dmn.feel.parser.feel11.FEELParser;
@@ -77,21 +80,62 @@ public class CompiledFEELSupport {
         return new ContextBuilder(ctx);
     }
 
+    public static ContextBuilder openContext(EvaluationContext ctx, SlotExecutionFrame.Layout layout) {
+        return new ContextBuilder(ctx, layout);
+    }
+
+    /**
+     * Reads the value of a variable from the given slot when the current frame is the one of the context
+     * whose layout has been resolved at compile time, otherwise it falls back to look up its name.
+     */
+    public static Object getValue(EvaluationContext ctx, SlotExecutionFrame.Layout layout, int slot, String name) {
+        if (ctx instanceof EvaluationContextImpl) {
+            ExecutionFrame frame = ((EvaluationContextImpl) ctx).peek();
+            if (frame instanceof SlotExecutionFrame) {
+                SlotExecutionFrame slotFrame = (SlotExecutionFrame) frame;
+                if (slotFrame.getLayout() == layout && slotFrame.getRootObject() == null && slotFrame.isDefined(slot)) {
+                    return slotFrame.getValue(slot);
+                }
+            }
+        }
+        return ctx.getValue(name);
+    }
+
     public static class ContextBuilder {
         private Map<String, Object> resultContext = new HashMap<>();
         private EvaluationContext evaluationContext;
+        private SlotExecutionFrame frame;
 
         public ContextBuilder(EvaluationContext evaluationContext) {
             this.evaluationContext = evaluationContext;
             evaluationContext.enterFrame();
         }
 
+        public ContextBuilder(EvaluationContext evaluationContext, SlotExecutionFrame.Layout layout) {
+            this.evaluationContext = evaluationContext;
+            if (evaluationContext instanceof EvaluationContextImpl) {
+                this.frame = ((EvaluationContextImpl) evaluationContext).enterFrame(layout);
+            } else {
+                evaluationContext.enterFrame();
+            }
+        }
+
         public ContextBuilder setEntry(String key, Object value) {
             resultContext.put(key, value);
             evaluationContext.setValue(key, value);
             return this;
         }
 
+        public ContextBuilder setEntry(int slot, String key, Object value) {
+            resultContext.put(key, value);
+            if (frame != null) {
+                frame.setValue(slot, EvalHelper.coerceNumber(value));
+            } else {
+                evaluationContext.setValue(key, value);
+            }
+            return this;
+        }
+
         public Map<String, Object> closeContext() {
             evaluationContext.exitFrame();
             return resultContext;
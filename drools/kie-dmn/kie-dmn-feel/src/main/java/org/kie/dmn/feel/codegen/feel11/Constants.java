@@ -35,6 +35,7 @@ import org.drools.javaparser.ast.expr.StringLiteralExpr;
 import org.drools.javaparser.ast.type.ClassOrInterfaceType;
 import org.drools.javaparser.ast.type.Type;
 import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.impl.SlotExecutionFrame;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
 
@@ -49,6 +50,7 @@ public class Constants {
     public static final String RangeBoundary =
             Range.RangeBoundary.class.getCanonicalName();
     public static final Expression BuiltInTypeT = JavaParser.parseExpression("org.kie.dmn.feel.lang.types.BuiltInType");
+    public static final ClassOrInterfaceType LayoutT = JavaParser.parseClassOrInterfaceType(SlotExecutionFrame.Layout.class.getCanonicalName());
     public static final ClassOrInterfaceType FunctionT = JavaParser.parseClassOrInterfaceType("java.util.function.Function<EvaluationContext, Object>");
 
     public static FieldDeclaration of(Type type, String name, Expression initializer) {
@@ -62,8 +64,10 @@ public class Constants {
         initializer.setType(BigDecimalT);
         String originalText = numericValue;
         try {
-            Long.parseLong(originalText);
-            initializer.addArgument(originalText.replaceFirst("^0+(?!$)", "")); // see EvalHelper.getBigDecimalOrNull
+            long value = Long.parseLong(originalText);
+            String literal = originalText.replaceFirst("^0+(?!$)", ""); // see EvalHelper.getBigDecimalOrNull
+            // a java int literal cannot hold the values beyond the int range
+            initializer.addArgument(value == (int) value ? literal : literal + "L");
         } catch (Throwable t) {
             initializer.addArgument(new StringLiteralExpr(originalText));
         }
@@ -75,6 +79,19 @@ public class Constants {
         return "K_" + CodegenStringUtil.escapeIdentifier(originalText);
     }
 
+    public static FieldDeclaration contextLayout(String name, List<String> slotNames) {
+        ObjectCreationExpr initializer = new ObjectCreationExpr();
+        initializer.setType(LayoutT);
+        for (String slotName : slotNames) {
+            initializer.addArgument(new StringLiteralExpr(slotName));
+        }
+        return of(LayoutT, name, initializer);
+    }
+
+    public static String contextLayoutName(int index) {
+        return "CTX_" + index;
+    }
+
     public static FieldDeclaration unaryTest(String name, LambdaExpr value) {
         return of(UnaryTestT, name, value);
     }
@@ -22,13 +22,18 @@ import java.util.Collection;
 import java.util.List;
 
 import org.drools.javaparser.JavaParser;
+import org.drools.javaparser.ast.ArrayCreationLevel;
 import org.drools.javaparser.ast.NodeList;
 import org.drools.javaparser.ast.body.FieldDeclaration;
 import org.drools.javaparser.ast.body.Parameter;
+import org.drools.javaparser.ast.expr.ArrayAccessExpr;
+import org.drools.javaparser.ast.expr.ArrayCreationExpr;
+import org.drools.javaparser.ast.expr.ArrayInitializerExpr;
 import org.drools.javaparser.ast.expr.CastExpr;
 import org.drools.javaparser.ast.expr.ClassExpr;
 import org.drools.javaparser.ast.expr.EnclosedExpr;
 import org.drools.javaparser.ast.expr.Expression;
+import org.drools.javaparser.ast.expr.IntegerLiteralExpr;
 import org.drools.javaparser.ast.expr.LambdaExpr;
 import org.drools.javaparser.ast.expr.MethodCallExpr;
 import org.drools.javaparser.ast.expr.NameExpr;
@@ -86,6 +91,10 @@ public class Expressions {
     public static final String LEFT = "left";
     public static final NameExpr LEFT_EXPR = new NameExpr(LEFT);
     public static final UnknownType UNKNOWN_TYPE = new UnknownType();
+    private static final String OPERANDS = "operands";
+    private static final NameExpr OPERANDS_EXPR = new NameExpr(OPERANDS);
+    private static final NameExpr MATH = new NameExpr(Math.class.getCanonicalName());
+    private static final ClassOrInterfaceType ObjectT = new ClassOrInterfaceType(null, Object.class.getCanonicalName());
     public static final NameExpr STDLIB = new NameExpr(CompiledFEELSupport.class.getSimpleName());
 
     public static Expression dash() {
@@ -138,6 +147,50 @@ public class Expressions {
         return new MethodCallExpr(null, op, new NodeList<>(left, right));
     }
 
+    public static boolean isIntegralArithmetic(InfixOpNode.InfixOperator operator) {
+        return operator == InfixOpNode.InfixOperator.ADD || operator == InfixOpNode.InfixOperator.SUB || operator == InfixOpNode.InfixOperator.MULT;
+    }
+
+    public static MethodCallExpr integralArithmetic(List<Expression> operands, Expression integralExpr, Expression expr) {
+        ArrayCreationExpr operandsArray = new ArrayCreationExpr(
+                ObjectT,
+                new NodeList<>(new ArrayCreationLevel()),
+                new ArrayInitializerExpr(new NodeList<>(operands)));
+        return new MethodCallExpr(null, "integralArithmetic", new NodeList<>(
+                operandsArray,
+                operandsLambda(integralExpr),
+                operandsLambda(expr)));
+    }
+
+    public static Expression integralOperand(int index) {
+        return new MethodCallExpr(null, "integralValue", new NodeList<>(operand(index)));
+    }
+
+    public static Expression operand(int index) {
+        return new ArrayAccessExpr(OPERANDS_EXPR, new IntegerLiteralExpr(index));
+    }
+
+    public static MethodCallExpr integralBinary(InfixOpNode.InfixOperator operator, Expression l, Expression r) {
+        switch (operator) {
+            case ADD:
+                return new MethodCallExpr(MATH, "addExact", new NodeList<>(l, r));
+            case SUB:
+                return new MethodCallExpr(MATH, "subtractExact", new NodeList<>(l, r));
+            case MULT:
+                return new MethodCallExpr(MATH, "multiplyExact", new NodeList<>(l, r));
+            default:
+                throw new UnsupportedOperationException(operator.toString());
+        }
+    }
+
+    private static LambdaExpr operandsLambda(Expression expr) {
+        return new LambdaExpr(
+                new NodeList<>(
+                        new Parameter(UNKNOWN_TYPE, OPERANDS)),
+                new ExpressionStmt(expr),
+                true);
+    }
+
     private static MethodCallExpr equality(String op, Expression left, Expression right) {
         return new MethodCallExpr(null, op, new NodeList<>(left, right));
     }
@@ -21,6 +21,7 @@ package org.kie.dmn.feel.codegen.feel11;
 import org.drools.javaparser.JavaParser;
 import org.drools.javaparser.ast.NodeList;
 import org.drools.javaparser.ast.expr.Expression;
+import org.drools.javaparser.ast.expr.IntegerLiteralExpr;
 import org.drools.javaparser.ast.expr.MethodCallExpr;
 import org.drools.javaparser.ast.expr.NameExpr;
 import org.drools.javaparser.ast.expr.StringLiteralExpr;
@@ -40,6 +41,17 @@ public class FeelCtx {
         return new MethodCallExpr(FEELCTX, "getValue", new NodeList<>(new StringLiteralExpr(nameRef)));
     }
 
+    public static MethodCallExpr getValue(String layoutName, int slot, String nameRef) {
+        return new MethodCallExpr(
+                new NameExpr(FEEL_SUPPORT),
+                "getValue",
+                new NodeList<>(
+                        FEELCTX,
+                        new NameExpr(layoutName),
+                        new IntegerLiteralExpr(slot),
+                        new StringLiteralExpr(nameRef)));
+    }
+
     public static MethodCallExpr current() {
         return new MethodCallExpr(FeelCtx.FEELCTX, "current");
     }
@@ -52,6 +64,24 @@ public class FeelCtx {
     }
 
 
+    public static MethodCallExpr openContext(String layoutName) {
+        return new MethodCallExpr(
+                new NameExpr(FEEL_SUPPORT),
+                "openContext")
+                .addArgument(FEELCTX)
+                .addArgument(new NameExpr(layoutName));
+    }
+
+    public static MethodCallExpr setEntry(int slot, String keyText, Expression expression) {
+        return new MethodCallExpr(
+                null,
+                "setEntry",
+                new NodeList<>(
+                        new IntegerLiteralExpr(slot),
+                        new StringLiteralExpr(keyText),
+                        expression));
+    }
+
     public static MethodCallExpr setEntry(String keyText, Expression expression) {
         return new MethodCallExpr(
                 null,
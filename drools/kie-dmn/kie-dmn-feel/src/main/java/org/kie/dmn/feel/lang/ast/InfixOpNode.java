@@ -30,6 +30,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.util.function.BinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 import ch.obermuhlner.math.big.BigDecimalMath;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -201,6 +202,8 @@ public class InfixOpNode
     public static Object add(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        } else if ( EvalHelper.isIntegral( left ) && EvalHelper.isIntegral( right ) ) {
+            return integralMath( left, right, ctx, Math::addExact, (l, r) -> l.add( r, MathContext.DECIMAL128 ) );
         } else if ( left instanceof String && right instanceof String ) {
             return ((String) left) + ((String) right);
         } else if ( left instanceof Period && right instanceof Period ) {
@@ -255,6 +258,8 @@ public class InfixOpNode
     public static Object sub(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        } else if ( EvalHelper.isIntegral( left ) && EvalHelper.isIntegral( right ) ) {
+            return integralMath( left, right, ctx, Math::subtractExact, (l, r) -> l.subtract( r, MathContext.DECIMAL128 ) );
         } else if ( left instanceof Temporal && right instanceof Temporal ) {
             if( left instanceof ZonedDateTime || left instanceof OffsetDateTime ) {
                 if( right instanceof LocalDateTime ) {
@@ -300,6 +305,8 @@ public class InfixOpNode
     public static Object mult(Object left, Object right, EvaluationContext ctx) {
         if ( left == null || right == null ) {
             return null;
+        } else if ( EvalHelper.isIntegral( left ) && EvalHelper.isIntegral( right ) ) {
+            return integralMath( left, right, ctx, Math::multiplyExact, (l, r) -> l.multiply( r, MathContext.DECIMAL128 ) );
         } else if ( left instanceof Duration && right instanceof Number ) {
             return ((Duration)left).multipliedBy( ((Number) right).longValue() );
         } else if ( left instanceof Number && right instanceof Duration ) {
@@ -337,6 +344,19 @@ public class InfixOpNode
         }
     }
 
+    /**
+     * Performs the operation on the primitive longs of two integral operands, falling back to the BigDecimal
+     * operation when it overflows. The exact result of an operation on two such longs never exceeds the
+     * DECIMAL128 precision, so it is the same BigDecimal, including its scale, returned by the BigDecimal operation.
+     */
+    private static Object integralMath(Object left, Object right, EvaluationContext ctx, LongBinaryOperator op, BinaryOperator<BigDecimal> fallback) {
+        try {
+            return BigDecimal.valueOf( op.applyAsLong( EvalHelper.getLong( left ), EvalHelper.getLong( right ) ) );
+        } catch ( ArithmeticException e ) {
+            return math( left, right, ctx, fallback );
+        }
+    }
+
     public static Object math(Object left, Object right, EvaluationContext ctx, BinaryOperator<BigDecimal> op) {
         BigDecimal l = EvalHelper.getBigDecimalOrNull( left );
         BigDecimal r = EvalHelper.getBigDecimalOrNull( right );
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.dmn.feel.lang.CompiledExpression;
+
+/**
+ * A bounded LRU cache of the expressions compiled by a FEELImpl when evaluating an expression text,
+ * so that the same text is parsed and compiled only once.
+ *
+ * The compilation of an expression depends on the profiles of the FEELImpl owning the cache and on
+ * the names of the input variables, including the names in the nested contexts, since those are the
+ * symbols defined for the parser: the key of the cache is then made of the expression text and of the
+ * shape of the input variables.
+ */
+public class CompiledExpressionCache {
+
+    public static final String SIZE_PROPERTY = "org.kie.dmn.feel.compiledExpressionCache.size";
+
+    public static final int DEFAULT_SIZE = 512;
+
+    private final int maxSize;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    // evicts based on access-time, not on insertion-time
+    private final LinkedHashMap<Key, CompiledExpression> expressions = new LinkedHashMap<Key, CompiledExpression>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompiledExpression> eldest) {
+            if (size() > maxSize) {
+                evictionCount++;
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public CompiledExpressionCache() {
+        this(Integer.parseInt(System.getProperty(SIZE_PROPERTY, String.valueOf(DEFAULT_SIZE))));
+    }
+
+    public CompiledExpressionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public static Key keyFor(String expression, Map<String, Object> inputVariables) {
+        return new Key(expression, inputVariables != null ? shapeOf(inputVariables) : null);
+    }
+
+    public synchronized CompiledExpression get(Key key) {
+        CompiledExpression expression = expressions.get(key);
+        if (expression != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return expression;
+    }
+
+    public synchronized void put(Key key, CompiledExpression expression) {
+        expressions.putIfAbsent(key, expression);
+    }
+
+    public synchronized void clear() {
+        expressions.clear();
+    }
+
+    public synchronized int size() {
+        return expressions.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Mirrors the way the parser defines the input variables: the names of the variables, descending into the
+     * variables valued with a map, as the parser also defines their keys in a nested scope.
+     */
+    private static Map<Object, Object> shapeOf(Map<?, ?> values) {
+        Map<Object, Object> shape = new HashMap<>(values.size() * 2);
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            shape.put(entry.getKey(), entry.getValue() instanceof Map ? shapeOf((Map<?, ?>) entry.getValue()) : Boolean.TRUE);
+        }
+        return shape;
+    }
+
+    public static final class Key {
+
+        private final String expression;
+        private final Map<Object, Object> inputShape;
+        private final int hashCode;
+
+        private Key(String expression, Map<Object, Object> inputShape) {
+            this.expression = expression;
+            this.inputShape = inputShape;
+            this.hashCode = 31 * expression.hashCode() + (inputShape != null ? inputShape.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hashCode == other.hashCode && expression.equals(other.expression) &&
+                   (inputShape != null ? inputShape.equals(other.inputShape) : other.inputShape == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
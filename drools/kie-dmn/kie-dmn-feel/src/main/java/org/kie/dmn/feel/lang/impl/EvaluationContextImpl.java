@@ -90,6 +90,16 @@ public class EvaluationContextImpl implements EvaluationContext {
         push( new ExecutionFrameImpl( peek() /*, symbols, scope*/ ) );
     }
 
+    /**
+     * Enters a frame storing the variables defined by the given layout in slots,
+     * which the compiled expressions can then read without looking up their names.
+     */
+    public SlotExecutionFrame enterFrame(SlotExecutionFrame.Layout layout) {
+        SlotExecutionFrame frame = new SlotExecutionFrame( peek(), layout );
+        push( frame );
+        return frame;
+    }
+
     @Override
     public void exitFrame() {
         pop();
@@ -16,6 +16,7 @@
 
 package org.kie.dmn.feel.lang.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,6 +59,7 @@ public class FEELImpl
     private final Optional<ExecutionFrameImpl> customFrame;
     private final Collection<FEELFunction> customFunctions;
     private final boolean doCompile;
+    private final CompiledExpressionCache expressionCache = new CompiledExpressionCache();
 
     public FEELImpl() {
         this(ClassLoaderUtil.findDefaultClassLoader(), Collections.emptyList());
@@ -129,22 +131,13 @@ public class FEELImpl
     
     @Override
     public Object evaluate(String expression, EvaluationContext ctx) {
-        CompilerContext compilerCtx = newCompilerContext(ctx.getListeners());
-        Map<String, Object> inputVariables = ctx.getAllValues();
-        if ( inputVariables != null ) {
-            inputVariables.entrySet().stream().forEach( e -> compilerCtx.addInputVariable( e.getKey(), e.getValue() ) );
-        }
-        CompiledExpression expr = compile( expression, compilerCtx );
+        CompiledExpression expr = compileCached( expression, ctx.getListeners(), ctx.getAllValues() );
         return evaluate( expr, ctx );
     }
 
     @Override
     public Object evaluate(String expression, Map<String, Object> inputVariables) {
-        CompilerContext ctx = newCompilerContext();
-        if ( inputVariables != null ) {
-            inputVariables.entrySet().stream().forEach( e -> ctx.addInputVariable( e.getKey(), e.getValue() ) );
-        }
-        CompiledExpression expr = compile( expression, ctx );
+        CompiledExpression expr = compileCached( expression, Collections.emptySet(), inputVariables );
         if ( inputVariables == null ) {
             return evaluate( expr, EMPTY_INPUT );
         } else {
@@ -152,6 +145,41 @@ public class FEELImpl
         }
     }
 
+    /**
+     * Compiles the expression, reusing the result of a previous compilation of the same text with input variables
+     * of the same shape. Only the expressions compiled without notifying any event are cached, so that the listeners
+     * are still notified of the problems of an expression each time it is evaluated.
+     */
+    private CompiledExpression compileCached(String expression, Collection<FEELEventListener> listeners, Map<String, Object> inputVariables) {
+        CompiledExpressionCache.Key key = null;
+        if ( expressionCache.isEnabled() ) {
+            key = CompiledExpressionCache.keyFor( expression, inputVariables );
+            CompiledExpression cached = expressionCache.get( key );
+            if ( cached != null ) {
+                return cached;
+            }
+        }
+        boolean[] notified = new boolean[1];
+        List<FEELEventListener> compileListeners = new ArrayList<>( listeners );
+        compileListeners.add( event -> notified[0] = true );
+        CompilerContext compilerCtx = newCompilerContext( compileListeners );
+        if ( inputVariables != null ) {
+            inputVariables.entrySet().stream().forEach( e -> compilerCtx.addInputVariable( e.getKey(), e.getValue() ) );
+        }
+        CompiledExpression expr = compile( expression, compilerCtx );
+        if ( key != null && !notified[0] ) {
+            expressionCache.put( key, expr );
+        }
+        return expr;
+    }
+
+    /**
+     * @return the cache of the expressions compiled when evaluating an expression text, exposing its hit, miss and eviction counts
+     */
+    public CompiledExpressionCache getExpressionCache() {
+        return expressionCache;
+    }
+
     @Override
     public Object evaluate(CompiledExpression expr, Map<String, Object> inputVariables) {
         CompiledFEELExpression e = (CompiledFEELExpression) expr;
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.EvalHelper.PropertyValueResult;
+
+/**
+ * An execution frame whose variables are stored in an array, at the slots assigned to their names
+ * by a {@link Layout} computed when the expression is compiled. The compiled code reads the variables
+ * directly by their slot, while the name based lookup of the {@link ExecutionFrame} is still available
+ * for the interpreted code and for the variables not known at compile time.
+ */
+public class SlotExecutionFrame
+        implements ExecutionFrame {
+
+    private static final Object UNDEFINED = new Object();
+
+    private final ExecutionFrame parentFrame;
+    private final Layout layout;
+    private final Object[] values;
+
+    private Map<String, Object> otherVariables;
+    private Object rootObject;
+
+    public SlotExecutionFrame(ExecutionFrame parentFrame, Layout layout) {
+        this.parentFrame = parentFrame;
+        this.layout = layout;
+        this.values = new Object[layout.size()];
+        Arrays.fill( values, UNDEFINED );
+    }
+
+    public ExecutionFrame getParentFrame() {
+        return parentFrame;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    public boolean isDefined(int slot) {
+        return values[slot] != UNDEFINED;
+    }
+
+    public Object getValue(int slot) {
+        Object value = values[slot];
+        return value != UNDEFINED ? value : null;
+    }
+
+    public void setValue(int slot, Object value) {
+        values[slot] = value;
+    }
+
+    @Override
+    public Object getValue(String symbol) {
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        if ( rootObject != null ) {
+            PropertyValueResult dv = EvalHelper.getDefinedValue( rootObject, symbol );
+            if ( dv.isDefined() ) {
+                return dv.getValueResult().getOrElse( null );
+            }
+        }
+        int slot = layout.indexOf( symbol );
+        if ( slot >= 0 && values[slot] != UNDEFINED ) {
+            return values[slot];
+        }
+        if ( otherVariables != null && otherVariables.containsKey( symbol ) ) {
+            return otherVariables.get( symbol );
+        }
+        if ( parentFrame != null ) {
+            return parentFrame.getValue( symbol );
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isDefined(String symbol) {
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        if ( rootObject != null && EvalHelper.getDefinedValue( rootObject, symbol ).isDefined() ) {
+            return true;
+        }
+        int slot = layout.indexOf( symbol );
+        if ( slot >= 0 && values[slot] != UNDEFINED ) {
+            return true;
+        }
+        if ( otherVariables != null && otherVariables.containsKey( symbol ) ) {
+            return true;
+        }
+        if ( parentFrame != null ) {
+            return parentFrame.isDefined( symbol );
+        }
+        return false;
+    }
+
+    @Override
+    public void setValue(String symbol, Object value) {
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        int slot = layout.indexOf( symbol );
+        if ( slot >= 0 ) {
+            values[slot] = value;
+        } else {
+            if ( otherVariables == null ) {
+                otherVariables = new HashMap<>();
+            }
+            otherVariables.put( symbol, value );
+        }
+    }
+
+    @Override
+    public Map<String, Object> getAllValues() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( values[i] != UNDEFINED ) {
+                variables.put( layout.names[i], values[i] );
+            }
+        }
+        if ( otherVariables != null ) {
+            variables.putAll( otherVariables );
+        }
+        return variables;
+    }
+
+    @Override
+    public void setRootObject(Object v) {
+        this.rootObject = v;
+    }
+
+    @Override
+    public Object getRootObject() {
+        return rootObject;
+    }
+
+    /**
+     * The slots assigned to the variable names of a frame. A layout is shared by all the frames created
+     * for the same compiled expression, so a frame can be recognized by the identity of its layout.
+     */
+    public static class Layout {
+
+        private final String[] names;
+        private final Map<String, Integer> indexes;
+
+        public Layout(String... names) {
+            this.indexes = new HashMap<>( names.length * 2 );
+            for ( String name : names ) {
+                indexes.putIfAbsent( EvalHelper.normalizeVariableName( name ), indexes.size() );
+            }
+            this.names = new String[indexes.size()];
+            indexes.forEach( (name, index) -> this.names[index] = name );
+        }
+
+        public int indexOf(String name) {
+            Integer index = indexes.get( name );
+            return index != null ? index : -1;
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public String toString() {
+            return "Layout" + Arrays.toString( names );
+        }
+    }
+}
@@ -52,6 +52,7 @@ public class DTDecisionRule implements Indexed {
     private int                      index;
     private List<UnaryTest>          inputEntry;
     private List<CompiledExpression> outputEntry;
+    private List<String>             inputEntryText;
 
     public DTDecisionRule(int index) {
         this.index = index;
@@ -81,6 +82,17 @@ the output components of this DecisionRule.
         return this.outputEntry;
     }
 
+    /**
+The FEEL text of the inputEntry instances, when available, in the same
+order. It is used to index the containing decision table.
+     */
+    public List<String> getInputEntryText() {
+        if ( inputEntryText == null ) {
+            inputEntryText = new ArrayList<>();
+        }
+        return this.inputEntryText;
+    }
+
     public int getIndex() {
         return index;
     }
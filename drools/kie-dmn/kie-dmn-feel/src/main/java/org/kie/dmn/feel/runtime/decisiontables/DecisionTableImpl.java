@@ -17,6 +17,7 @@
 package org.kie.dmn.feel.runtime.decisiontables;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,6 +57,7 @@ public class DecisionTableImpl implements DecisionTable {
     private List<DTDecisionRule> decisionRules;
     private HitPolicy            hitPolicy;
     private boolean              hasDefaultValues;
+    private DecisionTableIndex   index;
 
     private FEEL feel;
 
@@ -217,7 +219,13 @@ public class DecisionTableImpl implements DecisionTable {
             // if a list of values is defined, check the the parameter matches the value
             if ( input.getInputValues() != null && ! input.getInputValues().isEmpty() ) {
                 final Object parameter = params[i];
-                boolean satisfies = input.getInputValues().stream().map( ut -> ut.apply( ctx, parameter ) ).filter( Boolean::booleanValue ).findAny().orElse( false );
+                boolean satisfies = false;
+                for ( UnaryTest ut : input.getInputValues() ) {
+                    if ( ut.apply( ctx, parameter ) ) {
+                        satisfies = true;
+                        break;
+                    }
+                }
 
                 if ( !satisfies ) {
                     String values = input.getInputValuesText();
@@ -242,9 +250,20 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        if ( index != null ) {
+            // only the rules selected by the index can match, and they are visited in the same order
+            BitSet candidates = index.findCandidates( params );
+            for ( int i = candidates.nextSetBit( 0 ); i >= 0; i = candidates.nextSetBit( i + 1 ) ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            for ( DTDecisionRule decisionRule : decisionRules ) {
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -330,6 +349,18 @@ public class DecisionTableImpl implements DecisionTable {
 
 
 
+    /**
+     * Enables or disables the evaluation through an index of the input entries, built from their text.
+     * When disabled, or when no input entry can be indexed, all the rules are checked one by one.
+     */
+    public void setIndexed(boolean indexed) {
+        this.index = indexed ? DecisionTableIndex.build( inputs.size(), decisionRules ) : null;
+    }
+
+    public boolean isIndexed() {
+        return index != null;
+    }
+
     public HitPolicy getHitPolicy() {
         return hitPolicy;
     }
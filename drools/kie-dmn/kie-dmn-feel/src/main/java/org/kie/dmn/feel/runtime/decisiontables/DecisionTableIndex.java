@@ -0,0 +1,391 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.kie.dmn.api.feel.runtime.events.FEELEvent;
+import org.kie.dmn.api.feel.runtime.events.FEELEventListener;
+import org.kie.dmn.feel.codegen.feel11.ASTUnaryTestTransform;
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.BooleanNode;
+import org.kie.dmn.feel.lang.ast.ListNode;
+import org.kie.dmn.feel.lang.ast.NumberNode;
+import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.ast.SignedUnaryNode;
+import org.kie.dmn.feel.lang.ast.StringNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestListNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestNode;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
+import org.kie.dmn.feel.parser.feel11.FEELParser;
+import org.kie.dmn.feel.parser.feel11.FEEL_1_1Parser;
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * An index of the input entries of a decision table, built once when the table is compiled.
+ *
+ * For each input column the rows whose entry is made of literal equality tests are put in hash buckets,
+ * while the rows whose entry is made of numeric comparisons or ranges are put in an interval tree. Rows
+ * with any other kind of entry are always candidates. The index never discards a row that could match,
+ * and the candidate rows still have to be checked against their unary tests.
+ */
+class DecisionTableIndex {
+
+    private final int rulesNumber;
+    private final ColumnIndex[] columns;
+
+    private DecisionTableIndex(int rulesNumber, ColumnIndex[] columns) {
+        this.rulesNumber = rulesNumber;
+        this.columns = columns;
+    }
+
+    /**
+     * Builds the index from the text of the input entries
+     * @return the index, or null if the rules don't have any indexable entry
+     */
+    static DecisionTableIndex build(int inputsNumber, List<DTDecisionRule> rules) {
+        ColumnIndex[] columns = new ColumnIndex[inputsNumber];
+        for ( int i = 0; i < inputsNumber; i++ ) {
+            columns[i] = new ColumnIndex();
+        }
+
+        Map<String, EntryKeys> analyzed = new HashMap<>();
+        for ( int row = 0; row < rules.size(); row++ ) {
+            List<String> entryTexts = rules.get( row ).getInputEntryText();
+            if ( entryTexts.size() != inputsNumber ) {
+                return null;
+            }
+            for ( int i = 0; i < inputsNumber; i++ ) {
+                EntryKeys keys = analyzed.computeIfAbsent( entryTexts.get( i ), DecisionTableIndex::analyze );
+                columns[i].add( row, keys );
+            }
+        }
+
+        boolean indexed = false;
+        for ( int i = 0; i < inputsNumber; i++ ) {
+            if ( columns[i].isIndexed() ) {
+                columns[i].buildIntervalTree();
+                indexed = true;
+            } else {
+                columns[i] = null;
+            }
+        }
+        return indexed ? new DecisionTableIndex( rules.size(), columns ) : null;
+    }
+
+    /**
+     * Returns the positions of the rules that could match the given input values, in ascending order
+     */
+    BitSet findCandidates(Object[] params) {
+        BitSet candidates = null;
+        for ( int i = 0; i < columns.length; i++ ) {
+            if ( columns[i] == null ) {
+                continue;
+            }
+            BitSet columnCandidates = columns[i].findCandidates( params[i] );
+            if ( columnCandidates == null ) {
+                continue;
+            }
+            if ( candidates == null ) {
+                candidates = columnCandidates;
+            } else {
+                candidates.and( columnCandidates );
+            }
+        }
+        if ( candidates == null ) {
+            candidates = new BitSet( rulesNumber );
+            candidates.set( 0, rulesNumber );
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the key used to look up the given value in the hash buckets, or null if the value
+     * cannot be looked up in the index
+     */
+    private static Object toKey(Object value) {
+        if ( value instanceof BigDecimal ) {
+            // numbers are compared with compareTo(), so 1 and 1.0 must share the same bucket
+            return ( (BigDecimal) value ).stripTrailingZeros();
+        }
+        if ( value instanceof String || value instanceof Boolean ) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the keys and the intervals admitted by the given input entry, or null if the
+     * entry cannot be indexed
+     */
+    static EntryKeys analyze(String text) {
+        if ( text == null || text.trim().isEmpty() || text.trim().equals( "-" ) ) {
+            return null;
+        }
+        try {
+            UnaryTestListNode unaryTests = parse( text );
+            if ( unaryTests == null || unaryTests.isNegated() ) {
+                return null;
+            }
+            EntryKeys keys = new EntryKeys();
+            for ( BaseNode element : unaryTests.getElements() ) {
+                if ( !( element instanceof UnaryTestNode ) || !addUnaryTest( keys, (UnaryTestNode) element ) ) {
+                    return null;
+                }
+            }
+            return keys;
+        } catch ( RuntimeException e ) {
+            return null;
+        }
+    }
+
+    private static UnaryTestListNode parse(String text) {
+        ErrorListener errorListener = new ErrorListener();
+        FEELEventListenersManager eventsManager = new FEELEventListenersManager();
+        eventsManager.addListener( errorListener );
+        FEEL_1_1Parser parser = FEELParser.parse( eventsManager, text, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), Collections.emptyList() );
+        ParseTree tree = parser.unaryTestsRoot();
+        if ( errorListener.hasErrors ) {
+            return null;
+        }
+        BaseNode ast = tree.accept( new ASTBuilderVisitor( Collections.emptyMap() ) ).accept( new ASTUnaryTestTransform() ).node();
+        return ast instanceof UnaryTestListNode ? (UnaryTestListNode) ast : null;
+    }
+
+    private static boolean addUnaryTest(EntryKeys keys, UnaryTestNode test) {
+        BaseNode value = test.getValue();
+        switch ( test.getOperator() ) {
+            case EQ:
+                return keys.addKey( literalValue( value ) );
+            case LT:
+            case LTE:
+                return keys.addInterval( null, numericValue( value ) );
+            case GT:
+            case GTE:
+                return keys.addInterval( numericValue( value ), null );
+            case IN:
+                if ( value instanceof RangeNode ) {
+                    RangeNode range = (RangeNode) value;
+                    return keys.addInterval( numericValue( range.getStart() ), numericValue( range.getEnd() ) );
+                }
+                if ( value instanceof ListNode ) {
+                    for ( BaseNode element : ( (ListNode) value ).getElements() ) {
+                        if ( !keys.addKey( literalValue( element ) ) ) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static Object literalValue(BaseNode node) {
+        if ( node instanceof StringNode ) {
+            return EvalHelper.unescapeString( node.getText() );
+        }
+        if ( node instanceof BooleanNode ) {
+            return ( (BooleanNode) node ).getValue();
+        }
+        return numericValue( node );
+    }
+
+    private static BigDecimal numericValue(BaseNode node) {
+        if ( node instanceof NumberNode ) {
+            return ( (NumberNode) node ).getValue();
+        }
+        if ( node instanceof SignedUnaryNode && ( (SignedUnaryNode) node ).getExpression() instanceof NumberNode ) {
+            BigDecimal value = ( (NumberNode) ( (SignedUnaryNode) node ).getExpression() ).getValue();
+            return ( (SignedUnaryNode) node ).getSign() == SignedUnaryNode.Sign.NEGATIVE ? value.negate() : value;
+        }
+        return null;
+    }
+
+    private static class ErrorListener implements FEELEventListener {
+        private boolean hasErrors;
+
+        @Override
+        public void onEvent(FEELEvent event) {
+            hasErrors |= event.getSeverity() == FEELEvent.Severity.ERROR;
+        }
+    }
+
+    static class EntryKeys {
+        private final List<Object> keys = new ArrayList<>();
+        private final List<BigDecimal[]> intervals = new ArrayList<>();
+
+        private boolean addKey(Object value) {
+            Object key = toKey( value );
+            if ( key == null ) {
+                return false;
+            }
+            keys.add( key );
+            return true;
+        }
+
+        /**
+         * Adds the closed interval between low and high, where a null bound is unbounded; the open
+         * bounds are closed, since including a few more candidates is harmless
+         */
+        private boolean addInterval(BigDecimal low, BigDecimal high) {
+            if ( low == null && high == null ) {
+                return false;
+            }
+            intervals.add( new BigDecimal[] { low, high } );
+            return true;
+        }
+    }
+
+    private static class ColumnIndex {
+        private final BitSet unindexed = new BitSet();
+        private final Map<Object, BitSet> buckets = new HashMap<>();
+        private final List<Interval> intervals = new ArrayList<>();
+        private IntervalTree intervalTree;
+
+        private void add(int row, EntryKeys keys) {
+            if ( keys == null ) {
+                unindexed.set( row );
+                return;
+            }
+            for ( Object key : keys.keys ) {
+                buckets.computeIfAbsent( key, k -> new BitSet() ).set( row );
+            }
+            for ( BigDecimal[] interval : keys.intervals ) {
+                intervals.add( new Interval( interval[0], interval[1], row ) );
+            }
+        }
+
+        private boolean isIndexed() {
+            return !buckets.isEmpty() || !intervals.isEmpty();
+        }
+
+        private void buildIntervalTree() {
+            intervalTree = intervals.isEmpty() ? null : new IntervalTree( intervals );
+        }
+
+        /**
+         * @return the rows that could match the given value, or null if the value cannot be looked up
+         */
+        private BitSet findCandidates(Object value) {
+            Object key = toKey( value );
+            if ( key == null ) {
+                return null;
+            }
+            BitSet candidates = (BitSet) unindexed.clone();
+            BitSet bucket = buckets.get( key );
+            if ( bucket != null ) {
+                candidates.or( bucket );
+            }
+            if ( intervalTree != null && value instanceof BigDecimal ) {
+                intervalTree.findIntervals( (BigDecimal) value, candidates );
+            }
+            return candidates;
+        }
+    }
+
+    private static class Interval {
+        private final BigDecimal low;
+        private final BigDecimal high;
+        private final int row;
+
+        private Interval(BigDecimal low, BigDecimal high, int row) {
+            this.low = low;
+            this.high = high;
+            this.row = row;
+        }
+
+        private boolean isBelow(BigDecimal value) {
+            return low == null || low.compareTo( value ) <= 0;
+        }
+
+        private boolean isAbove(BigDecimal value) {
+            return high == null || high.compareTo( value ) >= 0;
+        }
+    }
+
+    /**
+     * A static interval tree: the intervals are sorted by their lower bound and kept in an implicit
+     * balanced binary tree, where each node knows the highest upper bound of its subtree.
+     */
+    private static class IntervalTree {
+        private static final Comparator<Interval> LOW_COMPARATOR = (i1, i2) -> i1.low == null ? ( i2.low == null ? 0 : -1 ) : ( i2.low == null ? 1 : i1.low.compareTo( i2.low ) );
+
+        private final Interval[] intervals;
+        private final Interval[] maxHighs;
+
+        private IntervalTree(List<Interval> intervals) {
+            this.intervals = intervals.toArray( new Interval[intervals.size()] );
+            Arrays.sort( this.intervals, LOW_COMPARATOR );
+            this.maxHighs = new Interval[this.intervals.length];
+            computeMaxHigh( 0, this.intervals.length );
+        }
+
+        private Interval computeMaxHigh(int from, int to) {
+            if ( from >= to ) {
+                return null;
+            }
+            int mid = ( from + to ) >>> 1;
+            Interval max = intervals[mid];
+            max = maxHigh( max, computeMaxHigh( from, mid ) );
+            max = maxHigh( max, computeMaxHigh( mid + 1, to ) );
+            maxHighs[mid] = max;
+            return max;
+        }
+
+        private static Interval maxHigh(Interval i1, Interval i2) {
+            if ( i2 == null || i1.high == null ) {
+                return i1;
+            }
+            return i2.high == null || i2.high.compareTo( i1.high ) > 0 ? i2 : i1;
+        }
+
+        private void findIntervals(BigDecimal value, BitSet rows) {
+            findIntervals( value, rows, 0, intervals.length );
+        }
+
+        private void findIntervals(BigDecimal value, BitSet rows, int from, int to) {
+            if ( from >= to ) {
+                return;
+            }
+            int mid = ( from + to ) >>> 1;
+            if ( !maxHighs[mid].isAbove( value ) ) {
+                // no interval in this subtree reaches the value
+                return;
+            }
+            findIntervals( value, rows, from, mid );
+            Interval interval = intervals[mid];
+            if ( interval.isBelow( value ) ) {
+                if ( interval.isAbove( value ) ) {
+                    rows.set( interval.row );
+                }
+                findIntervals( value, rows, mid + 1, to );
+            }
+        }
+    }
+}
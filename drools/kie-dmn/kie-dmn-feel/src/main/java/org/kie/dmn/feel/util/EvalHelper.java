@@ -127,7 +127,8 @@ public class EvalHelper {
         if ( !BigDecimal.class.isAssignableFrom( value.getClass() ) ) {
             if ( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ||
                  value instanceof AtomicLong || value instanceof AtomicInteger ) {
-                value = new BigDecimal( ((Number) value).longValue(), MathContext.DECIMAL128 );
+                // a long never exceeds the DECIMAL128 precision, so there is nothing to round
+                value = BigDecimal.valueOf( ((Number) value).longValue() );
             } else if ( value instanceof BigInteger ) {
                 value = new BigDecimal( (BigInteger) value, MathContext.DECIMAL128 );
             } else if ( value instanceof String ) {
@@ -143,6 +144,26 @@ public class EvalHelper {
         return (BigDecimal) value;
     }
 
+    /**
+     * Returns true if the value is an integral number fitting in a long, i.e. an integral primitive wrapper
+     * or a BigDecimal with no fractional digits and less than 19 digits. The arithmetic on such numbers
+     * can be performed on primitive longs, giving the same result of the BigDecimal arithmetic until it overflows.
+     */
+    public static boolean isIntegral(Object value) {
+        if ( value instanceof BigDecimal ) {
+            BigDecimal bd = (BigDecimal) value;
+            return bd.scale() == 0 && bd.precision() < 19;
+        }
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Returns the long value of a number for which {@link #isIntegral(Object)} is true
+     */
+    public static long getLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
     public static Object coerceNumber(Object value) {
         if ( value instanceof Number && !(value instanceof BigDecimal) ) {
             return getBigDecimalOrNull( value );
@@ -399,6 +399,22 @@ public class DirectCompilerTest {
                                                                   entry("street", "broadway st"))));
     }
 
+    @Test
+    public void testContextEntriesReferencingPreviousEntries() {
+        String inputExpression = "{ a : 1, b : a + 1, c : { a : 10, d : a + b }, e : for a in [100] return a + b }";
+        assertThat(parseCompileEvaluate(inputExpression), is(mapOf(entry("a", new BigDecimal(1)),
+                                                                   entry("b", new BigDecimal(2)),
+                                                                   entry("c", mapOf(entry("a", new BigDecimal(10)),
+                                                                                    entry("d", new BigDecimal(12)))),
+                                                                   entry("e", Arrays.asList(new BigDecimal(102))))));
+    }
+
+    @Test
+    public void testContextEntriesReferencedFromOtherFrames() {
+        assertThat(parseCompileEvaluate("{ a : 2, f : function(x) x * a, r : f(3) }.r"), is(new BigDecimal(6)));
+        assertThat(parseCompileEvaluate("{ a : 6, l : [{ a : 5 }, { a : 7 }][a > 6] }.l"), is(Arrays.asList(mapOf(entry("a", new BigDecimal(7))))));
+    }
+
     @Test
     public void testNameReference() {
         String inputExpression = "someSimpleName";
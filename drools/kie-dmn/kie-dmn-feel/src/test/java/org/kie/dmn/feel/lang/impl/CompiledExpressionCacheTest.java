@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.kie.dmn.feel.lang.CompiledExpression;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CompiledExpressionCacheTest {
+
+    @Test
+    public void testRepeatedEvaluationsHitTheCache() {
+        FEELImpl feel = new FEELImpl();
+        CompiledExpressionCache cache = feel.getExpressionCache();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(feel.evaluate("a + b", inputs("a", i, "b", 1)), is(new BigDecimal(i + 1)));
+        }
+        assertThat(cache.size(), is(1));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(9L));
+    }
+
+    @Test
+    public void testInputNamesArePartOfTheKey() {
+        FEELImpl feel = new FEELImpl();
+        CompiledExpressionCache cache = feel.getExpressionCache();
+
+        Map<String, Object> person = new HashMap<>();
+        person.put("first name", "John");
+        assertThat(feel.evaluate("p.first name", inputs("p", person)), is("John"));
+
+        // a different nested name changes the symbols the expression is parsed with
+        Map<String, Object> other = new HashMap<>();
+        other.put("first", "Jane");
+        feel.evaluate("p.first name", inputs("p", other));
+        assertThat(cache.getHitCount(), is(0L));
+
+        person.put("first name", "Mary");
+        assertThat(feel.evaluate("p.first name", inputs("p", person)), is("Mary"));
+        assertThat(cache.getHitCount(), is(1L));
+    }
+
+    @Test
+    public void testExpressionsWithErrorsAreNotCached() {
+        FEELImpl feel = new FEELImpl();
+        List<Object> events = new ArrayList<>();
+        feel.addListener(events::add);
+
+        feel.evaluate("10 + / 5");
+        int notified = events.size();
+        assertThat(notified > 0, is(true));
+
+        feel.evaluate("10 + / 5");
+        assertThat(events.size(), is(notified * 2));
+        assertThat(feel.getExpressionCache().size(), is(0));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        CompiledExpressionCache cache = new CompiledExpressionCache(2);
+        CompiledExpression a = new FEELImpl().compile("1", new FEELImpl().newCompilerContext());
+        CompiledExpression b = new FEELImpl().compile("2", new FEELImpl().newCompilerContext());
+        CompiledExpression c = new FEELImpl().compile("3", new FEELImpl().newCompilerContext());
+
+        cache.put(CompiledExpressionCache.keyFor("1", null), a);
+        cache.put(CompiledExpressionCache.keyFor("2", null), b);
+        assertThat(cache.get(CompiledExpressionCache.keyFor("1", null)), sameInstance(a));
+        cache.put(CompiledExpressionCache.keyFor("3", null), c);
+
+        assertThat(cache.size(), is(2));
+        assertThat(cache.getEvictionCount(), is(1L));
+        assertThat(cache.get(CompiledExpressionCache.keyFor("2", null)), nullValue());
+        assertThat(cache.get(CompiledExpressionCache.keyFor("1", null)), sameInstance(a));
+        assertThat(cache.get(CompiledExpressionCache.keyFor("3", null)), sameInstance(c));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        System.setProperty(CompiledExpressionCache.SIZE_PROPERTY, "0");
+        try {
+            FEELImpl feel = new FEELImpl();
+            assertThat(feel.evaluate("1 + 2"), is(new BigDecimal(3)));
+            assertThat(feel.evaluate("1 + 2"), is(new BigDecimal(3)));
+            assertThat(feel.getExpressionCache().isEnabled(), is(false));
+            assertThat(feel.getExpressionCache().size(), is(0));
+        } finally {
+            System.clearProperty(CompiledExpressionCache.SIZE_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testCachedExpressionsAreSharedAcrossThreads() throws Exception {
+        FEELImpl feel = new FEELImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int value = i;
+                results.add(executor.submit(() -> feel.evaluate("if x > 100 then x * 2 else x", inputs("x", value))));
+            }
+            for (int i = 0; i < 200; i++) {
+                assertThat(results.get(i).get(), is(new BigDecimal(i > 100 ? i * 2 : i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(feel.getExpressionCache().size(), is(1));
+        assertThat(feel.getExpressionCache().getHitCount() + feel.getExpressionCache().getMissCount(), is(200L));
+    }
+
+    private static Map<String, Object> inputs(Object... namesAndValues) {
+        if (namesAndValues.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> inputs = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            inputs.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return inputs;
+    }
+}
@@ -67,6 +67,43 @@ public class FEELMathOperationsTest extends BaseFEELTest {
                 { "-1", BigDecimal.valueOf( -1 ), null },
                 { "--1", BigDecimal.valueOf( 1 ), null },
                 { "---1", BigDecimal.valueOf( -1 ), null },
+                // integral operations going beyond the range of a long
+                { "999999999 * 999999999 + 999999999 * 999999999", new BigDecimal( "1999999996000000002" ), null },
+                { "-999999999 * 999999999 - 999999999 * 999999999", new BigDecimal( "-1999999996000000002" ), null },
+                { "999999999 * 999999999 * 999999999", new BigDecimal( "999999997000000002999999999" ), null },
+                { "-999999999 * 999999999 * 999999999", new BigDecimal( "-999999997000000002999999999" ), null },
+                { "999999999999999999 + 999999999999999999", new BigDecimal( "1999999999999999998" ), null },
+                { "999999999999999999 * 10", new BigDecimal( "9999999999999999990" ), null },
+                { "9223372036854775807 + 1", new BigDecimal( "9223372036854775808" ), null },
+                { "-9223372036854775807 - 2", new BigDecimal( "-9223372036854775809" ), null },
+                // null operands of integral operations
+                { "999999999 * null", null, null },
+                { "null - 999999999", null, null },
+                { "(999999999 * 999999999) + null", null, null },
+                // integral and decimal operands
+                { "10 * 2.5", new BigDecimal( "25.0" ), null },
+                { "10 + 2.5", new BigDecimal( "12.5" ), null },
+                { "2.5 + 10", new BigDecimal( "12.5" ), null },
+                { "10 - 0.25", new BigDecimal( "9.75" ), null },
+                { "0.5 * 4", new BigDecimal( "2.0" ), null },
+                { "1.0 + 2", new BigDecimal( "3.0" ), null },
+                { "10.00 - 10", new BigDecimal( "0.00" ), null },
+                // comparisons of the results of integral operations
+                { "10 * 5 = 50.0", Boolean.TRUE, null },
+                { "10 + 2.5 > 12", Boolean.TRUE, null },
+                { "10 - 10 <= 0.0", Boolean.TRUE, null },
+                { "-1 * 1 >= -1.0", Boolean.TRUE, null },
+                { "999999999 * 999999999 * 999999999 > 999999999 * 999999999", Boolean.TRUE, null },
+                { "999999999 * 999999999 * 999999999 = 999999997000000002999999999", Boolean.TRUE, null },
+                { "999999999999999999 * 10 != 9999999999999999990.0", Boolean.FALSE, null },
+                { "10 * 5 < null", null, null },
+                // chains of integral operations, computed on longs by the compiled expressions
+                { "2 * 3 + 4 * 5 - 6", BigDecimal.valueOf( 20 ), null },
+                { "9223372036854775807 + 1 - 2", new BigDecimal( "9223372036854775806" ), null },
+                { "2 * 3 + 2.5 * 2", new BigDecimal( "11.0" ), null },
+                { "2 * 3 + 10 / 4", new BigDecimal( "8.5" ), null },
+                { "2 * 3 + null * 2", null, null },
+                { "\"a\" + \"b\" + \"c\"", "abc", null },
         };
         return addAdditionalParameters(cases, false);
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionTableIndexTest {
+
+    private static final String[] NUMERIC_ENTRIES = {
+            "-", "5", "5.0", "1, 2, 3", "< 10", "<= 4", "> 20", ">= 25", "[3..7]", "]3..7[", "[10..15), 28",
+            "-3", "< -2", "not(5)", "> 3, 12", "in [1, 2]", ""
+    };
+
+    private static final String[] STRING_ENTRIES = {
+            "-", "\"a\"", "\"b\", \"c\"", "not(\"a\")", "\"d\"", "\"a\", \"e\""
+    };
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testAnalyzeEntries() {
+        assertNull( DecisionTableIndex.analyze( "-" ) );
+        assertNull( DecisionTableIndex.analyze( null ) );
+        assertNull( DecisionTableIndex.analyze( "not(1)" ) );
+        assertNull( DecisionTableIndex.analyze( "x" ) );
+        assertNull( DecisionTableIndex.analyze( "1, x" ) );
+        assertNull( DecisionTableIndex.analyze( "< \"a\"" ) );
+
+        assertNotNull( DecisionTableIndex.analyze( "1" ) );
+        assertNotNull( DecisionTableIndex.analyze( "\"a\", \"b\"" ) );
+        assertNotNull( DecisionTableIndex.analyze( "< 5" ) );
+        assertNotNull( DecisionTableIndex.analyze( "[1..10]" ) );
+        assertNotNull( DecisionTableIndex.analyze( "> 1, < -3" ) );
+        assertNotNull( DecisionTableIndex.analyze( "true" ) );
+    }
+
+    @Test
+    public void testFindCandidates() {
+        List<DTDecisionRule> rules = createRules( Arrays.asList( new String[][] {
+                { "1", "\"a\"" },
+                { "2", "\"a\", \"b\"" },
+                { "[1..3]", "\"b\"" },
+                { "> 2", "-" },
+                { "-", "not(\"b\")" } } ), true );
+        DecisionTableIndex index = DecisionTableIndex.build( 2, rules );
+
+        // the open bound of "> 2" is indexed as closed, the actual unary test discards it
+        assertEquals( "{1, 2, 3, 4}", index.findCandidates( new Object[] { new BigDecimal( "2.0" ), "b" } ).toString() );
+        assertEquals( "{0, 4}", index.findCandidates( new Object[] { BigDecimal.ONE, "a" } ).toString() );
+        assertEquals( "{3, 4}", index.findCandidates( new Object[] { new BigDecimal( 10 ), "z" } ).toString() );
+        // values which cannot be looked up don't filter the rules
+        assertEquals( "{0, 1, 2, 3, 4}", index.findCandidates( new Object[] { 2, null } ).toString() );
+    }
+
+    @Test
+    public void testNotIndexedWithoutEntryText() {
+        DecisionTableImpl dt = createDecisionTable( Arrays.asList( new String[][] { { "1", "\"a\"" } } ), HitPolicy.COLLECT, false );
+        dt.setIndexed( true );
+        assertFalse( dt.isIndexed() );
+
+        dt = createDecisionTable( Arrays.asList( new String[][] { { "-", "not(\"a\")" } } ), HitPolicy.COLLECT, true );
+        dt.setIndexed( true );
+        assertFalse( dt.isIndexed() );
+    }
+
+    @Test
+    public void testIndexedMatchesLinear() {
+        Random random = new Random( 0 );
+        List<String[]> rows = new ArrayList<>();
+        for ( int i = 0; i < 300; i++ ) {
+            rows.add( new String[] { NUMERIC_ENTRIES[random.nextInt( NUMERIC_ENTRIES.length )],
+                                     STRING_ENTRIES[random.nextInt( STRING_ENTRIES.length )] } );
+        }
+
+        for ( HitPolicy hitPolicy : new HitPolicy[] { HitPolicy.COLLECT, HitPolicy.RULE_ORDER, HitPolicy.FIRST, HitPolicy.COLLECT_COUNT } ) {
+            DecisionTableImpl linear = createDecisionTable( rows, hitPolicy, true );
+            DecisionTableImpl indexed = createDecisionTable( rows, hitPolicy, true );
+            indexed.setIndexed( true );
+            assertFalse( linear.isIndexed() );
+            assertTrue( indexed.isIndexed() );
+
+            Object[] numbers = { null, "a", true, new BigDecimal( "5.00" ), new BigDecimal( "-3" ), 5 };
+            Object[] strings = { null, "a", "b", "e", "z", BigDecimal.ONE };
+            for ( int i = 0; i < 200; i++ ) {
+                Map<String, Object> inputs = new HashMap<>();
+                inputs.put( "n", random.nextInt( 4 ) == 0 ? numbers[random.nextInt( numbers.length )] : new BigDecimal( random.nextInt( 35 ) - 5 ) );
+                inputs.put( "s", strings[random.nextInt( strings.length )] );
+                assertEquals( inputs.toString(), evaluate( linear, inputs ), evaluate( indexed, inputs ) );
+            }
+        }
+    }
+
+    private Object evaluate(DecisionTableImpl dt, Map<String, Object> inputs) {
+        try {
+            return dt.evaluate( ( (FEELImpl) feel ).newEvaluationContext( Collections.emptySet(), inputs ), new Object[0] ).getOrElse( null );
+        } catch ( RuntimeException e ) {
+            return e.getClass();
+        }
+    }
+
+    private DecisionTableImpl createDecisionTable(List<String[]> rows, HitPolicy hitPolicy, boolean withEntryText) {
+        List<DTInputClause> inputs = Arrays.asList( new DTInputClause( "n", null, null, null ),
+                                                    new DTInputClause( "s", null, null, null ) );
+        List<DTOutputClause> outputs = Collections.singletonList( new DTOutputClause( "out", Collections.emptyList() ) );
+        return new DecisionTableImpl( "dt", Arrays.asList( "n", "s" ), inputs, outputs, createRules( rows, withEntryText ), hitPolicy, feel );
+    }
+
+    private List<DTDecisionRule> createRules(List<String[]> rows, boolean withEntryText) {
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( String[] row : rows ) {
+            DTDecisionRule rule = new DTDecisionRule( rules.size() );
+            for ( String text : row ) {
+                List<UnaryTest> tests = text.isEmpty() ? Collections.emptyList() : feel.evaluateUnaryTests( text );
+                rule.getInputEntry().add( (c, x) -> tests.stream().anyMatch( t -> {
+                    Boolean result = t.apply( c, x );
+                    return result != null && result;
+                } ) );
+                if ( withEntryText ) {
+                    rule.getInputEntryText().add( text );
+                }
+            }
+            rule.getOutputEntry().add( feel.compile( String.valueOf( rules.size() ), feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        return rules;
+    }
+}
@@ -508,6 +508,10 @@ public class ProcessRuntimeImpl implements InternalProcessRuntime {
 	public void signalEvent(String type, Object event, long processInstanceId) {
 		signalManager.signalEvent(processInstanceId, type, event);
 	}
+
+	public void signalEvent(String type, Object event, CorrelationKey correlationKey) {
+		signalManager.signalEvent(type, correlationKey != null ? correlationKey.toExternalForm() : null, event);
+	}
 	
 	public void setProcessEventSupport(ProcessEventSupport processEventSupport) {
 		this.processEventSupport = processEventSupport;
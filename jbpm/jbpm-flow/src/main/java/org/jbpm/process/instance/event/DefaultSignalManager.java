@@ -31,16 +31,36 @@ import org.kie.api.runtime.process.ProcessInstance;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
+/**
+ * Routes the signals to the listeners registered for their type.
+ *
+ * The listeners of each type are also indexed by correlation key, so a signal carrying a correlation key
+ * only reaches the listeners registered with that key, without scanning the ones of the other process
+ * instances. A signal without correlation key reaches all the listeners of its type in registration order.
+ * Registration only locks the entry of its own type, and a broadcast signal reaching many
+ * listeners can be delivered in parallel when a broadcast executor is set: this is only safe when
+ * the listeners, usually process instances, can be signaled concurrently.
+ */
 public class DefaultSignalManager implements SignalManager {
-	
-	private Map<String, List<EventListener>> processEventListeners = new ConcurrentHashMap<String, List<EventListener>>();
+
+	public static final int DEFAULT_PARALLEL_BROADCAST_THRESHOLD = 1000;
+
+	private Map<String, SignalListeners> processEventListeners = new ConcurrentHashMap<String, SignalListeners>();
 	private InternalKnowledgeRuntime kruntime;
+
+	private volatile Executor broadcastExecutor;
+	private volatile int parallelBroadcastThreshold = DEFAULT_PARALLEL_BROADCAST_THRESHOLD;
 	
 	public DefaultSignalManager(InternalKnowledgeRuntime kruntime) {
 		this.kruntime = kruntime;
@@ -50,58 +70,213 @@ public class DefaultSignalManager implements SignalManager {
 		return kruntime;
 	}
 
+	public Executor getBroadcastExecutor() {
+		return broadcastExecutor;
+	}
+
+	/**
+	 * Sets the executor used to deliver in parallel the broadcast signals reaching at least
+	 * {@link #getParallelBroadcastThreshold()} listeners, or null to always deliver them on the signaling thread.
+	 */
+	public void setBroadcastExecutor(Executor broadcastExecutor) {
+		this.broadcastExecutor = broadcastExecutor;
+	}
+
+	public int getParallelBroadcastThreshold() {
+		return parallelBroadcastThreshold;
+	}
+
+	public void setParallelBroadcastThreshold(int parallelBroadcastThreshold) {
+		if (parallelBroadcastThreshold < 1) {
+			throw new IllegalArgumentException("The parallel broadcast threshold must be positive: " + parallelBroadcastThreshold);
+		}
+		this.parallelBroadcastThreshold = parallelBroadcastThreshold;
+	}
+
 	public void addEventListener(String type, EventListener eventListener) {
-		List<EventListener> eventListeners = processEventListeners.get(type);
-		//this first "if" is not pretty, but allows to synchronize only when needed
-		if (eventListeners == null) {
-			synchronized(processEventListeners){
-				eventListeners = processEventListeners.get(type);
-				if(eventListeners==null){
-					eventListeners = new CopyOnWriteArrayList<EventListener>();
-					processEventListeners.put(type, eventListeners);
-				}
+		addEventListener(type, null, eventListener);
+	}
+
+	public void addEventListener(String type, String correlationKey, EventListener eventListener) {
+		// compute only locks the bin of the type, so the other types can be registered concurrently
+		processEventListeners.compute(type, (t, listeners) -> {
+			if (listeners == null) {
+				listeners = new SignalListeners();
 			}
-		}		
-		eventListeners.add(eventListener);
+			listeners.add(correlationKey, eventListener);
+			return listeners;
+		});
 	}
 	
 	public void removeEventListener(String type, EventListener eventListener) {
-		if (processEventListeners != null) {
-			List<EventListener> eventListeners = processEventListeners.get(type);
-			if (eventListeners != null) {
-				eventListeners.remove(eventListener);
-				if (eventListeners.isEmpty()) {
-					processEventListeners.remove(type);
-					eventListeners = null;
-				}
-			}
-		}
+		removeEventListener(type, null, eventListener);
+	}
+
+	public void removeEventListener(String type, String correlationKey, EventListener eventListener) {
+		processEventListeners.computeIfPresent(type, (t, listeners) -> {
+			listeners.remove(correlationKey, eventListener);
+			return listeners.isEmpty() ? null : listeners;
+		});
 	}
 	
 	public void signalEvent(String type, Object event) {
 	    ((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, event);
 	}
+
+	public void signalEvent(String type, String correlationKey, Object event) {
+	    ((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, correlationKey, event);
+	}
 	
 	public void internalSignalEvent(String type, Object event) {
-		if (processEventListeners != null) {
-			List<EventListener> eventListeners = processEventListeners.get(type);
-			if (eventListeners != null) {
-				for (EventListener eventListener: eventListeners) {
-					eventListener.signalEvent(type, event);
+		internalSignalEvent(type, null, event);
+	}
+
+	public void internalSignalEvent(String type, String correlationKey, Object event) {
+		SignalListeners listeners = processEventListeners.get(type);
+		if (listeners == null) {
+			return;
+		}
+		if (correlationKey != null) {
+			List<Registration> registrations = listeners.correlated.get(correlationKey);
+			if (registrations != null) {
+				for (Registration registration : registrations) {
+					registration.eventListener.signalEvent(type, event);
 				}
 			}
+			return;
+		}
+		List<EventListener> eventListeners = listeners.snapshot();
+		Executor executor = broadcastExecutor;
+		if (executor == null || eventListeners.size() < parallelBroadcastThreshold) {
+			signalEvent(eventListeners, type, event);
+		} else {
+			parallelSignalEvent(eventListeners, executor, type, event);
+		}
+	}
+
+	private void parallelSignalEvent(List<EventListener> eventListeners, Executor executor, String type, Object event) {
+		int chunkSize = parallelBroadcastThreshold;
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>();
+		for (int from = chunkSize; from < eventListeners.size(); from += chunkSize) {
+			List<EventListener> chunk = eventListeners.subList(from, Math.min(from + chunkSize, eventListeners.size()));
+			futures.add(CompletableFuture.runAsync(() -> signalEvent(chunk, type, event), executor));
+		}
+		// the first chunk is delivered by the signaling thread, which then waits for the other ones
+		signalEvent(eventListeners.subList(0, Math.min(chunkSize, eventListeners.size())), type, event);
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	private static void signalEvent(Collection<EventListener> eventListeners, String type, Object event) {
+		for (EventListener eventListener: eventListeners) {
+			eventListener.signalEvent(type, event);
 		}
 	}
+
 	public void signalEvent(long processInstanceId, String type, Object event) {
 		ProcessInstance processInstance = kruntime.getProcessInstance(processInstanceId);
 		if (processInstance != null) {
 		    processInstance.signalEvent(type, event);
 		}
 	}
+
+	/**
+	 * The listeners of a type in registration order, which is the order of delivery of the broadcast signals,
+	 * together with an index of the ones registered with a correlation key, grouped by key.
+	 * It is only modified while holding the lock on the entry of its type.
+	 */
+	private static class SignalListeners {
+
+		private final ConcurrentSkipListMap<Long, Registration> ordered = new ConcurrentSkipListMap<Long, Registration>();
+		private final Map<String, List<Registration>> correlated = new ConcurrentHashMap<String, List<Registration>>();
+		private long nextSequence;
+		private volatile int size;
+
+		private void add(String correlationKey, EventListener eventListener) {
+			Registration registration = new Registration(nextSequence++, correlationKey, eventListener);
+			ordered.put(registration.sequence, registration);
+			if (correlationKey != null) {
+				correlated.computeIfAbsent(correlationKey, k -> new CopyOnWriteArrayList<Registration>()).add(registration);
+			}
+			size++;
+		}
+
+		private void remove(String correlationKey, EventListener eventListener) {
+			Registration removed = null;
+			if (correlationKey == null) {
+				for (Registration registration : ordered.values()) {
+					if (registration.correlationKey == null && registration.eventListener.equals(eventListener)) {
+						removed = registration;
+						break;
+					}
+				}
+			} else {
+				List<Registration> registrations = correlated.get(correlationKey);
+				if (registrations != null) {
+					for (Registration registration : registrations) {
+						if (registration.eventListener.equals(eventListener)) {
+							removed = registration;
+							break;
+						}
+					}
+					if (removed != null) {
+						registrations.remove(removed);
+					}
+					if (registrations.isEmpty()) {
+						correlated.remove(correlationKey);
+					}
+				}
+			}
+			if (removed != null) {
+				ordered.remove(removed.sequence);
+				size--;
+			}
+		}
+
+		private boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * The listeners registered when the signal is delivered, in registration order: the ones registered
+		 * while it is being delivered, for instance by the process instances it starts, don't receive it
+		 */
+		private List<EventListener> snapshot() {
+			List<EventListener> eventListeners = new ArrayList<EventListener>(size);
+			for (Registration registration : ordered.values()) {
+				eventListeners.add(registration.eventListener);
+			}
+			return eventListeners;
+		}
+	}
+
+	private static class Registration {
+
+		private final long sequence;
+		private final String correlationKey;
+		private final EventListener eventListener;
+
+		private Registration(long sequence, String correlationKey, EventListener eventListener) {
+			this.sequence = sequence;
+			this.correlationKey = correlationKey;
+			this.eventListener = eventListener;
+		}
+	}
 	
 	public static class SignalProcessInstanceAction extends PropagationEntry.AbstractPropagationEntry implements WorkingMemoryAction {
 
-		private long processInstanceId;
+		private long processInstanceId = -1;
+		private String correlationKey;
 		private String type;
 		private Object event;
 		
@@ -111,6 +286,15 @@ public class DefaultSignalManager implements SignalManager {
 			this.event = event;
 			
 		}
+
+		/**
+		 * Signals the process instance with the given correlation key, in its external form, if it waits for the event
+		 */
+		public SignalProcessInstanceAction(String correlationKey, String type, Object event) {
+			this.correlationKey = correlationKey;
+			this.type = type;
+			this.event = event;
+		}
 		
 		public SignalProcessInstanceAction(MarshallerReaderContext context) throws IOException, ClassNotFoundException {
 			processInstanceId = context.readLong();
@@ -118,9 +302,16 @@ public class DefaultSignalManager implements SignalManager {
 			if (context.readBoolean()) {
 				event = context.readObject();
 			}
+			if (context.readBoolean()) {
+				correlationKey = context.readUTF();
+			}
 		}
 		
 		public void execute(InternalWorkingMemory workingMemory) {
+			if (correlationKey != null) {
+				((DefaultSignalManager) ((InternalProcessRuntime) workingMemory.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, correlationKey, event);
+				return;
+			}
 			ProcessInstance processInstance = workingMemory.getProcessInstance(processInstanceId);
 			if (processInstance != null) {
 				processInstance.signalEvent(type, event);
@@ -128,6 +319,10 @@ public class DefaultSignalManager implements SignalManager {
 		}
 
 		public void execute(InternalKnowledgeRuntime kruntime) {
+			if (correlationKey != null) {
+				((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, correlationKey, event);
+				return;
+			}
 			ProcessInstance processInstance = kruntime.getProcessInstance(processInstanceId);
 			if (processInstance != null) {
 				processInstance.signalEvent(type, event);
@@ -142,6 +337,10 @@ public class DefaultSignalManager implements SignalManager {
 			if (event != null) {
 				context.writeObject(event);
 			}
+			context.writeBoolean(correlationKey != null);
+			if (correlationKey != null) {
+				context.writeUTF(correlationKey);
+			}
 		}
 
 		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
@@ -150,6 +349,9 @@ public class DefaultSignalManager implements SignalManager {
 			if (in.readBoolean()) {
 				event = in.readObject();
 			}
+			if (in.readBoolean()) {
+				correlationKey = in.readUTF();
+			}
 		}
 
 		public void writeExternal(ObjectOutput out) throws IOException {
@@ -159,6 +361,10 @@ public class DefaultSignalManager implements SignalManager {
 			if (event != null) {
 				out.writeObject(event);
 			}
+			out.writeBoolean(correlationKey != null);
+			if (correlationKey != null) {
+				out.writeUTF(correlationKey);
+			}
 		}
 
         public Action serialize(MarshallerWriteContext context) throws IOException {
@@ -170,10 +376,16 @@ public class DefaultSignalManager implements SignalManager {
 	public static class SignalAction extends PropagationEntry.AbstractPropagationEntry implements WorkingMemoryAction {
 
 		private String type;
+		private String correlationKey;
 		private Object event;
 		
 		public SignalAction(String type, Object event) {
+			this(type, null, event);
+		}
+
+		public SignalAction(String type, String correlationKey, Object event) {
 			this.type = type;
+			this.correlationKey = correlationKey;
 			this.event = event;
 		}
 		
@@ -182,14 +394,17 @@ public class DefaultSignalManager implements SignalManager {
 			if (context.readBoolean()) {
 				event = context.readObject();
 			}
+			if (context.readBoolean()) {
+				correlationKey = context.readUTF();
+			}
 		}
 		
 		public void execute(InternalWorkingMemory workingMemory) {
-			((DefaultSignalManager) ((InternalProcessRuntime) workingMemory.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, event);
+			((DefaultSignalManager) ((InternalProcessRuntime) workingMemory.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, correlationKey, event);
 		}
 
         public void execute(InternalKnowledgeRuntime kruntime) {
-        	((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, event);
+        	((DefaultSignalManager) ((InternalProcessRuntime) kruntime.getProcessRuntime()).getSignalManager()).internalSignalEvent(type, correlationKey, event);
         }
 		public void write(MarshallerWriteContext context) throws IOException {
 			context.writeInt( WorkingMemoryAction.SignalAction );
@@ -198,6 +413,10 @@ public class DefaultSignalManager implements SignalManager {
 			if (event != null) {
 				context.writeObject(event);
 			}
+			context.writeBoolean(correlationKey != null);
+			if (correlationKey != null) {
+				context.writeUTF(correlationKey);
+			}
 		}
 
 		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
@@ -205,6 +424,9 @@ public class DefaultSignalManager implements SignalManager {
 			if (in.readBoolean()) {
 				event = in.readObject();
 			}
+			if (in.readBoolean()) {
+				correlationKey = in.readUTF();
+			}
 		}
 
 		public void writeExternal(ObjectOutput out) throws IOException {
@@ -213,6 +435,10 @@ public class DefaultSignalManager implements SignalManager {
 			if (event != null) {
 				out.writeObject(event);
 			}
+			out.writeBoolean(correlationKey != null);
+			if (correlationKey != null) {
+				out.writeUTF(correlationKey);
+			}
 		}
 
         public Action serialize(MarshallerWriteContext context) throws IOException {
@@ -29,4 +29,24 @@ public interface SignalManager {
 	
 	void removeEventListener(String type, EventListener eventListener);
 
+	/**
+	 * Signals the event only to the listeners registered for the given type with the given correlation key,
+	 * or to all the listeners of the type when the correlation key is null.
+	 */
+	default void signalEvent(String type, String correlationKey, Object event) {
+		signalEvent(type, event);
+	}
+
+	/**
+	 * Registers a listener that receives the events of the given type signaled without a correlation key
+	 * and the ones signaled with the given correlation key, if not null.
+	 */
+	default void addEventListener(String type, String correlationKey, EventListener eventListener) {
+		addEventListener(type, eventListener);
+	}
+
+	default void removeEventListener(String type, String correlationKey, EventListener eventListener) {
+		removeEventListener(type, eventListener);
+	}
+
 }
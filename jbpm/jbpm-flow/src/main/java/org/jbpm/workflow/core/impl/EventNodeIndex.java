@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workflow.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jbpm.process.core.event.EventFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.core.event.NonAcceptingEventTypeFilter;
+import org.jbpm.util.PatternConstants;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.EventNodeInterface;
+import org.kie.api.definition.process.Node;
+
+/**
+ * Index of the nodes of a process that can be signaled by an event, by the type of the event.
+ *
+ * The event and boundary event nodes that only have plain type filters accept a fixed set of types,
+ * known when the process is built, so they are indexed under those types. All the other event nodes,
+ * like the ones filtering on a type expression resolved with the process variables, the event
+ * sub-processes and the composite nodes, may accept any type and are returned for every signal.
+ * The nodes are always returned in the order of the process, as they would be found scanning it.
+ */
+public class EventNodeIndex {
+
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Map<String, Node[]> nodesByType = new HashMap<String, Node[]>();
+    private final Node[] nodesAcceptingAnyType;
+
+    private final Map<String, Node[]> nodesWithoutIncomingConnectionsByName = new HashMap<String, Node[]>();
+
+    public EventNodeIndex(Node[] nodes) {
+        Map<String, List<Node>> nodesByType = new HashMap<String, List<Node>>();
+        List<Node> nodesAcceptingAnyType = new ArrayList<Node>();
+        Map<String, List<Node>> nodesByName = new HashMap<String, List<Node>>();
+
+        for (Node node : nodes) {
+            if (node instanceof EventNodeInterface) {
+                Set<String> types = getAcceptedTypes(node);
+                if (types == null) {
+                    nodesAcceptingAnyType.add(node);
+                    // the node must also be returned, in the right position, for the types of the other nodes
+                    for (List<Node> nodesOfType : nodesByType.values()) {
+                        nodesOfType.add(node);
+                    }
+                } else {
+                    for (String type : types) {
+                        List<Node> nodesOfType = nodesByType.get(type);
+                        if (nodesOfType == null) {
+                            nodesOfType = new ArrayList<Node>(nodesAcceptingAnyType);
+                            nodesByType.put(type, nodesOfType);
+                        }
+                        nodesOfType.add(node);
+                    }
+                }
+            }
+            if (node.getName() != null && node.getIncomingConnections().isEmpty()) {
+                List<Node> nodesWithName = nodesByName.get(node.getName());
+                if (nodesWithName == null) {
+                    nodesWithName = new ArrayList<Node>();
+                    nodesByName.put(node.getName(), nodesWithName);
+                }
+                nodesWithName.add(node);
+            }
+        }
+
+        for (Map.Entry<String, List<Node>> entry : nodesByType.entrySet()) {
+            this.nodesByType.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        this.nodesAcceptingAnyType = toArray(nodesAcceptingAnyType);
+        for (Map.Entry<String, List<Node>> entry : nodesByName.entrySet()) {
+            this.nodesWithoutIncomingConnectionsByName.put(entry.getKey(), toArray(entry.getValue()));
+        }
+    }
+
+    /**
+     * Returns the event nodes that may accept an event of the given type.
+     */
+    public Node[] getEventNodes(String type) {
+        Node[] nodes = nodesByType.get(type);
+        return nodes != null ? nodes : nodesAcceptingAnyType;
+    }
+
+    /**
+     * Returns the nodes without incoming connections with the given name, which are triggered by
+     * an event with the same type in a dynamic process.
+     */
+    public Node[] getNodesWithoutIncomingConnections(String name) {
+        Node[] nodes = nodesWithoutIncomingConnectionsByName.get(name);
+        return nodes != null ? nodes : NO_NODES;
+    }
+
+    /**
+     * Returns the types accepted by the given node, an empty set if it cannot accept any event,
+     * or null if the accepted types can only be known when the event is signaled.
+     */
+    private static Set<String> getAcceptedTypes(Node node) {
+        if (node.getClass() == EventNode.class) {
+            // an event node accepts an event only when all its filters accept it
+            List<EventFilter> filters = ((EventNode) node).getEventFilters();
+            if (filters.isEmpty()) {
+                return null;
+            }
+            String acceptedType = null;
+            for (EventFilter filter : filters) {
+                if (filter instanceof NonAcceptingEventTypeFilter) {
+                    return Collections.emptySet();
+                }
+                if (filter.getClass() != EventTypeFilter.class) {
+                    return null;
+                }
+                String type = ((EventTypeFilter) filter).getType();
+                if (type == null || (acceptedType != null && !acceptedType.equals(type))) {
+                    return Collections.emptySet();
+                }
+                acceptedType = type;
+            }
+            return Collections.singleton(acceptedType);
+        }
+        if (node.getClass() == BoundaryEventNode.class) {
+            // a boundary event node accepts an event when any of its filters accepts it, after resolving its type
+            List<EventFilter> filters = ((BoundaryEventNode) node).getEventFilters();
+            if (filters.isEmpty()) {
+                return null;
+            }
+            Set<String> acceptedTypes = new LinkedHashSet<String>();
+            for (EventFilter filter : filters) {
+                if (filter instanceof NonAcceptingEventTypeFilter) {
+                    continue;
+                }
+                if (filter.getClass() != EventTypeFilter.class) {
+                    return null;
+                }
+                String type = ((EventTypeFilter) filter).getType();
+                if (type != null) {
+                    if (PatternConstants.PARAMETER_MATCHER.matcher(type).find()) {
+                        return null;
+                    }
+                    acceptedTypes.add(type);
+                }
+            }
+            return acceptedTypes;
+        }
+        return null;
+    }
+
+    private static Node[] toArray(List<Node> nodes) {
+        return nodes.toArray(new Node[nodes.size()]);
+    }
+}
@@ -47,7 +47,9 @@ import org.jbpm.process.instance.impl.ProcessInstanceImpl;
 import org.jbpm.process.instance.timer.TimerInstance;
 import org.jbpm.util.PatternConstants;
 import org.jbpm.workflow.core.DroolsAction;
+import org.jbpm.workflow.core.impl.EventNodeIndex;
 import org.jbpm.workflow.core.impl.NodeImpl;
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
 import org.jbpm.workflow.core.node.ActionNode;
 import org.jbpm.workflow.core.node.DynamicNode;
 import org.jbpm.workflow.core.node.EndNode;
@@ -563,7 +565,10 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
                 return;                
             }
 
-			List<NodeInstance> currentView = new ArrayList<NodeInstance>(this.nodeInstances);
+			EventNodeIndex eventNodeIndex = getEventNodeIndex();
+			Node[] eventNodes = eventNodeIndex.getEventNodes(type);
+			// the node instances are only needed to signal the event nodes
+			List<NodeInstance> currentView = eventNodes.length > 0 ? new ArrayList<NodeInstance>(this.nodeInstances) : Collections.<NodeInstance>emptyList();
 
 			try {
 				this.activatingNodeIds = new ArrayList<String>();
@@ -579,7 +584,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 						listener.signalEvent(type, event);
 					}
 				}
-				for (Node node : getWorkflowProcess().getNodes()) {
+				for (Node node : eventNodes) {
 			        if (node instanceof EventNodeInterface) {
 			            if (((EventNodeInterface) node).acceptsEvent(type, event, getResolver(node, type, currentView))) {
 			                if (node instanceof EventNode && ((EventNode) node).getFrom() == null) {
@@ -605,21 +610,19 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 			        }
 				}
 				if (((org.jbpm.workflow.core.WorkflowProcess) getWorkflowProcess()).isDynamic()) {
-					for (Node node : getWorkflowProcess().getNodes()) {
-						if (type.equals(node.getName()) && node.getIncomingConnections().isEmpty()) {
-						    NodeInstance nodeInstance = getNodeInstance(node);
-			    			if (event != null) {
-			    			    Map<String, Object> dynamicParams = new HashMap<>();
-			    			    if (event instanceof Map) {
-			    			        dynamicParams.putAll((Map<String, Object>) event);
-			    			    } else {
-			    			        dynamicParams.put("Data", event);
-			    			    }
-			    			    ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).setDynamicParameters(dynamicParams);
-			    			}
-
-			                ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).trigger(null, NodeImpl.CONNECTION_DEFAULT_TYPE);
-			    		}
+					for (Node node : eventNodeIndex.getNodesWithoutIncomingConnections(type)) {
+					    NodeInstance nodeInstance = getNodeInstance(node);
+		    			if (event != null) {
+		    			    Map<String, Object> dynamicParams = new HashMap<>();
+		    			    if (event instanceof Map) {
+		    			        dynamicParams.putAll((Map<String, Object>) event);
+		    			    } else {
+		    			        dynamicParams.put("Data", event);
+		    			    }
+		    			    ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).setDynamicParameters(dynamicParams);
+		    			}
+
+		                ((org.jbpm.workflow.instance.NodeInstance) nodeInstance).trigger(null, NodeImpl.CONNECTION_DEFAULT_TYPE);
 					}
 					
 
@@ -633,6 +636,14 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 		}
 	}
 
+	private EventNodeIndex getEventNodeIndex() {
+	    WorkflowProcess process = getWorkflowProcess();
+	    if (process instanceof WorkflowProcessImpl) {
+	        return ((WorkflowProcessImpl) process).getEventNodeIndex();
+	    }
+	    return new EventNodeIndex(process.getNodes());
+	}
+
 	private Function<String, String> getResolver(Node node, String type, List<NodeInstance> currentView) {
         if (node instanceof DynamicNode) {
             // special handling for dynamic node to allow to resolve variables from individual node instances of the dynamic node
@@ -701,7 +712,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 			eventListeners.put(type, listeners);
 			if (external) {
 				((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime())
-					.getSignalManager().addEventListener(type, this);
+					.getSignalManager().addEventListener(type, getCorrelationKey(), this);
 			}
 		}
 		listeners.add(listener);
@@ -716,7 +727,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 				eventListeners.remove(type);
 				if (external) {
 					((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime())
-						.getSignalManager().removeEventListener(type, this);
+						.getSignalManager().removeEventListener(type, getCorrelationKey(), this);
 				}
 			}
 		} else {
@@ -728,7 +739,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl
 	private void removeEventListeners() {
 		for (String type : externalEventListeners.keySet()) {
 			((InternalProcessRuntime) getKnowledgeRuntime().getProcessRuntime())
-				.getSignalManager().removeEventListener(type, this);
+				.getSignalManager().removeEventListener(type, getCorrelationKey(), this);
 		}
 	}
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.process.instance.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.drools.core.command.runtime.process.SignalCorrelatedEventCommand;
+import org.drools.core.common.InternalKnowledgeRuntime;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.impl.ConnectionImpl;
+import org.jbpm.workflow.core.node.EndNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.StartNode;
+import org.junit.Test;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.process.EventListener;
+import org.kie.api.runtime.process.ProcessInstance;
+import org.kie.internal.process.CorrelationAwareProcessRuntime;
+import org.kie.internal.process.CorrelationKey;
+import org.kie.internal.process.CorrelationProperty;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class DefaultSignalManagerTest extends AbstractBaseTest {
+
+    public void addLogger() {
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+
+    @Test
+    public void testCorrelatedSignalOnlyReachesMatchingListeners() {
+        DefaultSignalManager signalManager = new DefaultSignalManager(null);
+        List<String> signaled = Collections.synchronizedList(new ArrayList<String>());
+        signalManager.addEventListener("msg", new RecordingListener("any", signaled));
+        signalManager.addEventListener("msg", "a", new RecordingListener("a", signaled));
+        signalManager.addEventListener("msg", "b", new RecordingListener("b", signaled));
+
+        signalManager.internalSignalEvent("msg", "a", "event");
+        assertEquals(Collections.singletonList("a"), signaled);
+
+        signaled.clear();
+        signalManager.internalSignalEvent("msg", "c", "event");
+        assertEquals(Collections.emptyList(), signaled);
+
+        signalManager.internalSignalEvent("msg", "event");
+        assertEquals(Arrays.asList("any", "a", "b"), signaled);
+    }
+
+    @Test
+    public void testBroadcastFollowsRegistrationOrder() {
+        DefaultSignalManager signalManager = new DefaultSignalManager(null);
+        List<String> signaled = Collections.synchronizedList(new ArrayList<String>());
+        List<String> expected = new ArrayList<String>();
+        EventListener removed = null;
+        for (int i = 0; i < 50; i++) {
+            String key = i % 3 == 0 ? null : "key" + (i % 7);
+            EventListener listener = new RecordingListener("l" + i, signaled);
+            signalManager.addEventListener("msg", key, listener);
+            if (i == 10) {
+                removed = listener;
+            } else {
+                expected.add("l" + i);
+            }
+        }
+        signalManager.removeEventListener("msg", "key3", removed);
+        signalManager.addEventListener("msg", "key0", new RecordingListener("last", signaled));
+        expected.add("last");
+
+        signalManager.internalSignalEvent("msg", "event");
+        assertEquals(expected, signaled);
+    }
+
+    @Test
+    public void testListenersRegisteredWhileBroadcastingAreNotSignaled() {
+        DefaultSignalManager signalManager = new DefaultSignalManager(null);
+        List<String> signaled = Collections.synchronizedList(new ArrayList<String>());
+        signalManager.addEventListener("msg", new RecordingListener("first", signaled) {
+            public void signalEvent(String type, Object event) {
+                super.signalEvent(type, event);
+                signalManager.addEventListener("msg", new RecordingListener("late", signaled));
+            }
+        });
+
+        signalManager.internalSignalEvent("msg", "event");
+        assertEquals(Collections.singletonList("first"), signaled);
+    }
+
+    @Test
+    public void testRemovedListenersAreNotSignaled() {
+        DefaultSignalManager signalManager = new DefaultSignalManager(null);
+        List<String> signaled = Collections.synchronizedList(new ArrayList<String>());
+        EventListener any = new RecordingListener("any", signaled);
+        EventListener a = new RecordingListener("a", signaled);
+        signalManager.addEventListener("msg", any);
+        signalManager.addEventListener("msg", "a", a);
+
+        signalManager.removeEventListener("msg", "a", a);
+        signalManager.internalSignalEvent("msg", "a", "event");
+        signalManager.internalSignalEvent("msg", "event");
+        assertEquals(Collections.singletonList("any"), signaled);
+
+        signaled.clear();
+        signalManager.removeEventListener("msg", any);
+        signalManager.internalSignalEvent("msg", "event");
+        assertEquals(Collections.emptyList(), signaled);
+    }
+
+    @Test(timeout = 10000L)
+    public void testParallelBroadcast() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DefaultSignalManager signalManager = new DefaultSignalManager(null);
+            signalManager.setBroadcastExecutor(executor);
+            signalManager.setParallelBroadcastThreshold(10);
+
+            List<String> signaled = Collections.synchronizedList(new ArrayList<String>());
+            Set<String> expected = new HashSet<String>();
+            for (int i = 0; i < 95; i++) {
+                String key = i % 2 == 0 ? null : "key" + i;
+                signalManager.addEventListener("msg", key, new RecordingListener("l" + i, signaled));
+                expected.add("l" + i);
+            }
+
+            signalManager.internalSignalEvent("msg", "event");
+            assertEquals(expected.size(), signaled.size());
+            assertEquals(expected, new HashSet<String>(signaled));
+
+            IllegalStateException failure = new IllegalStateException();
+            signalManager.addEventListener("msg", "failing", new RecordingListener("failing", signaled) {
+                public void signalEvent(String type, Object event) {
+                    throw failure;
+                }
+            });
+            try {
+                signalManager.internalSignalEvent("msg", "event");
+                fail("The failure of a listener must be propagated to the signaling thread");
+            } catch (IllegalStateException e) {
+                assertSame(failure, e);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSignalProcessInstancesByCorrelationKey() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        process.setId("org.jbpm.process.correlated");
+        process.setName("Correlated Process");
+
+        StartNode startNode = new StartNode();
+        startNode.setName("Start");
+        startNode.setId(1);
+        process.addNode(startNode);
+
+        EventNode eventNode = new EventNode();
+        EventTypeFilter eventFilter = new EventTypeFilter();
+        eventFilter.setType("msg");
+        eventNode.addEventFilter(eventFilter);
+        eventNode.setId(2);
+        process.addNode(eventNode);
+
+        EndNode endNode = new EndNode();
+        endNode.setName("End");
+        endNode.setId(3);
+        process.addNode(endNode);
+
+        new ConnectionImpl(startNode, Node.CONNECTION_DEFAULT_TYPE, eventNode, Node.CONNECTION_DEFAULT_TYPE);
+        new ConnectionImpl(eventNode, Node.CONNECTION_DEFAULT_TYPE, endNode, Node.CONNECTION_DEFAULT_TYPE);
+
+        KieSession ksession = createKieSession(process);
+        CorrelationKey keyA = new TestCorrelationKey("a");
+        CorrelationKey keyB = new TestCorrelationKey("b");
+        CorrelationKey keyD = new TestCorrelationKey("d");
+        ProcessInstance instanceA = ((CorrelationAwareProcessRuntime) ksession).startProcess(process.getId(), keyA, null);
+        ProcessInstance instanceB = ((CorrelationAwareProcessRuntime) ksession).startProcess(process.getId(), keyB, null);
+        ProcessInstance instanceC = ksession.startProcess(process.getId());
+        ProcessInstance instanceD = ((CorrelationAwareProcessRuntime) ksession).startProcess(process.getId(), keyD, null);
+
+        ((CorrelationAwareProcessRuntime) ksession).signalEvent("msg", "event", keyA);
+        assertEquals(ProcessInstance.STATE_COMPLETED, instanceA.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceB.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceC.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceD.getState());
+
+        ksession.execute(new SignalCorrelatedEventCommand(keyB, "msg", "event"));
+        assertEquals(ProcessInstance.STATE_COMPLETED, instanceB.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceC.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceD.getState());
+
+        ((InternalKnowledgeRuntime) ksession).queueWorkingMemoryAction(
+                new DefaultSignalManager.SignalProcessInstanceAction(keyD.toExternalForm(), "msg", "event"));
+        ksession.fireAllRules();
+        assertEquals(ProcessInstance.STATE_COMPLETED, instanceD.getState());
+        assertEquals(ProcessInstance.STATE_ACTIVE, instanceC.getState());
+
+        ksession.signalEvent("msg", "event");
+        assertEquals(ProcessInstance.STATE_COMPLETED, instanceC.getState());
+    }
+
+    private static class RecordingListener implements EventListener {
+
+        private final String name;
+        private final List<String> signaled;
+
+        private RecordingListener(String name, List<String> signaled) {
+            this.name = name;
+            this.signaled = signaled;
+        }
+
+        public void signalEvent(String type, Object event) {
+            signaled.add(name);
+        }
+
+        public String[] getEventTypes() {
+            return null;
+        }
+    }
+
+    private static class TestCorrelationKey implements CorrelationKey {
+
+        private final String name;
+
+        private TestCorrelationKey(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<CorrelationProperty<?>> getProperties() {
+            return Collections.emptyList();
+        }
+
+        public String toExternalForm() {
+            return name;
+        }
+    }
+}
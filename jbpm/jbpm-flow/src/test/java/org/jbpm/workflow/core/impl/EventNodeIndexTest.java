@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jbpm.workflow.core.impl;
+
+import org.jbpm.process.core.event.BroadcastEventTypeFilter;
+import org.jbpm.process.core.event.EventTypeFilter;
+import org.jbpm.process.core.event.NonAcceptingEventTypeFilter;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.node.ActionNode;
+import org.jbpm.workflow.core.node.BoundaryEventNode;
+import org.jbpm.workflow.core.node.CompositeNode;
+import org.jbpm.workflow.core.node.EventNode;
+import org.jbpm.workflow.core.node.StartNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class EventNodeIndexTest {
+
+    @Test
+    public void testNodesAreIndexedByStaticType() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        EventNode a = addEventNode(process, 1, new EventNode(), filter(new EventTypeFilter(), "a"));
+        EventNode b = addEventNode(process, 2, new EventNode(), filter(new EventTypeFilter(), "b"));
+        BoundaryEventNode ab = addEventNode(process, 3, new BoundaryEventNode(), filter(new EventTypeFilter(), "a"), filter(new EventTypeFilter(), "b"));
+        addEventNode(process, 4, new EventNode(), filter(new EventTypeFilter(), "a"), filter(new EventTypeFilter(), "b"));
+        addEventNode(process, 5, new EventNode(), filter(new NonAcceptingEventTypeFilter(), "a"));
+
+        EventNodeIndex index = process.getEventNodeIndex();
+        assertArrayEquals(new Object[] { a, ab }, index.getEventNodes("a"));
+        assertArrayEquals(new Object[] { b, ab }, index.getEventNodes("b"));
+        assertArrayEquals(new Object[0], index.getEventNodes("c"));
+    }
+
+    @Test
+    public void testNodesAcceptingAnyTypeAreAlwaysReturnedInOrder() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        CompositeNode composite = new CompositeNode();
+        composite.setId(1);
+        process.addNode(composite);
+        EventNode a = addEventNode(process, 2, new EventNode(), filter(new EventTypeFilter(), "a"));
+        BoundaryEventNode expression = addEventNode(process, 3, new BoundaryEventNode(), filter(new EventTypeFilter(), "#{signal}"));
+        EventNode broadcast = addEventNode(process, 4, new EventNode(), filter(new BroadcastEventTypeFilter(), "a"));
+        EventNode any = addEventNode(process, 5, new EventNode());
+
+        EventNodeIndex index = process.getEventNodeIndex();
+        assertArrayEquals(new Object[] { composite, a, expression, broadcast, any }, index.getEventNodes("a"));
+        assertArrayEquals(new Object[] { composite, expression, broadcast, any }, index.getEventNodes("b"));
+    }
+
+    @Test
+    public void testNodesWithoutIncomingConnectionsAreIndexedByName() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        StartNode start = new StartNode();
+        start.setId(1);
+        process.addNode(start);
+        ActionNode connected = new ActionNode();
+        connected.setId(2);
+        connected.setName("task");
+        process.addNode(connected);
+        new ConnectionImpl(start, Node.CONNECTION_DEFAULT_TYPE, connected, Node.CONNECTION_DEFAULT_TYPE);
+        ActionNode adHoc = new ActionNode();
+        adHoc.setId(3);
+        adHoc.setName("adHoc");
+        process.addNode(adHoc);
+
+        EventNodeIndex index = process.getEventNodeIndex();
+        assertArrayEquals(new Object[] { adHoc }, index.getNodesWithoutIncomingConnections("adHoc"));
+        assertArrayEquals(new Object[0], index.getNodesWithoutIncomingConnections("task"));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenNodesChange() {
+        RuleFlowProcess process = new RuleFlowProcess();
+        addEventNode(process, 1, new EventNode(), filter(new EventTypeFilter(), "a"));
+        EventNodeIndex index = process.getEventNodeIndex();
+        assertSame(index, process.getEventNodeIndex());
+
+        EventNode b = addEventNode(process, 2, new EventNode(), filter(new EventTypeFilter(), "b"));
+        assertNotSame(index, process.getEventNodeIndex());
+        assertArrayEquals(new Object[] { b }, process.getEventNodeIndex().getEventNodes("b"));
+    }
+
+    private static <T extends EventNode> T addEventNode(RuleFlowProcess process, long id, T node, EventTypeFilter... filters) {
+        node.setId(id);
+        for (EventTypeFilter filter : filters) {
+            node.addEventFilter(filter);
+        }
+        process.addNode(node);
+        return node;
+    }
+
+    private static EventTypeFilter filter(EventTypeFilter filter, String type) {
+        filter.setType(type);
+        return filter;
+    }
+}